@@ -0,0 +1,73 @@
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Classe utilitaire permettant de mesurer le temps d'exécution d'une étape du compilateur.
+ * <p>
+ * Chaque mesure commence par une phase de chauffe (compilation JIT, remplissage des caches DFA d'ANTLR)
+ * puis répète l'opération jusqu'à épuisement du budget de temps de mesure.
+ * Le résultat de chaque opération est conservé dans un puits pour que la JVM ne puisse pas l'éliminer.
+ */
+public class Benchmark {
+
+    // Puits empêchant la JVM de supprimer les opérations mesurées
+    private static volatile Object sink;
+
+    private final long warmupNanos;
+    private final long measureNanos;
+
+    /**
+     * Constructeur.
+     * @param warmupMillis durée de la chauffe en millisecondes
+     * @param measureMillis durée de la mesure en millisecondes
+     */
+    public Benchmark(long warmupMillis, long measureMillis) {
+        this.warmupNanos = warmupMillis * 1_000_000L;
+        this.measureNanos = measureMillis * 1_000_000L;
+    }
+
+    /**
+     * Méthode mesurant le temps moyen d'une opération et affichant le résultat.
+     * @param label nom de la mesure
+     * @param operation opération à mesurer
+     * @return temps moyen d'une opération en millisecondes
+     */
+    public double measure(String label, Supplier<?> operation) {
+        run(operation, warmupNanos);
+        long[] result = run(operation, measureNanos);
+
+        double millisPerOp = result[1] / 1_000_000.0 / result[0];
+        System.out.println(String.format(Locale.ROOT, "%-40s %12.4f ms/op %10d ops", label, millisPerOp, result[0]));
+        return millisPerOp;
+    }
+
+    /**
+     * Méthode répétant une opération pendant au moins la durée donnée (et au moins une fois).
+     * @param operation opération
+     * @param budgetNanos durée minimale
+     * @return nombre d'opérations effectuées et temps total en nanosecondes
+     */
+    private static long[] run(Supplier<?> operation, long budgetNanos) {
+        long iterations = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            sink = operation.get();
+            iterations++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < budgetNanos);
+        return new long[]{iterations, elapsed};
+    }
+
+    /**
+     * Méthode créant une version agrandie d'une feuille de style en répétant ses règles.
+     * @param source code SCSS
+     * @param factor nombre de répétitions
+     * @return code SCSS agrandi
+     */
+    public static String scale(String source, int factor) {
+        StringBuilder scaled = new StringBuilder(source.length() * factor + factor);
+        for (int i = 0; i < factor; i++) scaled.append(source).append('\n');
+        return scaled.toString();
+    }
+}
@@ -0,0 +1,73 @@
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Classe lisant les arguments d'un banc d'essai : des paires "--nom valeur".
+ * <p>
+ * Tous les bancs d'essai acceptent --warmup et --measure (durées en millisecondes de la chauffe et de la mesure) ;
+ * chacun déclare ses autres options. Une option inconnue ou sans valeur est refusée.
+ */
+public class BenchmarkArguments {
+
+    private final Map<String, String> values;
+
+    /**
+     * Constructeur.
+     * @param args    arguments de la ligne de commande
+     * @param options options propres au banc d'essai, en plus de --warmup et --measure
+     * @throws IllegalArgumentException si une option est inconnue ou n'a pas de valeur
+     */
+    public BenchmarkArguments(String[] args, String... options) {
+        List<String> known = Arrays.asList(options);
+        this.values = new HashMap<>();
+        for (int i = 0; i < args.length; i += 2) {
+            String option = args[i];
+            if (!option.equals("--warmup") && !option.equals("--measure") && !known.contains(option))
+                throw new IllegalArgumentException("Argument inconnu : " + option);
+            if (i + 1 >= args.length) throw new IllegalArgumentException("Valeur manquante pour " + option);
+            values.put(option, args[i + 1]);
+        }
+    }
+
+    public String string(String option, String defaultValue) {
+        return values.getOrDefault(option, defaultValue);
+    }
+
+    public int integer(String option, int defaultValue) {
+        String value = values.get(option);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    /**
+     * Méthode lisant une liste d'entiers séparés par des virgules ("--scales 1,10,100").
+     * @param option        option
+     * @param defaultValues valeurs si l'option est absente
+     * @return entiers
+     */
+    public int[] integers(String option, int... defaultValues) {
+        String value = values.get(option);
+        return value != null ? Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray() : defaultValues;
+    }
+
+    /**
+     * Méthode lisant la durée de la chauffe (--warmup), en millisecondes.
+     * @param defaultMillis durée si l'option est absente
+     * @return durée en millisecondes
+     */
+    public long warmupMillis(long defaultMillis) {
+        String value = values.get("--warmup");
+        return value != null ? Long.parseLong(value) : defaultMillis;
+    }
+
+    /**
+     * Méthode lisant la durée de la mesure (--measure), en millisecondes.
+     * @param defaultMillis durée si l'option est absente
+     * @return durée en millisecondes
+     */
+    public long measureMillis(long defaultMillis) {
+        String value = values.get("--measure");
+        return value != null ? Long.parseLong(value) : defaultMillis;
+    }
+}
@@ -0,0 +1,132 @@
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+
+/**
+ * Banc d'essai du coût d'évaluation des expressions arithmétiques.
+ * <p>
+ * - Reconnaissance du type des opérandes : ancienne version (String.matches), expressions régulières précompilées
+ * et UnitScanner.
+ * - Génération de scssFiles/calcs.scss agrandi, rapportée au nombre d'expressions évaluées.
+ * - Génération d'expressions longues (100 termes et plus), rapportée au nombre de termes.
+ * <p>
+ * Arguments (optionnels) : --scale 100 --terms 100,1000,5000 --warmup 1000 --measure 2000
+ */
+public class BenchmarkExpressions {
+
+    // Opérandes rencontrés dans scssFiles/calcs.scss
+    private static final String[] OPERANDS = {"100px", "50px", "10px", "2", "1.5", "0.5px", "#333333", "100%", "20px", "large"};
+
+    private static final Pattern REEL_PIXEL = Pattern.compile("-?\\d+\\.\\d+px");
+    private static final Pattern ENTIER_PIXEL = Pattern.compile("-?\\d+px");
+    private static final Pattern ENTIER = Pattern.compile("-?\\d+");
+    private static final Pattern REEL = Pattern.compile("-?\\d+\\.\\d+");
+    private static final Pattern POURCENTAGE = Pattern.compile("-?\\d+%");
+    private static final Pattern HEX = Pattern.compile("#[0-9a-fA-F]{3,6}");
+
+    public static void main(String[] args) throws IOException {
+        BenchmarkArguments arguments = new BenchmarkArguments(args, "--scale", "--terms");
+        int scale = arguments.integer("--scale", 100);
+        int[] terms = arguments.integers("--terms", 100, 1000, 5000);
+        long warmupMillis = arguments.warmupMillis(1000);
+        long measureMillis = arguments.measureMillis(2000);
+
+        Benchmark benchmark = new Benchmark(warmupMillis, measureMillis);
+
+        benchmark.measure("opérandes String.matches", () -> {
+            double sum = 0;
+            for (String operand : OPERANDS) sum += legacyConvert(operand);
+            return sum;
+        });
+        benchmark.measure("opérandes Pattern précompilés", () -> {
+            double sum = 0;
+            for (String operand : OPERANDS) sum += precompiledConvert(operand);
+            return sum;
+        });
+        benchmark.measure("opérandes UnitScanner", () -> {
+            double sum = 0;
+            for (String operand : OPERANDS) {
+                if (SassValue.parse(operand) instanceof SassNumber number) sum += number.getValue();
+            }
+            return sum;
+        });
+
+        String source = Benchmark.scale(Files.readString(Path.of("scssFiles/calcs.scss"), StandardCharsets.UTF_8), scale);
+        ScssParser.StylesheetContext tree = new ScssParser(new CommonTokenStream(new ScssLexer(CharStreams.fromString(source)))).stylesheet();
+        int expressions = countExpressions(tree);
+
+        double millis = benchmark.measure("calcs.scss x" + scale + " générateur", () -> new ScssToCssGenerator().visit(tree));
+        System.out.printf("%d expressions, %.3f µs/expression%n", expressions, millis * 1000 / expressions);
+
+        for (int count : terms) {
+            ScssParser.StylesheetContext longTree = new ScssParser(new CommonTokenStream(new ScssLexer(CharStreams.fromString(longExpression(count))))).stylesheet();
+            double longMillis = benchmark.measure("expression de " + count + " termes", () -> new ScssToCssGenerator().visit(longTree));
+            System.out.printf("%.3f µs/terme%n", longMillis * 1000 / count);
+        }
+    }
+
+    /**
+     * Méthode générant une règle dont la valeur est une expression de count termes mélangeant toutes les priorités.
+     * Exemple : .long { width: 1px + 2 * 3px - 4px / 2 < 5px ... ; }
+     *
+     * @param count nombre de termes
+     * @return code SCSS
+     */
+    private static String longExpression(int count) {
+        String[] operators = {" + ", " * ", " - ", " / "};
+        StringBuilder expression = new StringBuilder(".long {\n  width: 1px");
+        for (int i = 1; i < count; i++) {
+            expression.append(operators[i % operators.length]).append(i % 7 + 1);
+            if (i % 2 == 0) expression.append("px");
+        }
+        return expression.append(";\n}\n").toString();
+    }
+
+    /**
+     * Ancienne conversion des opérandes : jusqu'à dix appels à String.matches par opérande (getUnit puis convertValue).
+     */
+    private static double legacyConvert(String value) {
+        String lowerPart = value.toLowerCase();
+        boolean unitDetected = lowerPart.matches("-?\\d+px") || lowerPart.matches("-?\\d+\\.\\d+px")
+                || lowerPart.matches("#[0-9a-fA-F]{3,6}") || lowerPart.matches("-?\\d+%")
+                || lowerPart.matches("-?\\d+\\.\\d+%") || lowerPart.matches("-?\\d+\\.\\d+") || lowerPart.matches("-?\\d+");
+
+        String converted = value;
+        if (value.matches("-?\\d+\\.\\d+px")) converted = Float.parseFloat(value.replace("px", "")) + "";
+        else if (value.matches("-?\\d+px")) converted = Integer.parseInt(value.replace("px", "")) + "";
+        else if (value.matches("-?\\d+")) converted = Integer.parseInt(value) + "";
+        else if (value.matches("-?\\d+\\.\\d+")) converted = Float.parseFloat(value) + "";
+        else if (value.matches("-?\\d+%")) converted = Integer.parseInt(value.replace("%", "")) + "";
+
+        return unitDetected && !converted.startsWith("#") && !converted.equals(value) ? Float.parseFloat(converted) : 0;
+    }
+
+    /**
+     * Même conversion avec des expressions régulières compilées une seule fois.
+     */
+    private static double precompiledConvert(String value) {
+        if (REEL_PIXEL.matcher(value).matches() || ENTIER_PIXEL.matcher(value).matches())
+            return Double.parseDouble(value.substring(0, value.length() - 2));
+        if (POURCENTAGE.matcher(value).matches()) return Double.parseDouble(value.substring(0, value.length() - 1));
+        if (ENTIER.matcher(value).matches() || REEL.matcher(value).matches()) return Double.parseDouble(value);
+        if (HEX.matcher(value).matches()) return 0;
+        return 0;
+    }
+
+    /**
+     * Méthode comptant les expressions d'un arbre de dérivation.
+     * @param tree arbre
+     * @return nombre de noeuds expression
+     */
+    private static int countExpressions(ParseTree tree) {
+        int count = tree instanceof ScssParser.ExpressionContext ? 1 : 0;
+        for (int i = 0; i < tree.getChildCount(); i++) count += countExpressions(tree.getChild(i));
+        return count;
+    }
+}
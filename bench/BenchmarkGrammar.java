@@ -0,0 +1,116 @@
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Banc d'essai mesurant le débit de l'analyse syntaxique sur tout le corpus du dossier scssFiles.
+ * <p>
+ * Chaque opération analyse tous les fichiers du corpus (déjà tokenisés) :
+ * - en mode LL complet seul
+ * - en mode SLL seul (le nombre de fichiers que SLL ne sait pas analyser est affiché)
+ * - en deux étapes SLL puis LL, comme ScssCompiler (tokenisation comprise)
+ * <p>
+ * Il sert à comparer deux versions de la grammaire : il ne dépend que de ScssLexer, ScssParser et ScssCompiler.parse.
+ * <p>
+ * Arguments (optionnels) : --warmup 2000 --measure 5000 --dir scssFiles
+ */
+public class BenchmarkGrammar {
+    public static void main(String[] args) throws IOException {
+        BenchmarkArguments arguments = new BenchmarkArguments(args, "--dir");
+        String scssDir = arguments.string("--dir", "scssFiles");
+        long warmupMillis = arguments.warmupMillis(2000);
+        long measureMillis = arguments.measureMillis(5000);
+
+        File[] files = new File(scssDir).listFiles((dir, name) -> name.endsWith(".scss"));
+        assert files != null; // IntelliJ
+        Arrays.sort(files);
+
+        List<String> sources = new ArrayList<>();
+        List<List<Token>> tokens = new ArrayList<>();
+        long bytes = 0;
+        for (File file : files) {
+            String source = Files.readString(file.toPath(), StandardCharsets.UTF_8);
+            CommonTokenStream stream = new CommonTokenStream(new ScssLexer(CharStreams.fromString(source)));
+            stream.fill();
+            sources.add(source);
+            tokens.add(stream.getTokens());
+            bytes += file.length();
+        }
+
+        int sllFailures = 0;
+        for (List<Token> fileTokens : tokens) if (!parseSll(fileTokens)) sllFailures++;
+        System.out.println(String.format(Locale.ROOT, "Corpus : %d fichier(s), %d octets, %d échec(s) en SLL seul",
+                files.length, bytes, sllFailures));
+
+        Benchmark benchmark = new Benchmark(warmupMillis, measureMillis);
+
+        report(bytes, benchmark.measure("corpus parser LL", () -> {
+            for (List<Token> fileTokens : tokens) parseLl(fileTokens);
+            return tokens;
+        }));
+
+        report(bytes, benchmark.measure("corpus parser SLL", () -> {
+            int failures = 0;
+            for (List<Token> fileTokens : tokens) if (!parseSll(fileTokens)) failures++;
+            return failures;
+        }));
+
+        report(bytes, benchmark.measure("corpus lexer + parser SLL puis LL", () -> {
+            ScssCompiler compiler = new ScssCompiler();
+            for (String source : sources) compiler.parse(CharStreams.fromString(source));
+            return compiler;
+        }));
+    }
+
+    /**
+     * Méthode analysant des tokens en mode LL complet.
+     * @param tokens tokens d'un fichier
+     * @return arbre de dérivation
+     */
+    private static ScssParser.StylesheetContext parseLl(List<Token> tokens) {
+        ScssParser parser = new ScssParser(new CommonTokenStream(new ListTokenSource(tokens)));
+        parser.removeErrorListeners();
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        return parser.stylesheet();
+    }
+
+    /**
+     * Méthode analysant des tokens en mode SLL seul, en abandonnant à la première erreur.
+     * @param tokens tokens d'un fichier
+     * @return true si l'analyse a réussi
+     */
+    private static boolean parseSll(List<Token> tokens) {
+        ScssParser parser = new ScssParser(new CommonTokenStream(new ListTokenSource(tokens)));
+        parser.removeErrorListeners();
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.setErrorHandler(new BailErrorStrategy());
+        try {
+            parser.stylesheet();
+            return true;
+        } catch (ParseCancellationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Méthode affichant le débit correspondant à un temps par opération.
+     * @param bytes taille du corpus en octets
+     * @param millisPerOp temps d'une analyse du corpus en millisecondes
+     */
+    private static void report(long bytes, double millisPerOp) {
+        System.out.println(String.format(Locale.ROOT, "%-40s %12.1f Ko/s", "", bytes / 1024.0 / (millisPerOp / 1000.0)));
+    }
+}
@@ -0,0 +1,58 @@
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+
+/**
+ * Banc d'essai de l'inclusion des mixins : un mixin à 20 arguments inclus 50 000 fois.
+ * <p>
+ * Deux mesures : toutes les inclusions avec les mêmes arguments (le corps n'est évalué qu'une fois, puis réutilisé),
+ * puis chaque inclusion avec des arguments différents (le gabarit du corps est rempli à chaque inclusion).
+ * <p>
+ * Arguments (optionnels) : --includes 50000 --args 20 --warmup 1000 --measure 3000
+ */
+public class BenchmarkMixin {
+    public static void main(String[] args) {
+        BenchmarkArguments arguments = new BenchmarkArguments(args, "--includes", "--args");
+        int includes = arguments.integer("--includes", 50_000);
+        int argumentCount = arguments.integer("--args", 20);
+        long warmupMillis = arguments.warmupMillis(1000);
+        long measureMillis = arguments.measureMillis(3000);
+
+        Benchmark benchmark = new Benchmark(warmupMillis, measureMillis);
+
+        // Un seul arbre de dérivation en mémoire à la fois : le ramasse-miettes fausserait la deuxième mesure
+        double sameMillis = measure(benchmark, "mêmes arguments", source(argumentCount, includes, false));
+        double distinctMillis = measure(benchmark, "arguments différents", source(argumentCount, includes, true));
+        System.out.printf("Mêmes arguments : %.3f µs/@include, arguments différents : %.3f µs/@include%n",
+                sameMillis * 1000 / includes, distinctMillis * 1000 / includes);
+    }
+
+    private static double measure(Benchmark benchmark, String label, String source) {
+        ScssParser.StylesheetContext tree = new ScssParser(new CommonTokenStream(new ScssLexer(CharStreams.fromString(source)))).stylesheet();
+        return benchmark.measure(label, () -> {
+            StringBuilder css = new StringBuilder();
+            new ScssToCssGenerator().generate(tree, new CssWriter(css));
+            return css;
+        });
+    }
+
+    /**
+     * Méthode créant un fichier SCSS qui déclare un mixin à n arguments et l'inclut dans autant de règles que demandé.
+     *
+     * @param distinct vrai si chaque inclusion reçoit des arguments différents
+     */
+    private static String source(int argumentCount, int includes, boolean distinct) {
+        StringBuilder source = new StringBuilder("@mixin big(");
+        for (int a = 0; a < argumentCount; a++) source.append(a > 0 ? ", " : "").append("$arg").append(a);
+        source.append(") {\n");
+        for (int a = 0; a < argumentCount; a++)
+            source.append("  prop-").append(a).append(": $arg").append(a).append(" solid $arg").append((a + 1) % argumentCount).append(";\n");
+        source.append("  &:hover {\n    color: $arg0;\n  }\n}\n");
+
+        for (int i = 0; i < includes; i++) {
+            source.append(".r").append(i).append(" {\n  @include big(");
+            for (int a = 0; a < argumentCount; a++) source.append(a > 0 ? ", " : "").append(distinct && a == 0 ? i : a + 1).append("px");
+            source.append(");\n}\n");
+        }
+        return source.toString();
+    }
+}
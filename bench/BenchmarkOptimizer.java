@@ -0,0 +1,50 @@
+import java.util.List;
+
+/**
+ * Banc d'essai de l'optimisation du CSS (CssOptimizer) sur des feuilles de style de n règles.
+ * Une règle sur deux répète le sélecteur de la précédente (fusion) en redéfinissant une propriété (suppression),
+ * et les corps se répètent tous les 10 sélecteurs (regroupement).
+ * Le temps par règle (construction comprise) doit rester constant quand le nombre de règles augmente.
+ * <p>
+ * Arguments (optionnels) : --rules 10000,50000,100000 --warmup 1000 --measure 2000
+ */
+public class BenchmarkOptimizer {
+    public static void main(String[] args) {
+        BenchmarkArguments arguments = new BenchmarkArguments(args, "--rules");
+        int[] sizes = arguments.integers("--rules", 10000, 50000, 100000);
+        long warmupMillis = arguments.warmupMillis(1000);
+        long measureMillis = arguments.measureMillis(2000);
+
+        Benchmark benchmark = new Benchmark(warmupMillis, measureMillis);
+
+        for (int count : sizes) {
+            CssOptimizer sample = new CssOptimizer();
+            sample.optimize(stylesheet(count));
+            System.out.println(sample.statistics());
+
+            double millis = benchmark.measure(count + " règles (construction + optimisation)", () -> {
+                CssStylesheet stylesheet = stylesheet(count);
+                new CssOptimizer().optimize(stylesheet);
+                return stylesheet;
+            });
+            System.out.printf("%.3f µs/règle%n", millis * 1000 / count);
+        }
+    }
+
+    /**
+     * Méthode construisant une feuille de style de test.
+     * @param count nombre de règles
+     * @return feuille de style
+     */
+    private static CssStylesheet stylesheet(int count) {
+        CssStylesheet stylesheet = new CssStylesheet();
+        for (int i = 0; i < count; i++) {
+            int item = i / 2;
+            CssRule rule = new CssRule(List.of(".item-" + item));
+            if (i % 2 == 0) rule.addDeclaration("--size-" + item % 10, "0px");
+            rule.addDeclaration("--size-" + item % 10, item % 10 + "px");
+            stylesheet.add(rule);
+        }
+        return stylesheet;
+    }
+}
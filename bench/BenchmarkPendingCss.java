@@ -0,0 +1,48 @@
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+
+
+/**
+ * Banc d'essai de la génération des règles produites par une boucle ou par des règles imbriquées.
+ * Une boucle @for génère une règle par itération, et une règle contenant n règles imbriquées génère
+ * n règles écrites après elle ; le temps par itération doit rester constant quand le nombre d'itérations augmente.
+ * <p>
+ * Arguments (optionnels) : --iterations 1000,5000,10000 --warmup 1000 --measure 2000
+ */
+public class BenchmarkPendingCss {
+    public static void main(String[] args) {
+        BenchmarkArguments arguments = new BenchmarkArguments(args, "--iterations");
+        int[] iterations = arguments.integers("--iterations", 1000, 5000, 10000);
+        long warmupMillis = arguments.warmupMillis(1000);
+        long measureMillis = arguments.measureMillis(2000);
+
+        Benchmark benchmark = new Benchmark(warmupMillis, measureMillis);
+
+        for (int count : iterations) {
+            String source = "@for $i from 1 through " + count + " {\n"
+                    + "  .margin-#{$i} {\n"
+                    + "    margin: $i * 5px;\n"
+                    + "  }\n"
+                    + "}\n";
+            ScssParser.StylesheetContext tree = new ScssParser(new CommonTokenStream(new ScssLexer(CharStreams.fromString(source)))).stylesheet();
+
+            double millis = benchmark.measure("@for 1 through " + count, () -> {
+                StringBuilder css = new StringBuilder();
+                new ScssToCssGenerator().generate(tree, new CssWriter(css));
+                return css;
+            });
+            System.out.printf("%.3f µs/itération%n", millis * 1000 / count);
+
+            StringBuilder nested = new StringBuilder(".grid {\n");
+            for (int i = 1; i <= count; i++) nested.append("  .col-").append(i).append(" {\n    width: ").append(i).append("px;\n  }\n");
+            ScssParser.StylesheetContext nestedTree = new ScssParser(new CommonTokenStream(new ScssLexer(CharStreams.fromString(nested.append("}\n").toString())))).stylesheet();
+
+            double nestedMillis = benchmark.measure(count + " règles imbriquées", () -> {
+                StringBuilder css = new StringBuilder();
+                new ScssToCssGenerator().generate(nestedTree, new CssWriter(css));
+                return css;
+            });
+            System.out.printf("%.3f µs/règle%n", nestedMillis * 1000 / count);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.Token;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Banc d'essai mesurant séparément les trois étapes du compilateur :
+ * - la tokenisation (ScssLexer)
+ * - l'analyse syntaxique (ScssParser.stylesheet()), en mode LL seul puis en deux étapes SLL/LL comme ScssCompiler
+ * - la génération du CSS (ScssToCssGenerator.visit())
+ * <p>
+ * Les fichiers du dossier scssFiles sont mesurés tels quels puis agrandis (10x, 100x, 1000x règles).
+ * <p>
+ * Arguments (optionnels) : --scales 1,10,100,1000 --warmup 1000 --measure 2000 --dir scssFiles
+ */
+public class BenchmarkPhases {
+    public static void main(String[] args) throws IOException {
+        BenchmarkArguments arguments = new BenchmarkArguments(args, "--scales", "--dir");
+        String scssDir = arguments.string("--dir", "scssFiles");
+        int[] scales = arguments.integers("--scales", 1, 10, 100, 1000);
+        long warmupMillis = arguments.warmupMillis(1000);
+        long measureMillis = arguments.measureMillis(2000);
+
+        File[] files = new File(scssDir).listFiles((dir, name) -> name.endsWith(".scss"));
+        assert files != null; // IntelliJ
+        Arrays.sort(files);
+
+        Benchmark benchmark = new Benchmark(warmupMillis, measureMillis);
+
+        for (File file : files) {
+            String source = Files.readString(file.toPath(), StandardCharsets.UTF_8);
+            for (int scale : scales) {
+                benchmarkPhases(benchmark, file.getName() + " x" + scale, Benchmark.scale(source, scale));
+            }
+        }
+    }
+
+    /**
+     * Méthode mesurant les trois étapes du compilateur sur un code SCSS.
+     * Chaque étape reçoit le résultat de l'étape précédente calculé une seule fois, pour ne mesurer qu'elle.
+     *
+     * @param benchmark banc d'essai
+     * @param label nom du code mesuré
+     * @param source code SCSS
+     */
+    private static void benchmarkPhases(Benchmark benchmark, String label, String source) {
+        CommonTokenStream lexed = new CommonTokenStream(new ScssLexer(CharStreams.fromString(source)));
+        lexed.fill();
+        List<Token> tokens = lexed.getTokens();
+        ScssParser.StylesheetContext tree = new ScssParser(new CommonTokenStream(new ListTokenSource(tokens))).stylesheet();
+
+        benchmark.measure(label + " lexer", () -> {
+            CommonTokenStream stream = new CommonTokenStream(new ScssLexer(CharStreams.fromString(source)));
+            stream.fill();
+            return stream;
+        });
+
+        benchmark.measure(label + " parser", () ->
+                new ScssParser(new CommonTokenStream(new ListTokenSource(tokens))).stylesheet());
+
+        benchmark.measure(label + " lexer + parser SLL puis LL", () -> new ScssCompiler().parse(CharStreams.fromString(source)));
+
+        benchmark.measure(label + " générateur", () -> new ScssToCssGenerator().visit(tree));
+    }
+}
@@ -0,0 +1,76 @@
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Banc d'essai comparant la compilation de petites feuilles de style avec un compilateur neuf à chaque fois
+ * et avec un compilateur réutilisé (lexer, flux de tokens, parser et générateur réinitialisés).
+ * <p>
+ * Chaque opération compile une fois chaque fichier du dossier scssFiles. En plus du temps, la quantité
+ * de mémoire allouée par opération est affichée (mesurée sur le thread courant).
+ * <p>
+ * Arguments (optionnels) : --warmup 2000 --measure 5000 --dir scssFiles
+ */
+public class BenchmarkReuse {
+    public static void main(String[] args) throws IOException {
+        BenchmarkArguments arguments = new BenchmarkArguments(args, "--dir");
+        String scssDir = arguments.string("--dir", "scssFiles");
+        long warmupMillis = arguments.warmupMillis(2000);
+        long measureMillis = arguments.measureMillis(5000);
+
+        File[] files = new File(scssDir).listFiles((dir, name) -> name.endsWith(".scss"));
+        assert files != null; // IntelliJ
+        Arrays.sort(files);
+
+        List<String> sources = new ArrayList<>();
+        for (File file : files) sources.add(Files.readString(file.toPath(), StandardCharsets.UTF_8));
+
+        Benchmark benchmark = new Benchmark(warmupMillis, measureMillis);
+
+        Supplier<Object> fresh = () -> {
+            List<String> css = new ArrayList<>();
+            for (String source : sources) css.add(new ScssCompiler().compile(source));
+            return css;
+        };
+
+        ScssCompiler compiler = new ScssCompiler();
+        Supplier<Object> reused = () -> {
+            List<String> css = new ArrayList<>();
+            for (String source : sources) css.add(compiler.compile(source));
+            return css;
+        };
+
+        // Chauffe commune : sinon la première variante mesurée paie seule la compilation JIT du compilateur
+        long end = System.nanoTime() + warmupMillis * 1_000_000L;
+        while (System.nanoTime() < end) {
+            fresh.get();
+            reused.get();
+        }
+
+        benchmark.measure("compilateur neuf", fresh);
+        reportAllocation("compilateur neuf", fresh);
+        benchmark.measure("compilateur réutilisé", reused);
+        reportAllocation("compilateur réutilisé", reused);
+    }
+
+    /**
+     * Méthode affichant la mémoire allouée en moyenne par une opération.
+     * @param label nom de la mesure
+     * @param operation opération
+     */
+    private static void reportAllocation(String label, Supplier<Object> operation) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        int iterations = 200;
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < iterations; i++) operation.get();
+        long allocated = (threads.getCurrentThreadAllocatedBytes() - before) / iterations;
+        System.out.println(String.format(Locale.ROOT, "%-40s %12.1f Ko/op alloués", label, allocated / 1024.0));
+    }
+}
@@ -0,0 +1,44 @@
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+/**
+ * Banc d'essai mesurant le coût des source maps : un gros fichier (tous les fichiers du dossier scssFiles agrandis)
+ * est compilé avec et sans source map, avec le même compilateur réutilisé.
+ * <p>
+ * Arguments (optionnels) : --scale 200 --warmup 2000 --measure 5000 --dir scssFiles
+ */
+public class BenchmarkSourceMap {
+    public static void main(String[] args) throws IOException {
+        BenchmarkArguments arguments = new BenchmarkArguments(args, "--scale", "--dir");
+        String scssDir = arguments.string("--dir", "scssFiles");
+        int scale = arguments.integer("--scale", 200);
+        long warmupMillis = arguments.warmupMillis(2000);
+        long measureMillis = arguments.measureMillis(5000);
+
+        File[] files = new File(scssDir).listFiles((dir, name) -> name.endsWith(".scss"));
+        assert files != null; // IntelliJ
+        Arrays.sort(files);
+
+        StringBuilder bundle = new StringBuilder();
+        for (File file : files) bundle.append(Benchmark.scale(Files.readString(file.toPath(), StandardCharsets.UTF_8), scale)).append('\n');
+        String source = bundle.toString();
+
+        ScssCompiler compiler = new ScssCompiler();
+        SourceMap sample = new SourceMap("bundle.css");
+        String css = compiler.compile(source, "bundle.scss", sample);
+        System.out.printf("Bundle : %d Ko de SCSS, %d Ko de CSS, %d Ko de source map%n",
+                source.length() / 1024, css.length() / 1024, sample.toString().length() / 1024);
+
+        Benchmark benchmark = new Benchmark(warmupMillis, measureMillis);
+        double without = benchmark.measure("bundle sans source map", () -> compiler.compile(source));
+        double with = benchmark.measure("bundle avec source map", () -> {
+            SourceMap map = new SourceMap("bundle.css");
+            compiler.compile(source, "bundle.scss", map);
+            return map.toString();
+        });
+        System.out.printf("Surcoût des source maps : %.1f %%%n", (with - without) * 100 / without);
+    }
+}
@@ -23,13 +23,13 @@ public class ScssParser extends Parser {
 		Keyframes=25, Return=26, Media=27, Extend=28, Warn=29, Error=30, If=31, 
 		AtIf=32, AtFor=33, AtElse=34, AtWhile=35, AtEach=36, From=37, To=38, Through=39, 
 		Only=40, Not=41, And=42, Using=43, As=44, With=45, Or=46, In=47, Default=48, 
-		Important=49, Lparen=50, Rparen=51, Lbrack=52, Rbrack=53, BlockStart=54, 
-		BlockEnd=55, Dot=56, Comma=57, Colon=58, Semi=59, Tilde=60, Under=61, 
-		Dollar=62, At=63, Amp=64, Hash=65, True=66, False=67, Plus=68, Div=69, 
-		Minus=70, Times=71, Eq=72, NotEq=73, Greater=74, Less=75, Includes=76, 
-		DashMatch=77, Pipe=78, Cdo=79, Cdc=80, PseudoNot=81, Calc=82, Rotate=83, 
-		Var=84, Rgba=85, Repeat=86, PrefixMatch=87, SuffixMatch=88, SubstringMatch=89, 
-		VendorPrefix=90, Variable=91, Number=92, String_=93, Ident=94;
+		Important=49, Global=50, Lparen=51, Rparen=52, Lbrack=53, Rbrack=54, BlockStart=55, 
+		BlockEnd=56, Dot=57, Comma=58, Colon=59, Semi=60, Tilde=61, Under=62, 
+		Dollar=63, At=64, Amp=65, Hash=66, True=67, False=68, Plus=69, Div=70, 
+		Minus=71, Times=72, Eq=73, NotEq=74, Greater=75, Less=76, Includes=77, 
+		DashMatch=78, Pipe=79, Cdo=80, Cdc=81, PseudoNot=82, Calc=83, Rotate=84, 
+		Var=85, Rgba=86, Repeat=87, PrefixMatch=88, SuffixMatch=89, SubstringMatch=90, 
+		VendorPrefix=91, Variable=92, Number=93, String_=94, Ident=95;
 	public static final int
 		RULE_stylesheet = 0, RULE_statement = 1, RULE_importDeclaration = 2, RULE_importPath = 3, 
 		RULE_asClause = 4, RULE_withClause = 5, RULE_variableDeclaration = 6, 
@@ -45,20 +45,20 @@ public class ScssParser extends Parser {
 		RULE_universal = 38, RULE_className = 39, RULE_interpolation = 40, RULE_parentRef = 41, 
 		RULE_attrib = 42, RULE_pseudo = 43, RULE_functionalPseudo = 44, RULE_pseudoParameter = 45, 
 		RULE_negation = 46, RULE_negationArg = 47, RULE_operator_ = 48, RULE_value = 49, 
-		RULE_functionDeclaration = 50, RULE_parameters = 51, RULE_parameter = 52, 
-		RULE_functionBody = 53, RULE_functionReturn = 54, RULE_functionStatement = 55, 
-		RULE_functionCall = 56, RULE_expression = 57, RULE_expressionPart = 58, 
-		RULE_ifExpression = 59, RULE_listDeclaration = 60, RULE_listCommaSeparated = 61, 
-		RULE_listSpaceSeparated = 62, RULE_listBracketed = 63, RULE_listElement = 64, 
-		RULE_mapDeclaration = 65, RULE_mapEntries = 66, RULE_mapEntry = 67, RULE_mapKey = 68, 
-		RULE_mapValue = 69, RULE_ifDeclaration = 70, RULE_elseIfStatement = 71, 
-		RULE_elseStatement = 72, RULE_forDeclaration = 73, RULE_through = 74, 
-		RULE_whileDeclaration = 75, RULE_eachDeclaration = 76, RULE_eachValueList = 77, 
-		RULE_var_ = 78, RULE_calc = 79, RULE_rotate = 80, RULE_rgba = 81, RULE_repeat = 82, 
-		RULE_unit = 83, RULE_length = 84, RULE_dimension = 85, RULE_percentage = 86, 
-		RULE_degree = 87, RULE_measurment = 88, RULE_uri = 89, RULE_arglist = 90, 
-		RULE_plusMinus = 91, RULE_hexcolor = 92, RULE_color = 93, RULE_boolean = 94, 
-		RULE_number = 95, RULE_identifier = 96;
+		RULE_operation = 50, RULE_functionDeclaration = 51, RULE_parameters = 52, 
+		RULE_parameter = 53, RULE_functionBody = 54, RULE_functionReturn = 55, 
+		RULE_functionStatement = 56, RULE_functionCall = 57, RULE_expression = 58, 
+		RULE_expressionPart = 59, RULE_ifExpression = 60, RULE_listDeclaration = 61, 
+		RULE_listCommaSeparated = 62, RULE_listSpaceSeparated = 63, RULE_listBracketed = 64, 
+		RULE_listElement = 65, RULE_mapDeclaration = 66, RULE_mapEntries = 67, 
+		RULE_mapEntry = 68, RULE_mapKey = 69, RULE_mapValue = 70, RULE_ifDeclaration = 71, 
+		RULE_elseIfStatement = 72, RULE_elseStatement = 73, RULE_forDeclaration = 74, 
+		RULE_through = 75, RULE_whileDeclaration = 76, RULE_eachDeclaration = 77, 
+		RULE_eachValueList = 78, RULE_var_ = 79, RULE_calc = 80, RULE_rotate = 81, 
+		RULE_rgba = 82, RULE_repeat = 83, RULE_unit = 84, RULE_length = 85, RULE_dimension = 86, 
+		RULE_percentage = 87, RULE_degree = 88, RULE_measurment = 89, RULE_uri = 90, 
+		RULE_arglist = 91, RULE_plusMinus = 92, RULE_hexcolor = 93, RULE_color = 94, 
+		RULE_boolean = 95, RULE_number = 96, RULE_identifier = 97;
 	private static String[] makeRuleNames() {
 		return new String[] {
 			"stylesheet", "statement", "importDeclaration", "importPath", "asClause", 
@@ -71,16 +71,16 @@ public class ScssParser extends Parser {
 			"ruleset", "block", "selectorGroup", "selector", "combinator", "selectorSequence", 
 			"id", "typeSelector", "typeNamespacePrefix", "universal", "className", 
 			"interpolation", "parentRef", "attrib", "pseudo", "functionalPseudo", 
-			"pseudoParameter", "negation", "negationArg", "operator_", "value", "functionDeclaration", 
-			"parameters", "parameter", "functionBody", "functionReturn", "functionStatement", 
-			"functionCall", "expression", "expressionPart", "ifExpression", "listDeclaration", 
-			"listCommaSeparated", "listSpaceSeparated", "listBracketed", "listElement", 
-			"mapDeclaration", "mapEntries", "mapEntry", "mapKey", "mapValue", "ifDeclaration", 
-			"elseIfStatement", "elseStatement", "forDeclaration", "through", "whileDeclaration", 
-			"eachDeclaration", "eachValueList", "var_", "calc", "rotate", "rgba", 
-			"repeat", "unit", "length", "dimension", "percentage", "degree", "measurment", 
-			"uri", "arglist", "plusMinus", "hexcolor", "color", "boolean", "number", 
-			"identifier"
+			"pseudoParameter", "negation", "negationArg", "operator_", "value", "operation", 
+			"functionDeclaration", "parameters", "parameter", "functionBody", "functionReturn", 
+			"functionStatement", "functionCall", "expression", "expressionPart", 
+			"ifExpression", "listDeclaration", "listCommaSeparated", "listSpaceSeparated", 
+			"listBracketed", "listElement", "mapDeclaration", "mapEntries", "mapEntry", 
+			"mapKey", "mapValue", "ifDeclaration", "elseIfStatement", "elseStatement", 
+			"forDeclaration", "through", "whileDeclaration", "eachDeclaration", "eachValueList", 
+			"var_", "calc", "rotate", "rgba", "repeat", "unit", "length", "dimension", 
+			"percentage", "degree", "measurment", "uri", "arglist", "plusMinus", 
+			"hexcolor", "color", "boolean", "number", "identifier"
 		};
 	}
 	public static final String[] ruleNames = makeRuleNames();
@@ -93,12 +93,12 @@ public class ScssParser extends Parser {
 			"'@content'", "'@keyframes'", "'@return'", "'@media'", "'@extend'", "'@warn'", 
 			"'@error'", "'if'", "'@if'", "'@for'", "'@else'", "'@while'", "'@each'", 
 			"'from'", "'to'", "'through'", "'only'", "'not'", "'and'", "'using'", 
-			"'as'", "'with'", "'or'", "'in'", "'!default'", "'!important'", "'('", 
-			"')'", "'['", "']'", "'{'", "'}'", "'.'", "','", "':'", "';'", "'~'", 
-			"'_'", "'$'", "'@'", "'&'", "'#'", "'true'", "'false'", "'+'", "'/'", 
-			"'-'", "'*'", "'='", "'!='", "'>'", "'<'", "'~='", "'|='", "'|'", "'<!--'", 
-			"'-->'", "':not('", "'calc('", "'rotate('", "'var('", "'rgba('", "'repeat('", 
-			"'^='", "'$='", "'*='"
+			"'as'", "'with'", "'or'", "'in'", "'!default'", "'!important'", "'!global'", 
+			"'('", "')'", "'['", "']'", "'{'", "'}'", "'.'", "','", "':'", "';'", 
+			"'~'", "'_'", "'$'", "'@'", "'&'", "'#'", "'true'", "'false'", "'+'", 
+			"'/'", "'-'", "'*'", "'='", "'!='", "'>'", "'<'", "'~='", "'|='", "'|'", 
+			"'<!--'", "'-->'", "':not('", "'calc('", "'rotate('", "'var('", "'rgba('", 
+			"'repeat('", "'^='", "'$='", "'*='"
 		};
 	}
 	private static final String[] _LITERAL_NAMES = makeLiteralNames();
@@ -110,12 +110,12 @@ public class ScssParser extends Parser {
 			"Charset", "Mixin", "Function", "FontFace", "Forward", "Content", "Keyframes", 
 			"Return", "Media", "Extend", "Warn", "Error", "If", "AtIf", "AtFor", 
 			"AtElse", "AtWhile", "AtEach", "From", "To", "Through", "Only", "Not", 
-			"And", "Using", "As", "With", "Or", "In", "Default", "Important", "Lparen", 
-			"Rparen", "Lbrack", "Rbrack", "BlockStart", "BlockEnd", "Dot", "Comma", 
-			"Colon", "Semi", "Tilde", "Under", "Dollar", "At", "Amp", "Hash", "True", 
-			"False", "Plus", "Div", "Minus", "Times", "Eq", "NotEq", "Greater", "Less", 
-			"Includes", "DashMatch", "Pipe", "Cdo", "Cdc", "PseudoNot", "Calc", "Rotate", 
-			"Var", "Rgba", "Repeat", "PrefixMatch", "SuffixMatch", "SubstringMatch", 
+			"And", "Using", "As", "With", "Or", "In", "Default", "Important", "Global", 
+			"Lparen", "Rparen", "Lbrack", "Rbrack", "BlockStart", "BlockEnd", "Dot", 
+			"Comma", "Colon", "Semi", "Tilde", "Under", "Dollar", "At", "Amp", "Hash", 
+			"True", "False", "Plus", "Div", "Minus", "Times", "Eq", "NotEq", "Greater", 
+			"Less", "Includes", "DashMatch", "Pipe", "Cdo", "Cdc", "PseudoNot", "Calc", 
+			"Rotate", "Var", "Rgba", "Repeat", "PrefixMatch", "SuffixMatch", "SubstringMatch", 
 			"VendorPrefix", "Variable", "Number", "String_", "Ident"
 		};
 	}
@@ -205,21 +205,21 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(197);
+			setState(199);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & -3093972413642719216L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 1543652563L) != 0)) {
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & -6187945357646249968L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 3087305127L) != 0)) {
 				{
 				{
-				setState(194);
+				setState(196);
 				statement();
 				}
 				}
-				setState(199);
+				setState(201);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(200);
+			setState(202);
 			match(EOF);
 			}
 		}
@@ -322,153 +322,153 @@ public class ScssParser extends Parser {
 		StatementContext _localctx = new StatementContext(_ctx, getState());
 		enterRule(_localctx, 2, RULE_statement);
 		try {
-			setState(223);
+			setState(225);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,1,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(202);
+				setState(204);
 				importDeclaration();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(203);
+				setState(205);
 				variableDeclaration();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(204);
+				setState(206);
 				propertyDeclaration();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(205);
+				setState(207);
 				interpolationDeclaration();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(206);
+				setState(208);
 				mediaDeclaration();
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(207);
+				setState(209);
 				mixinDeclaration();
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(208);
+				setState(210);
 				contentDeclaration();
 				}
 				break;
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(209);
+				setState(211);
 				functionDeclaration();
 				}
 				break;
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(210);
+				setState(212);
 				ifDeclaration();
 				}
 				break;
 			case 10:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(211);
+				setState(213);
 				forDeclaration();
 				}
 				break;
 			case 11:
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(212);
+				setState(214);
 				whileDeclaration();
 				}
 				break;
 			case 12:
 				enterOuterAlt(_localctx, 12);
 				{
-				setState(213);
+				setState(215);
 				eachDeclaration();
 				}
 				break;
 			case 13:
 				enterOuterAlt(_localctx, 13);
 				{
-				setState(214);
+				setState(216);
 				fontFaceDeclaration();
 				}
 				break;
 			case 14:
 				enterOuterAlt(_localctx, 14);
 				{
-				setState(215);
+				setState(217);
 				keyframesDeclaration();
 				}
 				break;
 			case 15:
 				enterOuterAlt(_localctx, 15);
 				{
-				setState(216);
+				setState(218);
 				includeDeclaration();
 				}
 				break;
 			case 16:
 				enterOuterAlt(_localctx, 16);
 				{
-				setState(217);
+				setState(219);
 				extendDeclaration();
 				}
 				break;
 			case 17:
 				enterOuterAlt(_localctx, 17);
 				{
-				setState(218);
+				setState(220);
 				warndingDeclaration();
 				}
 				break;
 			case 18:
 				enterOuterAlt(_localctx, 18);
 				{
-				setState(219);
+				setState(221);
 				errorDeclaration();
 				}
 				break;
 			case 19:
 				enterOuterAlt(_localctx, 19);
 				{
-				setState(220);
+				setState(222);
 				ruleset();
 				}
 				break;
 			case 20:
 				enterOuterAlt(_localctx, 20);
 				{
-				setState(221);
+				setState(223);
 				atStatementDeclaration();
 				}
 				break;
 			case 21:
 				enterOuterAlt(_localctx, 21);
 				{
-				setState(222);
+				setState(224);
 				percentageStatement();
 				}
 				break;
@@ -525,22 +525,22 @@ public class ScssParser extends Parser {
 		enterRule(_localctx, 4, RULE_importDeclaration);
 		int _la;
 		try {
-			setState(248);
+			setState(250);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case Import:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(225);
+				setState(227);
 				match(Import);
-				setState(226);
-				importPath();
 				setState(228);
+				importPath();
+				setState(230);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==Semi) {
 					{
-					setState(227);
+					setState(229);
 					match(Semi);
 					}
 				}
@@ -550,16 +550,16 @@ public class ScssParser extends Parser {
 			case Require:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(230);
+				setState(232);
 				match(Require);
-				setState(231);
-				importPath();
 				setState(233);
+				importPath();
+				setState(235);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==Semi) {
 					{
-					setState(232);
+					setState(234);
 					match(Semi);
 					}
 				}
@@ -569,36 +569,36 @@ public class ScssParser extends Parser {
 			case Use:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(235);
+				setState(237);
 				match(Use);
-				setState(236);
-				importPath();
 				setState(238);
+				importPath();
+				setState(240);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==As) {
 					{
-					setState(237);
+					setState(239);
 					asClause();
 					}
 				}
 
-				setState(241);
+				setState(243);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==With) {
 					{
-					setState(240);
+					setState(242);
 					withClause();
 					}
 				}
 
-				setState(244);
+				setState(246);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==Semi) {
 					{
-					setState(243);
+					setState(245);
 					match(Semi);
 					}
 				}
@@ -608,9 +608,9 @@ public class ScssParser extends Parser {
 			case Forward:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(246);
+				setState(248);
 				match(Forward);
-				setState(247);
+				setState(249);
 				importPath();
 				}
 				break;
@@ -658,20 +658,20 @@ public class ScssParser extends Parser {
 		ImportPathContext _localctx = new ImportPathContext(_ctx, getState());
 		enterRule(_localctx, 6, RULE_importPath);
 		try {
-			setState(252);
+			setState(254);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case Uri:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(250);
+				setState(252);
 				uri();
 				}
 				break;
 			case String_:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(251);
+				setState(253);
 				match(String_);
 				}
 				break;
@@ -722,14 +722,14 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(254);
+			setState(256);
 			match(As);
-			setState(257);
+			setState(259);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case Times:
 				{
-				setState(255);
+				setState(257);
 				match(Times);
 				}
 				break;
@@ -739,7 +739,7 @@ public class ScssParser extends Parser {
 			case VendorPrefix:
 			case Ident:
 				{
-				setState(256);
+				setState(258);
 				identifier();
 				}
 				break;
@@ -792,13 +792,13 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(259);
+			setState(261);
 			match(With);
-			setState(260);
+			setState(262);
 			match(Lparen);
-			setState(261);
+			setState(263);
 			parameters();
-			setState(262);
+			setState(264);
 			match(Rparen);
 			}
 		}
@@ -822,8 +822,11 @@ public class ScssParser extends Parser {
 		public VariableValueContext variableValue() {
 			return getRuleContext(VariableValueContext.class,0);
 		}
-		public PrioContext prio() {
-			return getRuleContext(PrioContext.class,0);
+		public List<PrioContext> prio() {
+			return getRuleContexts(PrioContext.class);
+		}
+		public PrioContext prio(int i) {
+			return getRuleContext(PrioContext.class,i);
 		}
 		public TerminalNode Semi() { return getToken(ScssParser.Semi, 0); }
 		public VariableDeclarationContext(ParserRuleContext parent, int invokingState) {
@@ -852,28 +855,32 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(264);
+			setState(266);
 			variableName();
-			setState(265);
+			setState(267);
 			match(Colon);
-			setState(266);
-			variableValue();
 			setState(268);
+			variableValue();
+			setState(272);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,10,_ctx) ) {
-			case 1:
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 1970324836974592L) != 0)) {
 				{
-				setState(267);
+				{
+				setState(269);
 				prio();
 				}
-				break;
+				}
+				setState(274);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
 			}
-			setState(271);
+			setState(276);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Semi) {
 				{
-				setState(270);
+				setState(275);
 				match(Semi);
 				}
 			}
@@ -893,33 +900,15 @@ public class ScssParser extends Parser {
 
 	@SuppressWarnings("CheckReturnValue")
 	public static class VariableValueContext extends ParserRuleContext {
-		public ValueContext value() {
-			return getRuleContext(ValueContext.class,0);
+		public ListDeclarationContext listDeclaration() {
+			return getRuleContext(ListDeclarationContext.class,0);
+		}
+		public MapDeclarationContext mapDeclaration() {
+			return getRuleContext(MapDeclarationContext.class,0);
 		}
 		public FunctionDeclarationContext functionDeclaration() {
 			return getRuleContext(FunctionDeclarationContext.class,0);
 		}
-		public FunctionCallContext functionCall() {
-			return getRuleContext(FunctionCallContext.class,0);
-		}
-		public List<MapDeclarationContext> mapDeclaration() {
-			return getRuleContexts(MapDeclarationContext.class);
-		}
-		public MapDeclarationContext mapDeclaration(int i) {
-			return getRuleContext(MapDeclarationContext.class,i);
-		}
-		public List<ListDeclarationContext> listDeclaration() {
-			return getRuleContexts(ListDeclarationContext.class);
-		}
-		public ListDeclarationContext listDeclaration(int i) {
-			return getRuleContext(ListDeclarationContext.class,i);
-		}
-		public VariableNameContext variableName() {
-			return getRuleContext(VariableNameContext.class,0);
-		}
-		public IdentifierContext identifier() {
-			return getRuleContext(IdentifierContext.class,0);
-		}
 		public VariableValueContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -943,93 +932,28 @@ public class ScssParser extends Parser {
 		VariableValueContext _localctx = new VariableValueContext(_ctx, getState());
 		enterRule(_localctx, 14, RULE_variableValue);
 		try {
-			int _alt;
-			setState(288);
+			setState(281);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,14,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,12,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(273);
-				value();
+				setState(278);
+				listDeclaration();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(274);
-				functionDeclaration();
+				setState(279);
+				mapDeclaration();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(275);
-				functionCall();
-				}
-				break;
-			case 4:
-				enterOuterAlt(_localctx, 4);
-				{
-				setState(277); 
-				_errHandler.sync(this);
-				_alt = 1;
-				do {
-					switch (_alt) {
-					case 1:
-						{
-						{
-						setState(276);
-						mapDeclaration();
-						}
-						}
-						break;
-					default:
-						throw new NoViableAltException(this);
-					}
-					setState(279); 
-					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,12,_ctx);
-				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
-				}
-				break;
-			case 5:
-				enterOuterAlt(_localctx, 5);
-				{
-				setState(282); 
-				_errHandler.sync(this);
-				_alt = 1;
-				do {
-					switch (_alt) {
-					case 1:
-						{
-						{
-						setState(281);
-						listDeclaration();
-						}
-						}
-						break;
-					default:
-						throw new NoViableAltException(this);
-					}
-					setState(284); 
-					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,13,_ctx);
-				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
-				}
-				break;
-			case 6:
-				enterOuterAlt(_localctx, 6);
-				{
-				setState(286);
-				variableName();
-				}
-				break;
-			case 7:
-				enterOuterAlt(_localctx, 7);
-				{
-				setState(287);
-				identifier();
+				setState(280);
+				functionDeclaration();
 				}
 				break;
 			}
@@ -1047,23 +971,23 @@ public class ScssParser extends Parser {
 
 	@SuppressWarnings("CheckReturnValue")
 	public static class VariableNameContext extends ParserRuleContext {
+		public TerminalNode Dollar() { return getToken(ScssParser.Dollar, 0); }
 		public IdentifierContext identifier() {
 			return getRuleContext(IdentifierContext.class,0);
 		}
-		public TerminalNode Dollar() { return getToken(ScssParser.Dollar, 0); }
+		public MeasurmentContext measurment() {
+			return getRuleContext(MeasurmentContext.class,0);
+		}
 		public PlusMinusContext plusMinus() {
 			return getRuleContext(PlusMinusContext.class,0);
 		}
+		public Namespace_Context namespace_() {
+			return getRuleContext(Namespace_Context.class,0);
+		}
 		public List<TerminalNode> Minus() { return getTokens(ScssParser.Minus); }
 		public TerminalNode Minus(int i) {
 			return getToken(ScssParser.Minus, i);
 		}
-		public MeasurmentContext measurment() {
-			return getRuleContext(MeasurmentContext.class,0);
-		}
-		public Namespace_Context namespace_() {
-			return getRuleContext(Namespace_Context.class,0);
-		}
 		public TerminalNode Variable() { return getToken(ScssParser.Variable, 0); }
 		public VariableNameContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -1089,72 +1013,35 @@ public class ScssParser extends Parser {
 		enterRule(_localctx, 16, RULE_variableName);
 		int _la;
 		try {
-			setState(313);
+			setState(299);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,19,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,16,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(298);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,15,_ctx) ) {
-				case 1:
-					{
-					{
-					setState(290);
-					match(Minus);
-					setState(291);
-					match(Minus);
-					}
-					setState(293);
-					match(Dollar);
-					}
-					break;
-				case 2:
-					{
-					setState(294);
-					plusMinus();
-					setState(295);
-					match(Dollar);
-					}
-					break;
-				case 3:
-					{
-					setState(297);
-					match(Dollar);
-					}
-					break;
-				}
-				setState(300);
-				identifier();
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(302);
+				setState(284);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,16,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,13,_ctx) ) {
 				case 1:
 					{
-					setState(301);
+					setState(283);
 					plusMinus();
 					}
 					break;
 				}
-				setState(305);
+				setState(287);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if (((((_la - 37)) & ~0x3f) == 0 && ((1L << (_la - 37)) & 153122395920531459L) != 0)) {
+				if (((((_la - 37)) & ~0x3f) == 0 && ((1L << (_la - 37)) & 306244791841062915L) != 0)) {
 					{
-					setState(304);
+					setState(286);
 					namespace_();
 					}
 				}
 
-				setState(307);
+				setState(289);
 				match(Dollar);
-				setState(310);
+				setState(292);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case From:
@@ -1163,7 +1050,7 @@ public class ScssParser extends Parser {
 				case VendorPrefix:
 				case Ident:
 					{
-					setState(308);
+					setState(290);
 					identifier();
 					}
 					break;
@@ -1176,7 +1063,7 @@ public class ScssParser extends Parser {
 				case Time:
 				case Percentage:
 					{
-					setState(309);
+					setState(291);
 					measurment();
 					}
 					break;
@@ -1185,10 +1072,23 @@ public class ScssParser extends Parser {
 				}
 				}
 				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(294);
+				match(Minus);
+				setState(295);
+				match(Minus);
+				setState(296);
+				match(Dollar);
+				setState(297);
+				identifier();
+				}
+				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(312);
+				setState(298);
 				match(Variable);
 				}
 				break;
@@ -1243,7 +1143,7 @@ public class ScssParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(318); 
+			setState(304); 
 			_errHandler.sync(this);
 			_alt = 1;
 			do {
@@ -1251,9 +1151,9 @@ public class ScssParser extends Parser {
 				case 1:
 					{
 					{
-					setState(315);
+					setState(301);
 					identifier();
-					setState(316);
+					setState(302);
 					match(Dot);
 					}
 					}
@@ -1261,9 +1161,9 @@ public class ScssParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(320); 
+				setState(306); 
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,20,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,17,_ctx);
 			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
 			}
 		}
@@ -1314,18 +1214,18 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(322);
+			setState(308);
 			identifier();
-			setState(323);
+			setState(309);
 			match(Colon);
-			setState(324);
+			setState(310);
 			propertyValue();
-			setState(326);
+			setState(312);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Semi) {
 				{
-				setState(325);
+				setState(311);
 				match(Semi);
 				}
 			}
@@ -1347,6 +1247,7 @@ public class ScssParser extends Parser {
 	public static class PrioContext extends ParserRuleContext {
 		public TerminalNode Important() { return getToken(ScssParser.Important, 0); }
 		public TerminalNode Default() { return getToken(ScssParser.Default, 0); }
+		public TerminalNode Global() { return getToken(ScssParser.Global, 0); }
 		public PrioContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1373,9 +1274,9 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(328);
+			setState(314);
 			_la = _input.LA(1);
-			if ( !(_la==Default || _la==Important) ) {
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 1970324836974592L) != 0)) ) {
 			_errHandler.recoverInline(this);
 			}
 			else {
@@ -1398,26 +1299,11 @@ public class ScssParser extends Parser {
 
 	@SuppressWarnings("CheckReturnValue")
 	public static class PropertyValueContext extends ParserRuleContext {
-		public ValueContext value() {
-			return getRuleContext(ValueContext.class,0);
-		}
-		public BlockContext block() {
-			return getRuleContext(BlockContext.class,0);
-		}
-		public VariableNameContext variableName() {
-			return getRuleContext(VariableNameContext.class,0);
-		}
-		public ListSpaceSeparatedContext listSpaceSeparated() {
-			return getRuleContext(ListSpaceSeparatedContext.class,0);
-		}
 		public ListCommaSeparatedContext listCommaSeparated() {
 			return getRuleContext(ListCommaSeparatedContext.class,0);
 		}
-		public ExpressionContext expression() {
-			return getRuleContext(ExpressionContext.class,0);
-		}
-		public FunctionCallContext functionCall() {
-			return getRuleContext(FunctionCallContext.class,0);
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
 		}
 		public List<PrioContext> prio() {
 			return getRuleContexts(PrioContext.class);
@@ -1425,6 +1311,9 @@ public class ScssParser extends Parser {
 		public PrioContext prio(int i) {
 			return getRuleContext(PrioContext.class,i);
 		}
+		public ValueContext value() {
+			return getRuleContext(ValueContext.class,0);
+		}
 		public PropertyValueContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1451,82 +1340,52 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(343);
+			setState(324);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,24,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,21,_ctx) ) {
 			case 1:
 				{
-				setState(330);
-				value();
+				setState(316);
+				listCommaSeparated();
 				}
 				break;
 			case 2:
 				{
-				setState(332);
+				setState(318);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,22,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,19,_ctx) ) {
 				case 1:
 					{
-					setState(331);
+					setState(317);
 					value();
 					}
 					break;
 				}
-				setState(335);
+				setState(321);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if (_la==Default || _la==Important) {
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 1970324836974592L) != 0)) {
 					{
-					setState(334);
+					setState(320);
 					prio();
 					}
 				}
 
-				setState(337);
+				setState(323);
 				block();
 				}
 				break;
-			case 3:
-				{
-				setState(338);
-				variableName();
-				}
-				break;
-			case 4:
-				{
-				setState(339);
-				listSpaceSeparated();
-				}
-				break;
-			case 5:
-				{
-				setState(340);
-				listCommaSeparated();
-				}
-				break;
-			case 6:
-				{
-				setState(341);
-				expression();
-				}
-				break;
-			case 7:
-				{
-				setState(342);
-				functionCall();
-				}
-				break;
 			}
-			setState(346);
+			setState(327);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,25,_ctx) ) {
-			case 1:
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 1970324836974592L) != 0)) {
 				{
-				setState(345);
+				setState(326);
 				prio();
 				}
-				break;
 			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -1574,11 +1433,11 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(348);
+			setState(329);
 			match(Media);
-			setState(349);
+			setState(330);
 			mediaQueryList();
-			setState(350);
+			setState(331);
 			block();
 			}
 		}
@@ -1631,32 +1490,32 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(360);
+			setState(341);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,27,_ctx) ) {
-			case 1:
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -9219146199204888480L) != 0) || ((((_la - 66)) & ~0x3f) == 0 && ((1L << (_la - 66)) & 1044250671L) != 0)) {
 				{
-				setState(352);
+				setState(333);
 				mediaQuery();
-				setState(357);
+				setState(338);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==Comma) {
 					{
 					{
-					setState(353);
+					setState(334);
 					match(Comma);
-					setState(354);
+					setState(335);
 					mediaQuery();
 					}
 					}
-					setState(359);
+					setState(340);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
 				}
-				break;
 			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -1714,18 +1573,18 @@ public class ScssParser extends Parser {
 		enterRule(_localctx, 30, RULE_mediaQuery);
 		int _la;
 		try {
-			setState(384);
+			setState(365);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,32,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,29,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(363);
+				setState(344);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,28,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,25,_ctx) ) {
 				case 1:
 					{
-					setState(362);
+					setState(343);
 					_la = _input.LA(1);
 					if ( !(_la==Only || _la==Not) ) {
 					_errHandler.recoverInline(this);
@@ -1738,35 +1597,35 @@ public class ScssParser extends Parser {
 					}
 					break;
 				}
-				setState(367);
+				setState(348);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,29,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,26,_ctx) ) {
 				case 1:
 					{
-					setState(365);
+					setState(346);
 					identifier();
 					}
 					break;
 				case 2:
 					{
-					setState(366);
+					setState(347);
 					value();
 					}
 					break;
 				}
-				setState(373);
+				setState(354);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==And) {
 					{
 					{
-					setState(369);
+					setState(350);
 					match(And);
-					setState(370);
+					setState(351);
 					mediaExpression();
 					}
 					}
-					setState(375);
+					setState(356);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
@@ -1775,21 +1634,21 @@ public class ScssParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(376);
+				setState(357);
 				mediaExpression();
-				setState(381);
+				setState(362);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==And) {
 					{
 					{
-					setState(377);
+					setState(358);
 					match(And);
-					setState(378);
+					setState(359);
 					mediaExpression();
 					}
 					}
-					setState(383);
+					setState(364);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
@@ -1845,23 +1704,23 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(386);
+			setState(367);
 			match(Lparen);
-			setState(387);
+			setState(368);
 			identifier();
-			setState(390);
+			setState(371);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Colon) {
 				{
-				setState(388);
+				setState(369);
 				match(Colon);
-				setState(389);
+				setState(370);
 				value();
 				}
 			}
 
-			setState(392);
+			setState(373);
 			match(Rparen);
 			}
 		}
@@ -1915,31 +1774,31 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(394);
+			setState(375);
 			match(Mixin);
-			setState(401);
+			setState(382);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,34,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,31,_ctx) ) {
 			case 1:
 				{
-				setState(395);
+				setState(376);
 				identifier();
 				}
 				break;
 			case 2:
 				{
-				setState(396);
+				setState(377);
 				identifier();
-				setState(397);
+				setState(378);
 				match(Lparen);
-				setState(398);
+				setState(379);
 				parameters();
-				setState(399);
+				setState(380);
 				match(Rparen);
 				}
 				break;
 			}
-			setState(403);
+			setState(384);
 			block();
 			}
 		}
@@ -1989,28 +1848,28 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(405);
+			setState(386);
 			match(Content);
-			setState(410);
+			setState(391);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,35,_ctx) ) {
-			case 1:
+			_la = _input.LA(1);
+			if (_la==Lparen) {
 				{
-				setState(406);
+				setState(387);
 				match(Lparen);
-				setState(407);
+				setState(388);
 				parameters();
-				setState(408);
+				setState(389);
 				match(Rparen);
 				}
-				break;
 			}
-			setState(413);
+
+			setState(394);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Semi) {
 				{
-				setState(412);
+				setState(393);
 				match(Semi);
 				}
 			}
@@ -2065,25 +1924,25 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(415);
+			setState(396);
 			match(FontFace);
-			setState(416);
+			setState(397);
 			match(BlockStart);
-			setState(420);
+			setState(401);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & -3093972413642719216L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 1543652563L) != 0)) {
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & -6187945357646249968L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 3087305127L) != 0)) {
 				{
 				{
-				setState(417);
+				setState(398);
 				statement();
 				}
 				}
-				setState(422);
+				setState(403);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(423);
+			setState(404);
 			match(BlockEnd);
 			}
 		}
@@ -2133,19 +1992,19 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(425);
+			setState(406);
 			match(Keyframes);
-			setState(427);
+			setState(408);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if (((((_la - 37)) & ~0x3f) == 0 && ((1L << (_la - 37)) & 153122395920531459L) != 0)) {
+			if (((((_la - 37)) & ~0x3f) == 0 && ((1L << (_la - 37)) & 306244791841062915L) != 0)) {
 				{
-				setState(426);
+				setState(407);
 				identifier();
 				}
 			}
 
-			setState(429);
+			setState(410);
 			keyframesBlock();
 			}
 		}
@@ -2197,36 +2056,36 @@ public class ScssParser extends Parser {
 		enterRule(_localctx, 42, RULE_keyframesBlock);
 		int _la;
 		try {
-			setState(440);
+			setState(421);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,40,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,37,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(431);
+				setState(412);
 				match(BlockStart);
-				setState(435);
+				setState(416);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while (((((_la - 68)) & ~0x3f) == 0 && ((1L << (_la - 68)) & 16777221L) != 0)) {
+				while (((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & 16777221L) != 0)) {
 					{
 					{
-					setState(432);
+					setState(413);
 					percentageStatement();
 					}
 					}
-					setState(437);
+					setState(418);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(438);
+				setState(419);
 				match(BlockEnd);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(439);
+				setState(420);
 				block();
 				}
 				break;
@@ -2276,9 +2135,9 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(442);
+			setState(423);
 			percentage();
-			setState(443);
+			setState(424);
 			block();
 			}
 		}
@@ -2296,12 +2155,12 @@ public class ScssParser extends Parser {
 	@SuppressWarnings("CheckReturnValue")
 	public static class IncludeDeclarationContext extends ParserRuleContext {
 		public TerminalNode Include() { return getToken(ScssParser.Include, 0); }
-		public IdentifierContext identifier() {
-			return getRuleContext(IdentifierContext.class,0);
-		}
 		public FunctionCallContext functionCall() {
 			return getRuleContext(FunctionCallContext.class,0);
 		}
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
 		public Namespace_Context namespace_() {
 			return getRuleContext(Namespace_Context.class,0);
 		}
@@ -2341,66 +2200,57 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(445);
+			setState(426);
 			match(Include);
-			setState(447);
+			setState(428);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,41,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,38,_ctx) ) {
 			case 1:
 				{
-				setState(446);
+				setState(427);
 				namespace_();
 				}
 				break;
 			}
-			setState(451);
+			setState(432);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,42,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,39,_ctx) ) {
 			case 1:
 				{
-				setState(449);
-				identifier();
+				setState(430);
+				functionCall();
 				}
 				break;
 			case 2:
 				{
-				setState(450);
-				functionCall();
+				setState(431);
+				identifier();
 				}
 				break;
 			}
-			setState(459);
+			setState(440);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case Semi:
 				{
-				setState(453);
+				setState(434);
 				match(Semi);
 				}
 				break;
 			case Using:
 				{
-				setState(454);
+				setState(435);
 				match(Using);
-				setState(455);
+				setState(436);
 				match(Lparen);
-				setState(456);
+				setState(437);
 				parameters();
-				setState(457);
+				setState(438);
 				match(Rparen);
 				}
 				break;
 			case EOF:
 			case Space:
-			case Uri:
-			case Format:
-			case AbsLength:
-			case FontRelative:
-			case ViewportRelative:
-			case Angle:
-			case Resolution:
-			case Freq:
-			case Time:
 			case Percentage:
 			case Import:
 			case Include:
@@ -2417,17 +2267,12 @@ public class ScssParser extends Parser {
 			case Extend:
 			case Warn:
 			case Error:
-			case If:
 			case AtIf:
 			case AtFor:
 			case AtWhile:
 			case AtEach:
 			case From:
 			case To:
-			case Not:
-			case Default:
-			case Important:
-			case Lparen:
 			case Lbrack:
 			case BlockStart:
 			case BlockEnd:
@@ -2438,33 +2283,26 @@ public class ScssParser extends Parser {
 			case At:
 			case Amp:
 			case Hash:
-			case True:
-			case False:
 			case Plus:
 			case Minus:
 			case Times:
 			case Greater:
 			case Pipe:
 			case PseudoNot:
-			case Calc:
-			case Rotate:
-			case Var:
-			case Rgba:
 			case VendorPrefix:
 			case Variable:
 			case Number:
-			case String_:
 			case Ident:
 				break;
 			default:
 				break;
 			}
-			setState(462);
+			setState(443);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==BlockStart) {
 				{
-				setState(461);
+				setState(442);
 				block();
 				}
 			}
@@ -2518,18 +2356,18 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(464);
+			setState(445);
 			interpolation();
-			setState(465);
+			setState(446);
 			match(Colon);
-			setState(466);
+			setState(447);
 			propertyValue();
-			setState(468);
+			setState(449);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Semi) {
 				{
-				setState(467);
+				setState(448);
 				match(Semi);
 				}
 			}
@@ -2627,79 +2465,79 @@ public class ScssParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(470);
+			setState(451);
 			match(Extend);
-			setState(473);
+			setState(454);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,46,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,43,_ctx) ) {
 			case 1:
 				{
-				setState(471);
+				setState(452);
 				match(Percentage);
 				}
 				break;
 			case 2:
 				{
-				setState(472);
+				setState(453);
 				parentRef();
 				}
 				break;
 			}
-			setState(483); 
+			setState(464); 
 			_errHandler.sync(this);
 			_alt = 1;
 			do {
 				switch (_alt) {
 				case 1:
 					{
-					setState(483);
+					setState(464);
 					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,47,_ctx) ) {
+					switch ( getInterpreter().adaptivePredict(_input,44,_ctx) ) {
 					case 1:
 						{
-						setState(475);
+						setState(456);
 						id();
 						}
 						break;
 					case 2:
 						{
-						setState(476);
+						setState(457);
 						typeSelector();
 						}
 						break;
 					case 3:
 						{
-						setState(477);
+						setState(458);
 						universal();
 						}
 						break;
 					case 4:
 						{
-						setState(478);
+						setState(459);
 						className();
 						}
 						break;
 					case 5:
 						{
-						setState(479);
+						setState(460);
 						attrib();
 						}
 						break;
 					case 6:
 						{
-						setState(480);
+						setState(461);
 						pseudo();
 						}
 						break;
 					case 7:
 						{
-						setState(481);
+						setState(462);
 						interpolation();
 						}
 						break;
 					case 8:
 						{
-						setState(482);
+						setState(463);
 						parentRef();
 						}
 						break;
@@ -2709,16 +2547,16 @@ public class ScssParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(485); 
+				setState(466); 
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,48,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,45,_ctx);
 			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
-			setState(488);
+			setState(469);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Semi) {
 				{
-				setState(487);
+				setState(468);
 				match(Semi);
 				}
 			}
@@ -2766,11 +2604,11 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(490);
+			setState(471);
 			match(Warn);
-			setState(491);
+			setState(472);
 			match(String_);
-			setState(492);
+			setState(473);
 			match(Semi);
 			}
 		}
@@ -2815,11 +2653,11 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(494);
+			setState(475);
 			match(Error);
-			setState(495);
+			setState(476);
 			match(String_);
-			setState(496);
+			setState(477);
 			match(Semi);
 			}
 		}
@@ -2873,31 +2711,31 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(498);
+			setState(479);
 			match(At);
-			setState(505);
+			setState(486);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,50,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,47,_ctx) ) {
 			case 1:
 				{
-				setState(499);
+				setState(480);
 				identifier();
-				setState(500);
+				setState(481);
 				match(Lparen);
-				setState(501);
+				setState(482);
 				parameters();
-				setState(502);
+				setState(483);
 				match(Rparen);
 				}
 				break;
 			case 2:
 				{
-				setState(504);
+				setState(485);
 				identifier();
 				}
 				break;
 			}
-			setState(507);
+			setState(488);
 			block();
 			}
 		}
@@ -2945,9 +2783,9 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(509);
+			setState(490);
 			selectorGroup();
-			setState(510);
+			setState(491);
 			block();
 			}
 		}
@@ -3001,33 +2839,33 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(512);
+			setState(493);
 			match(BlockStart);
-			setState(516);
+			setState(497);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & -3093972413642719216L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 1543652563L) != 0)) {
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & -6187945357646249968L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 3087305127L) != 0)) {
 				{
 				{
-				setState(513);
+				setState(494);
 				statement();
 				}
 				}
-				setState(518);
+				setState(499);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(520);
+			setState(501);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Return) {
 				{
-				setState(519);
+				setState(500);
 				functionReturn();
 				}
 			}
 
-			setState(522);
+			setState(503);
 			match(BlockEnd);
 			}
 		}
@@ -3080,21 +2918,21 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(524);
+			setState(505);
 			selector();
-			setState(529);
+			setState(510);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==Comma) {
 				{
 				{
-				setState(525);
+				setState(506);
 				match(Comma);
-				setState(526);
+				setState(507);
 				selector();
 				}
 				}
-				setState(531);
+				setState(512);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -3151,31 +2989,31 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(533);
+			setState(514);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,54,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,51,_ctx) ) {
 			case 1:
 				{
-				setState(532);
+				setState(513);
 				combinator();
 				}
 				break;
 			}
-			setState(535);
+			setState(516);
 			selectorSequence();
-			setState(541);
+			setState(522);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==Space || _la==Tilde || _la==Plus || _la==Greater) {
 				{
 				{
-				setState(536);
+				setState(517);
 				combinator();
-				setState(537);
+				setState(518);
 				selectorSequence();
 				}
 				}
-				setState(543);
+				setState(524);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -3224,7 +3062,7 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(544);
+			setState(525);
 			_la = _input.LA(1);
 			if ( !(_la==Space || _la==Tilde || _la==Plus || _la==Greater) ) {
 			_errHandler.recoverInline(this);
@@ -3335,82 +3173,82 @@ public class ScssParser extends Parser {
 		int _la;
 		try {
 			int _alt;
-			setState(582);
+			setState(563);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,63,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,60,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(548);
+				setState(529);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,56,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,53,_ctx) ) {
 				case 1:
 					{
-					setState(546);
+					setState(527);
 					typeSelector();
 					}
 					break;
 				case 2:
 					{
-					setState(547);
+					setState(528);
 					universal();
 					}
 					break;
 				}
-				setState(563);
+				setState(544);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while (((((_la - 37)) & ~0x3f) == 0 && ((1L << (_la - 37)) & 153139988511883267L) != 0)) {
+				while (((((_la - 37)) & ~0x3f) == 0 && ((1L << (_la - 37)) & 306279977023766531L) != 0)) {
 					{
-					setState(561);
+					setState(542);
 					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,58,_ctx) ) {
+					switch ( getInterpreter().adaptivePredict(_input,55,_ctx) ) {
 					case 1:
 						{
-						setState(550);
+						setState(531);
 						id();
 						}
 						break;
 					case 2:
 						{
-						setState(551);
+						setState(532);
 						className();
 						}
 						break;
 					case 3:
 						{
-						setState(552);
+						setState(533);
 						attrib();
 						}
 						break;
 					case 4:
 						{
-						setState(553);
+						setState(534);
 						pseudo();
 						}
 						break;
 					case 5:
 						{
-						setState(554);
+						setState(535);
 						negation();
 						}
 						break;
 					case 6:
 						{
-						setState(555);
+						setState(536);
 						interpolation();
-						setState(558);
+						setState(539);
 						_errHandler.sync(this);
-						switch ( getInterpreter().adaptivePredict(_input,57,_ctx) ) {
+						switch ( getInterpreter().adaptivePredict(_input,54,_ctx) ) {
 						case 1:
 							{
-							setState(556);
+							setState(537);
 							variableName();
 							}
 							break;
 						case 2:
 							{
-							setState(557);
+							setState(538);
 							match(Percentage);
 							}
 							break;
@@ -3419,13 +3257,13 @@ public class ScssParser extends Parser {
 						break;
 					case 7:
 						{
-						setState(560);
+						setState(541);
 						parentRef();
 						}
 						break;
 					}
 					}
-					setState(565);
+					setState(546);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
@@ -3434,68 +3272,68 @@ public class ScssParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(578); 
+				setState(559); 
 				_errHandler.sync(this);
 				_alt = 1;
 				do {
 					switch (_alt) {
 					case 1:
 						{
-						setState(578);
+						setState(559);
 						_errHandler.sync(this);
-						switch ( getInterpreter().adaptivePredict(_input,61,_ctx) ) {
+						switch ( getInterpreter().adaptivePredict(_input,58,_ctx) ) {
 						case 1:
 							{
-							setState(566);
+							setState(547);
 							typeSelector();
 							}
 							break;
 						case 2:
 							{
-							setState(567);
+							setState(548);
 							id();
 							}
 							break;
 						case 3:
 							{
-							setState(568);
+							setState(549);
 							className();
 							}
 							break;
 						case 4:
 							{
-							setState(569);
+							setState(550);
 							attrib();
 							}
 							break;
 						case 5:
 							{
-							setState(570);
+							setState(551);
 							pseudo();
 							}
 							break;
 						case 6:
 							{
-							setState(571);
+							setState(552);
 							negation();
 							}
 							break;
 						case 7:
 							{
-							setState(572);
+							setState(553);
 							interpolation();
-							setState(575);
+							setState(556);
 							_errHandler.sync(this);
-							switch ( getInterpreter().adaptivePredict(_input,60,_ctx) ) {
+							switch ( getInterpreter().adaptivePredict(_input,57,_ctx) ) {
 							case 1:
 								{
-								setState(573);
+								setState(554);
 								variableName();
 								}
 								break;
 							case 2:
 								{
-								setState(574);
+								setState(555);
 								match(Percentage);
 								}
 								break;
@@ -3504,7 +3342,7 @@ public class ScssParser extends Parser {
 							break;
 						case 8:
 							{
-							setState(577);
+							setState(558);
 							parentRef();
 							}
 							break;
@@ -3514,9 +3352,9 @@ public class ScssParser extends Parser {
 					default:
 						throw new NoViableAltException(this);
 					}
-					setState(580); 
+					setState(561); 
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,62,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,59,_ctx);
 				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
 				}
 				break;
@@ -3564,9 +3402,9 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(584);
+			setState(565);
 			match(Hash);
-			setState(585);
+			setState(566);
 			identifier();
 			}
 		}
@@ -3621,28 +3459,28 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(588);
+			setState(569);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,64,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,61,_ctx) ) {
 			case 1:
 				{
-				setState(587);
+				setState(568);
 				typeNamespacePrefix();
 				}
 				break;
 			}
-			setState(592);
+			setState(573);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case Percentage:
 				{
-				setState(590);
+				setState(571);
 				match(Percentage);
 				}
 				break;
 			case Amp:
 				{
-				setState(591);
+				setState(572);
 				parentRef();
 				}
 				break;
@@ -3658,18 +3496,18 @@ public class ScssParser extends Parser {
 			default:
 				break;
 			}
-			setState(596);
+			setState(577);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,66,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,63,_ctx) ) {
 			case 1:
 				{
-				setState(594);
+				setState(575);
 				identifier();
 				}
 				break;
 			case 2:
 				{
-				setState(595);
+				setState(576);
 				variableName();
 				}
 				break;
@@ -3719,7 +3557,7 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(600);
+			setState(581);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case From:
@@ -3728,13 +3566,13 @@ public class ScssParser extends Parser {
 			case VendorPrefix:
 			case Ident:
 				{
-				setState(598);
+				setState(579);
 				identifier();
 				}
 				break;
 			case Times:
 				{
-				setState(599);
+				setState(580);
 				match(Times);
 				}
 				break;
@@ -3743,7 +3581,7 @@ public class ScssParser extends Parser {
 			default:
 				break;
 			}
-			setState(602);
+			setState(583);
 			match(Pipe);
 			}
 		}
@@ -3789,17 +3627,17 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(605);
+			setState(586);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,68,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,65,_ctx) ) {
 			case 1:
 				{
-				setState(604);
+				setState(585);
 				typeNamespacePrefix();
 				}
 				break;
 			}
-			setState(607);
+			setState(588);
 			match(Times);
 			}
 		}
@@ -3859,33 +3697,33 @@ public class ScssParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(609);
+			setState(590);
 			match(Dot);
-			setState(613); 
+			setState(594); 
 			_errHandler.sync(this);
 			_alt = 1;
 			do {
 				switch (_alt) {
 				case 1:
 					{
-					setState(613);
+					setState(594);
 					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,69,_ctx) ) {
+					switch ( getInterpreter().adaptivePredict(_input,66,_ctx) ) {
 					case 1:
 						{
-						setState(610);
+						setState(591);
 						match(Minus);
 						}
 						break;
 					case 2:
 						{
-						setState(611);
+						setState(592);
 						identifier();
 						}
 						break;
 					case 3:
 						{
-						setState(612);
+						setState(593);
 						interpolation();
 						}
 						break;
@@ -3895,9 +3733,9 @@ public class ScssParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(615); 
+				setState(596); 
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,70,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,67,_ctx);
 			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
 			}
 		}
@@ -3961,60 +3799,60 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(618);
+			setState(599);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if (((((_la - 37)) & ~0x3f) == 0 && ((1L << (_la - 37)) & 153122395920531459L) != 0)) {
+			if (((((_la - 37)) & ~0x3f) == 0 && ((1L << (_la - 37)) & 306244791841062915L) != 0)) {
 				{
-				setState(617);
+				setState(598);
 				namespace_();
 				}
 			}
 
-			setState(620);
+			setState(601);
 			match(Hash);
-			setState(621);
+			setState(602);
 			match(BlockStart);
-			setState(623);
+			setState(604);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,72,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,69,_ctx) ) {
 			case 1:
 				{
-				setState(622);
+				setState(603);
 				namespace_();
 				}
 				break;
 			}
-			setState(628);
+			setState(609);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,73,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,70,_ctx) ) {
 			case 1:
 				{
-				setState(625);
+				setState(606);
 				ifExpression();
 				}
 				break;
 			case 2:
 				{
-				setState(626);
+				setState(607);
 				value();
 				}
 				break;
 			case 3:
 				{
-				setState(627);
+				setState(608);
 				parentRef();
 				}
 				break;
 			}
-			setState(630);
+			setState(611);
 			match(BlockEnd);
-			setState(632);
+			setState(613);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,74,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,71,_ctx) ) {
 			case 1:
 				{
-				setState(631);
+				setState(612);
 				measurment();
 				}
 				break;
@@ -4060,7 +3898,7 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(634);
+			setState(615);
 			match(Amp);
 			}
 		}
@@ -4121,28 +3959,28 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(636);
+			setState(617);
 			match(Lbrack);
-			setState(638);
+			setState(619);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,75,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,72,_ctx) ) {
 			case 1:
 				{
-				setState(637);
+				setState(618);
 				typeNamespacePrefix();
 				}
 				break;
 			}
-			setState(640);
+			setState(621);
 			identifier();
-			setState(646);
+			setState(627);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if (((((_la - 72)) & ~0x3f) == 0 && ((1L << (_la - 72)) & 229425L) != 0)) {
+			if (((((_la - 73)) & ~0x3f) == 0 && ((1L << (_la - 73)) & 229425L) != 0)) {
 				{
-				setState(641);
+				setState(622);
 				_la = _input.LA(1);
-				if ( !(((((_la - 72)) & ~0x3f) == 0 && ((1L << (_la - 72)) & 229425L) != 0)) ) {
+				if ( !(((((_la - 73)) & ~0x3f) == 0 && ((1L << (_la - 73)) & 229425L) != 0)) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -4150,7 +3988,7 @@ public class ScssParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(644);
+				setState(625);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case From:
@@ -4159,13 +3997,13 @@ public class ScssParser extends Parser {
 				case VendorPrefix:
 				case Ident:
 					{
-					setState(642);
+					setState(623);
 					identifier();
 					}
 					break;
 				case String_:
 					{
-					setState(643);
+					setState(624);
 					match(String_);
 					}
 					break;
@@ -4175,7 +4013,7 @@ public class ScssParser extends Parser {
 				}
 			}
 
-			setState(648);
+			setState(629);
 			match(Rbrack);
 			}
 		}
@@ -4231,36 +4069,36 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(650);
+			setState(631);
 			match(Colon);
-			setState(652);
+			setState(633);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Colon) {
 				{
-				setState(651);
+				setState(632);
 				match(Colon);
 				}
 			}
 
-			setState(657);
+			setState(638);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,79,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,76,_ctx) ) {
 			case 1:
 				{
-				setState(654);
+				setState(635);
 				interpolation();
 				}
 				break;
 			case 2:
 				{
-				setState(655);
+				setState(636);
 				identifier();
 				}
 				break;
 			case 3:
 				{
-				setState(656);
+				setState(637);
 				functionalPseudo();
 				}
 				break;
@@ -4315,25 +4153,25 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(659);
+			setState(640);
 			match(Ident);
-			setState(660);
+			setState(641);
 			match(Lparen);
-			setState(662); 
+			setState(643); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(661);
+				setState(642);
 				pseudoParameter();
 				}
 				}
-				setState(664); 
+				setState(645); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & 4703730949299404768L) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & 1044250671L) != 0) );
-			setState(666);
+			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & -9075032110640660384L) != 0) || ((((_la - 66)) & ~0x3f) == 0 && ((1L << (_la - 66)) & 1044250671L) != 0) );
+			setState(647);
 			match(Rparen);
 			}
 		}
@@ -4387,34 +4225,34 @@ public class ScssParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(671);
+			setState(652);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,81,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,78,_ctx) ) {
 			case 1:
 				{
-				setState(668);
+				setState(649);
 				value();
 				}
 				break;
 			case 2:
 				{
-				setState(669);
+				setState(650);
 				className();
 				}
 				break;
 			case 3:
 				{
-				setState(670);
+				setState(651);
 				interpolation();
 				}
 				break;
 			}
-			setState(674);
+			setState(655);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Comma) {
 				{
-				setState(673);
+				setState(654);
 				match(Comma);
 				}
 			}
@@ -4465,11 +4303,11 @@ public class ScssParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(676);
+			setState(657);
 			match(PseudoNot);
-			setState(677);
+			setState(658);
 			negationArg();
-			setState(678);
+			setState(659);
 			match(Rparen);
 			}
 		}
@@ -4525,48 +4363,48 @@ public class ScssParser extends Parser {
 		NegationArgContext _localctx = new NegationArgContext(_ctx, getState());
 		enterRule(_localctx, 94, RULE_negationArg);
 		try {
-			setState(686);
+			setState(667);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,83,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,80,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(680);
+				setState(661);
 				typeSelector();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(681);
+				setState(662);
 				universal();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(682);
+				setState(663);
 				match(Hash);
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(683);
+				setState(664);
 				className();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(684);
+				setState(665);
 				attrib();
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(685);
+				setState(666);
 				pseudo();
 				}
 				break;
@@ -4623,80 +4461,80 @@ public class ScssParser extends Parser {
 		enterRule(_localctx, 96, RULE_operator_);
 		int _la;
 		try {
-			setState(706);
+			setState(687);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,85,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,82,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(688);
+				setState(669);
 				match(Div);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(689);
+				setState(670);
 				match(Times);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(690);
+				setState(671);
 				match(Minus);
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(691);
+				setState(672);
 				match(Plus);
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(692);
+				setState(673);
 				match(Greater);
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(693);
+				setState(674);
 				match(Less);
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(694);
+				setState(675);
 				match(Greater);
-				setState(695);
+				setState(676);
 				match(Eq);
 				}
 				break;
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(696);
+				setState(677);
 				match(Less);
-				setState(697);
+				setState(678);
 				match(Eq);
 				}
 				break;
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(698);
+				setState(679);
 				match(Eq);
-				setState(700);
+				setState(681);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==Eq) {
 					{
-					setState(699);
+					setState(680);
 					match(Eq);
 					}
 				}
@@ -4706,28 +4544,28 @@ public class ScssParser extends Parser {
 			case 10:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(702);
+				setState(683);
 				match(NotEq);
 				}
 				break;
 			case 11:
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(703);
+				setState(684);
 				match(And);
 				}
 				break;
 			case 12:
 				enterOuterAlt(_localctx, 12);
 				{
-				setState(704);
+				setState(685);
 				match(Or);
 				}
 				break;
 			case 13:
 				enterOuterAlt(_localctx, 13);
 				{
-				setState(705);
+				setState(686);
 				match(Not);
 				}
 				break;
@@ -4746,6 +4584,9 @@ public class ScssParser extends Parser {
 
 	@SuppressWarnings("CheckReturnValue")
 	public static class ValueContext extends ParserRuleContext {
+		public OperationContext operation() {
+			return getRuleContext(OperationContext.class,0);
+		}
 		public UnitContext unit() {
 			return getRuleContext(UnitContext.class,0);
 		}
@@ -4790,16 +4631,16 @@ public class ScssParser extends Parser {
 		public IdentifierContext identifier() {
 			return getRuleContext(IdentifierContext.class,0);
 		}
+		public IfExpressionContext ifExpression() {
+			return getRuleContext(IfExpressionContext.class,0);
+		}
+		public TerminalNode Lparen() { return getToken(ScssParser.Lparen, 0); }
 		public ExpressionContext expression() {
 			return getRuleContext(ExpressionContext.class,0);
 		}
-		public BlockContext block() {
-			return getRuleContext(BlockContext.class,0);
-		}
-		public TerminalNode Lparen() { return getToken(ScssParser.Lparen, 0); }
 		public TerminalNode Rparen() { return getToken(ScssParser.Rparen, 0); }
-		public MeasurmentContext measurment() {
-			return getRuleContext(MeasurmentContext.class,0);
+		public PlusMinusContext plusMinus() {
+			return getRuleContext(PlusMinusContext.class,0);
 		}
 		public ValueContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -4823,150 +4664,282 @@ public class ScssParser extends Parser {
 	public final ValueContext value() throws RecognitionException {
 		ValueContext _localctx = new ValueContext(_ctx, getState());
 		enterRule(_localctx, 98, RULE_value);
+		int _la;
 		try {
-			setState(729);
+			setState(716);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,86,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,84,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(708);
-				unit();
+				setState(689);
+				operation();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(709);
-				number();
+				setState(690);
+				unit();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(710);
-				boolean_();
+				setState(691);
+				number();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(711);
-				calc();
+				setState(692);
+				boolean_();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(712);
-				rotate();
+				setState(693);
+				calc();
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(713);
-				rgba();
+				setState(694);
+				rotate();
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(714);
-				var_();
+				setState(695);
+				rgba();
 				}
 				break;
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(715);
-				uri();
+				setState(696);
+				var_();
 				}
 				break;
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(716);
-				repeat();
+				setState(697);
+				uri();
 				}
 				break;
 			case 10:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(717);
-				match(Format);
+				setState(698);
+				repeat();
 				}
 				break;
 			case 11:
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(718);
-				match(String_);
+				setState(699);
+				match(Format);
 				}
 				break;
 			case 12:
 				enterOuterAlt(_localctx, 12);
 				{
-				setState(719);
-				functionCall();
+				setState(700);
+				match(String_);
 				}
 				break;
 			case 13:
 				enterOuterAlt(_localctx, 13);
 				{
-				setState(720);
-				variableName();
+				setState(701);
+				functionCall();
 				}
 				break;
 			case 14:
 				enterOuterAlt(_localctx, 14);
 				{
-				setState(721);
-				interpolation();
+				setState(702);
+				variableName();
 				}
 				break;
 			case 15:
 				enterOuterAlt(_localctx, 15);
 				{
-				setState(722);
-				hexcolor();
+				setState(703);
+				interpolation();
 				}
 				break;
 			case 16:
 				enterOuterAlt(_localctx, 16);
 				{
-				setState(723);
-				identifier();
+				setState(704);
+				hexcolor();
 				}
 				break;
 			case 17:
 				enterOuterAlt(_localctx, 17);
 				{
-				setState(724);
-				expression();
+				setState(705);
+				identifier();
 				}
 				break;
 			case 18:
 				enterOuterAlt(_localctx, 18);
 				{
-				setState(725);
-				block();
+				setState(706);
+				ifExpression();
 				}
 				break;
 			case 19:
 				enterOuterAlt(_localctx, 19);
 				{
-				setState(726);
-				match(Lparen);
-				setState(727);
-				match(Rparen);
+				setState(708);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==Plus || _la==Minus) {
+					{
+					setState(707);
+					plusMinus();
+					}
+				}
+
+				setState(710);
+				match(Lparen);
+				setState(711);
+				expression();
+				setState(712);
+				match(Rparen);
+				}
+				break;
+			case 20:
+				enterOuterAlt(_localctx, 20);
+				{
+				setState(714);
+				match(Lparen);
+				setState(715);
+				match(Rparen);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class OperationContext extends ParserRuleContext {
+		public List<ExpressionPartContext> expressionPart() {
+			return getRuleContexts(ExpressionPartContext.class);
+		}
+		public ExpressionPartContext expressionPart(int i) {
+			return getRuleContext(ExpressionPartContext.class,i);
+		}
+		public List<TerminalNode> Not() { return getTokens(ScssParser.Not); }
+		public TerminalNode Not(int i) {
+			return getToken(ScssParser.Not, i);
+		}
+		public List<Operator_Context> operator_() {
+			return getRuleContexts(Operator_Context.class);
+		}
+		public Operator_Context operator_(int i) {
+			return getRuleContext(Operator_Context.class,i);
+		}
+		public OperationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_operation; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ScssParserListener ) ((ScssParserListener)listener).enterOperation(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ScssParserListener ) ((ScssParserListener)listener).exitOperation(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ScssParserVisitor ) return ((ScssParserVisitor<? extends T>)visitor).visitOperation(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final OperationContext operation() throws RecognitionException {
+		OperationContext _localctx = new OperationContext(_ctx, getState());
+		enterRule(_localctx, 100, RULE_operation);
+		int _la;
+		try {
+			int _alt;
+			setState(734);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,88,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(719);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==Not) {
+					{
+					setState(718);
+					match(Not);
+					}
+				}
+
+				setState(721);
+				expressionPart();
+				setState(728); 
+				_errHandler.sync(this);
+				_alt = 1;
+				do {
+					switch (_alt) {
+					case 1:
+						{
+						{
+						setState(722);
+						operator_();
+						setState(724);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+						if (_la==Not) {
+							{
+							setState(723);
+							match(Not);
+							}
+						}
+
+						setState(726);
+						expressionPart();
+						}
+						}
+						break;
+					default:
+						throw new NoViableAltException(this);
+					}
+					setState(730); 
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,87,_ctx);
+				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
 				}
 				break;
-			case 20:
-				enterOuterAlt(_localctx, 20);
+			case 2:
+				enterOuterAlt(_localctx, 2);
 				{
-				setState(728);
-				measurment();
+				setState(732);
+				match(Not);
+				setState(733);
+				expressionPart();
 				}
 				break;
 			}
@@ -5022,52 +4995,52 @@ public class ScssParser extends Parser {
 
 	public final FunctionDeclarationContext functionDeclaration() throws RecognitionException {
 		FunctionDeclarationContext _localctx = new FunctionDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 100, RULE_functionDeclaration);
+		enterRule(_localctx, 102, RULE_functionDeclaration);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(731);
-			match(Function);
 			setState(736);
+			match(Function);
+			setState(741);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if (((((_la - 37)) & ~0x3f) == 0 && ((1L << (_la - 37)) & 153122395920531459L) != 0)) {
+			if (((((_la - 37)) & ~0x3f) == 0 && ((1L << (_la - 37)) & 306244791841062915L) != 0)) {
 				{
-				setState(733);
+				setState(738);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,87,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,89,_ctx) ) {
 				case 1:
 					{
-					setState(732);
+					setState(737);
 					namespace_();
 					}
 					break;
 				}
-				setState(735);
+				setState(740);
 				identifier();
 				}
 			}
 
-			setState(738);
+			setState(743);
 			match(Lparen);
-			setState(739);
+			setState(744);
 			parameters();
-			setState(740);
+			setState(745);
 			match(Rparen);
-			setState(741);
+			setState(746);
 			match(BlockStart);
-			setState(743);
+			setState(748);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,89,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,91,_ctx) ) {
 			case 1:
 				{
-				setState(742);
+				setState(747);
 				functionBody();
 				}
 				break;
 			}
-			setState(745);
+			setState(750);
 			match(BlockEnd);
 			}
 		}
@@ -5115,34 +5088,34 @@ public class ScssParser extends Parser {
 
 	public final ParametersContext parameters() throws RecognitionException {
 		ParametersContext _localctx = new ParametersContext(_ctx, getState());
-		enterRule(_localctx, 102, RULE_parameters);
+		enterRule(_localctx, 104, RULE_parameters);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(748);
+			setState(753);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 4631673355261476832L) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & 1044250671L) != 0)) {
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -9219147298716516256L) != 0) || ((((_la - 66)) & ~0x3f) == 0 && ((1L << (_la - 66)) & 1044250671L) != 0)) {
 				{
-				setState(747);
+				setState(752);
 				parameter();
 				}
 			}
 
-			setState(754);
+			setState(759);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==Comma) {
 				{
 				{
-				setState(750);
+				setState(755);
 				match(Comma);
-				setState(751);
+				setState(756);
 				parameter();
 				}
 				}
-				setState(756);
+				setState(761);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -5161,12 +5134,10 @@ public class ScssParser extends Parser {
 
 	@SuppressWarnings("CheckReturnValue")
 	public static class ParameterContext extends ParserRuleContext {
-		public ValueContext value() {
-			return getRuleContext(ValueContext.class,0);
-		}
-		public VariableDeclarationContext variableDeclaration() {
-			return getRuleContext(VariableDeclarationContext.class,0);
+		public VariableNameContext variableName() {
+			return getRuleContext(VariableNameContext.class,0);
 		}
+		public TerminalNode Colon() { return getToken(ScssParser.Colon, 0); }
 		public ListSpaceSeparatedContext listSpaceSeparated() {
 			return getRuleContext(ListSpaceSeparatedContext.class,0);
 		}
@@ -5200,55 +5171,53 @@ public class ScssParser extends Parser {
 
 	public final ParameterContext parameter() throws RecognitionException {
 		ParameterContext _localctx = new ParameterContext(_ctx, getState());
-		enterRule(_localctx, 104, RULE_parameter);
+		enterRule(_localctx, 106, RULE_parameter);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(761);
+			setState(768);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,92,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,94,_ctx) ) {
 			case 1:
 				{
-				setState(757);
-				value();
+				setState(762);
+				variableName();
+				setState(763);
+				match(Colon);
+				setState(764);
+				listSpaceSeparated();
 				}
 				break;
 			case 2:
 				{
-				setState(758);
-				variableDeclaration();
-				}
-				break;
-			case 3:
-				{
-				setState(759);
+				setState(766);
 				listSpaceSeparated();
 				}
 				break;
-			case 4:
+			case 3:
 				{
-				setState(760);
+				setState(767);
 				mapDeclaration();
 				}
 				break;
 			}
-			setState(764);
+			setState(771);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Dot) {
 				{
-				setState(763);
+				setState(770);
 				arglist();
 				}
 			}
 
-			setState(767);
+			setState(774);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if (_la==Default || _la==Important) {
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 1970324836974592L) != 0)) {
 				{
-				setState(766);
+				setState(773);
 				prio();
 				}
 			}
@@ -5298,31 +5267,31 @@ public class ScssParser extends Parser {
 
 	public final FunctionBodyContext functionBody() throws RecognitionException {
 		FunctionBodyContext _localctx = new FunctionBodyContext(_ctx, getState());
-		enterRule(_localctx, 106, RULE_functionBody);
+		enterRule(_localctx, 108, RULE_functionBody);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(772);
+			setState(779);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & -3091999887634989072L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 2084455647L) != 0)) {
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & -6187945357646249968L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 3087305127L) != 0)) {
 				{
 				{
-				setState(769);
+				setState(776);
 				functionStatement();
 				}
 				}
-				setState(774);
+				setState(781);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(776);
+			setState(783);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Return) {
 				{
-				setState(775);
+				setState(782);
 				functionReturn();
 				}
 			}
@@ -5375,37 +5344,37 @@ public class ScssParser extends Parser {
 
 	public final FunctionReturnContext functionReturn() throws RecognitionException {
 		FunctionReturnContext _localctx = new FunctionReturnContext(_ctx, getState());
-		enterRule(_localctx, 108, RULE_functionReturn);
+		enterRule(_localctx, 110, RULE_functionReturn);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(778);
+			setState(785);
 			match(Return);
-			setState(779);
+			setState(786);
 			expression();
-			setState(784);
+			setState(791);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==Comma) {
 				{
 				{
-				setState(780);
+				setState(787);
 				match(Comma);
-				setState(781);
+				setState(788);
 				expression();
 				}
 				}
-				setState(786);
+				setState(793);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(788);
+			setState(795);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Semi) {
 				{
-				setState(787);
+				setState(794);
 				match(Semi);
 				}
 			}
@@ -5425,10 +5394,6 @@ public class ScssParser extends Parser {
 
 	@SuppressWarnings("CheckReturnValue")
 	public static class FunctionStatementContext extends ParserRuleContext {
-		public ExpressionContext expression() {
-			return getRuleContext(ExpressionContext.class,0);
-		}
-		public TerminalNode Semi() { return getToken(ScssParser.Semi, 0); }
 		public StatementContext statement() {
 			return getRuleContext(StatementContext.class,0);
 		}
@@ -5453,27 +5418,12 @@ public class ScssParser extends Parser {
 
 	public final FunctionStatementContext functionStatement() throws RecognitionException {
 		FunctionStatementContext _localctx = new FunctionStatementContext(_ctx, getState());
-		enterRule(_localctx, 110, RULE_functionStatement);
+		enterRule(_localctx, 112, RULE_functionStatement);
 		try {
-			setState(794);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,99,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(790);
-				expression();
-				setState(791);
-				match(Semi);
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(793);
-				statement();
-				}
-				break;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(797);
+			statement();
 			}
 		}
 		catch (RecognitionException re) {
@@ -5521,27 +5471,27 @@ public class ScssParser extends Parser {
 
 	public final FunctionCallContext functionCall() throws RecognitionException {
 		FunctionCallContext _localctx = new FunctionCallContext(_ctx, getState());
-		enterRule(_localctx, 112, RULE_functionCall);
+		enterRule(_localctx, 114, RULE_functionCall);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(797);
+			setState(800);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,100,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,101,_ctx) ) {
 			case 1:
 				{
-				setState(796);
+				setState(799);
 				namespace_();
 				}
 				break;
 			}
-			setState(799);
+			setState(802);
 			identifier();
-			setState(800);
+			setState(803);
 			match(Lparen);
-			setState(801);
+			setState(804);
 			parameters();
-			setState(802);
+			setState(805);
 			match(Rparen);
 			}
 		}
@@ -5595,51 +5545,48 @@ public class ScssParser extends Parser {
 
 	public final ExpressionContext expression() throws RecognitionException {
 		ExpressionContext _localctx = new ExpressionContext(_ctx, getState());
-		enterRule(_localctx, 114, RULE_expression);
+		enterRule(_localctx, 116, RULE_expression);
 		int _la;
 		try {
-			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(805);
+			setState(808);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Not) {
 				{
-				setState(804);
+				setState(807);
 				match(Not);
 				}
 			}
 
-			setState(807);
+			setState(810);
 			expressionPart();
-			setState(816);
+			setState(819);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,103,_ctx);
-			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-				if ( _alt==1 ) {
-					{
+			_la = _input.LA(1);
+			while (((((_la - 41)) & ~0x3f) == 0 && ((1L << (_la - 41)) & 68451041315L) != 0)) {
+				{
+				{
+				setState(811);
+				operator_();
+				setState(813);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==Not) {
 					{
-					setState(808);
-					operator_();
-					setState(810);
-					_errHandler.sync(this);
-					_la = _input.LA(1);
-					if (_la==Not) {
-						{
-						setState(809);
-						match(Not);
-						}
-					}
-
 					setState(812);
-					expressionPart();
+					match(Not);
 					}
-					} 
 				}
-				setState(818);
+
+				setState(815);
+				expressionPart();
+				}
+				}
+				setState(821);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,103,_ctx);
+				_la = _input.LA(1);
 			}
 			}
 		}
@@ -5659,6 +5606,9 @@ public class ScssParser extends Parser {
 		public UnitContext unit() {
 			return getRuleContext(UnitContext.class,0);
 		}
+		public FunctionCallContext functionCall() {
+			return getRuleContext(FunctionCallContext.class,0);
+		}
 		public IdentifierContext identifier() {
 			return getRuleContext(IdentifierContext.class,0);
 		}
@@ -5697,9 +5647,6 @@ public class ScssParser extends Parser {
 		public IfExpressionContext ifExpression() {
 			return getRuleContext(IfExpressionContext.class,0);
 		}
-		public FunctionCallContext functionCall() {
-			return getRuleContext(FunctionCallContext.class,0);
-		}
 		public TerminalNode Lparen() { return getToken(ScssParser.Lparen, 0); }
 		public TerminalNode Rparen() { return getToken(ScssParser.Rparen, 0); }
 		public PlusMinusContext plusMinus() {
@@ -5711,9 +5658,6 @@ public class ScssParser extends Parser {
 		public PrioContext prio() {
 			return getRuleContext(PrioContext.class,0);
 		}
-		public MeasurmentContext measurment() {
-			return getRuleContext(MeasurmentContext.class,0);
-		}
 		public ExpressionPartContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -5735,167 +5679,160 @@ public class ScssParser extends Parser {
 
 	public final ExpressionPartContext expressionPart() throws RecognitionException {
 		ExpressionPartContext _localctx = new ExpressionPartContext(_ctx, getState());
-		enterRule(_localctx, 116, RULE_expressionPart);
+		enterRule(_localctx, 118, RULE_expressionPart);
 		int _la;
 		try {
-			setState(845);
+			setState(847);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,106,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,107,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(819);
+				setState(822);
 				unit();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(820);
-				identifier();
+				setState(823);
+				functionCall();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(821);
-				variableName();
+				setState(824);
+				identifier();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(822);
-				var_();
+				setState(825);
+				variableName();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(823);
-				boolean_();
+				setState(826);
+				var_();
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(824);
-				calc();
+				setState(827);
+				boolean_();
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(825);
-				rotate();
+				setState(828);
+				calc();
 				}
 				break;
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(826);
-				rgba();
+				setState(829);
+				rotate();
 				}
 				break;
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(827);
-				number();
+				setState(830);
+				rgba();
 				}
 				break;
 			case 10:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(828);
-				uri();
+				setState(831);
+				number();
 				}
 				break;
 			case 11:
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(829);
-				match(Format);
+				setState(832);
+				uri();
 				}
 				break;
 			case 12:
 				enterOuterAlt(_localctx, 12);
 				{
-				setState(830);
-				match(String_);
+				setState(833);
+				match(Format);
 				}
 				break;
 			case 13:
 				enterOuterAlt(_localctx, 13);
 				{
-				setState(831);
-				interpolation();
+				setState(834);
+				match(String_);
 				}
 				break;
 			case 14:
 				enterOuterAlt(_localctx, 14);
 				{
-				setState(832);
-				hexcolor();
+				setState(835);
+				interpolation();
 				}
 				break;
 			case 15:
 				enterOuterAlt(_localctx, 15);
 				{
-				setState(833);
-				ifExpression();
+				setState(836);
+				hexcolor();
 				}
 				break;
 			case 16:
 				enterOuterAlt(_localctx, 16);
 				{
-				setState(834);
-				functionCall();
+				setState(837);
+				ifExpression();
 				}
 				break;
 			case 17:
 				enterOuterAlt(_localctx, 17);
 				{
-				setState(836);
+				setState(839);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==Plus || _la==Minus) {
 					{
-					setState(835);
+					setState(838);
 					plusMinus();
 					}
 				}
 
-				setState(838);
+				setState(841);
 				match(Lparen);
-				setState(840);
+				setState(843);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 4613658956751994848L) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & 1042153519L) != 0)) {
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -9219147298716516256L) != 0) || ((((_la - 66)) & ~0x3f) == 0 && ((1L << (_la - 66)) & 1042153519L) != 0)) {
 					{
-					setState(839);
+					setState(842);
 					expression();
 					}
 				}
 
-				setState(842);
+				setState(845);
 				match(Rparen);
 				}
 				break;
 			case 18:
 				enterOuterAlt(_localctx, 18);
 				{
-				setState(843);
+				setState(846);
 				prio();
 				}
 				break;
-			case 19:
-				enterOuterAlt(_localctx, 19);
-				{
-				setState(844);
-				measurment();
-				}
-				break;
 			}
 		}
 		catch (RecognitionException re) {
@@ -5957,33 +5894,26 @@ public class ScssParser extends Parser {
 
 	public final IfExpressionContext ifExpression() throws RecognitionException {
 		IfExpressionContext _localctx = new IfExpressionContext(_ctx, getState());
-		enterRule(_localctx, 118, RULE_ifExpression);
+		enterRule(_localctx, 120, RULE_ifExpression);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(847);
+			setState(849);
 			match(If);
-			setState(848);
+			setState(850);
 			match(Lparen);
-			setState(851);
+			setState(853);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case Uri:
 			case Format:
-			case AbsLength:
-			case FontRelative:
-			case ViewportRelative:
-			case Angle:
-			case Resolution:
-			case Freq:
-			case Time:
-			case Percentage:
 			case If:
 			case From:
 			case To:
 			case Not:
 			case Default:
 			case Important:
+			case Global:
 			case Lparen:
 			case Dollar:
 			case Hash:
@@ -6001,45 +5931,45 @@ public class ScssParser extends Parser {
 			case String_:
 			case Ident:
 				{
-				setState(849);
+				setState(851);
 				expression();
 				}
 				break;
 			case Amp:
 				{
-				setState(850);
+				setState(852);
 				parentRef();
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(853);
-			match(Comma);
-			setState(854);
-			value();
 			setState(855);
 			match(Comma);
 			setState(856);
 			value();
 			setState(857);
-			match(Rparen);
+			match(Comma);
+			setState(858);
+			value();
 			setState(859);
+			match(Rparen);
+			setState(861);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,108,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,109,_ctx) ) {
 			case 1:
 				{
-				setState(858);
+				setState(860);
 				measurment();
 				}
 				break;
 			}
-			setState(862);
+			setState(864);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,109,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,110,_ctx) ) {
 			case 1:
 				{
-				setState(861);
+				setState(863);
 				prio();
 				}
 				break;
@@ -6059,14 +5989,11 @@ public class ScssParser extends Parser {
 
 	@SuppressWarnings("CheckReturnValue")
 	public static class ListDeclarationContext extends ParserRuleContext {
-		public ListBracketedContext listBracketed() {
-			return getRuleContext(ListBracketedContext.class,0);
-		}
 		public ListCommaSeparatedContext listCommaSeparated() {
 			return getRuleContext(ListCommaSeparatedContext.class,0);
 		}
-		public ListSpaceSeparatedContext listSpaceSeparated() {
-			return getRuleContext(ListSpaceSeparatedContext.class,0);
+		public ListBracketedContext listBracketed() {
+			return getRuleContext(ListBracketedContext.class,0);
 		}
 		public TerminalNode Lparen() { return getToken(ScssParser.Lparen, 0); }
 		public ListDeclarationContext listDeclaration() {
@@ -6088,52 +6015,39 @@ public class ScssParser extends Parser {
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
 			if ( visitor instanceof ScssParserVisitor ) return ((ScssParserVisitor<? extends T>)visitor).visitListDeclaration(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final ListDeclarationContext listDeclaration() throws RecognitionException {
-		ListDeclarationContext _localctx = new ListDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 120, RULE_listDeclaration);
-		try {
-			setState(873);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,111,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(867);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,110,_ctx) ) {
-				case 1:
-					{
-					setState(864);
-					listBracketed();
-					}
-					break;
-				case 2:
-					{
-					setState(865);
-					listCommaSeparated();
-					}
-					break;
-				case 3:
-					{
-					setState(866);
-					listSpaceSeparated();
-					}
-					break;
-				}
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ListDeclarationContext listDeclaration() throws RecognitionException {
+		ListDeclarationContext _localctx = new ListDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 122, RULE_listDeclaration);
+		try {
+			setState(872);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,111,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(866);
+				listCommaSeparated();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(869);
+				setState(867);
+				listBracketed();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(868);
 				match(Lparen);
-				setState(870);
+				setState(869);
 				listDeclaration();
-				setState(871);
+				setState(870);
 				match(Rparen);
 				}
 				break;
@@ -6183,41 +6097,42 @@ public class ScssParser extends Parser {
 
 	public final ListCommaSeparatedContext listCommaSeparated() throws RecognitionException {
 		ListCommaSeparatedContext _localctx = new ListCommaSeparatedContext(_ctx, getState());
-		enterRule(_localctx, 122, RULE_listCommaSeparated);
+		enterRule(_localctx, 124, RULE_listCommaSeparated);
+		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(875);
+			setState(874);
 			listElement();
-			setState(880);
+			setState(879);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,112,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(876);
+					setState(875);
 					match(Comma);
-					setState(877);
+					setState(876);
 					listElement();
 					}
 					} 
 				}
-				setState(882);
+				setState(881);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,112,_ctx);
 			}
-			setState(884);
+			setState(883);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,113,_ctx) ) {
-			case 1:
+			_la = _input.LA(1);
+			if (_la==Comma) {
 				{
-				setState(883);
+				setState(882);
 				match(Comma);
 				}
-				break;
 			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -6233,11 +6148,11 @@ public class ScssParser extends Parser {
 
 	@SuppressWarnings("CheckReturnValue")
 	public static class ListSpaceSeparatedContext extends ParserRuleContext {
-		public List<ListElementContext> listElement() {
-			return getRuleContexts(ListElementContext.class);
+		public List<ValueContext> value() {
+			return getRuleContexts(ValueContext.class);
 		}
-		public ListElementContext listElement(int i) {
-			return getRuleContext(ListElementContext.class,i);
+		public ValueContext value(int i) {
+			return getRuleContext(ValueContext.class,i);
 		}
 		public ListSpaceSeparatedContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -6260,12 +6175,12 @@ public class ScssParser extends Parser {
 
 	public final ListSpaceSeparatedContext listSpaceSeparated() throws RecognitionException {
 		ListSpaceSeparatedContext _localctx = new ListSpaceSeparatedContext(_ctx, getState());
-		enterRule(_localctx, 124, RULE_listSpaceSeparated);
+		enterRule(_localctx, 126, RULE_listSpaceSeparated);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(887); 
+			setState(886); 
 			_errHandler.sync(this);
 			_alt = 1;
 			do {
@@ -6273,15 +6188,15 @@ public class ScssParser extends Parser {
 				case 1:
 					{
 					{
-					setState(886);
-					listElement();
+					setState(885);
+					value();
 					}
 					}
 					break;
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(889); 
+				setState(888); 
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,114,_ctx);
 			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
@@ -6301,13 +6216,10 @@ public class ScssParser extends Parser {
 	@SuppressWarnings("CheckReturnValue")
 	public static class ListBracketedContext extends ParserRuleContext {
 		public TerminalNode Lbrack() { return getToken(ScssParser.Lbrack, 0); }
-		public TerminalNode Rbrack() { return getToken(ScssParser.Rbrack, 0); }
-		public ListSpaceSeparatedContext listSpaceSeparated() {
-			return getRuleContext(ListSpaceSeparatedContext.class,0);
-		}
 		public ListCommaSeparatedContext listCommaSeparated() {
 			return getRuleContext(ListCommaSeparatedContext.class,0);
 		}
+		public TerminalNode Rbrack() { return getToken(ScssParser.Rbrack, 0); }
 		public ListBracketedContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -6329,29 +6241,15 @@ public class ScssParser extends Parser {
 
 	public final ListBracketedContext listBracketed() throws RecognitionException {
 		ListBracketedContext _localctx = new ListBracketedContext(_ctx, getState());
-		enterRule(_localctx, 126, RULE_listBracketed);
+		enterRule(_localctx, 128, RULE_listBracketed);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(891);
+			setState(890);
 			match(Lbrack);
-			setState(894);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,115,_ctx) ) {
-			case 1:
-				{
-				setState(892);
-				listSpaceSeparated();
-				}
-				break;
-			case 2:
-				{
-				setState(893);
-				listCommaSeparated();
-				}
-				break;
-			}
-			setState(896);
+			setState(891);
+			listCommaSeparated();
+			setState(892);
 			match(Rbrack);
 			}
 		}
@@ -6368,18 +6266,12 @@ public class ScssParser extends Parser {
 
 	@SuppressWarnings("CheckReturnValue")
 	public static class ListElementContext extends ParserRuleContext {
-		public TerminalNode Lparen() { return getToken(ScssParser.Lparen, 0); }
 		public List<ValueContext> value() {
 			return getRuleContexts(ValueContext.class);
 		}
 		public ValueContext value(int i) {
 			return getRuleContext(ValueContext.class,i);
 		}
-		public TerminalNode Rparen() { return getToken(ScssParser.Rparen, 0); }
-		public List<TerminalNode> Comma() { return getTokens(ScssParser.Comma); }
-		public TerminalNode Comma(int i) {
-			return getToken(ScssParser.Comma, i);
-		}
 		public ListElementContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -6401,22 +6293,12 @@ public class ScssParser extends Parser {
 
 	public final ListElementContext listElement() throws RecognitionException {
 		ListElementContext _localctx = new ListElementContext(_ctx, getState());
-		enterRule(_localctx, 128, RULE_listElement);
+		enterRule(_localctx, 130, RULE_listElement);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(899);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,116,_ctx) ) {
-			case 1:
-				{
-				setState(898);
-				match(Lparen);
-				}
-				break;
-			}
-			setState(905); 
+			setState(895); 
 			_errHandler.sync(this);
 			_alt = 1;
 			do {
@@ -6424,48 +6306,18 @@ public class ScssParser extends Parser {
 				case 1:
 					{
 					{
-					setState(901);
+					setState(894);
 					value();
-					setState(903);
-					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,117,_ctx) ) {
-					case 1:
-						{
-						setState(902);
-						match(Comma);
-						}
-						break;
-					}
 					}
 					}
 					break;
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(907); 
+				setState(897); 
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,118,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,115,_ctx);
 			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
-			setState(910);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,119,_ctx) ) {
-			case 1:
-				{
-				setState(909);
-				match(Rparen);
-				}
-				break;
-			}
-			setState(913);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,120,_ctx) ) {
-			case 1:
-				{
-				setState(912);
-				match(Comma);
-				}
-				break;
-			}
 			}
 		}
 		catch (RecognitionException re) {
@@ -6507,15 +6359,15 @@ public class ScssParser extends Parser {
 
 	public final MapDeclarationContext mapDeclaration() throws RecognitionException {
 		MapDeclarationContext _localctx = new MapDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 130, RULE_mapDeclaration);
+		enterRule(_localctx, 132, RULE_mapDeclaration);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(915);
+			setState(899);
 			match(Lparen);
-			setState(916);
+			setState(900);
 			mapEntries();
-			setState(917);
+			setState(901);
 			match(Rparen);
 			}
 		}
@@ -6563,38 +6415,38 @@ public class ScssParser extends Parser {
 
 	public final MapEntriesContext mapEntries() throws RecognitionException {
 		MapEntriesContext _localctx = new MapEntriesContext(_ctx, getState());
-		enterRule(_localctx, 132, RULE_mapEntries);
+		enterRule(_localctx, 134, RULE_mapEntries);
 		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(919);
+			setState(903);
 			mapEntry();
-			setState(924);
+			setState(908);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,121,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,116,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(920);
+					setState(904);
 					match(Comma);
-					setState(921);
+					setState(905);
 					mapEntry();
 					}
 					} 
 				}
-				setState(926);
+				setState(910);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,121,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,116,_ctx);
 			}
-			setState(928);
+			setState(912);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Comma) {
 				{
-				setState(927);
+				setState(911);
 				match(Comma);
 				}
 			}
@@ -6642,15 +6494,15 @@ public class ScssParser extends Parser {
 
 	public final MapEntryContext mapEntry() throws RecognitionException {
 		MapEntryContext _localctx = new MapEntryContext(_ctx, getState());
-		enterRule(_localctx, 134, RULE_mapEntry);
+		enterRule(_localctx, 136, RULE_mapEntry);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(930);
+			setState(914);
 			mapKey();
-			setState(931);
+			setState(915);
 			match(Colon);
-			setState(932);
+			setState(916);
 			mapValue();
 			}
 		}
@@ -6667,11 +6519,8 @@ public class ScssParser extends Parser {
 
 	@SuppressWarnings("CheckReturnValue")
 	public static class MapKeyContext extends ParserRuleContext {
-		public ValueContext value() {
-			return getRuleContext(ValueContext.class,0);
-		}
-		public ListDeclarationContext listDeclaration() {
-			return getRuleContext(ListDeclarationContext.class,0);
+		public ListSpaceSeparatedContext listSpaceSeparated() {
+			return getRuleContext(ListSpaceSeparatedContext.class,0);
 		}
 		public MapDeclarationContext mapDeclaration() {
 			return getRuleContext(MapDeclarationContext.class,0);
@@ -6697,29 +6546,22 @@ public class ScssParser extends Parser {
 
 	public final MapKeyContext mapKey() throws RecognitionException {
 		MapKeyContext _localctx = new MapKeyContext(_ctx, getState());
-		enterRule(_localctx, 136, RULE_mapKey);
+		enterRule(_localctx, 138, RULE_mapKey);
 		try {
-			setState(937);
+			setState(920);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,123,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,118,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(934);
-				value();
+				setState(918);
+				listSpaceSeparated();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(935);
-				listDeclaration();
-				}
-				break;
-			case 3:
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(936);
+				setState(919);
 				mapDeclaration();
 				}
 				break;
@@ -6738,11 +6580,8 @@ public class ScssParser extends Parser {
 
 	@SuppressWarnings("CheckReturnValue")
 	public static class MapValueContext extends ParserRuleContext {
-		public ValueContext value() {
-			return getRuleContext(ValueContext.class,0);
-		}
-		public ListDeclarationContext listDeclaration() {
-			return getRuleContext(ListDeclarationContext.class,0);
+		public ListSpaceSeparatedContext listSpaceSeparated() {
+			return getRuleContext(ListSpaceSeparatedContext.class,0);
 		}
 		public MapDeclarationContext mapDeclaration() {
 			return getRuleContext(MapDeclarationContext.class,0);
@@ -6768,29 +6607,22 @@ public class ScssParser extends Parser {
 
 	public final MapValueContext mapValue() throws RecognitionException {
 		MapValueContext _localctx = new MapValueContext(_ctx, getState());
-		enterRule(_localctx, 138, RULE_mapValue);
+		enterRule(_localctx, 140, RULE_mapValue);
 		try {
-			setState(942);
+			setState(924);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,124,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,119,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(939);
-				value();
+				setState(922);
+				listSpaceSeparated();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(940);
-				listDeclaration();
-				}
-				break;
-			case 3:
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(941);
+				setState(923);
 				mapDeclaration();
 				}
 				break;
@@ -6846,40 +6678,40 @@ public class ScssParser extends Parser {
 
 	public final IfDeclarationContext ifDeclaration() throws RecognitionException {
 		IfDeclarationContext _localctx = new IfDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 140, RULE_ifDeclaration);
+		enterRule(_localctx, 142, RULE_ifDeclaration);
 		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(944);
+			setState(926);
 			match(AtIf);
-			setState(945);
+			setState(927);
 			expression();
-			setState(946);
+			setState(928);
 			block();
-			setState(950);
+			setState(932);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,125,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,120,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(947);
+					setState(929);
 					elseIfStatement();
 					}
 					} 
 				}
-				setState(952);
+				setState(934);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,125,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,120,_ctx);
 			}
-			setState(954);
+			setState(936);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==AtElse) {
 				{
-				setState(953);
+				setState(935);
 				elseStatement();
 				}
 			}
@@ -6928,17 +6760,17 @@ public class ScssParser extends Parser {
 
 	public final ElseIfStatementContext elseIfStatement() throws RecognitionException {
 		ElseIfStatementContext _localctx = new ElseIfStatementContext(_ctx, getState());
-		enterRule(_localctx, 142, RULE_elseIfStatement);
+		enterRule(_localctx, 144, RULE_elseIfStatement);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(956);
+			setState(938);
 			match(AtElse);
-			setState(957);
+			setState(939);
 			match(If);
-			setState(958);
+			setState(940);
 			expression();
-			setState(959);
+			setState(941);
 			block();
 			}
 		}
@@ -6980,13 +6812,13 @@ public class ScssParser extends Parser {
 
 	public final ElseStatementContext elseStatement() throws RecognitionException {
 		ElseStatementContext _localctx = new ElseStatementContext(_ctx, getState());
-		enterRule(_localctx, 144, RULE_elseStatement);
+		enterRule(_localctx, 146, RULE_elseStatement);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(961);
+			setState(943);
 			match(AtElse);
-			setState(962);
+			setState(944);
 			block();
 			}
 		}
@@ -7038,20 +6870,20 @@ public class ScssParser extends Parser {
 
 	public final ForDeclarationContext forDeclaration() throws RecognitionException {
 		ForDeclarationContext _localctx = new ForDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 146, RULE_forDeclaration);
+		enterRule(_localctx, 148, RULE_forDeclaration);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(964);
+			setState(946);
 			match(AtFor);
-			setState(965);
+			setState(947);
 			variableName();
-			setState(966);
+			setState(948);
 			match(From);
-			setState(967);
+			setState(949);
 			match(Number);
-			setState(968);
+			setState(950);
 			_la = _input.LA(1);
 			if ( !(_la==To || _la==Through) ) {
 			_errHandler.recoverInline(this);
@@ -7061,9 +6893,9 @@ public class ScssParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(969);
+			setState(951);
 			through();
-			setState(970);
+			setState(952);
 			block();
 			}
 		}
@@ -7080,10 +6912,6 @@ public class ScssParser extends Parser {
 
 	@SuppressWarnings("CheckReturnValue")
 	public static class ThroughContext extends ParserRuleContext {
-		public TerminalNode Number() { return getToken(ScssParser.Number, 0); }
-		public FunctionCallContext functionCall() {
-			return getRuleContext(FunctionCallContext.class,0);
-		}
 		public ExpressionContext expression() {
 			return getRuleContext(ExpressionContext.class,0);
 		}
@@ -7108,32 +6936,12 @@ public class ScssParser extends Parser {
 
 	public final ThroughContext through() throws RecognitionException {
 		ThroughContext _localctx = new ThroughContext(_ctx, getState());
-		enterRule(_localctx, 148, RULE_through);
+		enterRule(_localctx, 150, RULE_through);
 		try {
-			setState(975);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,127,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(972);
-				match(Number);
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(973);
-				functionCall();
-				}
-				break;
-			case 3:
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(974);
-				expression();
-				}
-				break;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(954);
+			expression();
 			}
 		}
 		catch (RecognitionException re) {
@@ -7177,15 +6985,15 @@ public class ScssParser extends Parser {
 
 	public final WhileDeclarationContext whileDeclaration() throws RecognitionException {
 		WhileDeclarationContext _localctx = new WhileDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 150, RULE_whileDeclaration);
+		enterRule(_localctx, 152, RULE_whileDeclaration);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(977);
+			setState(956);
 			match(AtWhile);
-			setState(978);
+			setState(957);
 			expression();
-			setState(979);
+			setState(958);
 			block();
 			}
 		}
@@ -7241,36 +7049,36 @@ public class ScssParser extends Parser {
 
 	public final EachDeclarationContext eachDeclaration() throws RecognitionException {
 		EachDeclarationContext _localctx = new EachDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 152, RULE_eachDeclaration);
+		enterRule(_localctx, 154, RULE_eachDeclaration);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(981);
+			setState(960);
 			match(AtEach);
-			setState(982);
+			setState(961);
 			variableName();
-			setState(987);
+			setState(966);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==Comma) {
 				{
 				{
-				setState(983);
+				setState(962);
 				match(Comma);
-				setState(984);
+				setState(963);
 				variableName();
 				}
 				}
-				setState(989);
+				setState(968);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(990);
+			setState(969);
 			match(In);
-			setState(991);
+			setState(970);
 			eachValueList();
-			setState(992);
+			setState(971);
 			block();
 			}
 		}
@@ -7314,22 +7122,22 @@ public class ScssParser extends Parser {
 
 	public final EachValueListContext eachValueList() throws RecognitionException {
 		EachValueListContext _localctx = new EachValueListContext(_ctx, getState());
-		enterRule(_localctx, 154, RULE_eachValueList);
+		enterRule(_localctx, 156, RULE_eachValueList);
 		try {
-			setState(996);
+			setState(975);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,129,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,123,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(994);
+				setState(973);
 				listDeclaration();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(995);
+				setState(974);
 				mapDeclaration();
 				}
 				break;
@@ -7376,28 +7184,28 @@ public class ScssParser extends Parser {
 
 	public final Var_Context var_() throws RecognitionException {
 		Var_Context _localctx = new Var_Context(_ctx, getState());
-		enterRule(_localctx, 156, RULE_var_);
+		enterRule(_localctx, 158, RULE_var_);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(998);
+			setState(977);
 			match(Var);
-			setState(999);
+			setState(978);
 			match(Variable);
-			setState(1002);
+			setState(981);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Comma) {
 				{
-				setState(1000);
+				setState(979);
 				match(Comma);
-				setState(1001);
+				setState(980);
 				value();
 				}
 			}
 
-			setState(1004);
+			setState(983);
 			match(Rparen);
 			}
 		}
@@ -7440,15 +7248,15 @@ public class ScssParser extends Parser {
 
 	public final CalcContext calc() throws RecognitionException {
 		CalcContext _localctx = new CalcContext(_ctx, getState());
-		enterRule(_localctx, 158, RULE_calc);
+		enterRule(_localctx, 160, RULE_calc);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1006);
+			setState(985);
 			match(Calc);
-			setState(1007);
+			setState(986);
 			expression();
-			setState(1008);
+			setState(987);
 			match(Rparen);
 			}
 		}
@@ -7491,15 +7299,15 @@ public class ScssParser extends Parser {
 
 	public final RotateContext rotate() throws RecognitionException {
 		RotateContext _localctx = new RotateContext(_ctx, getState());
-		enterRule(_localctx, 160, RULE_rotate);
+		enterRule(_localctx, 162, RULE_rotate);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1010);
+			setState(989);
 			match(Rotate);
-			setState(1011);
+			setState(990);
 			degree();
-			setState(1012);
+			setState(991);
 			match(Rparen);
 			}
 		}
@@ -7549,40 +7357,40 @@ public class ScssParser extends Parser {
 
 	public final RgbaContext rgba() throws RecognitionException {
 		RgbaContext _localctx = new RgbaContext(_ctx, getState());
-		enterRule(_localctx, 162, RULE_rgba);
+		enterRule(_localctx, 164, RULE_rgba);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1014);
+			setState(993);
 			match(Rgba);
-			setState(1015);
+			setState(994);
 			value();
-			setState(1022);
+			setState(1001);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 4775788543337332704L) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & 1044250671L) != 0)) {
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & -8930916922564804512L) != 0) || ((((_la - 66)) & ~0x3f) == 0 && ((1L << (_la - 66)) & 1044250671L) != 0)) {
 				{
 				{
-				setState(1017);
+				setState(996);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==Comma) {
 					{
-					setState(1016);
+					setState(995);
 					match(Comma);
 					}
 				}
 
-				setState(1019);
+				setState(998);
 				value();
 				}
 				}
-				setState(1024);
+				setState(1003);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(1025);
+			setState(1004);
 			match(Rparen);
 			}
 		}
@@ -7630,21 +7438,21 @@ public class ScssParser extends Parser {
 
 	public final RepeatContext repeat() throws RecognitionException {
 		RepeatContext _localctx = new RepeatContext(_ctx, getState());
-		enterRule(_localctx, 164, RULE_repeat);
+		enterRule(_localctx, 166, RULE_repeat);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1027);
+			setState(1006);
 			match(Repeat);
-			setState(1028);
+			setState(1007);
 			value();
-			setState(1029);
+			setState(1008);
 			match(Comma);
-			setState(1030);
+			setState(1009);
 			number();
-			setState(1031);
+			setState(1010);
 			match(Freq);
-			setState(1032);
+			setState(1011);
 			match(Rparen);
 			}
 		}
@@ -7694,34 +7502,34 @@ public class ScssParser extends Parser {
 
 	public final UnitContext unit() throws RecognitionException {
 		UnitContext _localctx = new UnitContext(_ctx, getState());
-		enterRule(_localctx, 166, RULE_unit);
+		enterRule(_localctx, 168, RULE_unit);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1038);
+			setState(1017);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,133,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,127,_ctx) ) {
 			case 1:
 				{
-				setState(1034);
+				setState(1013);
 				length();
 				}
 				break;
 			case 2:
 				{
-				setState(1035);
+				setState(1014);
 				dimension();
 				}
 				break;
 			case 3:
 				{
-				setState(1036);
+				setState(1015);
 				percentage();
 				}
 				break;
 			case 4:
 				{
-				setState(1037);
+				setState(1016);
 				degree();
 				}
 				break;
@@ -7769,24 +7577,24 @@ public class ScssParser extends Parser {
 
 	public final LengthContext length() throws RecognitionException {
 		LengthContext _localctx = new LengthContext(_ctx, getState());
-		enterRule(_localctx, 168, RULE_length);
+		enterRule(_localctx, 170, RULE_length);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1041);
+			setState(1020);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Plus || _la==Minus) {
 				{
-				setState(1040);
+				setState(1019);
 				plusMinus();
 				}
 			}
 
-			setState(1043);
+			setState(1022);
 			match(Number);
-			setState(1044);
+			setState(1023);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 896L) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -7840,24 +7648,24 @@ public class ScssParser extends Parser {
 
 	public final DimensionContext dimension() throws RecognitionException {
 		DimensionContext _localctx = new DimensionContext(_ctx, getState());
-		enterRule(_localctx, 170, RULE_dimension);
+		enterRule(_localctx, 172, RULE_dimension);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1047);
+			setState(1026);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Plus || _la==Minus) {
 				{
-				setState(1046);
+				setState(1025);
 				plusMinus();
 				}
 			}
 
-			setState(1049);
+			setState(1028);
 			match(Number);
-			setState(1050);
+			setState(1029);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 15360L) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -7908,24 +7716,24 @@ public class ScssParser extends Parser {
 
 	public final PercentageContext percentage() throws RecognitionException {
 		PercentageContext _localctx = new PercentageContext(_ctx, getState());
-		enterRule(_localctx, 172, RULE_percentage);
+		enterRule(_localctx, 174, RULE_percentage);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1053);
+			setState(1032);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Plus || _la==Minus) {
 				{
-				setState(1052);
+				setState(1031);
 				plusMinus();
 				}
 			}
 
-			setState(1055);
+			setState(1034);
 			match(Number);
-			setState(1056);
+			setState(1035);
 			match(Percentage);
 			}
 		}
@@ -7968,24 +7776,24 @@ public class ScssParser extends Parser {
 
 	public final DegreeContext degree() throws RecognitionException {
 		DegreeContext _localctx = new DegreeContext(_ctx, getState());
-		enterRule(_localctx, 174, RULE_degree);
+		enterRule(_localctx, 176, RULE_degree);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1059);
+			setState(1038);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Plus || _la==Minus) {
 				{
-				setState(1058);
+				setState(1037);
 				plusMinus();
 				}
 			}
 
-			setState(1061);
+			setState(1040);
 			match(Number);
-			setState(1062);
+			setState(1041);
 			match(Angle);
 			}
 		}
@@ -8031,12 +7839,12 @@ public class ScssParser extends Parser {
 
 	public final MeasurmentContext measurment() throws RecognitionException {
 		MeasurmentContext _localctx = new MeasurmentContext(_ctx, getState());
-		enterRule(_localctx, 176, RULE_measurment);
+		enterRule(_localctx, 178, RULE_measurment);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1064);
+			setState(1043);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 32640L) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -8083,11 +7891,11 @@ public class ScssParser extends Parser {
 
 	public final UriContext uri() throws RecognitionException {
 		UriContext _localctx = new UriContext(_ctx, getState());
-		enterRule(_localctx, 178, RULE_uri);
+		enterRule(_localctx, 180, RULE_uri);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1066);
+			setState(1045);
 			match(Uri);
 			}
 		}
@@ -8129,15 +7937,15 @@ public class ScssParser extends Parser {
 
 	public final ArglistContext arglist() throws RecognitionException {
 		ArglistContext _localctx = new ArglistContext(_ctx, getState());
-		enterRule(_localctx, 180, RULE_arglist);
+		enterRule(_localctx, 182, RULE_arglist);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1068);
+			setState(1047);
 			match(Dot);
-			setState(1069);
+			setState(1048);
 			match(Dot);
-			setState(1070);
+			setState(1049);
 			match(Dot);
 			}
 		}
@@ -8177,12 +7985,12 @@ public class ScssParser extends Parser {
 
 	public final PlusMinusContext plusMinus() throws RecognitionException {
 		PlusMinusContext _localctx = new PlusMinusContext(_ctx, getState());
-		enterRule(_localctx, 182, RULE_plusMinus);
+		enterRule(_localctx, 184, RULE_plusMinus);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1072);
+			setState(1051);
 			_la = _input.LA(1);
 			if ( !(_la==Plus || _la==Minus) ) {
 			_errHandler.recoverInline(this);
@@ -8232,13 +8040,13 @@ public class ScssParser extends Parser {
 
 	public final HexcolorContext hexcolor() throws RecognitionException {
 		HexcolorContext _localctx = new HexcolorContext(_ctx, getState());
-		enterRule(_localctx, 184, RULE_hexcolor);
+		enterRule(_localctx, 186, RULE_hexcolor);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1074);
+			setState(1053);
 			match(Hash);
-			setState(1075);
+			setState(1054);
 			color();
 			}
 		}
@@ -8284,13 +8092,13 @@ public class ScssParser extends Parser {
 
 	public final ColorContext color() throws RecognitionException {
 		ColorContext _localctx = new ColorContext(_ctx, getState());
-		enterRule(_localctx, 186, RULE_color);
+		enterRule(_localctx, 188, RULE_color);
 		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1078); 
+			setState(1057); 
 			_errHandler.sync(this);
 			_alt = 1;
 			do {
@@ -8298,7 +8106,7 @@ public class ScssParser extends Parser {
 				case 1:
 					{
 					{
-					setState(1077);
+					setState(1056);
 					_la = _input.LA(1);
 					if ( !(_la==Number || _la==Ident) ) {
 					_errHandler.recoverInline(this);
@@ -8314,9 +8122,9 @@ public class ScssParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(1080); 
+				setState(1059); 
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,138,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,132,_ctx);
 			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
 			}
 		}
@@ -8356,12 +8164,12 @@ public class ScssParser extends Parser {
 
 	public final BooleanContext boolean_() throws RecognitionException {
 		BooleanContext _localctx = new BooleanContext(_ctx, getState());
-		enterRule(_localctx, 188, RULE_boolean);
+		enterRule(_localctx, 190, RULE_boolean);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1082);
+			setState(1061);
 			_la = _input.LA(1);
 			if ( !(_la==True || _la==False) ) {
 			_errHandler.recoverInline(this);
@@ -8411,22 +8219,22 @@ public class ScssParser extends Parser {
 
 	public final NumberContext number() throws RecognitionException {
 		NumberContext _localctx = new NumberContext(_ctx, getState());
-		enterRule(_localctx, 190, RULE_number);
+		enterRule(_localctx, 192, RULE_number);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1085);
+			setState(1064);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Plus || _la==Minus) {
 				{
-				setState(1084);
+				setState(1063);
 				plusMinus();
 				}
 			}
 
-			setState(1087);
+			setState(1066);
 			match(Number);
 			}
 		}
@@ -8469,10 +8277,10 @@ public class ScssParser extends Parser {
 
 	public final IdentifierContext identifier() throws RecognitionException {
 		IdentifierContext _localctx = new IdentifierContext(_ctx, getState());
-		enterRule(_localctx, 192, RULE_identifier);
+		enterRule(_localctx, 194, RULE_identifier);
 		int _la;
 		try {
-			setState(1095);
+			setState(1074);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case Minus:
@@ -8480,12 +8288,12 @@ public class ScssParser extends Parser {
 			case Ident:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1090);
+				setState(1069);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==Minus || _la==VendorPrefix) {
 					{
-					setState(1089);
+					setState(1068);
 					_la = _input.LA(1);
 					if ( !(_la==Minus || _la==VendorPrefix) ) {
 					_errHandler.recoverInline(this);
@@ -8498,21 +8306,21 @@ public class ScssParser extends Parser {
 					}
 				}
 
-				setState(1092);
+				setState(1071);
 				match(Ident);
 				}
 				break;
 			case From:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1093);
+				setState(1072);
 				match(From);
 				}
 				break;
 			case To:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1094);
+				setState(1073);
 				match(To);
 				}
 				break;
@@ -8532,7 +8340,7 @@ public class ScssParser extends Parser {
 	}
 
 	public static final String _serializedATN =
-		"\u0004\u0001^\u044a\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
+		"\u0004\u0001_\u0435\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
 		"\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0002"+
 		"\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007\u0007\u0007\u0002"+
 		"\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b\u0007\u000b\u0002"+
@@ -8555,722 +8363,699 @@ public class ScssParser extends Parser {
 		"P\u0007P\u0002Q\u0007Q\u0002R\u0007R\u0002S\u0007S\u0002T\u0007T\u0002"+
 		"U\u0007U\u0002V\u0007V\u0002W\u0007W\u0002X\u0007X\u0002Y\u0007Y\u0002"+
 		"Z\u0007Z\u0002[\u0007[\u0002\\\u0007\\\u0002]\u0007]\u0002^\u0007^\u0002"+
-		"_\u0007_\u0002`\u0007`\u0001\u0000\u0005\u0000\u00c4\b\u0000\n\u0000\f"+
-		"\u0000\u00c7\t\u0000\u0001\u0000\u0001\u0000\u0001\u0001\u0001\u0001\u0001"+
+		"_\u0007_\u0002`\u0007`\u0002a\u0007a\u0001\u0000\u0005\u0000\u00c6\b\u0000"+
+		"\n\u0000\f\u0000\u00c9\t\u0000\u0001\u0000\u0001\u0000\u0001\u0001\u0001"+
 		"\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
 		"\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
 		"\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
-		"\u0001\u0003\u0001\u00e0\b\u0001\u0001\u0002\u0001\u0002\u0001\u0002\u0003"+
-		"\u0002\u00e5\b\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0003\u0002\u00ea"+
-		"\b\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0003\u0002\u00ef\b\u0002"+
-		"\u0001\u0002\u0003\u0002\u00f2\b\u0002\u0001\u0002\u0003\u0002\u00f5\b"+
-		"\u0002\u0001\u0002\u0001\u0002\u0003\u0002\u00f9\b\u0002\u0001\u0003\u0001"+
-		"\u0003\u0003\u0003\u00fd\b\u0003\u0001\u0004\u0001\u0004\u0001\u0004\u0003"+
-		"\u0004\u0102\b\u0004\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001"+
-		"\u0005\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0003\u0006\u010d"+
-		"\b\u0006\u0001\u0006\u0003\u0006\u0110\b\u0006\u0001\u0007\u0001\u0007"+
-		"\u0001\u0007\u0001\u0007\u0004\u0007\u0116\b\u0007\u000b\u0007\f\u0007"+
-		"\u0117\u0001\u0007\u0004\u0007\u011b\b\u0007\u000b\u0007\f\u0007\u011c"+
-		"\u0001\u0007\u0001\u0007\u0003\u0007\u0121\b\u0007\u0001\b\u0001\b\u0001"+
-		"\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0003\b\u012b\b\b\u0001\b\u0001"+
-		"\b\u0003\b\u012f\b\b\u0001\b\u0003\b\u0132\b\b\u0001\b\u0001\b\u0001\b"+
-		"\u0003\b\u0137\b\b\u0001\b\u0003\b\u013a\b\b\u0001\t\u0001\t\u0001\t\u0004"+
-		"\t\u013f\b\t\u000b\t\f\t\u0140\u0001\n\u0001\n\u0001\n\u0001\n\u0003\n"+
-		"\u0147\b\n\u0001\u000b\u0001\u000b\u0001\f\u0001\f\u0003\f\u014d\b\f\u0001"+
-		"\f\u0003\f\u0150\b\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0003"+
-		"\f\u0158\b\f\u0001\f\u0003\f\u015b\b\f\u0001\r\u0001\r\u0001\r\u0001\r"+
-		"\u0001\u000e\u0001\u000e\u0001\u000e\u0005\u000e\u0164\b\u000e\n\u000e"+
-		"\f\u000e\u0167\t\u000e\u0003\u000e\u0169\b\u000e\u0001\u000f\u0003\u000f"+
-		"\u016c\b\u000f\u0001\u000f\u0001\u000f\u0003\u000f\u0170\b\u000f\u0001"+
-		"\u000f\u0001\u000f\u0005\u000f\u0174\b\u000f\n\u000f\f\u000f\u0177\t\u000f"+
-		"\u0001\u000f\u0001\u000f\u0001\u000f\u0005\u000f\u017c\b\u000f\n\u000f"+
-		"\f\u000f\u017f\t\u000f\u0003\u000f\u0181\b\u000f\u0001\u0010\u0001\u0010"+
-		"\u0001\u0010\u0001\u0010\u0003\u0010\u0187\b\u0010\u0001\u0010\u0001\u0010"+
+		"\u0001\u0001\u0001\u0003\u0001\u00e2\b\u0001\u0001\u0002\u0001\u0002\u0001"+
+		"\u0002\u0003\u0002\u00e7\b\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0003"+
+		"\u0002\u00ec\b\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0003\u0002\u00f1"+
+		"\b\u0002\u0001\u0002\u0003\u0002\u00f4\b\u0002\u0001\u0002\u0003\u0002"+
+		"\u00f7\b\u0002\u0001\u0002\u0001\u0002\u0003\u0002\u00fb\b\u0002\u0001"+
+		"\u0003\u0001\u0003\u0003\u0003\u00ff\b\u0003\u0001\u0004\u0001\u0004\u0001"+
+		"\u0004\u0003\u0004\u0104\b\u0004\u0001\u0005\u0001\u0005\u0001\u0005\u0001"+
+		"\u0005\u0001\u0005\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0005"+
+		"\u0006\u010f\b\u0006\n\u0006\f\u0006\u0112\t\u0006\u0001\u0006\u0003\u0006"+
+		"\u0115\b\u0006\u0001\u0007\u0001\u0007\u0001\u0007\u0003\u0007\u011a\b"+
+		"\u0007\u0001\b\u0003\b\u011d\b\b\u0001\b\u0003\b\u0120\b\b\u0001\b\u0001"+
+		"\b\u0001\b\u0003\b\u0125\b\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0003"+
+		"\b\u012c\b\b\u0001\t\u0001\t\u0001\t\u0004\t\u0131\b\t\u000b\t\f\t\u0132"+
+		"\u0001\n\u0001\n\u0001\n\u0001\n\u0003\n\u0139\b\n\u0001\u000b\u0001\u000b"+
+		"\u0001\f\u0001\f\u0003\f\u013f\b\f\u0001\f\u0003\f\u0142\b\f\u0001\f\u0003"+
+		"\f\u0145\b\f\u0001\f\u0003\f\u0148\b\f\u0001\r\u0001\r\u0001\r\u0001\r"+
+		"\u0001\u000e\u0001\u000e\u0001\u000e\u0005\u000e\u0151\b\u000e\n\u000e"+
+		"\f\u000e\u0154\t\u000e\u0003\u000e\u0156\b\u000e\u0001\u000f\u0003\u000f"+
+		"\u0159\b\u000f\u0001\u000f\u0001\u000f\u0003\u000f\u015d\b\u000f\u0001"+
+		"\u000f\u0001\u000f\u0005\u000f\u0161\b\u000f\n\u000f\f\u000f\u0164\t\u000f"+
+		"\u0001\u000f\u0001\u000f\u0001\u000f\u0005\u000f\u0169\b\u000f\n\u000f"+
+		"\f\u000f\u016c\t\u000f\u0003\u000f\u016e\b\u000f\u0001\u0010\u0001\u0010"+
+		"\u0001\u0010\u0001\u0010\u0003\u0010\u0174\b\u0010\u0001\u0010\u0001\u0010"+
 		"\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011"+
-		"\u0001\u0011\u0003\u0011\u0192\b\u0011\u0001\u0011\u0001\u0011\u0001\u0012"+
-		"\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0003\u0012\u019b\b\u0012"+
-		"\u0001\u0012\u0003\u0012\u019e\b\u0012\u0001\u0013\u0001\u0013\u0001\u0013"+
-		"\u0005\u0013\u01a3\b\u0013\n\u0013\f\u0013\u01a6\t\u0013\u0001\u0013\u0001"+
-		"\u0013\u0001\u0014\u0001\u0014\u0003\u0014\u01ac\b\u0014\u0001\u0014\u0001"+
-		"\u0014\u0001\u0015\u0001\u0015\u0005\u0015\u01b2\b\u0015\n\u0015\f\u0015"+
-		"\u01b5\t\u0015\u0001\u0015\u0001\u0015\u0003\u0015\u01b9\b\u0015\u0001"+
-		"\u0016\u0001\u0016\u0001\u0016\u0001\u0017\u0001\u0017\u0003\u0017\u01c0"+
-		"\b\u0017\u0001\u0017\u0001\u0017\u0003\u0017\u01c4\b\u0017\u0001\u0017"+
+		"\u0001\u0011\u0003\u0011\u017f\b\u0011\u0001\u0011\u0001\u0011\u0001\u0012"+
+		"\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0003\u0012\u0188\b\u0012"+
+		"\u0001\u0012\u0003\u0012\u018b\b\u0012\u0001\u0013\u0001\u0013\u0001\u0013"+
+		"\u0005\u0013\u0190\b\u0013\n\u0013\f\u0013\u0193\t\u0013\u0001\u0013\u0001"+
+		"\u0013\u0001\u0014\u0001\u0014\u0003\u0014\u0199\b\u0014\u0001\u0014\u0001"+
+		"\u0014\u0001\u0015\u0001\u0015\u0005\u0015\u019f\b\u0015\n\u0015\f\u0015"+
+		"\u01a2\t\u0015\u0001\u0015\u0001\u0015\u0003\u0015\u01a6\b\u0015\u0001"+
+		"\u0016\u0001\u0016\u0001\u0016\u0001\u0017\u0001\u0017\u0003\u0017\u01ad"+
+		"\b\u0017\u0001\u0017\u0001\u0017\u0003\u0017\u01b1\b\u0017\u0001\u0017"+
 		"\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0003\u0017"+
-		"\u01cc\b\u0017\u0001\u0017\u0003\u0017\u01cf\b\u0017\u0001\u0018\u0001"+
-		"\u0018\u0001\u0018\u0001\u0018\u0003\u0018\u01d5\b\u0018\u0001\u0019\u0001"+
-		"\u0019\u0001\u0019\u0003\u0019\u01da\b\u0019\u0001\u0019\u0001\u0019\u0001"+
+		"\u01b9\b\u0017\u0001\u0017\u0003\u0017\u01bc\b\u0017\u0001\u0018\u0001"+
+		"\u0018\u0001\u0018\u0001\u0018\u0003\u0018\u01c2\b\u0018\u0001\u0019\u0001"+
+		"\u0019\u0001\u0019\u0003\u0019\u01c7\b\u0019\u0001\u0019\u0001\u0019\u0001"+
 		"\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0004"+
-		"\u0019\u01e4\b\u0019\u000b\u0019\f\u0019\u01e5\u0001\u0019\u0003\u0019"+
-		"\u01e9\b\u0019\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001b"+
+		"\u0019\u01d1\b\u0019\u000b\u0019\f\u0019\u01d2\u0001\u0019\u0003\u0019"+
+		"\u01d6\b\u0019\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001b"+
 		"\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001c\u0001\u001c\u0001\u001c"+
-		"\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0003\u001c\u01fa\b\u001c"+
+		"\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0003\u001c\u01e7\b\u001c"+
 		"\u0001\u001c\u0001\u001c\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001e"+
-		"\u0001\u001e\u0005\u001e\u0203\b\u001e\n\u001e\f\u001e\u0206\t\u001e\u0001"+
-		"\u001e\u0003\u001e\u0209\b\u001e\u0001\u001e\u0001\u001e\u0001\u001f\u0001"+
-		"\u001f\u0001\u001f\u0005\u001f\u0210\b\u001f\n\u001f\f\u001f\u0213\t\u001f"+
-		"\u0001 \u0003 \u0216\b \u0001 \u0001 \u0001 \u0001 \u0005 \u021c\b \n"+
-		" \f \u021f\t \u0001!\u0001!\u0001\"\u0001\"\u0003\"\u0225\b\"\u0001\""+
-		"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0003\"\u022f"+
-		"\b\"\u0001\"\u0005\"\u0232\b\"\n\"\f\"\u0235\t\"\u0001\"\u0001\"\u0001"+
-		"\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0003\"\u0240\b\"\u0001"+
-		"\"\u0004\"\u0243\b\"\u000b\"\f\"\u0244\u0003\"\u0247\b\"\u0001#\u0001"+
-		"#\u0001#\u0001$\u0003$\u024d\b$\u0001$\u0001$\u0003$\u0251\b$\u0001$\u0001"+
-		"$\u0003$\u0255\b$\u0001%\u0001%\u0003%\u0259\b%\u0001%\u0001%\u0001&\u0003"+
-		"&\u025e\b&\u0001&\u0001&\u0001\'\u0001\'\u0001\'\u0001\'\u0004\'\u0266"+
-		"\b\'\u000b\'\f\'\u0267\u0001(\u0003(\u026b\b(\u0001(\u0001(\u0001(\u0003"+
-		"(\u0270\b(\u0001(\u0001(\u0001(\u0003(\u0275\b(\u0001(\u0001(\u0003(\u0279"+
-		"\b(\u0001)\u0001)\u0001*\u0001*\u0003*\u027f\b*\u0001*\u0001*\u0001*\u0001"+
-		"*\u0003*\u0285\b*\u0003*\u0287\b*\u0001*\u0001*\u0001+\u0001+\u0003+\u028d"+
-		"\b+\u0001+\u0001+\u0001+\u0003+\u0292\b+\u0001,\u0001,\u0001,\u0004,\u0297"+
-		"\b,\u000b,\f,\u0298\u0001,\u0001,\u0001-\u0001-\u0001-\u0003-\u02a0\b"+
-		"-\u0001-\u0003-\u02a3\b-\u0001.\u0001.\u0001.\u0001.\u0001/\u0001/\u0001"+
-		"/\u0001/\u0001/\u0001/\u0003/\u02af\b/\u00010\u00010\u00010\u00010\u0001"+
-		"0\u00010\u00010\u00010\u00010\u00010\u00010\u00010\u00030\u02bd\b0\u0001"+
-		"0\u00010\u00010\u00010\u00030\u02c3\b0\u00011\u00011\u00011\u00011\u0001"+
+		"\u0001\u001e\u0005\u001e\u01f0\b\u001e\n\u001e\f\u001e\u01f3\t\u001e\u0001"+
+		"\u001e\u0003\u001e\u01f6\b\u001e\u0001\u001e\u0001\u001e\u0001\u001f\u0001"+
+		"\u001f\u0001\u001f\u0005\u001f\u01fd\b\u001f\n\u001f\f\u001f\u0200\t\u001f"+
+		"\u0001 \u0003 \u0203\b \u0001 \u0001 \u0001 \u0001 \u0005 \u0209\b \n"+
+		" \f \u020c\t \u0001!\u0001!\u0001\"\u0001\"\u0003\"\u0212\b\"\u0001\""+
+		"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0003\"\u021c"+
+		"\b\"\u0001\"\u0005\"\u021f\b\"\n\"\f\"\u0222\t\"\u0001\"\u0001\"\u0001"+
+		"\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0003\"\u022d\b\"\u0001"+
+		"\"\u0004\"\u0230\b\"\u000b\"\f\"\u0231\u0003\"\u0234\b\"\u0001#\u0001"+
+		"#\u0001#\u0001$\u0003$\u023a\b$\u0001$\u0001$\u0003$\u023e\b$\u0001$\u0001"+
+		"$\u0003$\u0242\b$\u0001%\u0001%\u0003%\u0246\b%\u0001%\u0001%\u0001&\u0003"+
+		"&\u024b\b&\u0001&\u0001&\u0001\'\u0001\'\u0001\'\u0001\'\u0004\'\u0253"+
+		"\b\'\u000b\'\f\'\u0254\u0001(\u0003(\u0258\b(\u0001(\u0001(\u0001(\u0003"+
+		"(\u025d\b(\u0001(\u0001(\u0001(\u0003(\u0262\b(\u0001(\u0001(\u0003(\u0266"+
+		"\b(\u0001)\u0001)\u0001*\u0001*\u0003*\u026c\b*\u0001*\u0001*\u0001*\u0001"+
+		"*\u0003*\u0272\b*\u0003*\u0274\b*\u0001*\u0001*\u0001+\u0001+\u0003+\u027a"+
+		"\b+\u0001+\u0001+\u0001+\u0003+\u027f\b+\u0001,\u0001,\u0001,\u0004,\u0284"+
+		"\b,\u000b,\f,\u0285\u0001,\u0001,\u0001-\u0001-\u0001-\u0003-\u028d\b"+
+		"-\u0001-\u0003-\u0290\b-\u0001.\u0001.\u0001.\u0001.\u0001/\u0001/\u0001"+
+		"/\u0001/\u0001/\u0001/\u0003/\u029c\b/\u00010\u00010\u00010\u00010\u0001"+
+		"0\u00010\u00010\u00010\u00010\u00010\u00010\u00010\u00030\u02aa\b0\u0001"+
+		"0\u00010\u00010\u00010\u00030\u02b0\b0\u00011\u00011\u00011\u00011\u0001"+
 		"1\u00011\u00011\u00011\u00011\u00011\u00011\u00011\u00011\u00011\u0001"+
-		"1\u00011\u00011\u00011\u00011\u00011\u00011\u00031\u02da\b1\u00012\u0001"+
-		"2\u00032\u02de\b2\u00012\u00032\u02e1\b2\u00012\u00012\u00012\u00012\u0001"+
-		"2\u00032\u02e8\b2\u00012\u00012\u00013\u00033\u02ed\b3\u00013\u00013\u0005"+
-		"3\u02f1\b3\n3\f3\u02f4\t3\u00014\u00014\u00014\u00014\u00034\u02fa\b4"+
-		"\u00014\u00034\u02fd\b4\u00014\u00034\u0300\b4\u00015\u00055\u0303\b5"+
-		"\n5\f5\u0306\t5\u00015\u00035\u0309\b5\u00016\u00016\u00016\u00016\u0005"+
-		"6\u030f\b6\n6\f6\u0312\t6\u00016\u00036\u0315\b6\u00017\u00017\u00017"+
-		"\u00017\u00037\u031b\b7\u00018\u00038\u031e\b8\u00018\u00018\u00018\u0001"+
-		"8\u00018\u00019\u00039\u0326\b9\u00019\u00019\u00019\u00039\u032b\b9\u0001"+
-		"9\u00019\u00059\u032f\b9\n9\f9\u0332\t9\u0001:\u0001:\u0001:\u0001:\u0001"+
-		":\u0001:\u0001:\u0001:\u0001:\u0001:\u0001:\u0001:\u0001:\u0001:\u0001"+
-		":\u0001:\u0001:\u0003:\u0345\b:\u0001:\u0001:\u0003:\u0349\b:\u0001:\u0001"+
-		":\u0001:\u0003:\u034e\b:\u0001;\u0001;\u0001;\u0001;\u0003;\u0354\b;\u0001"+
-		";\u0001;\u0001;\u0001;\u0001;\u0001;\u0003;\u035c\b;\u0001;\u0003;\u035f"+
-		"\b;\u0001<\u0001<\u0001<\u0003<\u0364\b<\u0001<\u0001<\u0001<\u0001<\u0003"+
-		"<\u036a\b<\u0001=\u0001=\u0001=\u0005=\u036f\b=\n=\f=\u0372\t=\u0001="+
-		"\u0003=\u0375\b=\u0001>\u0004>\u0378\b>\u000b>\f>\u0379\u0001?\u0001?"+
-		"\u0001?\u0003?\u037f\b?\u0001?\u0001?\u0001@\u0003@\u0384\b@\u0001@\u0001"+
-		"@\u0003@\u0388\b@\u0004@\u038a\b@\u000b@\f@\u038b\u0001@\u0003@\u038f"+
-		"\b@\u0001@\u0003@\u0392\b@\u0001A\u0001A\u0001A\u0001A\u0001B\u0001B\u0001"+
-		"B\u0005B\u039b\bB\nB\fB\u039e\tB\u0001B\u0003B\u03a1\bB\u0001C\u0001C"+
-		"\u0001C\u0001C\u0001D\u0001D\u0001D\u0003D\u03aa\bD\u0001E\u0001E\u0001"+
-		"E\u0003E\u03af\bE\u0001F\u0001F\u0001F\u0001F\u0005F\u03b5\bF\nF\fF\u03b8"+
-		"\tF\u0001F\u0003F\u03bb\bF\u0001G\u0001G\u0001G\u0001G\u0001G\u0001H\u0001"+
-		"H\u0001H\u0001I\u0001I\u0001I\u0001I\u0001I\u0001I\u0001I\u0001I\u0001"+
-		"J\u0001J\u0001J\u0003J\u03d0\bJ\u0001K\u0001K\u0001K\u0001K\u0001L\u0001"+
-		"L\u0001L\u0001L\u0005L\u03da\bL\nL\fL\u03dd\tL\u0001L\u0001L\u0001L\u0001"+
-		"L\u0001M\u0001M\u0003M\u03e5\bM\u0001N\u0001N\u0001N\u0001N\u0003N\u03eb"+
-		"\bN\u0001N\u0001N\u0001O\u0001O\u0001O\u0001O\u0001P\u0001P\u0001P\u0001"+
-		"P\u0001Q\u0001Q\u0001Q\u0003Q\u03fa\bQ\u0001Q\u0005Q\u03fd\bQ\nQ\fQ\u0400"+
-		"\tQ\u0001Q\u0001Q\u0001R\u0001R\u0001R\u0001R\u0001R\u0001R\u0001R\u0001"+
-		"S\u0001S\u0001S\u0001S\u0003S\u040f\bS\u0001T\u0003T\u0412\bT\u0001T\u0001"+
-		"T\u0001T\u0001U\u0003U\u0418\bU\u0001U\u0001U\u0001U\u0001V\u0003V\u041e"+
-		"\bV\u0001V\u0001V\u0001V\u0001W\u0003W\u0424\bW\u0001W\u0001W\u0001W\u0001"+
-		"X\u0001X\u0001Y\u0001Y\u0001Z\u0001Z\u0001Z\u0001Z\u0001[\u0001[\u0001"+
-		"\\\u0001\\\u0001\\\u0001]\u0004]\u0437\b]\u000b]\f]\u0438\u0001^\u0001"+
-		"^\u0001_\u0003_\u043e\b_\u0001_\u0001_\u0001`\u0003`\u0443\b`\u0001`\u0001"+
-		"`\u0001`\u0003`\u0448\b`\u0001`\u0000\u0000a\u0000\u0002\u0004\u0006\b"+
-		"\n\f\u000e\u0010\u0012\u0014\u0016\u0018\u001a\u001c\u001e \"$&(*,.02"+
-		"468:<>@BDFHJLNPRTVXZ\\^`bdfhjlnprtvxz|~\u0080\u0082\u0084\u0086\u0088"+
-		"\u008a\u008c\u008e\u0090\u0092\u0094\u0096\u0098\u009a\u009c\u009e\u00a0"+
-		"\u00a2\u00a4\u00a6\u00a8\u00aa\u00ac\u00ae\u00b0\u00b2\u00b4\u00b6\u00b8"+
-		"\u00ba\u00bc\u00be\u00c0\u0000\f\u0001\u000001\u0001\u0000()\u0004\u0000"+
-		"\u0004\u0004<<DDJJ\u0003\u0000HHLMWY\u0001\u0000&\'\u0001\u0000\u0007"+
-		"\t\u0001\u0000\n\r\u0001\u0000\u0007\u000e\u0002\u0000DDFF\u0002\u0000"+
-		"\\\\^^\u0001\u0000BC\u0002\u0000FFZZ\u04ed\u0000\u00c5\u0001\u0000\u0000"+
-		"\u0000\u0002\u00df\u0001\u0000\u0000\u0000\u0004\u00f8\u0001\u0000\u0000"+
-		"\u0000\u0006\u00fc\u0001\u0000\u0000\u0000\b\u00fe\u0001\u0000\u0000\u0000"+
-		"\n\u0103\u0001\u0000\u0000\u0000\f\u0108\u0001\u0000\u0000\u0000\u000e"+
-		"\u0120\u0001\u0000\u0000\u0000\u0010\u0139\u0001\u0000\u0000\u0000\u0012"+
-		"\u013e\u0001\u0000\u0000\u0000\u0014\u0142\u0001\u0000\u0000\u0000\u0016"+
-		"\u0148\u0001\u0000\u0000\u0000\u0018\u0157\u0001\u0000\u0000\u0000\u001a"+
-		"\u015c\u0001\u0000\u0000\u0000\u001c\u0168\u0001\u0000\u0000\u0000\u001e"+
-		"\u0180\u0001\u0000\u0000\u0000 \u0182\u0001\u0000\u0000\u0000\"\u018a"+
-		"\u0001\u0000\u0000\u0000$\u0195\u0001\u0000\u0000\u0000&\u019f\u0001\u0000"+
-		"\u0000\u0000(\u01a9\u0001\u0000\u0000\u0000*\u01b8\u0001\u0000\u0000\u0000"+
-		",\u01ba\u0001\u0000\u0000\u0000.\u01bd\u0001\u0000\u0000\u00000\u01d0"+
-		"\u0001\u0000\u0000\u00002\u01d6\u0001\u0000\u0000\u00004\u01ea\u0001\u0000"+
-		"\u0000\u00006\u01ee\u0001\u0000\u0000\u00008\u01f2\u0001\u0000\u0000\u0000"+
-		":\u01fd\u0001\u0000\u0000\u0000<\u0200\u0001\u0000\u0000\u0000>\u020c"+
-		"\u0001\u0000\u0000\u0000@\u0215\u0001\u0000\u0000\u0000B\u0220\u0001\u0000"+
-		"\u0000\u0000D\u0246\u0001\u0000\u0000\u0000F\u0248\u0001\u0000\u0000\u0000"+
-		"H\u024c\u0001\u0000\u0000\u0000J\u0258\u0001\u0000\u0000\u0000L\u025d"+
-		"\u0001\u0000\u0000\u0000N\u0261\u0001\u0000\u0000\u0000P\u026a\u0001\u0000"+
-		"\u0000\u0000R\u027a\u0001\u0000\u0000\u0000T\u027c\u0001\u0000\u0000\u0000"+
-		"V\u028a\u0001\u0000\u0000\u0000X\u0293\u0001\u0000\u0000\u0000Z\u029f"+
-		"\u0001\u0000\u0000\u0000\\\u02a4\u0001\u0000\u0000\u0000^\u02ae\u0001"+
-		"\u0000\u0000\u0000`\u02c2\u0001\u0000\u0000\u0000b\u02d9\u0001\u0000\u0000"+
-		"\u0000d\u02db\u0001\u0000\u0000\u0000f\u02ec\u0001\u0000\u0000\u0000h"+
-		"\u02f9\u0001\u0000\u0000\u0000j\u0304\u0001\u0000\u0000\u0000l\u030a\u0001"+
-		"\u0000\u0000\u0000n\u031a\u0001\u0000\u0000\u0000p\u031d\u0001\u0000\u0000"+
-		"\u0000r\u0325\u0001\u0000\u0000\u0000t\u034d\u0001\u0000\u0000\u0000v"+
-		"\u034f\u0001\u0000\u0000\u0000x\u0369\u0001\u0000\u0000\u0000z\u036b\u0001"+
-		"\u0000\u0000\u0000|\u0377\u0001\u0000\u0000\u0000~\u037b\u0001\u0000\u0000"+
-		"\u0000\u0080\u0383\u0001\u0000\u0000\u0000\u0082\u0393\u0001\u0000\u0000"+
-		"\u0000\u0084\u0397\u0001\u0000\u0000\u0000\u0086\u03a2\u0001\u0000\u0000"+
-		"\u0000\u0088\u03a9\u0001\u0000\u0000\u0000\u008a\u03ae\u0001\u0000\u0000"+
-		"\u0000\u008c\u03b0\u0001\u0000\u0000\u0000\u008e\u03bc\u0001\u0000\u0000"+
-		"\u0000\u0090\u03c1\u0001\u0000\u0000\u0000\u0092\u03c4\u0001\u0000\u0000"+
-		"\u0000\u0094\u03cf\u0001\u0000\u0000\u0000\u0096\u03d1\u0001\u0000\u0000"+
-		"\u0000\u0098\u03d5\u0001\u0000\u0000\u0000\u009a\u03e4\u0001\u0000\u0000"+
-		"\u0000\u009c\u03e6\u0001\u0000\u0000\u0000\u009e\u03ee\u0001\u0000\u0000"+
-		"\u0000\u00a0\u03f2\u0001\u0000\u0000\u0000\u00a2\u03f6\u0001\u0000\u0000"+
-		"\u0000\u00a4\u0403\u0001\u0000\u0000\u0000\u00a6\u040e\u0001\u0000\u0000"+
-		"\u0000\u00a8\u0411\u0001\u0000\u0000\u0000\u00aa\u0417\u0001\u0000\u0000"+
-		"\u0000\u00ac\u041d\u0001\u0000\u0000\u0000\u00ae\u0423\u0001\u0000\u0000"+
-		"\u0000\u00b0\u0428\u0001\u0000\u0000\u0000\u00b2\u042a\u0001\u0000\u0000"+
-		"\u0000\u00b4\u042c\u0001\u0000\u0000\u0000\u00b6\u0430\u0001\u0000\u0000"+
-		"\u0000\u00b8\u0432\u0001\u0000\u0000\u0000\u00ba\u0436\u0001\u0000\u0000"+
-		"\u0000\u00bc\u043a\u0001\u0000\u0000\u0000\u00be\u043d\u0001\u0000\u0000"+
-		"\u0000\u00c0\u0447\u0001\u0000\u0000\u0000\u00c2\u00c4\u0003\u0002\u0001"+
-		"\u0000\u00c3\u00c2\u0001\u0000\u0000\u0000\u00c4\u00c7\u0001\u0000\u0000"+
-		"\u0000\u00c5\u00c3\u0001\u0000\u0000\u0000\u00c5\u00c6\u0001\u0000\u0000"+
-		"\u0000\u00c6\u00c8\u0001\u0000\u0000\u0000\u00c7\u00c5\u0001\u0000\u0000"+
-		"\u0000\u00c8\u00c9\u0005\u0000\u0000\u0001\u00c9\u0001\u0001\u0000\u0000"+
-		"\u0000\u00ca\u00e0\u0003\u0004\u0002\u0000\u00cb\u00e0\u0003\f\u0006\u0000"+
-		"\u00cc\u00e0\u0003\u0014\n\u0000\u00cd\u00e0\u00030\u0018\u0000\u00ce"+
-		"\u00e0\u0003\u001a\r\u0000\u00cf\u00e0\u0003\"\u0011\u0000\u00d0\u00e0"+
-		"\u0003$\u0012\u0000\u00d1\u00e0\u0003d2\u0000\u00d2\u00e0\u0003\u008c"+
-		"F\u0000\u00d3\u00e0\u0003\u0092I\u0000\u00d4\u00e0\u0003\u0096K\u0000"+
-		"\u00d5\u00e0\u0003\u0098L\u0000\u00d6\u00e0\u0003&\u0013\u0000\u00d7\u00e0"+
-		"\u0003(\u0014\u0000\u00d8\u00e0\u0003.\u0017\u0000\u00d9\u00e0\u00032"+
-		"\u0019\u0000\u00da\u00e0\u00034\u001a\u0000\u00db\u00e0\u00036\u001b\u0000"+
-		"\u00dc\u00e0\u0003:\u001d\u0000\u00dd\u00e0\u00038\u001c\u0000\u00de\u00e0"+
-		"\u0003,\u0016\u0000\u00df\u00ca\u0001\u0000\u0000\u0000\u00df\u00cb\u0001"+
-		"\u0000\u0000\u0000\u00df\u00cc\u0001\u0000\u0000\u0000\u00df\u00cd\u0001"+
-		"\u0000\u0000\u0000\u00df\u00ce\u0001\u0000\u0000\u0000\u00df\u00cf\u0001"+
-		"\u0000\u0000\u0000\u00df\u00d0\u0001\u0000\u0000\u0000\u00df\u00d1\u0001"+
-		"\u0000\u0000\u0000\u00df\u00d2\u0001\u0000\u0000\u0000\u00df\u00d3\u0001"+
-		"\u0000\u0000\u0000\u00df\u00d4\u0001\u0000\u0000\u0000\u00df\u00d5\u0001"+
-		"\u0000\u0000\u0000\u00df\u00d6\u0001\u0000\u0000\u0000\u00df\u00d7\u0001"+
-		"\u0000\u0000\u0000\u00df\u00d8\u0001\u0000\u0000\u0000\u00df\u00d9\u0001"+
-		"\u0000\u0000\u0000\u00df\u00da\u0001\u0000\u0000\u0000\u00df\u00db\u0001"+
-		"\u0000\u0000\u0000\u00df\u00dc\u0001\u0000\u0000\u0000\u00df\u00dd\u0001"+
-		"\u0000\u0000\u0000\u00df\u00de\u0001\u0000\u0000\u0000\u00e0\u0003\u0001"+
-		"\u0000\u0000\u0000\u00e1\u00e2\u0005\u000f\u0000\u0000\u00e2\u00e4\u0003"+
-		"\u0006\u0003\u0000\u00e3\u00e5\u0005;\u0000\u0000\u00e4\u00e3\u0001\u0000"+
-		"\u0000\u0000\u00e4\u00e5\u0001\u0000\u0000\u0000\u00e5\u00f9\u0001\u0000"+
-		"\u0000\u0000\u00e6\u00e7\u0005\u0012\u0000\u0000\u00e7\u00e9\u0003\u0006"+
-		"\u0003\u0000\u00e8\u00ea\u0005;\u0000\u0000\u00e9\u00e8\u0001\u0000\u0000"+
-		"\u0000\u00e9\u00ea\u0001\u0000\u0000\u0000\u00ea\u00f9\u0001\u0000\u0000"+
-		"\u0000\u00eb\u00ec\u0005\u0011\u0000\u0000\u00ec\u00ee\u0003\u0006\u0003"+
-		"\u0000\u00ed\u00ef\u0003\b\u0004\u0000\u00ee\u00ed\u0001\u0000\u0000\u0000"+
-		"\u00ee\u00ef\u0001\u0000\u0000\u0000\u00ef\u00f1\u0001\u0000\u0000\u0000"+
-		"\u00f0\u00f2\u0003\n\u0005\u0000\u00f1\u00f0\u0001\u0000\u0000\u0000\u00f1"+
-		"\u00f2\u0001\u0000\u0000\u0000\u00f2\u00f4\u0001\u0000\u0000\u0000\u00f3"+
-		"\u00f5\u0005;\u0000\u0000\u00f4\u00f3\u0001\u0000\u0000\u0000\u00f4\u00f5"+
-		"\u0001\u0000\u0000\u0000\u00f5\u00f9\u0001\u0000\u0000\u0000\u00f6\u00f7"+
-		"\u0005\u0017\u0000\u0000\u00f7\u00f9\u0003\u0006\u0003\u0000\u00f8\u00e1"+
-		"\u0001\u0000\u0000\u0000\u00f8\u00e6\u0001\u0000\u0000\u0000\u00f8\u00eb"+
-		"\u0001\u0000\u0000\u0000\u00f8\u00f6\u0001\u0000\u0000\u0000\u00f9\u0005"+
-		"\u0001\u0000\u0000\u0000\u00fa\u00fd\u0003\u00b2Y\u0000\u00fb\u00fd\u0005"+
-		"]\u0000\u0000\u00fc\u00fa\u0001\u0000\u0000\u0000\u00fc\u00fb\u0001\u0000"+
-		"\u0000\u0000\u00fd\u0007\u0001\u0000\u0000\u0000\u00fe\u0101\u0005,\u0000"+
-		"\u0000\u00ff\u0102\u0005G\u0000\u0000\u0100\u0102\u0003\u00c0`\u0000\u0101"+
-		"\u00ff\u0001\u0000\u0000\u0000\u0101\u0100\u0001\u0000\u0000\u0000\u0102"+
-		"\t\u0001\u0000\u0000\u0000\u0103\u0104\u0005-\u0000\u0000\u0104\u0105"+
-		"\u00052\u0000\u0000\u0105\u0106\u0003f3\u0000\u0106\u0107\u00053\u0000"+
-		"\u0000\u0107\u000b\u0001\u0000\u0000\u0000\u0108\u0109\u0003\u0010\b\u0000"+
-		"\u0109\u010a\u0005:\u0000\u0000\u010a\u010c\u0003\u000e\u0007\u0000\u010b"+
-		"\u010d\u0003\u0016\u000b\u0000\u010c\u010b\u0001\u0000\u0000\u0000\u010c"+
-		"\u010d\u0001\u0000\u0000\u0000\u010d\u010f\u0001\u0000\u0000\u0000\u010e"+
-		"\u0110\u0005;\u0000\u0000\u010f\u010e\u0001\u0000\u0000\u0000\u010f\u0110"+
-		"\u0001\u0000\u0000\u0000\u0110\r\u0001\u0000\u0000\u0000\u0111\u0121\u0003"+
-		"b1\u0000\u0112\u0121\u0003d2\u0000\u0113\u0121\u0003p8\u0000\u0114\u0116"+
-		"\u0003\u0082A\u0000\u0115\u0114\u0001\u0000\u0000\u0000\u0116\u0117\u0001"+
-		"\u0000\u0000\u0000\u0117\u0115\u0001\u0000\u0000\u0000\u0117\u0118\u0001"+
-		"\u0000\u0000\u0000\u0118\u0121\u0001\u0000\u0000\u0000\u0119\u011b\u0003"+
-		"x<\u0000\u011a\u0119\u0001\u0000\u0000\u0000\u011b\u011c\u0001\u0000\u0000"+
-		"\u0000\u011c\u011a\u0001\u0000\u0000\u0000\u011c\u011d\u0001\u0000\u0000"+
-		"\u0000\u011d\u0121\u0001\u0000\u0000\u0000\u011e\u0121\u0003\u0010\b\u0000"+
-		"\u011f\u0121\u0003\u00c0`\u0000\u0120\u0111\u0001\u0000\u0000\u0000\u0120"+
-		"\u0112\u0001\u0000\u0000\u0000\u0120\u0113\u0001\u0000\u0000\u0000\u0120"+
-		"\u0115\u0001\u0000\u0000\u0000\u0120\u011a\u0001\u0000\u0000\u0000\u0120"+
-		"\u011e\u0001\u0000\u0000\u0000\u0120\u011f\u0001\u0000\u0000\u0000\u0121"+
-		"\u000f\u0001\u0000\u0000\u0000\u0122\u0123\u0005F\u0000\u0000\u0123\u0124"+
-		"\u0005F\u0000\u0000\u0124\u0125\u0001\u0000\u0000\u0000\u0125\u012b\u0005"+
-		">\u0000\u0000\u0126\u0127\u0003\u00b6[\u0000\u0127\u0128\u0005>\u0000"+
-		"\u0000\u0128\u012b\u0001\u0000\u0000\u0000\u0129\u012b\u0005>\u0000\u0000"+
-		"\u012a\u0122\u0001\u0000\u0000\u0000\u012a\u0126\u0001\u0000\u0000\u0000"+
-		"\u012a\u0129\u0001\u0000\u0000\u0000\u012b\u012c\u0001\u0000\u0000\u0000"+
-		"\u012c\u013a\u0003\u00c0`\u0000\u012d\u012f\u0003\u00b6[\u0000\u012e\u012d"+
-		"\u0001\u0000\u0000\u0000\u012e\u012f\u0001\u0000\u0000\u0000\u012f\u0131"+
-		"\u0001\u0000\u0000\u0000\u0130\u0132\u0003\u0012\t\u0000\u0131\u0130\u0001"+
-		"\u0000\u0000\u0000\u0131\u0132\u0001\u0000\u0000\u0000\u0132\u0133\u0001"+
-		"\u0000\u0000\u0000\u0133\u0136\u0005>\u0000\u0000\u0134\u0137\u0003\u00c0"+
-		"`\u0000\u0135\u0137\u0003\u00b0X\u0000\u0136\u0134\u0001\u0000\u0000\u0000"+
-		"\u0136\u0135\u0001\u0000\u0000\u0000\u0137\u013a\u0001\u0000\u0000\u0000"+
-		"\u0138\u013a\u0005[\u0000\u0000\u0139\u012a\u0001\u0000\u0000\u0000\u0139"+
-		"\u012e\u0001\u0000\u0000\u0000\u0139\u0138\u0001\u0000\u0000\u0000\u013a"+
-		"\u0011\u0001\u0000\u0000\u0000\u013b\u013c\u0003\u00c0`\u0000\u013c\u013d"+
-		"\u00058\u0000\u0000\u013d\u013f\u0001\u0000\u0000\u0000\u013e\u013b\u0001"+
-		"\u0000\u0000\u0000\u013f\u0140\u0001\u0000\u0000\u0000\u0140\u013e\u0001"+
-		"\u0000\u0000\u0000\u0140\u0141\u0001\u0000\u0000\u0000\u0141\u0013\u0001"+
-		"\u0000\u0000\u0000\u0142\u0143\u0003\u00c0`\u0000\u0143\u0144\u0005:\u0000"+
-		"\u0000\u0144\u0146\u0003\u0018\f\u0000\u0145\u0147\u0005;\u0000\u0000"+
-		"\u0146\u0145\u0001\u0000\u0000\u0000\u0146\u0147\u0001\u0000\u0000\u0000"+
-		"\u0147\u0015\u0001\u0000\u0000\u0000\u0148\u0149\u0007\u0000\u0000\u0000"+
-		"\u0149\u0017\u0001\u0000\u0000\u0000\u014a\u0158\u0003b1\u0000\u014b\u014d"+
-		"\u0003b1\u0000\u014c\u014b\u0001\u0000\u0000\u0000\u014c\u014d\u0001\u0000"+
-		"\u0000\u0000\u014d\u014f\u0001\u0000\u0000\u0000\u014e\u0150\u0003\u0016"+
-		"\u000b\u0000\u014f\u014e\u0001\u0000\u0000\u0000\u014f\u0150\u0001\u0000"+
-		"\u0000\u0000\u0150\u0151\u0001\u0000\u0000\u0000\u0151\u0158\u0003<\u001e"+
-		"\u0000\u0152\u0158\u0003\u0010\b\u0000\u0153\u0158\u0003|>\u0000\u0154"+
-		"\u0158\u0003z=\u0000\u0155\u0158\u0003r9\u0000\u0156\u0158\u0003p8\u0000"+
-		"\u0157\u014a\u0001\u0000\u0000\u0000\u0157\u014c\u0001\u0000\u0000\u0000"+
-		"\u0157\u0152\u0001\u0000\u0000\u0000\u0157\u0153\u0001\u0000\u0000\u0000"+
-		"\u0157\u0154\u0001\u0000\u0000\u0000\u0157\u0155\u0001\u0000\u0000\u0000"+
-		"\u0157\u0156\u0001\u0000\u0000\u0000\u0158\u015a\u0001\u0000\u0000\u0000"+
-		"\u0159\u015b\u0003\u0016\u000b\u0000\u015a\u0159\u0001\u0000\u0000\u0000"+
-		"\u015a\u015b\u0001\u0000\u0000\u0000\u015b\u0019\u0001\u0000\u0000\u0000"+
-		"\u015c\u015d\u0005\u001b\u0000\u0000\u015d\u015e\u0003\u001c\u000e\u0000"+
-		"\u015e\u015f\u0003<\u001e\u0000\u015f\u001b\u0001\u0000\u0000\u0000\u0160"+
-		"\u0165\u0003\u001e\u000f\u0000\u0161\u0162\u00059\u0000\u0000\u0162\u0164"+
-		"\u0003\u001e\u000f\u0000\u0163\u0161\u0001\u0000\u0000\u0000\u0164\u0167"+
-		"\u0001\u0000\u0000\u0000\u0165\u0163\u0001\u0000\u0000\u0000\u0165\u0166"+
-		"\u0001\u0000\u0000\u0000\u0166\u0169\u0001\u0000\u0000\u0000\u0167\u0165"+
-		"\u0001\u0000\u0000\u0000\u0168\u0160\u0001\u0000\u0000\u0000\u0168\u0169"+
-		"\u0001\u0000\u0000\u0000\u0169\u001d\u0001\u0000\u0000\u0000\u016a\u016c"+
-		"\u0007\u0001\u0000\u0000\u016b\u016a\u0001\u0000\u0000\u0000\u016b\u016c"+
-		"\u0001\u0000\u0000\u0000\u016c\u016f\u0001\u0000\u0000\u0000\u016d\u0170"+
-		"\u0003\u00c0`\u0000\u016e\u0170\u0003b1\u0000\u016f\u016d\u0001\u0000"+
-		"\u0000\u0000\u016f\u016e\u0001\u0000\u0000\u0000\u0170\u0175\u0001\u0000"+
-		"\u0000\u0000\u0171\u0172\u0005*\u0000\u0000\u0172\u0174\u0003 \u0010\u0000"+
-		"\u0173\u0171\u0001\u0000\u0000\u0000\u0174\u0177\u0001\u0000\u0000\u0000"+
-		"\u0175\u0173\u0001\u0000\u0000\u0000\u0175\u0176\u0001\u0000\u0000\u0000"+
-		"\u0176\u0181\u0001\u0000\u0000\u0000\u0177\u0175\u0001\u0000\u0000\u0000"+
-		"\u0178\u017d\u0003 \u0010\u0000\u0179\u017a\u0005*\u0000\u0000\u017a\u017c"+
-		"\u0003 \u0010\u0000\u017b\u0179\u0001\u0000\u0000\u0000\u017c\u017f\u0001"+
-		"\u0000\u0000\u0000\u017d\u017b\u0001\u0000\u0000\u0000\u017d\u017e\u0001"+
-		"\u0000\u0000\u0000\u017e\u0181\u0001\u0000\u0000\u0000\u017f\u017d\u0001"+
-		"\u0000\u0000\u0000\u0180\u016b\u0001\u0000\u0000\u0000\u0180\u0178\u0001"+
-		"\u0000\u0000\u0000\u0181\u001f\u0001\u0000\u0000\u0000\u0182\u0183\u0005"+
-		"2\u0000\u0000\u0183\u0186\u0003\u00c0`\u0000\u0184\u0185\u0005:\u0000"+
-		"\u0000\u0185\u0187\u0003b1\u0000\u0186\u0184\u0001\u0000\u0000\u0000\u0186"+
-		"\u0187\u0001\u0000\u0000\u0000\u0187\u0188\u0001\u0000\u0000\u0000\u0188"+
-		"\u0189\u00053\u0000\u0000\u0189!\u0001\u0000\u0000\u0000\u018a\u0191\u0005"+
-		"\u0014\u0000\u0000\u018b\u0192\u0003\u00c0`\u0000\u018c\u018d\u0003\u00c0"+
-		"`\u0000\u018d\u018e\u00052\u0000\u0000\u018e\u018f\u0003f3\u0000\u018f"+
-		"\u0190\u00053\u0000\u0000\u0190\u0192\u0001\u0000\u0000\u0000\u0191\u018b"+
-		"\u0001\u0000\u0000\u0000\u0191\u018c\u0001\u0000\u0000\u0000\u0192\u0193"+
-		"\u0001\u0000\u0000\u0000\u0193\u0194\u0003<\u001e\u0000\u0194#\u0001\u0000"+
-		"\u0000\u0000\u0195\u019a\u0005\u0018\u0000\u0000\u0196\u0197\u00052\u0000"+
-		"\u0000\u0197\u0198\u0003f3\u0000\u0198\u0199\u00053\u0000\u0000\u0199"+
-		"\u019b\u0001\u0000\u0000\u0000\u019a\u0196\u0001\u0000\u0000\u0000\u019a"+
-		"\u019b\u0001\u0000\u0000\u0000\u019b\u019d\u0001\u0000\u0000\u0000\u019c"+
-		"\u019e\u0005;\u0000\u0000\u019d\u019c\u0001\u0000\u0000\u0000\u019d\u019e"+
-		"\u0001\u0000\u0000\u0000\u019e%\u0001\u0000\u0000\u0000\u019f\u01a0\u0005"+
-		"\u0016\u0000\u0000\u01a0\u01a4\u00056\u0000\u0000\u01a1\u01a3\u0003\u0002"+
-		"\u0001\u0000\u01a2\u01a1\u0001\u0000\u0000\u0000\u01a3\u01a6\u0001\u0000"+
-		"\u0000\u0000\u01a4\u01a2\u0001\u0000\u0000\u0000\u01a4\u01a5\u0001\u0000"+
-		"\u0000\u0000\u01a5\u01a7\u0001\u0000\u0000\u0000\u01a6\u01a4\u0001\u0000"+
-		"\u0000\u0000\u01a7\u01a8\u00057\u0000\u0000\u01a8\'\u0001\u0000\u0000"+
-		"\u0000\u01a9\u01ab\u0005\u0019\u0000\u0000\u01aa\u01ac\u0003\u00c0`\u0000"+
-		"\u01ab\u01aa\u0001\u0000\u0000\u0000\u01ab\u01ac\u0001\u0000\u0000\u0000"+
-		"\u01ac\u01ad\u0001\u0000\u0000\u0000\u01ad\u01ae\u0003*\u0015\u0000\u01ae"+
-		")\u0001\u0000\u0000\u0000\u01af\u01b3\u00056\u0000\u0000\u01b0\u01b2\u0003"+
-		",\u0016\u0000\u01b1\u01b0\u0001\u0000\u0000\u0000\u01b2\u01b5\u0001\u0000"+
-		"\u0000\u0000\u01b3\u01b1\u0001\u0000\u0000\u0000\u01b3\u01b4\u0001\u0000"+
-		"\u0000\u0000\u01b4\u01b6\u0001\u0000\u0000\u0000\u01b5\u01b3\u0001\u0000"+
-		"\u0000\u0000\u01b6\u01b9\u00057\u0000\u0000\u01b7\u01b9\u0003<\u001e\u0000"+
-		"\u01b8\u01af\u0001\u0000\u0000\u0000\u01b8\u01b7\u0001\u0000\u0000\u0000"+
-		"\u01b9+\u0001\u0000\u0000\u0000\u01ba\u01bb\u0003\u00acV\u0000\u01bb\u01bc"+
-		"\u0003<\u001e\u0000\u01bc-\u0001\u0000\u0000\u0000\u01bd\u01bf\u0005\u0010"+
-		"\u0000\u0000\u01be\u01c0\u0003\u0012\t\u0000\u01bf\u01be\u0001\u0000\u0000"+
-		"\u0000\u01bf\u01c0\u0001\u0000\u0000\u0000\u01c0\u01c3\u0001\u0000\u0000"+
-		"\u0000\u01c1\u01c4\u0003\u00c0`\u0000\u01c2\u01c4\u0003p8\u0000\u01c3"+
-		"\u01c1\u0001\u0000\u0000\u0000\u01c3\u01c2\u0001\u0000\u0000\u0000\u01c4"+
-		"\u01cb\u0001\u0000\u0000\u0000\u01c5\u01cc\u0005;\u0000\u0000\u01c6\u01c7"+
-		"\u0005+\u0000\u0000\u01c7\u01c8\u00052\u0000\u0000\u01c8\u01c9\u0003f"+
-		"3\u0000\u01c9\u01ca\u00053\u0000\u0000\u01ca\u01cc\u0001\u0000\u0000\u0000"+
-		"\u01cb\u01c5\u0001\u0000\u0000\u0000\u01cb\u01c6\u0001\u0000\u0000\u0000"+
-		"\u01cb\u01cc\u0001\u0000\u0000\u0000\u01cc\u01ce\u0001\u0000\u0000\u0000"+
-		"\u01cd\u01cf\u0003<\u001e\u0000\u01ce\u01cd\u0001\u0000\u0000\u0000\u01ce"+
-		"\u01cf\u0001\u0000\u0000\u0000\u01cf/\u0001\u0000\u0000\u0000\u01d0\u01d1"+
-		"\u0003P(\u0000\u01d1\u01d2\u0005:\u0000\u0000\u01d2\u01d4\u0003\u0018"+
-		"\f\u0000\u01d3\u01d5\u0005;\u0000\u0000\u01d4\u01d3\u0001\u0000\u0000"+
-		"\u0000\u01d4\u01d5\u0001\u0000\u0000\u0000\u01d51\u0001\u0000\u0000\u0000"+
-		"\u01d6\u01d9\u0005\u001c\u0000\u0000\u01d7\u01da\u0005\u000e\u0000\u0000"+
-		"\u01d8\u01da\u0003R)\u0000\u01d9\u01d7\u0001\u0000\u0000\u0000\u01d9\u01d8"+
-		"\u0001\u0000\u0000\u0000\u01d9\u01da\u0001\u0000\u0000\u0000\u01da\u01e3"+
-		"\u0001\u0000\u0000\u0000\u01db\u01e4\u0003F#\u0000\u01dc\u01e4\u0003H"+
-		"$\u0000\u01dd\u01e4\u0003L&\u0000\u01de\u01e4\u0003N\'\u0000\u01df\u01e4"+
-		"\u0003T*\u0000\u01e0\u01e4\u0003V+\u0000\u01e1\u01e4\u0003P(\u0000\u01e2"+
-		"\u01e4\u0003R)\u0000\u01e3\u01db\u0001\u0000\u0000\u0000\u01e3\u01dc\u0001"+
-		"\u0000\u0000\u0000\u01e3\u01dd\u0001\u0000\u0000\u0000\u01e3\u01de\u0001"+
-		"\u0000\u0000\u0000\u01e3\u01df\u0001\u0000\u0000\u0000\u01e3\u01e0\u0001"+
-		"\u0000\u0000\u0000\u01e3\u01e1\u0001\u0000\u0000\u0000\u01e3\u01e2\u0001"+
-		"\u0000\u0000\u0000\u01e4\u01e5\u0001\u0000\u0000\u0000\u01e5\u01e3\u0001"+
-		"\u0000\u0000\u0000\u01e5\u01e6\u0001\u0000\u0000\u0000\u01e6\u01e8\u0001"+
-		"\u0000\u0000\u0000\u01e7\u01e9\u0005;\u0000\u0000\u01e8\u01e7\u0001\u0000"+
-		"\u0000\u0000\u01e8\u01e9\u0001\u0000\u0000\u0000\u01e93\u0001\u0000\u0000"+
-		"\u0000\u01ea\u01eb\u0005\u001d\u0000\u0000\u01eb\u01ec\u0005]\u0000\u0000"+
-		"\u01ec\u01ed\u0005;\u0000\u0000\u01ed5\u0001\u0000\u0000\u0000\u01ee\u01ef"+
-		"\u0005\u001e\u0000\u0000\u01ef\u01f0\u0005]\u0000\u0000\u01f0\u01f1\u0005"+
-		";\u0000\u0000\u01f17\u0001\u0000\u0000\u0000\u01f2\u01f9\u0005?\u0000"+
-		"\u0000\u01f3\u01f4\u0003\u00c0`\u0000\u01f4\u01f5\u00052\u0000\u0000\u01f5"+
-		"\u01f6\u0003f3\u0000\u01f6\u01f7\u00053\u0000\u0000\u01f7\u01fa\u0001"+
-		"\u0000\u0000\u0000\u01f8\u01fa\u0003\u00c0`\u0000\u01f9\u01f3\u0001\u0000"+
-		"\u0000\u0000\u01f9\u01f8\u0001\u0000\u0000\u0000\u01fa\u01fb\u0001\u0000"+
-		"\u0000\u0000\u01fb\u01fc\u0003<\u001e\u0000\u01fc9\u0001\u0000\u0000\u0000"+
-		"\u01fd\u01fe\u0003>\u001f\u0000\u01fe\u01ff\u0003<\u001e\u0000\u01ff;"+
-		"\u0001\u0000\u0000\u0000\u0200\u0204\u00056\u0000\u0000\u0201\u0203\u0003"+
-		"\u0002\u0001\u0000\u0202\u0201\u0001\u0000\u0000\u0000\u0203\u0206\u0001"+
-		"\u0000\u0000\u0000\u0204\u0202\u0001\u0000\u0000\u0000\u0204\u0205\u0001"+
-		"\u0000\u0000\u0000\u0205\u0208\u0001\u0000\u0000\u0000\u0206\u0204\u0001"+
-		"\u0000\u0000\u0000\u0207\u0209\u0003l6\u0000\u0208\u0207\u0001\u0000\u0000"+
-		"\u0000\u0208\u0209\u0001\u0000\u0000\u0000\u0209\u020a\u0001\u0000\u0000"+
-		"\u0000\u020a\u020b\u00057\u0000\u0000\u020b=\u0001\u0000\u0000\u0000\u020c"+
-		"\u0211\u0003@ \u0000\u020d\u020e\u00059\u0000\u0000\u020e\u0210\u0003"+
-		"@ \u0000\u020f\u020d\u0001\u0000\u0000\u0000\u0210\u0213\u0001\u0000\u0000"+
-		"\u0000\u0211\u020f\u0001\u0000\u0000\u0000\u0211\u0212\u0001\u0000\u0000"+
-		"\u0000\u0212?\u0001\u0000\u0000\u0000\u0213\u0211\u0001\u0000\u0000\u0000"+
-		"\u0214\u0216\u0003B!\u0000\u0215\u0214\u0001\u0000\u0000\u0000\u0215\u0216"+
-		"\u0001\u0000\u0000\u0000\u0216\u0217\u0001\u0000\u0000\u0000\u0217\u021d"+
-		"\u0003D\"\u0000\u0218\u0219\u0003B!\u0000\u0219\u021a\u0003D\"\u0000\u021a"+
-		"\u021c\u0001\u0000\u0000\u0000\u021b\u0218\u0001\u0000\u0000\u0000\u021c"+
-		"\u021f\u0001\u0000\u0000\u0000\u021d\u021b\u0001\u0000\u0000\u0000\u021d"+
-		"\u021e\u0001\u0000\u0000\u0000\u021eA\u0001\u0000\u0000\u0000\u021f\u021d"+
-		"\u0001\u0000\u0000\u0000\u0220\u0221\u0007\u0002\u0000\u0000\u0221C\u0001"+
-		"\u0000\u0000\u0000\u0222\u0225\u0003H$\u0000\u0223\u0225\u0003L&\u0000"+
-		"\u0224\u0222\u0001\u0000\u0000\u0000\u0224\u0223\u0001\u0000\u0000\u0000"+
-		"\u0225\u0233\u0001\u0000\u0000\u0000\u0226\u0232\u0003F#\u0000\u0227\u0232"+
-		"\u0003N\'\u0000\u0228\u0232\u0003T*\u0000\u0229\u0232\u0003V+\u0000\u022a"+
-		"\u0232\u0003\\.\u0000\u022b\u022e\u0003P(\u0000\u022c\u022f\u0003\u0010"+
-		"\b\u0000\u022d\u022f\u0005\u000e\u0000\u0000\u022e\u022c\u0001\u0000\u0000"+
-		"\u0000\u022e\u022d\u0001\u0000\u0000\u0000\u022e\u022f\u0001\u0000\u0000"+
-		"\u0000\u022f\u0232\u0001\u0000\u0000\u0000\u0230\u0232\u0003R)\u0000\u0231"+
-		"\u0226\u0001\u0000\u0000\u0000\u0231\u0227\u0001\u0000\u0000\u0000\u0231"+
-		"\u0228\u0001\u0000\u0000\u0000\u0231\u0229\u0001\u0000\u0000\u0000\u0231"+
-		"\u022a\u0001\u0000\u0000\u0000\u0231\u022b\u0001\u0000\u0000\u0000\u0231"+
-		"\u0230\u0001\u0000\u0000\u0000\u0232\u0235\u0001\u0000\u0000\u0000\u0233"+
-		"\u0231\u0001\u0000\u0000\u0000\u0233\u0234\u0001\u0000\u0000\u0000\u0234"+
-		"\u0247\u0001\u0000\u0000\u0000\u0235\u0233\u0001\u0000\u0000\u0000\u0236"+
-		"\u0243\u0003H$\u0000\u0237\u0243\u0003F#\u0000\u0238\u0243\u0003N\'\u0000"+
-		"\u0239\u0243\u0003T*\u0000\u023a\u0243\u0003V+\u0000\u023b\u0243\u0003"+
-		"\\.\u0000\u023c\u023f\u0003P(\u0000\u023d\u0240\u0003\u0010\b\u0000\u023e"+
-		"\u0240\u0005\u000e\u0000\u0000\u023f\u023d\u0001\u0000\u0000\u0000\u023f"+
-		"\u023e\u0001\u0000\u0000\u0000\u023f\u0240\u0001\u0000\u0000\u0000\u0240"+
-		"\u0243\u0001\u0000\u0000\u0000\u0241\u0243\u0003R)\u0000\u0242\u0236\u0001"+
-		"\u0000\u0000\u0000\u0242\u0237\u0001\u0000\u0000\u0000\u0242\u0238\u0001"+
-		"\u0000\u0000\u0000\u0242\u0239\u0001\u0000\u0000\u0000\u0242\u023a\u0001"+
-		"\u0000\u0000\u0000\u0242\u023b\u0001\u0000\u0000\u0000\u0242\u023c\u0001"+
-		"\u0000\u0000\u0000\u0242\u0241\u0001\u0000\u0000\u0000\u0243\u0244\u0001"+
-		"\u0000\u0000\u0000\u0244\u0242\u0001\u0000\u0000\u0000\u0244\u0245\u0001"+
-		"\u0000\u0000\u0000\u0245\u0247\u0001\u0000\u0000\u0000\u0246\u0224\u0001"+
-		"\u0000\u0000\u0000\u0246\u0242\u0001\u0000\u0000\u0000\u0247E\u0001\u0000"+
-		"\u0000\u0000\u0248\u0249\u0005A\u0000\u0000\u0249\u024a\u0003\u00c0`\u0000"+
-		"\u024aG\u0001\u0000\u0000\u0000\u024b\u024d\u0003J%\u0000\u024c\u024b"+
-		"\u0001\u0000\u0000\u0000\u024c\u024d\u0001\u0000\u0000\u0000\u024d\u0250"+
-		"\u0001\u0000\u0000\u0000\u024e\u0251\u0005\u000e\u0000\u0000\u024f\u0251"+
-		"\u0003R)\u0000\u0250\u024e\u0001\u0000\u0000\u0000\u0250\u024f\u0001\u0000"+
-		"\u0000\u0000\u0250\u0251\u0001\u0000\u0000\u0000\u0251\u0254\u0001\u0000"+
-		"\u0000\u0000\u0252\u0255\u0003\u00c0`\u0000\u0253\u0255\u0003\u0010\b"+
-		"\u0000\u0254\u0252\u0001\u0000\u0000\u0000\u0254\u0253\u0001\u0000\u0000"+
-		"\u0000\u0255I\u0001\u0000\u0000\u0000\u0256\u0259\u0003\u00c0`\u0000\u0257"+
-		"\u0259\u0005G\u0000\u0000\u0258\u0256\u0001\u0000\u0000\u0000\u0258\u0257"+
+		"1\u00011\u00011\u00011\u00011\u00031\u02c5\b1\u00011\u00011\u00011\u0001"+
+		"1\u00011\u00011\u00031\u02cd\b1\u00012\u00032\u02d0\b2\u00012\u00012\u0001"+
+		"2\u00032\u02d5\b2\u00012\u00012\u00042\u02d9\b2\u000b2\f2\u02da\u0001"+
+		"2\u00012\u00032\u02df\b2\u00013\u00013\u00033\u02e3\b3\u00013\u00033\u02e6"+
+		"\b3\u00013\u00013\u00013\u00013\u00013\u00033\u02ed\b3\u00013\u00013\u0001"+
+		"4\u00034\u02f2\b4\u00014\u00014\u00054\u02f6\b4\n4\f4\u02f9\t4\u00015"+
+		"\u00015\u00015\u00015\u00015\u00015\u00035\u0301\b5\u00015\u00035\u0304"+
+		"\b5\u00015\u00035\u0307\b5\u00016\u00056\u030a\b6\n6\f6\u030d\t6\u0001"+
+		"6\u00036\u0310\b6\u00017\u00017\u00017\u00017\u00057\u0316\b7\n7\f7\u0319"+
+		"\t7\u00017\u00037\u031c\b7\u00018\u00018\u00019\u00039\u0321\b9\u0001"+
+		"9\u00019\u00019\u00019\u00019\u0001:\u0003:\u0329\b:\u0001:\u0001:\u0001"+
+		":\u0003:\u032e\b:\u0001:\u0001:\u0005:\u0332\b:\n:\f:\u0335\t:\u0001;"+
+		"\u0001;\u0001;\u0001;\u0001;\u0001;\u0001;\u0001;\u0001;\u0001;\u0001"+
+		";\u0001;\u0001;\u0001;\u0001;\u0001;\u0001;\u0003;\u0348\b;\u0001;\u0001"+
+		";\u0003;\u034c\b;\u0001;\u0001;\u0003;\u0350\b;\u0001<\u0001<\u0001<\u0001"+
+		"<\u0003<\u0356\b<\u0001<\u0001<\u0001<\u0001<\u0001<\u0001<\u0003<\u035e"+
+		"\b<\u0001<\u0003<\u0361\b<\u0001=\u0001=\u0001=\u0001=\u0001=\u0001=\u0003"+
+		"=\u0369\b=\u0001>\u0001>\u0001>\u0005>\u036e\b>\n>\f>\u0371\t>\u0001>"+
+		"\u0003>\u0374\b>\u0001?\u0004?\u0377\b?\u000b?\f?\u0378\u0001@\u0001@"+
+		"\u0001@\u0001@\u0001A\u0004A\u0380\bA\u000bA\fA\u0381\u0001B\u0001B\u0001"+
+		"B\u0001B\u0001C\u0001C\u0001C\u0005C\u038b\bC\nC\fC\u038e\tC\u0001C\u0003"+
+		"C\u0391\bC\u0001D\u0001D\u0001D\u0001D\u0001E\u0001E\u0003E\u0399\bE\u0001"+
+		"F\u0001F\u0003F\u039d\bF\u0001G\u0001G\u0001G\u0001G\u0005G\u03a3\bG\n"+
+		"G\fG\u03a6\tG\u0001G\u0003G\u03a9\bG\u0001H\u0001H\u0001H\u0001H\u0001"+
+		"H\u0001I\u0001I\u0001I\u0001J\u0001J\u0001J\u0001J\u0001J\u0001J\u0001"+
+		"J\u0001J\u0001K\u0001K\u0001L\u0001L\u0001L\u0001L\u0001M\u0001M\u0001"+
+		"M\u0001M\u0005M\u03c5\bM\nM\fM\u03c8\tM\u0001M\u0001M\u0001M\u0001M\u0001"+
+		"N\u0001N\u0003N\u03d0\bN\u0001O\u0001O\u0001O\u0001O\u0003O\u03d6\bO\u0001"+
+		"O\u0001O\u0001P\u0001P\u0001P\u0001P\u0001Q\u0001Q\u0001Q\u0001Q\u0001"+
+		"R\u0001R\u0001R\u0003R\u03e5\bR\u0001R\u0005R\u03e8\bR\nR\fR\u03eb\tR"+
+		"\u0001R\u0001R\u0001S\u0001S\u0001S\u0001S\u0001S\u0001S\u0001S\u0001"+
+		"T\u0001T\u0001T\u0001T\u0003T\u03fa\bT\u0001U\u0003U\u03fd\bU\u0001U\u0001"+
+		"U\u0001U\u0001V\u0003V\u0403\bV\u0001V\u0001V\u0001V\u0001W\u0003W\u0409"+
+		"\bW\u0001W\u0001W\u0001W\u0001X\u0003X\u040f\bX\u0001X\u0001X\u0001X\u0001"+
+		"Y\u0001Y\u0001Z\u0001Z\u0001[\u0001[\u0001[\u0001[\u0001\\\u0001\\\u0001"+
+		"]\u0001]\u0001]\u0001^\u0004^\u0422\b^\u000b^\f^\u0423\u0001_\u0001_\u0001"+
+		"`\u0003`\u0429\b`\u0001`\u0001`\u0001a\u0003a\u042e\ba\u0001a\u0001a\u0001"+
+		"a\u0003a\u0433\ba\u0001a\u0000\u0000b\u0000\u0002\u0004\u0006\b\n\f\u000e"+
+		"\u0010\u0012\u0014\u0016\u0018\u001a\u001c\u001e \"$&(*,.02468:<>@BDF"+
+		"HJLNPRTVXZ\\^`bdfhjlnprtvxz|~\u0080\u0082\u0084\u0086\u0088\u008a\u008c"+
+		"\u008e\u0090\u0092\u0094\u0096\u0098\u009a\u009c\u009e\u00a0\u00a2\u00a4"+
+		"\u00a6\u00a8\u00aa\u00ac\u00ae\u00b0\u00b2\u00b4\u00b6\u00b8\u00ba\u00bc"+
+		"\u00be\u00c0\u00c2\u0000\f\u0001\u000002\u0001\u0000()\u0004\u0000\u0004"+
+		"\u0004==EEKK\u0003\u0000IIMNXZ\u0001\u0000&\'\u0001\u0000\u0007\t\u0001"+
+		"\u0000\n\r\u0001\u0000\u0007\u000e\u0002\u0000EEGG\u0002\u0000]]__\u0001"+
+		"\u0000CD\u0002\u0000GG[[\u04c2\u0000\u00c7\u0001\u0000\u0000\u0000\u0002"+
+		"\u00e1\u0001\u0000\u0000\u0000\u0004\u00fa\u0001\u0000\u0000\u0000\u0006"+
+		"\u00fe\u0001\u0000\u0000\u0000\b\u0100\u0001\u0000\u0000\u0000\n\u0105"+
+		"\u0001\u0000\u0000\u0000\f\u010a\u0001\u0000\u0000\u0000\u000e\u0119\u0001"+
+		"\u0000\u0000\u0000\u0010\u012b\u0001\u0000\u0000\u0000\u0012\u0130\u0001"+
+		"\u0000\u0000\u0000\u0014\u0134\u0001\u0000\u0000\u0000\u0016\u013a\u0001"+
+		"\u0000\u0000\u0000\u0018\u0144\u0001\u0000\u0000\u0000\u001a\u0149\u0001"+
+		"\u0000\u0000\u0000\u001c\u0155\u0001\u0000\u0000\u0000\u001e\u016d\u0001"+
+		"\u0000\u0000\u0000 \u016f\u0001\u0000\u0000\u0000\"\u0177\u0001\u0000"+
+		"\u0000\u0000$\u0182\u0001\u0000\u0000\u0000&\u018c\u0001\u0000\u0000\u0000"+
+		"(\u0196\u0001\u0000\u0000\u0000*\u01a5\u0001\u0000\u0000\u0000,\u01a7"+
+		"\u0001\u0000\u0000\u0000.\u01aa\u0001\u0000\u0000\u00000\u01bd\u0001\u0000"+
+		"\u0000\u00002\u01c3\u0001\u0000\u0000\u00004\u01d7\u0001\u0000\u0000\u0000"+
+		"6\u01db\u0001\u0000\u0000\u00008\u01df\u0001\u0000\u0000\u0000:\u01ea"+
+		"\u0001\u0000\u0000\u0000<\u01ed\u0001\u0000\u0000\u0000>\u01f9\u0001\u0000"+
+		"\u0000\u0000@\u0202\u0001\u0000\u0000\u0000B\u020d\u0001\u0000\u0000\u0000"+
+		"D\u0233\u0001\u0000\u0000\u0000F\u0235\u0001\u0000\u0000\u0000H\u0239"+
+		"\u0001\u0000\u0000\u0000J\u0245\u0001\u0000\u0000\u0000L\u024a\u0001\u0000"+
+		"\u0000\u0000N\u024e\u0001\u0000\u0000\u0000P\u0257\u0001\u0000\u0000\u0000"+
+		"R\u0267\u0001\u0000\u0000\u0000T\u0269\u0001\u0000\u0000\u0000V\u0277"+
+		"\u0001\u0000\u0000\u0000X\u0280\u0001\u0000\u0000\u0000Z\u028c\u0001\u0000"+
+		"\u0000\u0000\\\u0291\u0001\u0000\u0000\u0000^\u029b\u0001\u0000\u0000"+
+		"\u0000`\u02af\u0001\u0000\u0000\u0000b\u02cc\u0001\u0000\u0000\u0000d"+
+		"\u02de\u0001\u0000\u0000\u0000f\u02e0\u0001\u0000\u0000\u0000h\u02f1\u0001"+
+		"\u0000\u0000\u0000j\u0300\u0001\u0000\u0000\u0000l\u030b\u0001\u0000\u0000"+
+		"\u0000n\u0311\u0001\u0000\u0000\u0000p\u031d\u0001\u0000\u0000\u0000r"+
+		"\u0320\u0001\u0000\u0000\u0000t\u0328\u0001\u0000\u0000\u0000v\u034f\u0001"+
+		"\u0000\u0000\u0000x\u0351\u0001\u0000\u0000\u0000z\u0368\u0001\u0000\u0000"+
+		"\u0000|\u036a\u0001\u0000\u0000\u0000~\u0376\u0001\u0000\u0000\u0000\u0080"+
+		"\u037a\u0001\u0000\u0000\u0000\u0082\u037f\u0001\u0000\u0000\u0000\u0084"+
+		"\u0383\u0001\u0000\u0000\u0000\u0086\u0387\u0001\u0000\u0000\u0000\u0088"+
+		"\u0392\u0001\u0000\u0000\u0000\u008a\u0398\u0001\u0000\u0000\u0000\u008c"+
+		"\u039c\u0001\u0000\u0000\u0000\u008e\u039e\u0001\u0000\u0000\u0000\u0090"+
+		"\u03aa\u0001\u0000\u0000\u0000\u0092\u03af\u0001\u0000\u0000\u0000\u0094"+
+		"\u03b2\u0001\u0000\u0000\u0000\u0096\u03ba\u0001\u0000\u0000\u0000\u0098"+
+		"\u03bc\u0001\u0000\u0000\u0000\u009a\u03c0\u0001\u0000\u0000\u0000\u009c"+
+		"\u03cf\u0001\u0000\u0000\u0000\u009e\u03d1\u0001\u0000\u0000\u0000\u00a0"+
+		"\u03d9\u0001\u0000\u0000\u0000\u00a2\u03dd\u0001\u0000\u0000\u0000\u00a4"+
+		"\u03e1\u0001\u0000\u0000\u0000\u00a6\u03ee\u0001\u0000\u0000\u0000\u00a8"+
+		"\u03f9\u0001\u0000\u0000\u0000\u00aa\u03fc\u0001\u0000\u0000\u0000\u00ac"+
+		"\u0402\u0001\u0000\u0000\u0000\u00ae\u0408\u0001\u0000\u0000\u0000\u00b0"+
+		"\u040e\u0001\u0000\u0000\u0000\u00b2\u0413\u0001\u0000\u0000\u0000\u00b4"+
+		"\u0415\u0001\u0000\u0000\u0000\u00b6\u0417\u0001\u0000\u0000\u0000\u00b8"+
+		"\u041b\u0001\u0000\u0000\u0000\u00ba\u041d\u0001\u0000\u0000\u0000\u00bc"+
+		"\u0421\u0001\u0000\u0000\u0000\u00be\u0425\u0001\u0000\u0000\u0000\u00c0"+
+		"\u0428\u0001\u0000\u0000\u0000\u00c2\u0432\u0001\u0000\u0000\u0000\u00c4"+
+		"\u00c6\u0003\u0002\u0001\u0000\u00c5\u00c4\u0001\u0000\u0000\u0000\u00c6"+
+		"\u00c9\u0001\u0000\u0000\u0000\u00c7\u00c5\u0001\u0000\u0000\u0000\u00c7"+
+		"\u00c8\u0001\u0000\u0000\u0000\u00c8\u00ca\u0001\u0000\u0000\u0000\u00c9"+
+		"\u00c7\u0001\u0000\u0000\u0000\u00ca\u00cb\u0005\u0000\u0000\u0001\u00cb"+
+		"\u0001\u0001\u0000\u0000\u0000\u00cc\u00e2\u0003\u0004\u0002\u0000\u00cd"+
+		"\u00e2\u0003\f\u0006\u0000\u00ce\u00e2\u0003\u0014\n\u0000\u00cf\u00e2"+
+		"\u00030\u0018\u0000\u00d0\u00e2\u0003\u001a\r\u0000\u00d1\u00e2\u0003"+
+		"\"\u0011\u0000\u00d2\u00e2\u0003$\u0012\u0000\u00d3\u00e2\u0003f3\u0000"+
+		"\u00d4\u00e2\u0003\u008eG\u0000\u00d5\u00e2\u0003\u0094J\u0000\u00d6\u00e2"+
+		"\u0003\u0098L\u0000\u00d7\u00e2\u0003\u009aM\u0000\u00d8\u00e2\u0003&"+
+		"\u0013\u0000\u00d9\u00e2\u0003(\u0014\u0000\u00da\u00e2\u0003.\u0017\u0000"+
+		"\u00db\u00e2\u00032\u0019\u0000\u00dc\u00e2\u00034\u001a\u0000\u00dd\u00e2"+
+		"\u00036\u001b\u0000\u00de\u00e2\u0003:\u001d\u0000\u00df\u00e2\u00038"+
+		"\u001c\u0000\u00e0\u00e2\u0003,\u0016\u0000\u00e1\u00cc\u0001\u0000\u0000"+
+		"\u0000\u00e1\u00cd\u0001\u0000\u0000\u0000\u00e1\u00ce\u0001\u0000\u0000"+
+		"\u0000\u00e1\u00cf\u0001\u0000\u0000\u0000\u00e1\u00d0\u0001\u0000\u0000"+
+		"\u0000\u00e1\u00d1\u0001\u0000\u0000\u0000\u00e1\u00d2\u0001\u0000\u0000"+
+		"\u0000\u00e1\u00d3\u0001\u0000\u0000\u0000\u00e1\u00d4\u0001\u0000\u0000"+
+		"\u0000\u00e1\u00d5\u0001\u0000\u0000\u0000\u00e1\u00d6\u0001\u0000\u0000"+
+		"\u0000\u00e1\u00d7\u0001\u0000\u0000\u0000\u00e1\u00d8\u0001\u0000\u0000"+
+		"\u0000\u00e1\u00d9\u0001\u0000\u0000\u0000\u00e1\u00da\u0001\u0000\u0000"+
+		"\u0000\u00e1\u00db\u0001\u0000\u0000\u0000\u00e1\u00dc\u0001\u0000\u0000"+
+		"\u0000\u00e1\u00dd\u0001\u0000\u0000\u0000\u00e1\u00de\u0001\u0000\u0000"+
+		"\u0000\u00e1\u00df\u0001\u0000\u0000\u0000\u00e1\u00e0\u0001\u0000\u0000"+
+		"\u0000\u00e2\u0003\u0001\u0000\u0000\u0000\u00e3\u00e4\u0005\u000f\u0000"+
+		"\u0000\u00e4\u00e6\u0003\u0006\u0003\u0000\u00e5\u00e7\u0005<\u0000\u0000"+
+		"\u00e6\u00e5\u0001\u0000\u0000\u0000\u00e6\u00e7\u0001\u0000\u0000\u0000"+
+		"\u00e7\u00fb\u0001\u0000\u0000\u0000\u00e8\u00e9\u0005\u0012\u0000\u0000"+
+		"\u00e9\u00eb\u0003\u0006\u0003\u0000\u00ea\u00ec\u0005<\u0000\u0000\u00eb"+
+		"\u00ea\u0001\u0000\u0000\u0000\u00eb\u00ec\u0001\u0000\u0000\u0000\u00ec"+
+		"\u00fb\u0001\u0000\u0000\u0000\u00ed\u00ee\u0005\u0011\u0000\u0000\u00ee"+
+		"\u00f0\u0003\u0006\u0003\u0000\u00ef\u00f1\u0003\b\u0004\u0000\u00f0\u00ef"+
+		"\u0001\u0000\u0000\u0000\u00f0\u00f1\u0001\u0000\u0000\u0000\u00f1\u00f3"+
+		"\u0001\u0000\u0000\u0000\u00f2\u00f4\u0003\n\u0005\u0000\u00f3\u00f2\u0001"+
+		"\u0000\u0000\u0000\u00f3\u00f4\u0001\u0000\u0000\u0000\u00f4\u00f6\u0001"+
+		"\u0000\u0000\u0000\u00f5\u00f7\u0005<\u0000\u0000\u00f6\u00f5\u0001\u0000"+
+		"\u0000\u0000\u00f6\u00f7\u0001\u0000\u0000\u0000\u00f7\u00fb\u0001\u0000"+
+		"\u0000\u0000\u00f8\u00f9\u0005\u0017\u0000\u0000\u00f9\u00fb\u0003\u0006"+
+		"\u0003\u0000\u00fa\u00e3\u0001\u0000\u0000\u0000\u00fa\u00e8\u0001\u0000"+
+		"\u0000\u0000\u00fa\u00ed\u0001\u0000\u0000\u0000\u00fa\u00f8\u0001\u0000"+
+		"\u0000\u0000\u00fb\u0005\u0001\u0000\u0000\u0000\u00fc\u00ff\u0003\u00b4"+
+		"Z\u0000\u00fd\u00ff\u0005^\u0000\u0000\u00fe\u00fc\u0001\u0000\u0000\u0000"+
+		"\u00fe\u00fd\u0001\u0000\u0000\u0000\u00ff\u0007\u0001\u0000\u0000\u0000"+
+		"\u0100\u0103\u0005,\u0000\u0000\u0101\u0104\u0005H\u0000\u0000\u0102\u0104"+
+		"\u0003\u00c2a\u0000\u0103\u0101\u0001\u0000\u0000\u0000\u0103\u0102\u0001"+
+		"\u0000\u0000\u0000\u0104\t\u0001\u0000\u0000\u0000\u0105\u0106\u0005-"+
+		"\u0000\u0000\u0106\u0107\u00053\u0000\u0000\u0107\u0108\u0003h4\u0000"+
+		"\u0108\u0109\u00054\u0000\u0000\u0109\u000b\u0001\u0000\u0000\u0000\u010a"+
+		"\u010b\u0003\u0010\b\u0000\u010b\u010c\u0005;\u0000\u0000\u010c\u0110"+
+		"\u0003\u000e\u0007\u0000\u010d\u010f\u0003\u0016\u000b\u0000\u010e\u010d"+
+		"\u0001\u0000\u0000\u0000\u010f\u0112\u0001\u0000\u0000\u0000\u0110\u010e"+
+		"\u0001\u0000\u0000\u0000\u0110\u0111\u0001\u0000\u0000\u0000\u0111\u0114"+
+		"\u0001\u0000\u0000\u0000\u0112\u0110\u0001\u0000\u0000\u0000\u0113\u0115"+
+		"\u0005<\u0000\u0000\u0114\u0113\u0001\u0000\u0000\u0000\u0114\u0115\u0001"+
+		"\u0000\u0000\u0000\u0115\r\u0001\u0000\u0000\u0000\u0116\u011a\u0003z"+
+		"=\u0000\u0117\u011a\u0003\u0084B\u0000\u0118\u011a\u0003f3\u0000\u0119"+
+		"\u0116\u0001\u0000\u0000\u0000\u0119\u0117\u0001\u0000\u0000\u0000\u0119"+
+		"\u0118\u0001\u0000\u0000\u0000\u011a\u000f\u0001\u0000\u0000\u0000\u011b"+
+		"\u011d\u0003\u00b8\\\u0000\u011c\u011b\u0001\u0000\u0000\u0000\u011c\u011d"+
+		"\u0001\u0000\u0000\u0000\u011d\u011f\u0001\u0000\u0000\u0000\u011e\u0120"+
+		"\u0003\u0012\t\u0000\u011f\u011e\u0001\u0000\u0000\u0000\u011f\u0120\u0001"+
+		"\u0000\u0000\u0000\u0120\u0121\u0001\u0000\u0000\u0000\u0121\u0124\u0005"+
+		"?\u0000\u0000\u0122\u0125\u0003\u00c2a\u0000\u0123\u0125\u0003\u00b2Y"+
+		"\u0000\u0124\u0122\u0001\u0000\u0000\u0000\u0124\u0123\u0001\u0000\u0000"+
+		"\u0000\u0125\u012c\u0001\u0000\u0000\u0000\u0126\u0127\u0005G\u0000\u0000"+
+		"\u0127\u0128\u0005G\u0000\u0000\u0128\u0129\u0005?\u0000\u0000\u0129\u012c"+
+		"\u0003\u00c2a\u0000\u012a\u012c\u0005\\\u0000\u0000\u012b\u011c\u0001"+
+		"\u0000\u0000\u0000\u012b\u0126\u0001\u0000\u0000\u0000\u012b\u012a\u0001"+
+		"\u0000\u0000\u0000\u012c\u0011\u0001\u0000\u0000\u0000\u012d\u012e\u0003"+
+		"\u00c2a\u0000\u012e\u012f\u00059\u0000\u0000\u012f\u0131\u0001\u0000\u0000"+
+		"\u0000\u0130\u012d\u0001\u0000\u0000\u0000\u0131\u0132\u0001\u0000\u0000"+
+		"\u0000\u0132\u0130\u0001\u0000\u0000\u0000\u0132\u0133\u0001\u0000\u0000"+
+		"\u0000\u0133\u0013\u0001\u0000\u0000\u0000\u0134\u0135\u0003\u00c2a\u0000"+
+		"\u0135\u0136\u0005;\u0000\u0000\u0136\u0138\u0003\u0018\f\u0000\u0137"+
+		"\u0139\u0005<\u0000\u0000\u0138\u0137\u0001\u0000\u0000\u0000\u0138\u0139"+
+		"\u0001\u0000\u0000\u0000\u0139\u0015\u0001\u0000\u0000\u0000\u013a\u013b"+
+		"\u0007\u0000\u0000\u0000\u013b\u0017\u0001\u0000\u0000\u0000\u013c\u0145"+
+		"\u0003|>\u0000\u013d\u013f\u0003b1\u0000\u013e\u013d\u0001\u0000\u0000"+
+		"\u0000\u013e\u013f\u0001\u0000\u0000\u0000\u013f\u0141\u0001\u0000\u0000"+
+		"\u0000\u0140\u0142\u0003\u0016\u000b\u0000\u0141\u0140\u0001\u0000\u0000"+
+		"\u0000\u0141\u0142\u0001\u0000\u0000\u0000\u0142\u0143\u0001\u0000\u0000"+
+		"\u0000\u0143\u0145\u0003<\u001e\u0000\u0144\u013c\u0001\u0000\u0000\u0000"+
+		"\u0144\u013e\u0001\u0000\u0000\u0000\u0145\u0147\u0001\u0000\u0000\u0000"+
+		"\u0146\u0148\u0003\u0016\u000b\u0000\u0147\u0146\u0001\u0000\u0000\u0000"+
+		"\u0147\u0148\u0001\u0000\u0000\u0000\u0148\u0019\u0001\u0000\u0000\u0000"+
+		"\u0149\u014a\u0005\u001b\u0000\u0000\u014a\u014b\u0003\u001c\u000e\u0000"+
+		"\u014b\u014c\u0003<\u001e\u0000\u014c\u001b\u0001\u0000\u0000\u0000\u014d"+
+		"\u0152\u0003\u001e\u000f\u0000\u014e\u014f\u0005:\u0000\u0000\u014f\u0151"+
+		"\u0003\u001e\u000f\u0000\u0150\u014e\u0001\u0000\u0000\u0000\u0151\u0154"+
+		"\u0001\u0000\u0000\u0000\u0152\u0150\u0001\u0000\u0000\u0000\u0152\u0153"+
+		"\u0001\u0000\u0000\u0000\u0153\u0156\u0001\u0000\u0000\u0000\u0154\u0152"+
+		"\u0001\u0000\u0000\u0000\u0155\u014d\u0001\u0000\u0000\u0000\u0155\u0156"+
+		"\u0001\u0000\u0000\u0000\u0156\u001d\u0001\u0000\u0000\u0000\u0157\u0159"+
+		"\u0007\u0001\u0000\u0000\u0158\u0157\u0001\u0000\u0000\u0000\u0158\u0159"+
+		"\u0001\u0000\u0000\u0000\u0159\u015c\u0001\u0000\u0000\u0000\u015a\u015d"+
+		"\u0003\u00c2a\u0000\u015b\u015d\u0003b1\u0000\u015c\u015a\u0001\u0000"+
+		"\u0000\u0000\u015c\u015b\u0001\u0000\u0000\u0000\u015d\u0162\u0001\u0000"+
+		"\u0000\u0000\u015e\u015f\u0005*\u0000\u0000\u015f\u0161\u0003 \u0010\u0000"+
+		"\u0160\u015e\u0001\u0000\u0000\u0000\u0161\u0164\u0001\u0000\u0000\u0000"+
+		"\u0162\u0160\u0001\u0000\u0000\u0000\u0162\u0163\u0001\u0000\u0000\u0000"+
+		"\u0163\u016e\u0001\u0000\u0000\u0000\u0164\u0162\u0001\u0000\u0000\u0000"+
+		"\u0165\u016a\u0003 \u0010\u0000\u0166\u0167\u0005*\u0000\u0000\u0167\u0169"+
+		"\u0003 \u0010\u0000\u0168\u0166\u0001\u0000\u0000\u0000\u0169\u016c\u0001"+
+		"\u0000\u0000\u0000\u016a\u0168\u0001\u0000\u0000\u0000\u016a\u016b\u0001"+
+		"\u0000\u0000\u0000\u016b\u016e\u0001\u0000\u0000\u0000\u016c\u016a\u0001"+
+		"\u0000\u0000\u0000\u016d\u0158\u0001\u0000\u0000\u0000\u016d\u0165\u0001"+
+		"\u0000\u0000\u0000\u016e\u001f\u0001\u0000\u0000\u0000\u016f\u0170\u0005"+
+		"3\u0000\u0000\u0170\u0173\u0003\u00c2a\u0000\u0171\u0172\u0005;\u0000"+
+		"\u0000\u0172\u0174\u0003b1\u0000\u0173\u0171\u0001\u0000\u0000\u0000\u0173"+
+		"\u0174\u0001\u0000\u0000\u0000\u0174\u0175\u0001\u0000\u0000\u0000\u0175"+
+		"\u0176\u00054\u0000\u0000\u0176!\u0001\u0000\u0000\u0000\u0177\u017e\u0005"+
+		"\u0014\u0000\u0000\u0178\u017f\u0003\u00c2a\u0000\u0179\u017a\u0003\u00c2"+
+		"a\u0000\u017a\u017b\u00053\u0000\u0000\u017b\u017c\u0003h4\u0000\u017c"+
+		"\u017d\u00054\u0000\u0000\u017d\u017f\u0001\u0000\u0000\u0000\u017e\u0178"+
+		"\u0001\u0000\u0000\u0000\u017e\u0179\u0001\u0000\u0000\u0000\u017f\u0180"+
+		"\u0001\u0000\u0000\u0000\u0180\u0181\u0003<\u001e\u0000\u0181#\u0001\u0000"+
+		"\u0000\u0000\u0182\u0187\u0005\u0018\u0000\u0000\u0183\u0184\u00053\u0000"+
+		"\u0000\u0184\u0185\u0003h4\u0000\u0185\u0186\u00054\u0000\u0000\u0186"+
+		"\u0188\u0001\u0000\u0000\u0000\u0187\u0183\u0001\u0000\u0000\u0000\u0187"+
+		"\u0188\u0001\u0000\u0000\u0000\u0188\u018a\u0001\u0000\u0000\u0000\u0189"+
+		"\u018b\u0005<\u0000\u0000\u018a\u0189\u0001\u0000\u0000\u0000\u018a\u018b"+
+		"\u0001\u0000\u0000\u0000\u018b%\u0001\u0000\u0000\u0000\u018c\u018d\u0005"+
+		"\u0016\u0000\u0000\u018d\u0191\u00057\u0000\u0000\u018e\u0190\u0003\u0002"+
+		"\u0001\u0000\u018f\u018e\u0001\u0000\u0000\u0000\u0190\u0193\u0001\u0000"+
+		"\u0000\u0000\u0191\u018f\u0001\u0000\u0000\u0000\u0191\u0192\u0001\u0000"+
+		"\u0000\u0000\u0192\u0194\u0001\u0000\u0000\u0000\u0193\u0191\u0001\u0000"+
+		"\u0000\u0000\u0194\u0195\u00058\u0000\u0000\u0195\'\u0001\u0000\u0000"+
+		"\u0000\u0196\u0198\u0005\u0019\u0000\u0000\u0197\u0199\u0003\u00c2a\u0000"+
+		"\u0198\u0197\u0001\u0000\u0000\u0000\u0198\u0199\u0001\u0000\u0000\u0000"+
+		"\u0199\u019a\u0001\u0000\u0000\u0000\u019a\u019b\u0003*\u0015\u0000\u019b"+
+		")\u0001\u0000\u0000\u0000\u019c\u01a0\u00057\u0000\u0000\u019d\u019f\u0003"+
+		",\u0016\u0000\u019e\u019d\u0001\u0000\u0000\u0000\u019f\u01a2\u0001\u0000"+
+		"\u0000\u0000\u01a0\u019e\u0001\u0000\u0000\u0000\u01a0\u01a1\u0001\u0000"+
+		"\u0000\u0000\u01a1\u01a3\u0001\u0000\u0000\u0000\u01a2\u01a0\u0001\u0000"+
+		"\u0000\u0000\u01a3\u01a6\u00058\u0000\u0000\u01a4\u01a6\u0003<\u001e\u0000"+
+		"\u01a5\u019c\u0001\u0000\u0000\u0000\u01a5\u01a4\u0001\u0000\u0000\u0000"+
+		"\u01a6+\u0001\u0000\u0000\u0000\u01a7\u01a8\u0003\u00aeW\u0000\u01a8\u01a9"+
+		"\u0003<\u001e\u0000\u01a9-\u0001\u0000\u0000\u0000\u01aa\u01ac\u0005\u0010"+
+		"\u0000\u0000\u01ab\u01ad\u0003\u0012\t\u0000\u01ac\u01ab\u0001\u0000\u0000"+
+		"\u0000\u01ac\u01ad\u0001\u0000\u0000\u0000\u01ad\u01b0\u0001\u0000\u0000"+
+		"\u0000\u01ae\u01b1\u0003r9\u0000\u01af\u01b1\u0003\u00c2a\u0000\u01b0"+
+		"\u01ae\u0001\u0000\u0000\u0000\u01b0\u01af\u0001\u0000\u0000\u0000\u01b1"+
+		"\u01b8\u0001\u0000\u0000\u0000\u01b2\u01b9\u0005<\u0000\u0000\u01b3\u01b4"+
+		"\u0005+\u0000\u0000\u01b4\u01b5\u00053\u0000\u0000\u01b5\u01b6\u0003h"+
+		"4\u0000\u01b6\u01b7\u00054\u0000\u0000\u01b7\u01b9\u0001\u0000\u0000\u0000"+
+		"\u01b8\u01b2\u0001\u0000\u0000\u0000\u01b8\u01b3\u0001\u0000\u0000\u0000"+
+		"\u01b8\u01b9\u0001\u0000\u0000\u0000\u01b9\u01bb\u0001\u0000\u0000\u0000"+
+		"\u01ba\u01bc\u0003<\u001e\u0000\u01bb\u01ba\u0001\u0000\u0000\u0000\u01bb"+
+		"\u01bc\u0001\u0000\u0000\u0000\u01bc/\u0001\u0000\u0000\u0000\u01bd\u01be"+
+		"\u0003P(\u0000\u01be\u01bf\u0005;\u0000\u0000\u01bf\u01c1\u0003\u0018"+
+		"\f\u0000\u01c0\u01c2\u0005<\u0000\u0000\u01c1\u01c0\u0001\u0000\u0000"+
+		"\u0000\u01c1\u01c2\u0001\u0000\u0000\u0000\u01c21\u0001\u0000\u0000\u0000"+
+		"\u01c3\u01c6\u0005\u001c\u0000\u0000\u01c4\u01c7\u0005\u000e\u0000\u0000"+
+		"\u01c5\u01c7\u0003R)\u0000\u01c6\u01c4\u0001\u0000\u0000\u0000\u01c6\u01c5"+
+		"\u0001\u0000\u0000\u0000\u01c6\u01c7\u0001\u0000\u0000\u0000\u01c7\u01d0"+
+		"\u0001\u0000\u0000\u0000\u01c8\u01d1\u0003F#\u0000\u01c9\u01d1\u0003H"+
+		"$\u0000\u01ca\u01d1\u0003L&\u0000\u01cb\u01d1\u0003N\'\u0000\u01cc\u01d1"+
+		"\u0003T*\u0000\u01cd\u01d1\u0003V+\u0000\u01ce\u01d1\u0003P(\u0000\u01cf"+
+		"\u01d1\u0003R)\u0000\u01d0\u01c8\u0001\u0000\u0000\u0000\u01d0\u01c9\u0001"+
+		"\u0000\u0000\u0000\u01d0\u01ca\u0001\u0000\u0000\u0000\u01d0\u01cb\u0001"+
+		"\u0000\u0000\u0000\u01d0\u01cc\u0001\u0000\u0000\u0000\u01d0\u01cd\u0001"+
+		"\u0000\u0000\u0000\u01d0\u01ce\u0001\u0000\u0000\u0000\u01d0\u01cf\u0001"+
+		"\u0000\u0000\u0000\u01d1\u01d2\u0001\u0000\u0000\u0000\u01d2\u01d0\u0001"+
+		"\u0000\u0000\u0000\u01d2\u01d3\u0001\u0000\u0000\u0000\u01d3\u01d5\u0001"+
+		"\u0000\u0000\u0000\u01d4\u01d6\u0005<\u0000\u0000\u01d5\u01d4\u0001\u0000"+
+		"\u0000\u0000\u01d5\u01d6\u0001\u0000\u0000\u0000\u01d63\u0001\u0000\u0000"+
+		"\u0000\u01d7\u01d8\u0005\u001d\u0000\u0000\u01d8\u01d9\u0005^\u0000\u0000"+
+		"\u01d9\u01da\u0005<\u0000\u0000\u01da5\u0001\u0000\u0000\u0000\u01db\u01dc"+
+		"\u0005\u001e\u0000\u0000\u01dc\u01dd\u0005^\u0000\u0000\u01dd\u01de\u0005"+
+		"<\u0000\u0000\u01de7\u0001\u0000\u0000\u0000\u01df\u01e6\u0005@\u0000"+
+		"\u0000\u01e0\u01e1\u0003\u00c2a\u0000\u01e1\u01e2\u00053\u0000\u0000\u01e2"+
+		"\u01e3\u0003h4\u0000\u01e3\u01e4\u00054\u0000\u0000\u01e4\u01e7\u0001"+
+		"\u0000\u0000\u0000\u01e5\u01e7\u0003\u00c2a\u0000\u01e6\u01e0\u0001\u0000"+
+		"\u0000\u0000\u01e6\u01e5\u0001\u0000\u0000\u0000\u01e7\u01e8\u0001\u0000"+
+		"\u0000\u0000\u01e8\u01e9\u0003<\u001e\u0000\u01e99\u0001\u0000\u0000\u0000"+
+		"\u01ea\u01eb\u0003>\u001f\u0000\u01eb\u01ec\u0003<\u001e\u0000\u01ec;"+
+		"\u0001\u0000\u0000\u0000\u01ed\u01f1\u00057\u0000\u0000\u01ee\u01f0\u0003"+
+		"\u0002\u0001\u0000\u01ef\u01ee\u0001\u0000\u0000\u0000\u01f0\u01f3\u0001"+
+		"\u0000\u0000\u0000\u01f1\u01ef\u0001\u0000\u0000\u0000\u01f1\u01f2\u0001"+
+		"\u0000\u0000\u0000\u01f2\u01f5\u0001\u0000\u0000\u0000\u01f3\u01f1\u0001"+
+		"\u0000\u0000\u0000\u01f4\u01f6\u0003n7\u0000\u01f5\u01f4\u0001\u0000\u0000"+
+		"\u0000\u01f5\u01f6\u0001\u0000\u0000\u0000\u01f6\u01f7\u0001\u0000\u0000"+
+		"\u0000\u01f7\u01f8\u00058\u0000\u0000\u01f8=\u0001\u0000\u0000\u0000\u01f9"+
+		"\u01fe\u0003@ \u0000\u01fa\u01fb\u0005:\u0000\u0000\u01fb\u01fd\u0003"+
+		"@ \u0000\u01fc\u01fa\u0001\u0000\u0000\u0000\u01fd\u0200\u0001\u0000\u0000"+
+		"\u0000\u01fe\u01fc\u0001\u0000\u0000\u0000\u01fe\u01ff\u0001\u0000\u0000"+
+		"\u0000\u01ff?\u0001\u0000\u0000\u0000\u0200\u01fe\u0001\u0000\u0000\u0000"+
+		"\u0201\u0203\u0003B!\u0000\u0202\u0201\u0001\u0000\u0000\u0000\u0202\u0203"+
+		"\u0001\u0000\u0000\u0000\u0203\u0204\u0001\u0000\u0000\u0000\u0204\u020a"+
+		"\u0003D\"\u0000\u0205\u0206\u0003B!\u0000\u0206\u0207\u0003D\"\u0000\u0207"+
+		"\u0209\u0001\u0000\u0000\u0000\u0208\u0205\u0001\u0000\u0000\u0000\u0209"+
+		"\u020c\u0001\u0000\u0000\u0000\u020a\u0208\u0001\u0000\u0000\u0000\u020a"+
+		"\u020b\u0001\u0000\u0000\u0000\u020bA\u0001\u0000\u0000\u0000\u020c\u020a"+
+		"\u0001\u0000\u0000\u0000\u020d\u020e\u0007\u0002\u0000\u0000\u020eC\u0001"+
+		"\u0000\u0000\u0000\u020f\u0212\u0003H$\u0000\u0210\u0212\u0003L&\u0000"+
+		"\u0211\u020f\u0001\u0000\u0000\u0000\u0211\u0210\u0001\u0000\u0000\u0000"+
+		"\u0212\u0220\u0001\u0000\u0000\u0000\u0213\u021f\u0003F#\u0000\u0214\u021f"+
+		"\u0003N\'\u0000\u0215\u021f\u0003T*\u0000\u0216\u021f\u0003V+\u0000\u0217"+
+		"\u021f\u0003\\.\u0000\u0218\u021b\u0003P(\u0000\u0219\u021c\u0003\u0010"+
+		"\b\u0000\u021a\u021c\u0005\u000e\u0000\u0000\u021b\u0219\u0001\u0000\u0000"+
+		"\u0000\u021b\u021a\u0001\u0000\u0000\u0000\u021b\u021c\u0001\u0000\u0000"+
+		"\u0000\u021c\u021f\u0001\u0000\u0000\u0000\u021d\u021f\u0003R)\u0000\u021e"+
+		"\u0213\u0001\u0000\u0000\u0000\u021e\u0214\u0001\u0000\u0000\u0000\u021e"+
+		"\u0215\u0001\u0000\u0000\u0000\u021e\u0216\u0001\u0000\u0000\u0000\u021e"+
+		"\u0217\u0001\u0000\u0000\u0000\u021e\u0218\u0001\u0000\u0000\u0000\u021e"+
+		"\u021d\u0001\u0000\u0000\u0000\u021f\u0222\u0001\u0000\u0000\u0000\u0220"+
+		"\u021e\u0001\u0000\u0000\u0000\u0220\u0221\u0001\u0000\u0000\u0000\u0221"+
+		"\u0234\u0001\u0000\u0000\u0000\u0222\u0220\u0001\u0000\u0000\u0000\u0223"+
+		"\u0230\u0003H$\u0000\u0224\u0230\u0003F#\u0000\u0225\u0230\u0003N\'\u0000"+
+		"\u0226\u0230\u0003T*\u0000\u0227\u0230\u0003V+\u0000\u0228\u0230\u0003"+
+		"\\.\u0000\u0229\u022c\u0003P(\u0000\u022a\u022d\u0003\u0010\b\u0000\u022b"+
+		"\u022d\u0005\u000e\u0000\u0000\u022c\u022a\u0001\u0000\u0000\u0000\u022c"+
+		"\u022b\u0001\u0000\u0000\u0000\u022c\u022d\u0001\u0000\u0000\u0000\u022d"+
+		"\u0230\u0001\u0000\u0000\u0000\u022e\u0230\u0003R)\u0000\u022f\u0223\u0001"+
+		"\u0000\u0000\u0000\u022f\u0224\u0001\u0000\u0000\u0000\u022f\u0225\u0001"+
+		"\u0000\u0000\u0000\u022f\u0226\u0001\u0000\u0000\u0000\u022f\u0227\u0001"+
+		"\u0000\u0000\u0000\u022f\u0228\u0001\u0000\u0000\u0000\u022f\u0229\u0001"+
+		"\u0000\u0000\u0000\u022f\u022e\u0001\u0000\u0000\u0000\u0230\u0231\u0001"+
+		"\u0000\u0000\u0000\u0231\u022f\u0001\u0000\u0000\u0000\u0231\u0232\u0001"+
+		"\u0000\u0000\u0000\u0232\u0234\u0001\u0000\u0000\u0000\u0233\u0211\u0001"+
+		"\u0000\u0000\u0000\u0233\u022f\u0001\u0000\u0000\u0000\u0234E\u0001\u0000"+
+		"\u0000\u0000\u0235\u0236\u0005B\u0000\u0000\u0236\u0237\u0003\u00c2a\u0000"+
+		"\u0237G\u0001\u0000\u0000\u0000\u0238\u023a\u0003J%\u0000\u0239\u0238"+
+		"\u0001\u0000\u0000\u0000\u0239\u023a\u0001\u0000\u0000\u0000\u023a\u023d"+
+		"\u0001\u0000\u0000\u0000\u023b\u023e\u0005\u000e\u0000\u0000\u023c\u023e"+
+		"\u0003R)\u0000\u023d\u023b\u0001\u0000\u0000\u0000\u023d\u023c\u0001\u0000"+
+		"\u0000\u0000\u023d\u023e\u0001\u0000\u0000\u0000\u023e\u0241\u0001\u0000"+
+		"\u0000\u0000\u023f\u0242\u0003\u00c2a\u0000\u0240\u0242\u0003\u0010\b"+
+		"\u0000\u0241\u023f\u0001\u0000\u0000\u0000\u0241\u0240\u0001\u0000\u0000"+
+		"\u0000\u0242I\u0001\u0000\u0000\u0000\u0243\u0246\u0003\u00c2a\u0000\u0244"+
+		"\u0246\u0005H\u0000\u0000\u0245\u0243\u0001\u0000\u0000\u0000\u0245\u0244"+
+		"\u0001\u0000\u0000\u0000\u0245\u0246\u0001\u0000\u0000\u0000\u0246\u0247"+
+		"\u0001\u0000\u0000\u0000\u0247\u0248\u0005O\u0000\u0000\u0248K\u0001\u0000"+
+		"\u0000\u0000\u0249\u024b\u0003J%\u0000\u024a\u0249\u0001\u0000\u0000\u0000"+
+		"\u024a\u024b\u0001\u0000\u0000\u0000\u024b\u024c\u0001\u0000\u0000\u0000"+
+		"\u024c\u024d\u0005H\u0000\u0000\u024dM\u0001\u0000\u0000\u0000\u024e\u0252"+
+		"\u00059\u0000\u0000\u024f\u0253\u0005G\u0000\u0000\u0250\u0253\u0003\u00c2"+
+		"a\u0000\u0251\u0253\u0003P(\u0000\u0252\u024f\u0001\u0000\u0000\u0000"+
+		"\u0252\u0250\u0001\u0000\u0000\u0000\u0252\u0251\u0001\u0000\u0000\u0000"+
+		"\u0253\u0254\u0001\u0000\u0000\u0000\u0254\u0252\u0001\u0000\u0000\u0000"+
+		"\u0254\u0255\u0001\u0000\u0000\u0000\u0255O\u0001\u0000\u0000\u0000\u0256"+
+		"\u0258\u0003\u0012\t\u0000\u0257\u0256\u0001\u0000\u0000\u0000\u0257\u0258"+
 		"\u0001\u0000\u0000\u0000\u0258\u0259\u0001\u0000\u0000\u0000\u0259\u025a"+
-		"\u0001\u0000\u0000\u0000\u025a\u025b\u0005N\u0000\u0000\u025bK\u0001\u0000"+
-		"\u0000\u0000\u025c\u025e\u0003J%\u0000\u025d\u025c\u0001\u0000\u0000\u0000"+
-		"\u025d\u025e\u0001\u0000\u0000\u0000\u025e\u025f\u0001\u0000\u0000\u0000"+
-		"\u025f\u0260\u0005G\u0000\u0000\u0260M\u0001\u0000\u0000\u0000\u0261\u0265"+
-		"\u00058\u0000\u0000\u0262\u0266\u0005F\u0000\u0000\u0263\u0266\u0003\u00c0"+
-		"`\u0000\u0264\u0266\u0003P(\u0000\u0265\u0262\u0001\u0000\u0000\u0000"+
-		"\u0265\u0263\u0001\u0000\u0000\u0000\u0265\u0264\u0001\u0000\u0000\u0000"+
-		"\u0266\u0267\u0001\u0000\u0000\u0000\u0267\u0265\u0001\u0000\u0000\u0000"+
-		"\u0267\u0268\u0001\u0000\u0000\u0000\u0268O\u0001\u0000\u0000\u0000\u0269"+
-		"\u026b\u0003\u0012\t\u0000\u026a\u0269\u0001\u0000\u0000\u0000\u026a\u026b"+
-		"\u0001\u0000\u0000\u0000\u026b\u026c\u0001\u0000\u0000\u0000\u026c\u026d"+
-		"\u0005A\u0000\u0000\u026d\u026f\u00056\u0000\u0000\u026e\u0270\u0003\u0012"+
-		"\t\u0000\u026f\u026e\u0001\u0000\u0000\u0000\u026f\u0270\u0001\u0000\u0000"+
-		"\u0000\u0270\u0274\u0001\u0000\u0000\u0000\u0271\u0275\u0003v;\u0000\u0272"+
-		"\u0275\u0003b1\u0000\u0273\u0275\u0003R)\u0000\u0274\u0271\u0001\u0000"+
-		"\u0000\u0000\u0274\u0272\u0001\u0000\u0000\u0000\u0274\u0273\u0001\u0000"+
-		"\u0000\u0000\u0275\u0276\u0001\u0000\u0000\u0000\u0276\u0278\u00057\u0000"+
-		"\u0000\u0277\u0279\u0003\u00b0X\u0000\u0278\u0277\u0001\u0000\u0000\u0000"+
-		"\u0278\u0279\u0001\u0000\u0000\u0000\u0279Q\u0001\u0000\u0000\u0000\u027a"+
-		"\u027b\u0005@\u0000\u0000\u027bS\u0001\u0000\u0000\u0000\u027c\u027e\u0005"+
-		"4\u0000\u0000\u027d\u027f\u0003J%\u0000\u027e\u027d\u0001\u0000\u0000"+
-		"\u0000\u027e\u027f\u0001\u0000\u0000\u0000\u027f\u0280\u0001\u0000\u0000"+
-		"\u0000\u0280\u0286\u0003\u00c0`\u0000\u0281\u0284\u0007\u0003\u0000\u0000"+
-		"\u0282\u0285\u0003\u00c0`\u0000\u0283\u0285\u0005]\u0000\u0000\u0284\u0282"+
-		"\u0001\u0000\u0000\u0000\u0284\u0283\u0001\u0000\u0000\u0000\u0285\u0287"+
-		"\u0001\u0000\u0000\u0000\u0286\u0281\u0001\u0000\u0000\u0000\u0286\u0287"+
-		"\u0001\u0000\u0000\u0000\u0287\u0288\u0001\u0000\u0000\u0000\u0288\u0289"+
-		"\u00055\u0000\u0000\u0289U\u0001\u0000\u0000\u0000\u028a\u028c\u0005:"+
-		"\u0000\u0000\u028b\u028d\u0005:\u0000\u0000\u028c\u028b\u0001\u0000\u0000"+
-		"\u0000\u028c\u028d\u0001\u0000\u0000\u0000\u028d\u0291\u0001\u0000\u0000"+
-		"\u0000\u028e\u0292\u0003P(\u0000\u028f\u0292\u0003\u00c0`\u0000\u0290"+
-		"\u0292\u0003X,\u0000\u0291\u028e\u0001\u0000\u0000\u0000\u0291\u028f\u0001"+
-		"\u0000\u0000\u0000\u0291\u0290\u0001\u0000\u0000\u0000\u0292W\u0001\u0000"+
-		"\u0000\u0000\u0293\u0294\u0005^\u0000\u0000\u0294\u0296\u00052\u0000\u0000"+
-		"\u0295\u0297\u0003Z-\u0000\u0296\u0295\u0001\u0000\u0000\u0000\u0297\u0298"+
-		"\u0001\u0000\u0000\u0000\u0298\u0296\u0001\u0000\u0000\u0000\u0298\u0299"+
-		"\u0001\u0000\u0000\u0000\u0299\u029a\u0001\u0000\u0000\u0000\u029a\u029b"+
-		"\u00053\u0000\u0000\u029bY\u0001\u0000\u0000\u0000\u029c\u02a0\u0003b"+
-		"1\u0000\u029d\u02a0\u0003N\'\u0000\u029e\u02a0\u0003P(\u0000\u029f\u029c"+
-		"\u0001\u0000\u0000\u0000\u029f\u029d\u0001\u0000\u0000\u0000\u029f\u029e"+
-		"\u0001\u0000\u0000\u0000\u02a0\u02a2\u0001\u0000\u0000\u0000\u02a1\u02a3"+
-		"\u00059\u0000\u0000\u02a2\u02a1\u0001\u0000\u0000\u0000\u02a2\u02a3\u0001"+
-		"\u0000\u0000\u0000\u02a3[\u0001\u0000\u0000\u0000\u02a4\u02a5\u0005Q\u0000"+
-		"\u0000\u02a5\u02a6\u0003^/\u0000\u02a6\u02a7\u00053\u0000\u0000\u02a7"+
-		"]\u0001\u0000\u0000\u0000\u02a8\u02af\u0003H$\u0000\u02a9\u02af\u0003"+
-		"L&\u0000\u02aa\u02af\u0005A\u0000\u0000\u02ab\u02af\u0003N\'\u0000\u02ac"+
-		"\u02af\u0003T*\u0000\u02ad\u02af\u0003V+\u0000\u02ae\u02a8\u0001\u0000"+
-		"\u0000\u0000\u02ae\u02a9\u0001\u0000\u0000\u0000\u02ae\u02aa\u0001\u0000"+
-		"\u0000\u0000\u02ae\u02ab\u0001\u0000\u0000\u0000\u02ae\u02ac\u0001\u0000"+
-		"\u0000\u0000\u02ae\u02ad\u0001\u0000\u0000\u0000\u02af_\u0001\u0000\u0000"+
-		"\u0000\u02b0\u02c3\u0005E\u0000\u0000\u02b1\u02c3\u0005G\u0000\u0000\u02b2"+
-		"\u02c3\u0005F\u0000\u0000\u02b3\u02c3\u0005D\u0000\u0000\u02b4\u02c3\u0005"+
-		"J\u0000\u0000\u02b5\u02c3\u0005K\u0000\u0000\u02b6\u02b7\u0005J\u0000"+
-		"\u0000\u02b7\u02c3\u0005H\u0000\u0000\u02b8\u02b9\u0005K\u0000\u0000\u02b9"+
-		"\u02c3\u0005H\u0000\u0000\u02ba\u02bc\u0005H\u0000\u0000\u02bb\u02bd\u0005"+
-		"H\u0000\u0000\u02bc\u02bb\u0001\u0000\u0000\u0000\u02bc\u02bd\u0001\u0000"+
-		"\u0000\u0000\u02bd\u02c3\u0001\u0000\u0000\u0000\u02be\u02c3\u0005I\u0000"+
-		"\u0000\u02bf\u02c3\u0005*\u0000\u0000\u02c0\u02c3\u0005.\u0000\u0000\u02c1"+
-		"\u02c3\u0005)\u0000\u0000\u02c2\u02b0\u0001\u0000\u0000\u0000\u02c2\u02b1"+
-		"\u0001\u0000\u0000\u0000\u02c2\u02b2\u0001\u0000\u0000\u0000\u02c2\u02b3"+
-		"\u0001\u0000\u0000\u0000\u02c2\u02b4\u0001\u0000\u0000\u0000\u02c2\u02b5"+
-		"\u0001\u0000\u0000\u0000\u02c2\u02b6\u0001\u0000\u0000\u0000\u02c2\u02b8"+
-		"\u0001\u0000\u0000\u0000\u02c2\u02ba\u0001\u0000\u0000\u0000\u02c2\u02be"+
-		"\u0001\u0000\u0000\u0000\u02c2\u02bf\u0001\u0000\u0000\u0000\u02c2\u02c0"+
-		"\u0001\u0000\u0000\u0000\u02c2\u02c1\u0001\u0000\u0000\u0000\u02c3a\u0001"+
-		"\u0000\u0000\u0000\u02c4\u02da\u0003\u00a6S\u0000\u02c5\u02da\u0003\u00be"+
-		"_\u0000\u02c6\u02da\u0003\u00bc^\u0000\u02c7\u02da\u0003\u009eO\u0000"+
-		"\u02c8\u02da\u0003\u00a0P\u0000\u02c9\u02da\u0003\u00a2Q\u0000\u02ca\u02da"+
-		"\u0003\u009cN\u0000\u02cb\u02da\u0003\u00b2Y\u0000\u02cc\u02da\u0003\u00a4"+
-		"R\u0000\u02cd\u02da\u0005\u0006\u0000\u0000\u02ce\u02da\u0005]\u0000\u0000"+
-		"\u02cf\u02da\u0003p8\u0000\u02d0\u02da\u0003\u0010\b\u0000\u02d1\u02da"+
-		"\u0003P(\u0000\u02d2\u02da\u0003\u00b8\\\u0000\u02d3\u02da\u0003\u00c0"+
-		"`\u0000\u02d4\u02da\u0003r9\u0000\u02d5\u02da\u0003<\u001e\u0000\u02d6"+
-		"\u02d7\u00052\u0000\u0000\u02d7\u02da\u00053\u0000\u0000\u02d8\u02da\u0003"+
-		"\u00b0X\u0000\u02d9\u02c4\u0001\u0000\u0000\u0000\u02d9\u02c5\u0001\u0000"+
-		"\u0000\u0000\u02d9\u02c6\u0001\u0000\u0000\u0000\u02d9\u02c7\u0001\u0000"+
-		"\u0000\u0000\u02d9\u02c8\u0001\u0000\u0000\u0000\u02d9\u02c9\u0001\u0000"+
-		"\u0000\u0000\u02d9\u02ca\u0001\u0000\u0000\u0000\u02d9\u02cb\u0001\u0000"+
-		"\u0000\u0000\u02d9\u02cc\u0001\u0000\u0000\u0000\u02d9\u02cd\u0001\u0000"+
-		"\u0000\u0000\u02d9\u02ce\u0001\u0000\u0000\u0000\u02d9\u02cf\u0001\u0000"+
-		"\u0000\u0000\u02d9\u02d0\u0001\u0000\u0000\u0000\u02d9\u02d1\u0001\u0000"+
-		"\u0000\u0000\u02d9\u02d2\u0001\u0000\u0000\u0000\u02d9\u02d3\u0001\u0000"+
-		"\u0000\u0000\u02d9\u02d4\u0001\u0000\u0000\u0000\u02d9\u02d5\u0001\u0000"+
-		"\u0000\u0000\u02d9\u02d6\u0001\u0000\u0000\u0000\u02d9\u02d8\u0001\u0000"+
-		"\u0000\u0000\u02dac\u0001\u0000\u0000\u0000\u02db\u02e0\u0005\u0015\u0000"+
-		"\u0000\u02dc\u02de\u0003\u0012\t\u0000\u02dd\u02dc\u0001\u0000\u0000\u0000"+
-		"\u02dd\u02de\u0001\u0000\u0000\u0000\u02de\u02df\u0001\u0000\u0000\u0000"+
-		"\u02df\u02e1\u0003\u00c0`\u0000\u02e0\u02dd\u0001\u0000\u0000\u0000\u02e0"+
-		"\u02e1\u0001\u0000\u0000\u0000\u02e1\u02e2\u0001\u0000\u0000\u0000\u02e2"+
-		"\u02e3\u00052\u0000\u0000\u02e3\u02e4\u0003f3\u0000\u02e4\u02e5\u0005"+
-		"3\u0000\u0000\u02e5\u02e7\u00056\u0000\u0000\u02e6\u02e8\u0003j5\u0000"+
-		"\u02e7\u02e6\u0001\u0000\u0000\u0000\u02e7\u02e8\u0001\u0000\u0000\u0000"+
-		"\u02e8\u02e9\u0001\u0000\u0000\u0000\u02e9\u02ea\u00057\u0000\u0000\u02ea"+
-		"e\u0001\u0000\u0000\u0000\u02eb\u02ed\u0003h4\u0000\u02ec\u02eb\u0001"+
-		"\u0000\u0000\u0000\u02ec\u02ed\u0001\u0000\u0000\u0000\u02ed\u02f2\u0001"+
-		"\u0000\u0000\u0000\u02ee\u02ef\u00059\u0000\u0000\u02ef\u02f1\u0003h4"+
-		"\u0000\u02f0\u02ee\u0001\u0000\u0000\u0000\u02f1\u02f4\u0001\u0000\u0000"+
-		"\u0000\u02f2\u02f0\u0001\u0000\u0000\u0000\u02f2\u02f3\u0001\u0000\u0000"+
-		"\u0000\u02f3g\u0001\u0000\u0000\u0000\u02f4\u02f2\u0001\u0000\u0000\u0000"+
-		"\u02f5\u02fa\u0003b1\u0000\u02f6\u02fa\u0003\f\u0006\u0000\u02f7\u02fa"+
-		"\u0003|>\u0000\u02f8\u02fa\u0003\u0082A\u0000\u02f9\u02f5\u0001\u0000"+
-		"\u0000\u0000\u02f9\u02f6\u0001\u0000\u0000\u0000\u02f9\u02f7\u0001\u0000"+
-		"\u0000\u0000\u02f9\u02f8\u0001\u0000\u0000\u0000\u02fa\u02fc\u0001\u0000"+
-		"\u0000\u0000\u02fb\u02fd\u0003\u00b4Z\u0000\u02fc\u02fb\u0001\u0000\u0000"+
-		"\u0000\u02fc\u02fd\u0001\u0000\u0000\u0000\u02fd\u02ff\u0001\u0000\u0000"+
-		"\u0000\u02fe\u0300\u0003\u0016\u000b\u0000\u02ff\u02fe\u0001\u0000\u0000"+
-		"\u0000\u02ff\u0300\u0001\u0000\u0000\u0000\u0300i\u0001\u0000\u0000\u0000"+
-		"\u0301\u0303\u0003n7\u0000\u0302\u0301\u0001\u0000\u0000\u0000\u0303\u0306"+
-		"\u0001\u0000\u0000\u0000\u0304\u0302\u0001\u0000\u0000\u0000\u0304\u0305"+
-		"\u0001\u0000\u0000\u0000\u0305\u0308\u0001\u0000\u0000\u0000\u0306\u0304"+
-		"\u0001\u0000\u0000\u0000\u0307\u0309\u0003l6\u0000\u0308\u0307\u0001\u0000"+
-		"\u0000\u0000\u0308\u0309\u0001\u0000\u0000\u0000\u0309k\u0001\u0000\u0000"+
-		"\u0000\u030a\u030b\u0005\u001a\u0000\u0000\u030b\u0310\u0003r9\u0000\u030c"+
-		"\u030d\u00059\u0000\u0000\u030d\u030f\u0003r9\u0000\u030e\u030c\u0001"+
-		"\u0000\u0000\u0000\u030f\u0312\u0001\u0000\u0000\u0000\u0310\u030e\u0001"+
-		"\u0000\u0000\u0000\u0310\u0311\u0001\u0000\u0000\u0000\u0311\u0314\u0001"+
-		"\u0000\u0000\u0000\u0312\u0310\u0001\u0000\u0000\u0000\u0313\u0315\u0005"+
-		";\u0000\u0000\u0314\u0313\u0001\u0000\u0000\u0000\u0314\u0315\u0001\u0000"+
-		"\u0000\u0000\u0315m\u0001\u0000\u0000\u0000\u0316\u0317\u0003r9\u0000"+
-		"\u0317\u0318\u0005;\u0000\u0000\u0318\u031b\u0001\u0000\u0000\u0000\u0319"+
-		"\u031b\u0003\u0002\u0001\u0000\u031a\u0316\u0001\u0000\u0000\u0000\u031a"+
-		"\u0319\u0001\u0000\u0000\u0000\u031bo\u0001\u0000\u0000\u0000\u031c\u031e"+
-		"\u0003\u0012\t\u0000\u031d\u031c\u0001\u0000\u0000\u0000\u031d\u031e\u0001"+
-		"\u0000\u0000\u0000\u031e\u031f\u0001\u0000\u0000\u0000\u031f\u0320\u0003"+
-		"\u00c0`\u0000\u0320\u0321\u00052\u0000\u0000\u0321\u0322\u0003f3\u0000"+
-		"\u0322\u0323\u00053\u0000\u0000\u0323q\u0001\u0000\u0000\u0000\u0324\u0326"+
-		"\u0005)\u0000\u0000\u0325\u0324\u0001\u0000\u0000\u0000\u0325\u0326\u0001"+
-		"\u0000\u0000\u0000\u0326\u0327\u0001\u0000\u0000\u0000\u0327\u0330\u0003"+
-		"t:\u0000\u0328\u032a\u0003`0\u0000\u0329\u032b\u0005)\u0000\u0000\u032a"+
-		"\u0329\u0001\u0000\u0000\u0000\u032a\u032b\u0001\u0000\u0000\u0000\u032b"+
-		"\u032c\u0001\u0000\u0000\u0000\u032c\u032d\u0003t:\u0000\u032d\u032f\u0001"+
-		"\u0000\u0000\u0000\u032e\u0328\u0001\u0000\u0000\u0000\u032f\u0332\u0001"+
-		"\u0000\u0000\u0000\u0330\u032e\u0001\u0000\u0000\u0000\u0330\u0331\u0001"+
-		"\u0000\u0000\u0000\u0331s\u0001\u0000\u0000\u0000\u0332\u0330\u0001\u0000"+
-		"\u0000\u0000\u0333\u034e\u0003\u00a6S\u0000\u0334\u034e\u0003\u00c0`\u0000"+
-		"\u0335\u034e\u0003\u0010\b\u0000\u0336\u034e\u0003\u009cN\u0000\u0337"+
-		"\u034e\u0003\u00bc^\u0000\u0338\u034e\u0003\u009eO\u0000\u0339\u034e\u0003"+
-		"\u00a0P\u0000\u033a\u034e\u0003\u00a2Q\u0000\u033b\u034e\u0003\u00be_"+
-		"\u0000\u033c\u034e\u0003\u00b2Y\u0000\u033d\u034e\u0005\u0006\u0000\u0000"+
-		"\u033e\u034e\u0005]\u0000\u0000\u033f\u034e\u0003P(\u0000\u0340\u034e"+
-		"\u0003\u00b8\\\u0000\u0341\u034e\u0003v;\u0000\u0342\u034e\u0003p8\u0000"+
-		"\u0343\u0345\u0003\u00b6[\u0000\u0344\u0343\u0001\u0000\u0000\u0000\u0344"+
-		"\u0345\u0001\u0000\u0000\u0000\u0345\u0346\u0001\u0000\u0000\u0000\u0346"+
-		"\u0348\u00052\u0000\u0000\u0347\u0349\u0003r9\u0000\u0348\u0347\u0001"+
-		"\u0000\u0000\u0000\u0348\u0349\u0001\u0000\u0000\u0000\u0349\u034a\u0001"+
-		"\u0000\u0000\u0000\u034a\u034e\u00053\u0000\u0000\u034b\u034e\u0003\u0016"+
-		"\u000b\u0000\u034c\u034e\u0003\u00b0X\u0000\u034d\u0333\u0001\u0000\u0000"+
-		"\u0000\u034d\u0334\u0001\u0000\u0000\u0000\u034d\u0335\u0001\u0000\u0000"+
-		"\u0000\u034d\u0336\u0001\u0000\u0000\u0000\u034d\u0337\u0001\u0000\u0000"+
-		"\u0000\u034d\u0338\u0001\u0000\u0000\u0000\u034d\u0339\u0001\u0000\u0000"+
-		"\u0000\u034d\u033a\u0001\u0000\u0000\u0000\u034d\u033b\u0001\u0000\u0000"+
-		"\u0000\u034d\u033c\u0001\u0000\u0000\u0000\u034d\u033d\u0001\u0000\u0000"+
-		"\u0000\u034d\u033e\u0001\u0000\u0000\u0000\u034d\u033f\u0001\u0000\u0000"+
-		"\u0000\u034d\u0340\u0001\u0000\u0000\u0000\u034d\u0341\u0001\u0000\u0000"+
-		"\u0000\u034d\u0342\u0001\u0000\u0000\u0000\u034d\u0344\u0001\u0000\u0000"+
-		"\u0000\u034d\u034b\u0001\u0000\u0000\u0000\u034d\u034c\u0001\u0000\u0000"+
-		"\u0000\u034eu\u0001\u0000\u0000\u0000\u034f\u0350\u0005\u001f\u0000\u0000"+
-		"\u0350\u0353\u00052\u0000\u0000\u0351\u0354\u0003r9\u0000\u0352\u0354"+
-		"\u0003R)\u0000\u0353\u0351\u0001\u0000\u0000\u0000\u0353\u0352\u0001\u0000"+
-		"\u0000\u0000\u0354\u0355\u0001\u0000\u0000\u0000\u0355\u0356\u00059\u0000"+
-		"\u0000\u0356\u0357\u0003b1\u0000\u0357\u0358\u00059\u0000\u0000\u0358"+
-		"\u0359\u0003b1\u0000\u0359\u035b\u00053\u0000\u0000\u035a\u035c\u0003"+
-		"\u00b0X\u0000\u035b\u035a\u0001\u0000\u0000\u0000\u035b\u035c\u0001\u0000"+
-		"\u0000\u0000\u035c\u035e\u0001\u0000\u0000\u0000\u035d\u035f\u0003\u0016"+
-		"\u000b\u0000\u035e\u035d\u0001\u0000\u0000\u0000\u035e\u035f\u0001\u0000"+
-		"\u0000\u0000\u035fw\u0001\u0000\u0000\u0000\u0360\u0364\u0003~?\u0000"+
-		"\u0361\u0364\u0003z=\u0000\u0362\u0364\u0003|>\u0000\u0363\u0360\u0001"+
-		"\u0000\u0000\u0000\u0363\u0361\u0001\u0000\u0000\u0000\u0363\u0362\u0001"+
-		"\u0000\u0000\u0000\u0364\u036a\u0001\u0000\u0000\u0000\u0365\u0366\u0005"+
-		"2\u0000\u0000\u0366\u0367\u0003x<\u0000\u0367\u0368\u00053\u0000\u0000"+
-		"\u0368\u036a\u0001\u0000\u0000\u0000\u0369\u0363\u0001\u0000\u0000\u0000"+
-		"\u0369\u0365\u0001\u0000\u0000\u0000\u036ay\u0001\u0000\u0000\u0000\u036b"+
-		"\u0370\u0003\u0080@\u0000\u036c\u036d\u00059\u0000\u0000\u036d\u036f\u0003"+
-		"\u0080@\u0000\u036e\u036c\u0001\u0000\u0000\u0000\u036f\u0372\u0001\u0000"+
-		"\u0000\u0000\u0370\u036e\u0001\u0000\u0000\u0000\u0370\u0371\u0001\u0000"+
-		"\u0000\u0000\u0371\u0374\u0001\u0000\u0000\u0000\u0372\u0370\u0001\u0000"+
-		"\u0000\u0000\u0373\u0375\u00059\u0000\u0000\u0374\u0373\u0001\u0000\u0000"+
-		"\u0000\u0374\u0375\u0001\u0000\u0000\u0000\u0375{\u0001\u0000\u0000\u0000"+
-		"\u0376\u0378\u0003\u0080@\u0000\u0377\u0376\u0001\u0000\u0000\u0000\u0378"+
-		"\u0379\u0001\u0000\u0000\u0000\u0379\u0377\u0001\u0000\u0000\u0000\u0379"+
-		"\u037a\u0001\u0000\u0000\u0000\u037a}\u0001\u0000\u0000\u0000\u037b\u037e"+
-		"\u00054\u0000\u0000\u037c\u037f\u0003|>\u0000\u037d\u037f\u0003z=\u0000"+
-		"\u037e\u037c\u0001\u0000\u0000\u0000\u037e\u037d\u0001\u0000\u0000\u0000"+
-		"\u037f\u0380\u0001\u0000\u0000\u0000\u0380\u0381\u00055\u0000\u0000\u0381"+
-		"\u007f\u0001\u0000\u0000\u0000\u0382\u0384\u00052\u0000\u0000\u0383\u0382"+
-		"\u0001\u0000\u0000\u0000\u0383\u0384\u0001\u0000\u0000\u0000\u0384\u0389"+
-		"\u0001\u0000\u0000\u0000\u0385\u0387\u0003b1\u0000\u0386\u0388\u00059"+
-		"\u0000\u0000\u0387\u0386\u0001\u0000\u0000\u0000\u0387\u0388\u0001\u0000"+
-		"\u0000\u0000\u0388\u038a\u0001\u0000\u0000\u0000\u0389\u0385\u0001\u0000"+
-		"\u0000\u0000\u038a\u038b\u0001\u0000\u0000\u0000\u038b\u0389\u0001\u0000"+
-		"\u0000\u0000\u038b\u038c\u0001\u0000\u0000\u0000\u038c\u038e\u0001\u0000"+
-		"\u0000\u0000\u038d\u038f\u00053\u0000\u0000\u038e\u038d\u0001\u0000\u0000"+
-		"\u0000\u038e\u038f\u0001\u0000\u0000\u0000\u038f\u0391\u0001\u0000\u0000"+
-		"\u0000\u0390\u0392\u00059\u0000\u0000\u0391\u0390\u0001\u0000\u0000\u0000"+
-		"\u0391\u0392\u0001\u0000\u0000\u0000\u0392\u0081\u0001\u0000\u0000\u0000"+
-		"\u0393\u0394\u00052\u0000\u0000\u0394\u0395\u0003\u0084B\u0000\u0395\u0396"+
-		"\u00053\u0000\u0000\u0396\u0083\u0001\u0000\u0000\u0000\u0397\u039c\u0003"+
-		"\u0086C\u0000\u0398\u0399\u00059\u0000\u0000\u0399\u039b\u0003\u0086C"+
-		"\u0000\u039a\u0398\u0001\u0000\u0000\u0000\u039b\u039e\u0001\u0000\u0000"+
-		"\u0000\u039c\u039a\u0001\u0000\u0000\u0000\u039c\u039d\u0001\u0000\u0000"+
-		"\u0000\u039d\u03a0\u0001\u0000\u0000\u0000\u039e\u039c\u0001\u0000\u0000"+
-		"\u0000\u039f\u03a1\u00059\u0000\u0000\u03a0\u039f\u0001\u0000\u0000\u0000"+
-		"\u03a0\u03a1\u0001\u0000\u0000\u0000\u03a1\u0085\u0001\u0000\u0000\u0000"+
-		"\u03a2\u03a3\u0003\u0088D\u0000\u03a3\u03a4\u0005:\u0000\u0000\u03a4\u03a5"+
-		"\u0003\u008aE\u0000\u03a5\u0087\u0001\u0000\u0000\u0000\u03a6\u03aa\u0003"+
-		"b1\u0000\u03a7\u03aa\u0003x<\u0000\u03a8\u03aa\u0003\u0082A\u0000\u03a9"+
-		"\u03a6\u0001\u0000\u0000\u0000\u03a9\u03a7\u0001\u0000\u0000\u0000\u03a9"+
-		"\u03a8\u0001\u0000\u0000\u0000\u03aa\u0089\u0001\u0000\u0000\u0000\u03ab"+
-		"\u03af\u0003b1\u0000\u03ac\u03af\u0003x<\u0000\u03ad\u03af\u0003\u0082"+
-		"A\u0000\u03ae\u03ab\u0001\u0000\u0000\u0000\u03ae\u03ac\u0001\u0000\u0000"+
-		"\u0000\u03ae\u03ad\u0001\u0000\u0000\u0000\u03af\u008b\u0001\u0000\u0000"+
-		"\u0000\u03b0\u03b1\u0005 \u0000\u0000\u03b1\u03b2\u0003r9\u0000\u03b2"+
-		"\u03b6\u0003<\u001e\u0000\u03b3\u03b5\u0003\u008eG\u0000\u03b4\u03b3\u0001"+
-		"\u0000\u0000\u0000\u03b5\u03b8\u0001\u0000\u0000\u0000\u03b6\u03b4\u0001"+
-		"\u0000\u0000\u0000\u03b6\u03b7\u0001\u0000\u0000\u0000\u03b7\u03ba\u0001"+
-		"\u0000\u0000\u0000\u03b8\u03b6\u0001\u0000\u0000\u0000\u03b9\u03bb\u0003"+
-		"\u0090H\u0000\u03ba\u03b9\u0001\u0000\u0000\u0000\u03ba\u03bb\u0001\u0000"+
-		"\u0000\u0000\u03bb\u008d\u0001\u0000\u0000\u0000\u03bc\u03bd\u0005\"\u0000"+
-		"\u0000\u03bd\u03be\u0005\u001f\u0000\u0000\u03be\u03bf\u0003r9\u0000\u03bf"+
-		"\u03c0\u0003<\u001e\u0000\u03c0\u008f\u0001\u0000\u0000\u0000\u03c1\u03c2"+
-		"\u0005\"\u0000\u0000\u03c2\u03c3\u0003<\u001e\u0000\u03c3\u0091\u0001"+
-		"\u0000\u0000\u0000\u03c4\u03c5\u0005!\u0000\u0000\u03c5\u03c6\u0003\u0010"+
-		"\b\u0000\u03c6\u03c7\u0005%\u0000\u0000\u03c7\u03c8\u0005\\\u0000\u0000"+
-		"\u03c8\u03c9\u0007\u0004\u0000\u0000\u03c9\u03ca\u0003\u0094J\u0000\u03ca"+
-		"\u03cb\u0003<\u001e\u0000\u03cb\u0093\u0001\u0000\u0000\u0000\u03cc\u03d0"+
-		"\u0005\\\u0000\u0000\u03cd\u03d0\u0003p8\u0000\u03ce\u03d0\u0003r9\u0000"+
-		"\u03cf\u03cc\u0001\u0000\u0000\u0000\u03cf\u03cd\u0001\u0000\u0000\u0000"+
-		"\u03cf\u03ce\u0001\u0000\u0000\u0000\u03d0\u0095\u0001\u0000\u0000\u0000"+
-		"\u03d1\u03d2\u0005#\u0000\u0000\u03d2\u03d3\u0003r9\u0000\u03d3\u03d4"+
-		"\u0003<\u001e\u0000\u03d4\u0097\u0001\u0000\u0000\u0000\u03d5\u03d6\u0005"+
-		"$\u0000\u0000\u03d6\u03db\u0003\u0010\b\u0000\u03d7\u03d8\u00059\u0000"+
-		"\u0000\u03d8\u03da\u0003\u0010\b\u0000\u03d9\u03d7\u0001\u0000\u0000\u0000"+
-		"\u03da\u03dd\u0001\u0000\u0000\u0000\u03db\u03d9\u0001\u0000\u0000\u0000"+
-		"\u03db\u03dc\u0001\u0000\u0000\u0000\u03dc\u03de\u0001\u0000\u0000\u0000"+
-		"\u03dd\u03db\u0001\u0000\u0000\u0000\u03de\u03df\u0005/\u0000\u0000\u03df"+
-		"\u03e0\u0003\u009aM\u0000\u03e0\u03e1\u0003<\u001e\u0000\u03e1\u0099\u0001"+
-		"\u0000\u0000\u0000\u03e2\u03e5\u0003x<\u0000\u03e3\u03e5\u0003\u0082A"+
-		"\u0000\u03e4\u03e2\u0001\u0000\u0000\u0000\u03e4\u03e3\u0001\u0000\u0000"+
-		"\u0000\u03e5\u009b\u0001\u0000\u0000\u0000\u03e6\u03e7\u0005T\u0000\u0000"+
-		"\u03e7\u03ea\u0005[\u0000\u0000\u03e8\u03e9\u00059\u0000\u0000\u03e9\u03eb"+
-		"\u0003b1\u0000\u03ea\u03e8\u0001\u0000\u0000\u0000\u03ea\u03eb\u0001\u0000"+
-		"\u0000\u0000\u03eb\u03ec\u0001\u0000\u0000\u0000\u03ec\u03ed\u00053\u0000"+
-		"\u0000\u03ed\u009d\u0001\u0000\u0000\u0000\u03ee\u03ef\u0005R\u0000\u0000"+
-		"\u03ef\u03f0\u0003r9\u0000\u03f0\u03f1\u00053\u0000\u0000\u03f1\u009f"+
-		"\u0001\u0000\u0000\u0000\u03f2\u03f3\u0005S\u0000\u0000\u03f3\u03f4\u0003"+
-		"\u00aeW\u0000\u03f4\u03f5\u00053\u0000\u0000\u03f5\u00a1\u0001\u0000\u0000"+
-		"\u0000\u03f6\u03f7\u0005U\u0000\u0000\u03f7\u03fe\u0003b1\u0000\u03f8"+
-		"\u03fa\u00059\u0000\u0000\u03f9\u03f8\u0001\u0000\u0000\u0000\u03f9\u03fa"+
-		"\u0001\u0000\u0000\u0000\u03fa\u03fb\u0001\u0000\u0000\u0000\u03fb\u03fd"+
-		"\u0003b1\u0000\u03fc\u03f9\u0001\u0000\u0000\u0000\u03fd\u0400\u0001\u0000"+
-		"\u0000\u0000\u03fe\u03fc\u0001\u0000\u0000\u0000\u03fe\u03ff\u0001\u0000"+
-		"\u0000\u0000\u03ff\u0401\u0001\u0000\u0000\u0000\u0400\u03fe\u0001\u0000"+
-		"\u0000\u0000\u0401\u0402\u00053\u0000\u0000\u0402\u00a3\u0001\u0000\u0000"+
-		"\u0000\u0403\u0404\u0005V\u0000\u0000\u0404\u0405\u0003b1\u0000\u0405"+
-		"\u0406\u00059\u0000\u0000\u0406\u0407\u0003\u00be_\u0000\u0407\u0408\u0005"+
-		"\f\u0000\u0000\u0408\u0409\u00053\u0000\u0000\u0409\u00a5\u0001\u0000"+
-		"\u0000\u0000\u040a\u040f\u0003\u00a8T\u0000\u040b\u040f\u0003\u00aaU\u0000"+
-		"\u040c\u040f\u0003\u00acV\u0000\u040d\u040f\u0003\u00aeW\u0000\u040e\u040a"+
-		"\u0001\u0000\u0000\u0000\u040e\u040b\u0001\u0000\u0000\u0000\u040e\u040c"+
-		"\u0001\u0000\u0000\u0000\u040e\u040d\u0001\u0000\u0000\u0000\u040f\u00a7"+
-		"\u0001\u0000\u0000\u0000\u0410\u0412\u0003\u00b6[\u0000\u0411\u0410\u0001"+
-		"\u0000\u0000\u0000\u0411\u0412\u0001\u0000\u0000\u0000\u0412\u0413\u0001"+
-		"\u0000\u0000\u0000\u0413\u0414\u0005\\\u0000\u0000\u0414\u0415\u0007\u0005"+
-		"\u0000\u0000\u0415\u00a9\u0001\u0000\u0000\u0000\u0416\u0418\u0003\u00b6"+
-		"[\u0000\u0417\u0416\u0001\u0000\u0000\u0000\u0417\u0418\u0001\u0000\u0000"+
-		"\u0000\u0418\u0419\u0001\u0000\u0000\u0000\u0419\u041a\u0005\\\u0000\u0000"+
-		"\u041a\u041b\u0007\u0006\u0000\u0000\u041b\u00ab\u0001\u0000\u0000\u0000"+
-		"\u041c\u041e\u0003\u00b6[\u0000\u041d\u041c\u0001\u0000\u0000\u0000\u041d"+
-		"\u041e\u0001\u0000\u0000\u0000\u041e\u041f\u0001\u0000\u0000\u0000\u041f"+
-		"\u0420\u0005\\\u0000\u0000\u0420\u0421\u0005\u000e\u0000\u0000\u0421\u00ad"+
-		"\u0001\u0000\u0000\u0000\u0422\u0424\u0003\u00b6[\u0000\u0423\u0422\u0001"+
-		"\u0000\u0000\u0000\u0423\u0424\u0001\u0000\u0000\u0000\u0424\u0425\u0001"+
-		"\u0000\u0000\u0000\u0425\u0426\u0005\\\u0000\u0000\u0426\u0427\u0005\n"+
-		"\u0000\u0000\u0427\u00af\u0001\u0000\u0000\u0000\u0428\u0429\u0007\u0007"+
-		"\u0000\u0000\u0429\u00b1\u0001\u0000\u0000\u0000\u042a\u042b\u0005\u0005"+
-		"\u0000\u0000\u042b\u00b3\u0001\u0000\u0000\u0000\u042c\u042d\u00058\u0000"+
-		"\u0000\u042d\u042e\u00058\u0000\u0000\u042e\u042f\u00058\u0000\u0000\u042f"+
-		"\u00b5\u0001\u0000\u0000\u0000\u0430\u0431\u0007\b\u0000\u0000\u0431\u00b7"+
-		"\u0001\u0000\u0000\u0000\u0432\u0433\u0005A\u0000\u0000\u0433\u0434\u0003"+
-		"\u00ba]\u0000\u0434\u00b9\u0001\u0000\u0000\u0000\u0435\u0437\u0007\t"+
-		"\u0000\u0000\u0436\u0435\u0001\u0000\u0000\u0000\u0437\u0438\u0001\u0000"+
-		"\u0000\u0000\u0438\u0436\u0001\u0000\u0000\u0000\u0438\u0439\u0001\u0000"+
-		"\u0000\u0000\u0439\u00bb\u0001\u0000\u0000\u0000\u043a\u043b\u0007\n\u0000"+
-		"\u0000\u043b\u00bd\u0001\u0000\u0000\u0000\u043c\u043e\u0003\u00b6[\u0000"+
-		"\u043d\u043c\u0001\u0000\u0000\u0000\u043d\u043e\u0001\u0000\u0000\u0000"+
-		"\u043e\u043f\u0001\u0000\u0000\u0000\u043f\u0440\u0005\\\u0000\u0000\u0440"+
-		"\u00bf\u0001\u0000\u0000\u0000\u0441\u0443\u0007\u000b\u0000\u0000\u0442"+
-		"\u0441\u0001\u0000\u0000\u0000\u0442\u0443\u0001\u0000\u0000\u0000\u0443"+
-		"\u0444\u0001\u0000\u0000\u0000\u0444\u0448\u0005^\u0000\u0000\u0445\u0448"+
-		"\u0005%\u0000\u0000\u0446\u0448\u0005&\u0000\u0000\u0447\u0442\u0001\u0000"+
-		"\u0000\u0000\u0447\u0445\u0001\u0000\u0000\u0000\u0447\u0446\u0001\u0000"+
-		"\u0000\u0000\u0448\u00c1\u0001\u0000\u0000\u0000\u008e\u00c5\u00df\u00e4"+
-		"\u00e9\u00ee\u00f1\u00f4\u00f8\u00fc\u0101\u010c\u010f\u0117\u011c\u0120"+
-		"\u012a\u012e\u0131\u0136\u0139\u0140\u0146\u014c\u014f\u0157\u015a\u0165"+
-		"\u0168\u016b\u016f\u0175\u017d\u0180\u0186\u0191\u019a\u019d\u01a4\u01ab"+
-		"\u01b3\u01b8\u01bf\u01c3\u01cb\u01ce\u01d4\u01d9\u01e3\u01e5\u01e8\u01f9"+
-		"\u0204\u0208\u0211\u0215\u021d\u0224\u022e\u0231\u0233\u023f\u0242\u0244"+
-		"\u0246\u024c\u0250\u0254\u0258\u025d\u0265\u0267\u026a\u026f\u0274\u0278"+
-		"\u027e\u0284\u0286\u028c\u0291\u0298\u029f\u02a2\u02ae\u02bc\u02c2\u02d9"+
-		"\u02dd\u02e0\u02e7\u02ec\u02f2\u02f9\u02fc\u02ff\u0304\u0308\u0310\u0314"+
-		"\u031a\u031d\u0325\u032a\u0330\u0344\u0348\u034d\u0353\u035b\u035e\u0363"+
-		"\u0369\u0370\u0374\u0379\u037e\u0383\u0387\u038b\u038e\u0391\u039c\u03a0"+
-		"\u03a9\u03ae\u03b6\u03ba\u03cf\u03db\u03e4\u03ea\u03f9\u03fe\u040e\u0411"+
-		"\u0417\u041d\u0423\u0438\u043d\u0442\u0447";
+		"\u0005B\u0000\u0000\u025a\u025c\u00057\u0000\u0000\u025b\u025d\u0003\u0012"+
+		"\t\u0000\u025c\u025b\u0001\u0000\u0000\u0000\u025c\u025d\u0001\u0000\u0000"+
+		"\u0000\u025d\u0261\u0001\u0000\u0000\u0000\u025e\u0262\u0003x<\u0000\u025f"+
+		"\u0262\u0003b1\u0000\u0260\u0262\u0003R)\u0000\u0261\u025e\u0001\u0000"+
+		"\u0000\u0000\u0261\u025f\u0001\u0000\u0000\u0000\u0261\u0260\u0001\u0000"+
+		"\u0000\u0000\u0262\u0263\u0001\u0000\u0000\u0000\u0263\u0265\u00058\u0000"+
+		"\u0000\u0264\u0266\u0003\u00b2Y\u0000\u0265\u0264\u0001\u0000\u0000\u0000"+
+		"\u0265\u0266\u0001\u0000\u0000\u0000\u0266Q\u0001\u0000\u0000\u0000\u0267"+
+		"\u0268\u0005A\u0000\u0000\u0268S\u0001\u0000\u0000\u0000\u0269\u026b\u0005"+
+		"5\u0000\u0000\u026a\u026c\u0003J%\u0000\u026b\u026a\u0001\u0000\u0000"+
+		"\u0000\u026b\u026c\u0001\u0000\u0000\u0000\u026c\u026d\u0001\u0000\u0000"+
+		"\u0000\u026d\u0273\u0003\u00c2a\u0000\u026e\u0271\u0007\u0003\u0000\u0000"+
+		"\u026f\u0272\u0003\u00c2a\u0000\u0270\u0272\u0005^\u0000\u0000\u0271\u026f"+
+		"\u0001\u0000\u0000\u0000\u0271\u0270\u0001\u0000\u0000\u0000\u0272\u0274"+
+		"\u0001\u0000\u0000\u0000\u0273\u026e\u0001\u0000\u0000\u0000\u0273\u0274"+
+		"\u0001\u0000\u0000\u0000\u0274\u0275\u0001\u0000\u0000\u0000\u0275\u0276"+
+		"\u00056\u0000\u0000\u0276U\u0001\u0000\u0000\u0000\u0277\u0279\u0005;"+
+		"\u0000\u0000\u0278\u027a\u0005;\u0000\u0000\u0279\u0278\u0001\u0000\u0000"+
+		"\u0000\u0279\u027a\u0001\u0000\u0000\u0000\u027a\u027e\u0001\u0000\u0000"+
+		"\u0000\u027b\u027f\u0003P(\u0000\u027c\u027f\u0003\u00c2a\u0000\u027d"+
+		"\u027f\u0003X,\u0000\u027e\u027b\u0001\u0000\u0000\u0000\u027e\u027c\u0001"+
+		"\u0000\u0000\u0000\u027e\u027d\u0001\u0000\u0000\u0000\u027fW\u0001\u0000"+
+		"\u0000\u0000\u0280\u0281\u0005_\u0000\u0000\u0281\u0283\u00053\u0000\u0000"+
+		"\u0282\u0284\u0003Z-\u0000\u0283\u0282\u0001\u0000\u0000\u0000\u0284\u0285"+
+		"\u0001\u0000\u0000\u0000\u0285\u0283\u0001\u0000\u0000\u0000\u0285\u0286"+
+		"\u0001\u0000\u0000\u0000\u0286\u0287\u0001\u0000\u0000\u0000\u0287\u0288"+
+		"\u00054\u0000\u0000\u0288Y\u0001\u0000\u0000\u0000\u0289\u028d\u0003b"+
+		"1\u0000\u028a\u028d\u0003N\'\u0000\u028b\u028d\u0003P(\u0000\u028c\u0289"+
+		"\u0001\u0000\u0000\u0000\u028c\u028a\u0001\u0000\u0000\u0000\u028c\u028b"+
+		"\u0001\u0000\u0000\u0000\u028d\u028f\u0001\u0000\u0000\u0000\u028e\u0290"+
+		"\u0005:\u0000\u0000\u028f\u028e\u0001\u0000\u0000\u0000\u028f\u0290\u0001"+
+		"\u0000\u0000\u0000\u0290[\u0001\u0000\u0000\u0000\u0291\u0292\u0005R\u0000"+
+		"\u0000\u0292\u0293\u0003^/\u0000\u0293\u0294\u00054\u0000\u0000\u0294"+
+		"]\u0001\u0000\u0000\u0000\u0295\u029c\u0003H$\u0000\u0296\u029c\u0003"+
+		"L&\u0000\u0297\u029c\u0005B\u0000\u0000\u0298\u029c\u0003N\'\u0000\u0299"+
+		"\u029c\u0003T*\u0000\u029a\u029c\u0003V+\u0000\u029b\u0295\u0001\u0000"+
+		"\u0000\u0000\u029b\u0296\u0001\u0000\u0000\u0000\u029b\u0297\u0001\u0000"+
+		"\u0000\u0000\u029b\u0298\u0001\u0000\u0000\u0000\u029b\u0299\u0001\u0000"+
+		"\u0000\u0000\u029b\u029a\u0001\u0000\u0000\u0000\u029c_\u0001\u0000\u0000"+
+		"\u0000\u029d\u02b0\u0005F\u0000\u0000\u029e\u02b0\u0005H\u0000\u0000\u029f"+
+		"\u02b0\u0005G\u0000\u0000\u02a0\u02b0\u0005E\u0000\u0000\u02a1\u02b0\u0005"+
+		"K\u0000\u0000\u02a2\u02b0\u0005L\u0000\u0000\u02a3\u02a4\u0005K\u0000"+
+		"\u0000\u02a4\u02b0\u0005I\u0000\u0000\u02a5\u02a6\u0005L\u0000\u0000\u02a6"+
+		"\u02b0\u0005I\u0000\u0000\u02a7\u02a9\u0005I\u0000\u0000\u02a8\u02aa\u0005"+
+		"I\u0000\u0000\u02a9\u02a8\u0001\u0000\u0000\u0000\u02a9\u02aa\u0001\u0000"+
+		"\u0000\u0000\u02aa\u02b0\u0001\u0000\u0000\u0000\u02ab\u02b0\u0005J\u0000"+
+		"\u0000\u02ac\u02b0\u0005*\u0000\u0000\u02ad\u02b0\u0005.\u0000\u0000\u02ae"+
+		"\u02b0\u0005)\u0000\u0000\u02af\u029d\u0001\u0000\u0000\u0000\u02af\u029e"+
+		"\u0001\u0000\u0000\u0000\u02af\u029f\u0001\u0000\u0000\u0000\u02af\u02a0"+
+		"\u0001\u0000\u0000\u0000\u02af\u02a1\u0001\u0000\u0000\u0000\u02af\u02a2"+
+		"\u0001\u0000\u0000\u0000\u02af\u02a3\u0001\u0000\u0000\u0000\u02af\u02a5"+
+		"\u0001\u0000\u0000\u0000\u02af\u02a7\u0001\u0000\u0000\u0000\u02af\u02ab"+
+		"\u0001\u0000\u0000\u0000\u02af\u02ac\u0001\u0000\u0000\u0000\u02af\u02ad"+
+		"\u0001\u0000\u0000\u0000\u02af\u02ae\u0001\u0000\u0000\u0000\u02b0a\u0001"+
+		"\u0000\u0000\u0000\u02b1\u02cd\u0003d2\u0000\u02b2\u02cd\u0003\u00a8T"+
+		"\u0000\u02b3\u02cd\u0003\u00c0`\u0000\u02b4\u02cd\u0003\u00be_\u0000\u02b5"+
+		"\u02cd\u0003\u00a0P\u0000\u02b6\u02cd\u0003\u00a2Q\u0000\u02b7\u02cd\u0003"+
+		"\u00a4R\u0000\u02b8\u02cd\u0003\u009eO\u0000\u02b9\u02cd\u0003\u00b4Z"+
+		"\u0000\u02ba\u02cd\u0003\u00a6S\u0000\u02bb\u02cd\u0005\u0006\u0000\u0000"+
+		"\u02bc\u02cd\u0005^\u0000\u0000\u02bd\u02cd\u0003r9\u0000\u02be\u02cd"+
+		"\u0003\u0010\b\u0000\u02bf\u02cd\u0003P(\u0000\u02c0\u02cd\u0003\u00ba"+
+		"]\u0000\u02c1\u02cd\u0003\u00c2a\u0000\u02c2\u02cd\u0003x<\u0000\u02c3"+
+		"\u02c5\u0003\u00b8\\\u0000\u02c4\u02c3\u0001\u0000\u0000\u0000\u02c4\u02c5"+
+		"\u0001\u0000\u0000\u0000\u02c5\u02c6\u0001\u0000\u0000\u0000\u02c6\u02c7"+
+		"\u00053\u0000\u0000\u02c7\u02c8\u0003t:\u0000\u02c8\u02c9\u00054\u0000"+
+		"\u0000\u02c9\u02cd\u0001\u0000\u0000\u0000\u02ca\u02cb\u00053\u0000\u0000"+
+		"\u02cb\u02cd\u00054\u0000\u0000\u02cc\u02b1\u0001\u0000\u0000\u0000\u02cc"+
+		"\u02b2\u0001\u0000\u0000\u0000\u02cc\u02b3\u0001\u0000\u0000\u0000\u02cc"+
+		"\u02b4\u0001\u0000\u0000\u0000\u02cc\u02b5\u0001\u0000\u0000\u0000\u02cc"+
+		"\u02b6\u0001\u0000\u0000\u0000\u02cc\u02b7\u0001\u0000\u0000\u0000\u02cc"+
+		"\u02b8\u0001\u0000\u0000\u0000\u02cc\u02b9\u0001\u0000\u0000\u0000\u02cc"+
+		"\u02ba\u0001\u0000\u0000\u0000\u02cc\u02bb\u0001\u0000\u0000\u0000\u02cc"+
+		"\u02bc\u0001\u0000\u0000\u0000\u02cc\u02bd\u0001\u0000\u0000\u0000\u02cc"+
+		"\u02be\u0001\u0000\u0000\u0000\u02cc\u02bf\u0001\u0000\u0000\u0000\u02cc"+
+		"\u02c0\u0001\u0000\u0000\u0000\u02cc\u02c1\u0001\u0000\u0000\u0000\u02cc"+
+		"\u02c2\u0001\u0000\u0000\u0000\u02cc\u02c4\u0001\u0000\u0000\u0000\u02cc"+
+		"\u02ca\u0001\u0000\u0000\u0000\u02cdc\u0001\u0000\u0000\u0000\u02ce\u02d0"+
+		"\u0005)\u0000\u0000\u02cf\u02ce\u0001\u0000\u0000\u0000\u02cf\u02d0\u0001"+
+		"\u0000\u0000\u0000\u02d0\u02d1\u0001\u0000\u0000\u0000\u02d1\u02d8\u0003"+
+		"v;\u0000\u02d2\u02d4\u0003`0\u0000\u02d3\u02d5\u0005)\u0000\u0000\u02d4"+
+		"\u02d3\u0001\u0000\u0000\u0000\u02d4\u02d5\u0001\u0000\u0000\u0000\u02d5"+
+		"\u02d6\u0001\u0000\u0000\u0000\u02d6\u02d7\u0003v;\u0000\u02d7\u02d9\u0001"+
+		"\u0000\u0000\u0000\u02d8\u02d2\u0001\u0000\u0000\u0000\u02d9\u02da\u0001"+
+		"\u0000\u0000\u0000\u02da\u02d8\u0001\u0000\u0000\u0000\u02da\u02db\u0001"+
+		"\u0000\u0000\u0000\u02db\u02df\u0001\u0000\u0000\u0000\u02dc\u02dd\u0005"+
+		")\u0000\u0000\u02dd\u02df\u0003v;\u0000\u02de\u02cf\u0001\u0000\u0000"+
+		"\u0000\u02de\u02dc\u0001\u0000\u0000\u0000\u02dfe\u0001\u0000\u0000\u0000"+
+		"\u02e0\u02e5\u0005\u0015\u0000\u0000\u02e1\u02e3\u0003\u0012\t\u0000\u02e2"+
+		"\u02e1\u0001\u0000\u0000\u0000\u02e2\u02e3\u0001\u0000\u0000\u0000\u02e3"+
+		"\u02e4\u0001\u0000\u0000\u0000\u02e4\u02e6\u0003\u00c2a\u0000\u02e5\u02e2"+
+		"\u0001\u0000\u0000\u0000\u02e5\u02e6\u0001\u0000\u0000\u0000\u02e6\u02e7"+
+		"\u0001\u0000\u0000\u0000\u02e7\u02e8\u00053\u0000\u0000\u02e8\u02e9\u0003"+
+		"h4\u0000\u02e9\u02ea\u00054\u0000\u0000\u02ea\u02ec\u00057\u0000\u0000"+
+		"\u02eb\u02ed\u0003l6\u0000\u02ec\u02eb\u0001\u0000\u0000\u0000\u02ec\u02ed"+
+		"\u0001\u0000\u0000\u0000\u02ed\u02ee\u0001\u0000\u0000\u0000\u02ee\u02ef"+
+		"\u00058\u0000\u0000\u02efg\u0001\u0000\u0000\u0000\u02f0\u02f2\u0003j"+
+		"5\u0000\u02f1\u02f0\u0001\u0000\u0000\u0000\u02f1\u02f2\u0001\u0000\u0000"+
+		"\u0000\u02f2\u02f7\u0001\u0000\u0000\u0000\u02f3\u02f4\u0005:\u0000\u0000"+
+		"\u02f4\u02f6\u0003j5\u0000\u02f5\u02f3\u0001\u0000\u0000\u0000\u02f6\u02f9"+
+		"\u0001\u0000\u0000\u0000\u02f7\u02f5\u0001\u0000\u0000\u0000\u02f7\u02f8"+
+		"\u0001\u0000\u0000\u0000\u02f8i\u0001\u0000\u0000\u0000\u02f9\u02f7\u0001"+
+		"\u0000\u0000\u0000\u02fa\u02fb\u0003\u0010\b\u0000\u02fb\u02fc\u0005;"+
+		"\u0000\u0000\u02fc\u02fd\u0003~?\u0000\u02fd\u0301\u0001\u0000\u0000\u0000"+
+		"\u02fe\u0301\u0003~?\u0000\u02ff\u0301\u0003\u0084B\u0000\u0300\u02fa"+
+		"\u0001\u0000\u0000\u0000\u0300\u02fe\u0001\u0000\u0000\u0000\u0300\u02ff"+
+		"\u0001\u0000\u0000\u0000\u0301\u0303\u0001\u0000\u0000\u0000\u0302\u0304"+
+		"\u0003\u00b6[\u0000\u0303\u0302\u0001\u0000\u0000\u0000\u0303\u0304\u0001"+
+		"\u0000\u0000\u0000\u0304\u0306\u0001\u0000\u0000\u0000\u0305\u0307\u0003"+
+		"\u0016\u000b\u0000\u0306\u0305\u0001\u0000\u0000\u0000\u0306\u0307\u0001"+
+		"\u0000\u0000\u0000\u0307k\u0001\u0000\u0000\u0000\u0308\u030a\u0003p8"+
+		"\u0000\u0309\u0308\u0001\u0000\u0000\u0000\u030a\u030d\u0001\u0000\u0000"+
+		"\u0000\u030b\u0309\u0001\u0000\u0000\u0000\u030b\u030c\u0001\u0000\u0000"+
+		"\u0000\u030c\u030f\u0001\u0000\u0000\u0000\u030d\u030b\u0001\u0000\u0000"+
+		"\u0000\u030e\u0310\u0003n7\u0000\u030f\u030e\u0001\u0000\u0000\u0000\u030f"+
+		"\u0310\u0001\u0000\u0000\u0000\u0310m\u0001\u0000\u0000\u0000\u0311\u0312"+
+		"\u0005\u001a\u0000\u0000\u0312\u0317\u0003t:\u0000\u0313\u0314\u0005:"+
+		"\u0000\u0000\u0314\u0316\u0003t:\u0000\u0315\u0313\u0001\u0000\u0000\u0000"+
+		"\u0316\u0319\u0001\u0000\u0000\u0000\u0317\u0315\u0001\u0000\u0000\u0000"+
+		"\u0317\u0318\u0001\u0000\u0000\u0000\u0318\u031b\u0001\u0000\u0000\u0000"+
+		"\u0319\u0317\u0001\u0000\u0000\u0000\u031a\u031c\u0005<\u0000\u0000\u031b"+
+		"\u031a\u0001\u0000\u0000\u0000\u031b\u031c\u0001\u0000\u0000\u0000\u031c"+
+		"o\u0001\u0000\u0000\u0000\u031d\u031e\u0003\u0002\u0001\u0000\u031eq\u0001"+
+		"\u0000\u0000\u0000\u031f\u0321\u0003\u0012\t\u0000\u0320\u031f\u0001\u0000"+
+		"\u0000\u0000\u0320\u0321\u0001\u0000\u0000\u0000\u0321\u0322\u0001\u0000"+
+		"\u0000\u0000\u0322\u0323\u0003\u00c2a\u0000\u0323\u0324\u00053\u0000\u0000"+
+		"\u0324\u0325\u0003h4\u0000\u0325\u0326\u00054\u0000\u0000\u0326s\u0001"+
+		"\u0000\u0000\u0000\u0327\u0329\u0005)\u0000\u0000\u0328\u0327\u0001\u0000"+
+		"\u0000\u0000\u0328\u0329\u0001\u0000\u0000\u0000\u0329\u032a\u0001\u0000"+
+		"\u0000\u0000\u032a\u0333\u0003v;\u0000\u032b\u032d\u0003`0\u0000\u032c"+
+		"\u032e\u0005)\u0000\u0000\u032d\u032c\u0001\u0000\u0000\u0000\u032d\u032e"+
+		"\u0001\u0000\u0000\u0000\u032e\u032f\u0001\u0000\u0000\u0000\u032f\u0330"+
+		"\u0003v;\u0000\u0330\u0332\u0001\u0000\u0000\u0000\u0331\u032b\u0001\u0000"+
+		"\u0000\u0000\u0332\u0335\u0001\u0000\u0000\u0000\u0333\u0331\u0001\u0000"+
+		"\u0000\u0000\u0333\u0334\u0001\u0000\u0000\u0000\u0334u\u0001\u0000\u0000"+
+		"\u0000\u0335\u0333\u0001\u0000\u0000\u0000\u0336\u0350\u0003\u00a8T\u0000"+
+		"\u0337\u0350\u0003r9\u0000\u0338\u0350\u0003\u00c2a\u0000\u0339\u0350"+
+		"\u0003\u0010\b\u0000\u033a\u0350\u0003\u009eO\u0000\u033b\u0350\u0003"+
+		"\u00be_\u0000\u033c\u0350\u0003\u00a0P\u0000\u033d\u0350\u0003\u00a2Q"+
+		"\u0000\u033e\u0350\u0003\u00a4R\u0000\u033f\u0350\u0003\u00c0`\u0000\u0340"+
+		"\u0350\u0003\u00b4Z\u0000\u0341\u0350\u0005\u0006\u0000\u0000\u0342\u0350"+
+		"\u0005^\u0000\u0000\u0343\u0350\u0003P(\u0000\u0344\u0350\u0003\u00ba"+
+		"]\u0000\u0345\u0350\u0003x<\u0000\u0346\u0348\u0003\u00b8\\\u0000\u0347"+
+		"\u0346\u0001\u0000\u0000\u0000\u0347\u0348\u0001\u0000\u0000\u0000\u0348"+
+		"\u0349\u0001\u0000\u0000\u0000\u0349\u034b\u00053\u0000\u0000\u034a\u034c"+
+		"\u0003t:\u0000\u034b\u034a\u0001\u0000\u0000\u0000\u034b\u034c\u0001\u0000"+
+		"\u0000\u0000\u034c\u034d\u0001\u0000\u0000\u0000\u034d\u0350\u00054\u0000"+
+		"\u0000\u034e\u0350\u0003\u0016\u000b\u0000\u034f\u0336\u0001\u0000\u0000"+
+		"\u0000\u034f\u0337\u0001\u0000\u0000\u0000\u034f\u0338\u0001\u0000\u0000"+
+		"\u0000\u034f\u0339\u0001\u0000\u0000\u0000\u034f\u033a\u0001\u0000\u0000"+
+		"\u0000\u034f\u033b\u0001\u0000\u0000\u0000\u034f\u033c\u0001\u0000\u0000"+
+		"\u0000\u034f\u033d\u0001\u0000\u0000\u0000\u034f\u033e\u0001\u0000\u0000"+
+		"\u0000\u034f\u033f\u0001\u0000\u0000\u0000\u034f\u0340\u0001\u0000\u0000"+
+		"\u0000\u034f\u0341\u0001\u0000\u0000\u0000\u034f\u0342\u0001\u0000\u0000"+
+		"\u0000\u034f\u0343\u0001\u0000\u0000\u0000\u034f\u0344\u0001\u0000\u0000"+
+		"\u0000\u034f\u0345\u0001\u0000\u0000\u0000\u034f\u0347\u0001\u0000\u0000"+
+		"\u0000\u034f\u034e\u0001\u0000\u0000\u0000\u0350w\u0001\u0000\u0000\u0000"+
+		"\u0351\u0352\u0005\u001f\u0000\u0000\u0352\u0355\u00053\u0000\u0000\u0353"+
+		"\u0356\u0003t:\u0000\u0354\u0356\u0003R)\u0000\u0355\u0353\u0001\u0000"+
+		"\u0000\u0000\u0355\u0354\u0001\u0000\u0000\u0000\u0356\u0357\u0001\u0000"+
+		"\u0000\u0000\u0357\u0358\u0005:\u0000\u0000\u0358\u0359\u0003b1\u0000"+
+		"\u0359\u035a\u0005:\u0000\u0000\u035a\u035b\u0003b1\u0000\u035b\u035d"+
+		"\u00054\u0000\u0000\u035c\u035e\u0003\u00b2Y\u0000\u035d\u035c\u0001\u0000"+
+		"\u0000\u0000\u035d\u035e\u0001\u0000\u0000\u0000\u035e\u0360\u0001\u0000"+
+		"\u0000\u0000\u035f\u0361\u0003\u0016\u000b\u0000\u0360\u035f\u0001\u0000"+
+		"\u0000\u0000\u0360\u0361\u0001\u0000\u0000\u0000\u0361y\u0001\u0000\u0000"+
+		"\u0000\u0362\u0369\u0003|>\u0000\u0363\u0369\u0003\u0080@\u0000\u0364"+
+		"\u0365\u00053\u0000\u0000\u0365\u0366\u0003z=\u0000\u0366\u0367\u0005"+
+		"4\u0000\u0000\u0367\u0369\u0001\u0000\u0000\u0000\u0368\u0362\u0001\u0000"+
+		"\u0000\u0000\u0368\u0363\u0001\u0000\u0000\u0000\u0368\u0364\u0001\u0000"+
+		"\u0000\u0000\u0369{\u0001\u0000\u0000\u0000\u036a\u036f\u0003\u0082A\u0000"+
+		"\u036b\u036c\u0005:\u0000\u0000\u036c\u036e\u0003\u0082A\u0000\u036d\u036b"+
+		"\u0001\u0000\u0000\u0000\u036e\u0371\u0001\u0000\u0000\u0000\u036f\u036d"+
+		"\u0001\u0000\u0000\u0000\u036f\u0370\u0001\u0000\u0000\u0000\u0370\u0373"+
+		"\u0001\u0000\u0000\u0000\u0371\u036f\u0001\u0000\u0000\u0000\u0372\u0374"+
+		"\u0005:\u0000\u0000\u0373\u0372\u0001\u0000\u0000\u0000\u0373\u0374\u0001"+
+		"\u0000\u0000\u0000\u0374}\u0001\u0000\u0000\u0000\u0375\u0377\u0003b1"+
+		"\u0000\u0376\u0375\u0001\u0000\u0000\u0000\u0377\u0378\u0001\u0000\u0000"+
+		"\u0000\u0378\u0376\u0001\u0000\u0000\u0000\u0378\u0379\u0001\u0000\u0000"+
+		"\u0000\u0379\u007f\u0001\u0000\u0000\u0000\u037a\u037b\u00055\u0000\u0000"+
+		"\u037b\u037c\u0003|>\u0000\u037c\u037d\u00056\u0000\u0000\u037d\u0081"+
+		"\u0001\u0000\u0000\u0000\u037e\u0380\u0003b1\u0000\u037f\u037e\u0001\u0000"+
+		"\u0000\u0000\u0380\u0381\u0001\u0000\u0000\u0000\u0381\u037f\u0001\u0000"+
+		"\u0000\u0000\u0381\u0382\u0001\u0000\u0000\u0000\u0382\u0083\u0001\u0000"+
+		"\u0000\u0000\u0383\u0384\u00053\u0000\u0000\u0384\u0385\u0003\u0086C\u0000"+
+		"\u0385\u0386\u00054\u0000\u0000\u0386\u0085\u0001\u0000\u0000\u0000\u0387"+
+		"\u038c\u0003\u0088D\u0000\u0388\u0389\u0005:\u0000\u0000\u0389\u038b\u0003"+
+		"\u0088D\u0000\u038a\u0388\u0001\u0000\u0000\u0000\u038b\u038e\u0001\u0000"+
+		"\u0000\u0000\u038c\u038a\u0001\u0000\u0000\u0000\u038c\u038d\u0001\u0000"+
+		"\u0000\u0000\u038d\u0390\u0001\u0000\u0000\u0000\u038e\u038c\u0001\u0000"+
+		"\u0000\u0000\u038f\u0391\u0005:\u0000\u0000\u0390\u038f\u0001\u0000\u0000"+
+		"\u0000\u0390\u0391\u0001\u0000\u0000\u0000\u0391\u0087\u0001\u0000\u0000"+
+		"\u0000\u0392\u0393\u0003\u008aE\u0000\u0393\u0394\u0005;\u0000\u0000\u0394"+
+		"\u0395\u0003\u008cF\u0000\u0395\u0089\u0001\u0000\u0000\u0000\u0396\u0399"+
+		"\u0003~?\u0000\u0397\u0399\u0003\u0084B\u0000\u0398\u0396\u0001\u0000"+
+		"\u0000\u0000\u0398\u0397\u0001\u0000\u0000\u0000\u0399\u008b\u0001\u0000"+
+		"\u0000\u0000\u039a\u039d\u0003~?\u0000\u039b\u039d\u0003\u0084B\u0000"+
+		"\u039c\u039a\u0001\u0000\u0000\u0000\u039c\u039b\u0001\u0000\u0000\u0000"+
+		"\u039d\u008d\u0001\u0000\u0000\u0000\u039e\u039f\u0005 \u0000\u0000\u039f"+
+		"\u03a0\u0003t:\u0000\u03a0\u03a4\u0003<\u001e\u0000\u03a1\u03a3\u0003"+
+		"\u0090H\u0000\u03a2\u03a1\u0001\u0000\u0000\u0000\u03a3\u03a6\u0001\u0000"+
+		"\u0000\u0000\u03a4\u03a2\u0001\u0000\u0000\u0000\u03a4\u03a5\u0001\u0000"+
+		"\u0000\u0000\u03a5\u03a8\u0001\u0000\u0000\u0000\u03a6\u03a4\u0001\u0000"+
+		"\u0000\u0000\u03a7\u03a9\u0003\u0092I\u0000\u03a8\u03a7\u0001\u0000\u0000"+
+		"\u0000\u03a8\u03a9\u0001\u0000\u0000\u0000\u03a9\u008f\u0001\u0000\u0000"+
+		"\u0000\u03aa\u03ab\u0005\"\u0000\u0000\u03ab\u03ac\u0005\u001f\u0000\u0000"+
+		"\u03ac\u03ad\u0003t:\u0000\u03ad\u03ae\u0003<\u001e\u0000\u03ae\u0091"+
+		"\u0001\u0000\u0000\u0000\u03af\u03b0\u0005\"\u0000\u0000\u03b0\u03b1\u0003"+
+		"<\u001e\u0000\u03b1\u0093\u0001\u0000\u0000\u0000\u03b2\u03b3\u0005!\u0000"+
+		"\u0000\u03b3\u03b4\u0003\u0010\b\u0000\u03b4\u03b5\u0005%\u0000\u0000"+
+		"\u03b5\u03b6\u0005]\u0000\u0000\u03b6\u03b7\u0007\u0004\u0000\u0000\u03b7"+
+		"\u03b8\u0003\u0096K\u0000\u03b8\u03b9\u0003<\u001e\u0000\u03b9\u0095\u0001"+
+		"\u0000\u0000\u0000\u03ba\u03bb\u0003t:\u0000\u03bb\u0097\u0001\u0000\u0000"+
+		"\u0000\u03bc\u03bd\u0005#\u0000\u0000\u03bd\u03be\u0003t:\u0000\u03be"+
+		"\u03bf\u0003<\u001e\u0000\u03bf\u0099\u0001\u0000\u0000\u0000\u03c0\u03c1"+
+		"\u0005$\u0000\u0000\u03c1\u03c6\u0003\u0010\b\u0000\u03c2\u03c3\u0005"+
+		":\u0000\u0000\u03c3\u03c5\u0003\u0010\b\u0000\u03c4\u03c2\u0001\u0000"+
+		"\u0000\u0000\u03c5\u03c8\u0001\u0000\u0000\u0000\u03c6\u03c4\u0001\u0000"+
+		"\u0000\u0000\u03c6\u03c7\u0001\u0000\u0000\u0000\u03c7\u03c9\u0001\u0000"+
+		"\u0000\u0000\u03c8\u03c6\u0001\u0000\u0000\u0000\u03c9\u03ca\u0005/\u0000"+
+		"\u0000\u03ca\u03cb\u0003\u009cN\u0000\u03cb\u03cc\u0003<\u001e\u0000\u03cc"+
+		"\u009b\u0001\u0000\u0000\u0000\u03cd\u03d0\u0003z=\u0000\u03ce\u03d0\u0003"+
+		"\u0084B\u0000\u03cf\u03cd\u0001\u0000\u0000\u0000\u03cf\u03ce\u0001\u0000"+
+		"\u0000\u0000\u03d0\u009d\u0001\u0000\u0000\u0000\u03d1\u03d2\u0005U\u0000"+
+		"\u0000\u03d2\u03d5\u0005\\\u0000\u0000\u03d3\u03d4\u0005:\u0000\u0000"+
+		"\u03d4\u03d6\u0003b1\u0000\u03d5\u03d3\u0001\u0000\u0000\u0000\u03d5\u03d6"+
+		"\u0001\u0000\u0000\u0000\u03d6\u03d7\u0001\u0000\u0000\u0000\u03d7\u03d8"+
+		"\u00054\u0000\u0000\u03d8\u009f\u0001\u0000\u0000\u0000\u03d9\u03da\u0005"+
+		"S\u0000\u0000\u03da\u03db\u0003t:\u0000\u03db\u03dc\u00054\u0000\u0000"+
+		"\u03dc\u00a1\u0001\u0000\u0000\u0000\u03dd\u03de\u0005T\u0000\u0000\u03de"+
+		"\u03df\u0003\u00b0X\u0000\u03df\u03e0\u00054\u0000\u0000\u03e0\u00a3\u0001"+
+		"\u0000\u0000\u0000\u03e1\u03e2\u0005V\u0000\u0000\u03e2\u03e9\u0003b1"+
+		"\u0000\u03e3\u03e5\u0005:\u0000\u0000\u03e4\u03e3\u0001\u0000\u0000\u0000"+
+		"\u03e4\u03e5\u0001\u0000\u0000\u0000\u03e5\u03e6\u0001\u0000\u0000\u0000"+
+		"\u03e6\u03e8\u0003b1\u0000\u03e7\u03e4\u0001\u0000\u0000\u0000\u03e8\u03eb"+
+		"\u0001\u0000\u0000\u0000\u03e9\u03e7\u0001\u0000\u0000\u0000\u03e9\u03ea"+
+		"\u0001\u0000\u0000\u0000\u03ea\u03ec\u0001\u0000\u0000\u0000\u03eb\u03e9"+
+		"\u0001\u0000\u0000\u0000\u03ec\u03ed\u00054\u0000\u0000\u03ed\u00a5\u0001"+
+		"\u0000\u0000\u0000\u03ee\u03ef\u0005W\u0000\u0000\u03ef\u03f0\u0003b1"+
+		"\u0000\u03f0\u03f1\u0005:\u0000\u0000\u03f1\u03f2\u0003\u00c0`\u0000\u03f2"+
+		"\u03f3\u0005\f\u0000\u0000\u03f3\u03f4\u00054\u0000\u0000\u03f4\u00a7"+
+		"\u0001\u0000\u0000\u0000\u03f5\u03fa\u0003\u00aaU\u0000\u03f6\u03fa\u0003"+
+		"\u00acV\u0000\u03f7\u03fa\u0003\u00aeW\u0000\u03f8\u03fa\u0003\u00b0X"+
+		"\u0000\u03f9\u03f5\u0001\u0000\u0000\u0000\u03f9\u03f6\u0001\u0000\u0000"+
+		"\u0000\u03f9\u03f7\u0001\u0000\u0000\u0000\u03f9\u03f8\u0001\u0000\u0000"+
+		"\u0000\u03fa\u00a9\u0001\u0000\u0000\u0000\u03fb\u03fd\u0003\u00b8\\\u0000"+
+		"\u03fc\u03fb\u0001\u0000\u0000\u0000\u03fc\u03fd\u0001\u0000\u0000\u0000"+
+		"\u03fd\u03fe\u0001\u0000\u0000\u0000\u03fe\u03ff\u0005]\u0000\u0000\u03ff"+
+		"\u0400\u0007\u0005\u0000\u0000\u0400\u00ab\u0001\u0000\u0000\u0000\u0401"+
+		"\u0403\u0003\u00b8\\\u0000\u0402\u0401\u0001\u0000\u0000\u0000\u0402\u0403"+
+		"\u0001\u0000\u0000\u0000\u0403\u0404\u0001\u0000\u0000\u0000\u0404\u0405"+
+		"\u0005]\u0000\u0000\u0405\u0406\u0007\u0006\u0000\u0000\u0406\u00ad\u0001"+
+		"\u0000\u0000\u0000\u0407\u0409\u0003\u00b8\\\u0000\u0408\u0407\u0001\u0000"+
+		"\u0000\u0000\u0408\u0409\u0001\u0000\u0000\u0000\u0409\u040a\u0001\u0000"+
+		"\u0000\u0000\u040a\u040b\u0005]\u0000\u0000\u040b\u040c\u0005\u000e\u0000"+
+		"\u0000\u040c\u00af\u0001\u0000\u0000\u0000\u040d\u040f\u0003\u00b8\\\u0000"+
+		"\u040e\u040d\u0001\u0000\u0000\u0000\u040e\u040f\u0001\u0000\u0000\u0000"+
+		"\u040f\u0410\u0001\u0000\u0000\u0000\u0410\u0411\u0005]\u0000\u0000\u0411"+
+		"\u0412\u0005\n\u0000\u0000\u0412\u00b1\u0001\u0000\u0000\u0000\u0413\u0414"+
+		"\u0007\u0007\u0000\u0000\u0414\u00b3\u0001\u0000\u0000\u0000\u0415\u0416"+
+		"\u0005\u0005\u0000\u0000\u0416\u00b5\u0001\u0000\u0000\u0000\u0417\u0418"+
+		"\u00059\u0000\u0000\u0418\u0419\u00059\u0000\u0000\u0419\u041a\u00059"+
+		"\u0000\u0000\u041a\u00b7\u0001\u0000\u0000\u0000\u041b\u041c\u0007\b\u0000"+
+		"\u0000\u041c\u00b9\u0001\u0000\u0000\u0000\u041d\u041e\u0005B\u0000\u0000"+
+		"\u041e\u041f\u0003\u00bc^\u0000\u041f\u00bb\u0001\u0000\u0000\u0000\u0420"+
+		"\u0422\u0007\t\u0000\u0000\u0421\u0420\u0001\u0000\u0000\u0000\u0422\u0423"+
+		"\u0001\u0000\u0000\u0000\u0423\u0421\u0001\u0000\u0000\u0000\u0423\u0424"+
+		"\u0001\u0000\u0000\u0000\u0424\u00bd\u0001\u0000\u0000\u0000\u0425\u0426"+
+		"\u0007\n\u0000\u0000\u0426\u00bf\u0001\u0000\u0000\u0000\u0427\u0429\u0003"+
+		"\u00b8\\\u0000\u0428\u0427\u0001\u0000\u0000\u0000\u0428\u0429\u0001\u0000"+
+		"\u0000\u0000\u0429\u042a\u0001\u0000\u0000\u0000\u042a\u042b\u0005]\u0000"+
+		"\u0000\u042b\u00c1\u0001\u0000\u0000\u0000\u042c\u042e\u0007\u000b\u0000"+
+		"\u0000\u042d\u042c\u0001\u0000\u0000\u0000\u042d\u042e\u0001\u0000\u0000"+
+		"\u0000\u042e\u042f\u0001\u0000\u0000\u0000\u042f\u0433\u0005_\u0000\u0000"+
+		"\u0430\u0433\u0005%\u0000\u0000\u0431\u0433\u0005&\u0000\u0000\u0432\u042d"+
+		"\u0001\u0000\u0000\u0000\u0432\u0430\u0001\u0000\u0000\u0000\u0432\u0431"+
+		"\u0001\u0000\u0000\u0000\u0433\u00c3\u0001\u0000\u0000\u0000\u0088\u00c7"+
+		"\u00e1\u00e6\u00eb\u00f0\u00f3\u00f6\u00fa\u00fe\u0103\u0110\u0114\u0119"+
+		"\u011c\u011f\u0124\u012b\u0132\u0138\u013e\u0141\u0144\u0147\u0152\u0155"+
+		"\u0158\u015c\u0162\u016a\u016d\u0173\u017e\u0187\u018a\u0191\u0198\u01a0"+
+		"\u01a5\u01ac\u01b0\u01b8\u01bb\u01c1\u01c6\u01d0\u01d2\u01d5\u01e6\u01f1"+
+		"\u01f5\u01fe\u0202\u020a\u0211\u021b\u021e\u0220\u022c\u022f\u0231\u0233"+
+		"\u0239\u023d\u0241\u0245\u024a\u0252\u0254\u0257\u025c\u0261\u0265\u026b"+
+		"\u0271\u0273\u0279\u027e\u0285\u028c\u028f\u029b\u02a9\u02af\u02c4\u02cc"+
+		"\u02cf\u02d4\u02da\u02de\u02e2\u02e5\u02ec\u02f1\u02f7\u0300\u0303\u0306"+
+		"\u030b\u030f\u0317\u031b\u0320\u0328\u032d\u0333\u0347\u034b\u034f\u0355"+
+		"\u035d\u0360\u0368\u036f\u0373\u0378\u0381\u038c\u0390\u0398\u039c\u03a4"+
+		"\u03a8\u03c6\u03cf\u03d5\u03e4\u03e9\u03f9\u03fc\u0402\u0408\u040e\u0423"+
+		"\u0428\u042d\u0432";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
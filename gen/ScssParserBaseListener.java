@@ -611,6 +611,18 @@ public class ScssParserBaseListener implements ScssParserListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitValue(ScssParser.ValueContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void enterOperation(ScssParser.OperationContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void exitOperation(ScssParser.OperationContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
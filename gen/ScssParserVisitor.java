@@ -309,6 +309,12 @@ public interface ScssParserVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitValue(ScssParser.ValueContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link ScssParser#operation}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitOperation(ScssParser.OperationContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link ScssParser#functionDeclaration}.
 	 * @param ctx the parse tree
@@ -0,0 +1,385 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+
+/**
+ * Classe compilant tous les fichiers SCSS d'un dossier (et de ses sous-dossiers) en parallèle.
+ * <p>
+ * Les partiels (fichiers dont le nom commence par "_") ne sont pas compilés seuls.
+ * Chaque tâche emprunte un ScssCompiler (lexer, parser et générateur) à un ScssCompilerPool : les compilateurs
+ * sont réutilisés d'un fichier à l'autre et d'une compilation à l'autre, sans être partagés entre deux threads.
+ * Avec un cache de compilation, les fichiers dont le contenu n'a pas changé depuis la dernière compilation sont ignorés.
+ * Les modules importés sont chargés par un ModuleLoader commun à tous les threads : un partiel importé par
+ * de nombreux fichiers n'est évalué qu'une fois par compilation.
+ * <p>
+ * Les modules importés par chaque fichier sont enregistrés dans un graphe de dépendances (DependencyGraph),
+ * gardé dans le dossier de sortie : quand des fichiers sont modifiés, seuls les fichiers qui en dépendent
+ * sont recompilés (compileChanged).
+ */
+public class BatchCompiler {
+
+    private final Path sourceDir;
+    private final Path outputDir;
+    private final int workers;
+    // Cache de compilation, null s'il est désactivé
+    private final CompilationCache cache;
+    // Compilateurs réutilisés d'une compilation à l'autre (mode --watch)
+    private ScssCompilerPool compilers;
+    // Profil des décisions du parser (null si le profilage est désactivé) et options d'écriture des compilateurs
+    private ParserProfile profile;
+    private OutputStyle style;
+    private boolean optimize;
+    private boolean sourceMap;
+    // Chargeur des modules importés, partagé par tous les compilateurs
+    private ModuleLoader moduleLoader;
+    // Modules importés par chaque fichier compilé
+    private final DependencyGraph dependencies;
+
+    /**
+     * Constructeur sans cache de compilation.
+     * @param sourceDir dossier contenant les fichiers SCSS
+     * @param outputDir dossier dans lequel écrire les fichiers CSS (même arborescence que sourceDir)
+     * @param workers nombre de threads de compilation
+     */
+    public BatchCompiler(Path sourceDir, Path outputDir, int workers) {
+        this(sourceDir, outputDir, workers, null);
+    }
+
+    /**
+     * Constructeur avec cache de compilation.
+     * @param sourceDir dossier contenant les fichiers SCSS
+     * @param outputDir dossier dans lequel écrire les fichiers CSS (même arborescence que sourceDir)
+     * @param workers nombre de threads de compilation
+     * @param cache cache de compilation (null pour toujours compiler)
+     */
+    public BatchCompiler(Path sourceDir, Path outputDir, int workers, CompilationCache cache) {
+        this.sourceDir = sourceDir;
+        this.outputDir = outputDir;
+        this.workers = workers;
+        this.cache = cache;
+        this.style = OutputStyle.EXPANDED;
+        this.moduleLoader = new ModuleLoader();
+        this.compilers = createCompilers();
+        this.dependencies = loadDependencies(outputDir.resolve(DependencyGraph.FILE_NAME));
+    }
+
+    /**
+     * Méthode lisant le graphe de dépendances de la compilation précédente.
+     * S'il est illisible, le graphe est vide : les fichiers modifiés sont alors tous recompilés.
+     */
+    private static DependencyGraph loadDependencies(Path file) {
+        try {
+            return DependencyGraph.load(file);
+        } catch (IOException | RuntimeException e) {
+            return new DependencyGraph();
+        }
+    }
+
+    /**
+     * Méthode créant les compilateurs avec le profil et le style d'écriture actuels.
+     * @return compilateurs
+     */
+    private ScssCompilerPool createCompilers() {
+        ParserProfile profile = this.profile;
+        OutputStyle style = this.style;
+        boolean optimize = this.optimize;
+        boolean sourceMap = this.sourceMap;
+        ModuleLoader moduleLoader = this.moduleLoader;
+        return new ScssCompilerPool(workers, () -> createCompiler(profile, style, optimize, sourceMap, moduleLoader));
+    }
+
+    /**
+     * Méthode créant un compilateur avec les options actuelles, pour compiler des fichiers un par un (mode --watch).
+     * @return compilateur
+     */
+    public ScssCompiler createCompiler() {
+        return createCompiler(profile, style, optimize, sourceMap, moduleLoader);
+    }
+
+    private static ScssCompiler createCompiler(ParserProfile profile, OutputStyle style, boolean optimize, boolean sourceMap,
+                                               ModuleLoader moduleLoader) {
+        ScssCompiler compiler = new ScssCompiler(profile);
+        compiler.setOutputStyle(style);
+        compiler.setOptimize(optimize);
+        compiler.setSourceMap(sourceMap);
+        compiler.setModuleLoader(moduleLoader);
+        return compiler;
+    }
+
+    /**
+     * Méthode cherchant les fichiers SCSS à compiler dans le dossier source.
+     * @return fichiers SCSS, partiels exclus
+     * @throws IOException si le dossier ne peut pas être parcouru
+     */
+    public List<Path> findSources() throws IOException {
+        try (Stream<Path> files = Files.walk(sourceDir)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(BatchCompiler::isEntryPoint)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Méthode indiquant si un fichier est un fichier SCSS à compiler (et non un partiel).
+     * @param file fichier
+     * @return true si le fichier doit être compilé
+     */
+    public static boolean isEntryPoint(Path file) {
+        String name = file.getFileName().toString();
+        return name.endsWith(".scss") && !name.startsWith("_");
+    }
+
+    /**
+     * Méthode renvoyant le fichier CSS correspondant à un fichier SCSS.
+     * @param source fichier SCSS
+     * @return fichier CSS
+     */
+    public Path outputFor(Path source) {
+        String relative = sourceDir.relativize(source).toString();
+        return outputDir.resolve(relative.substring(0, relative.length() - ".scss".length()) + ".css");
+    }
+
+    /**
+     * Méthode compilant tous les fichiers du dossier source.
+     * Les erreurs d'un fichier n'empêchent pas la compilation des autres : elles sont affichées à la fin.
+     *
+     * @return nombre de fichiers qui n'ont pas pu être compilés
+     * @throws IOException si le dossier source ne peut pas être parcouru
+     */
+    public int compileAll() throws IOException {
+        return compile(findSources());
+    }
+
+    /**
+     * Méthode compilant seulement les fichiers concernés par des modifications (voir affectedSources).
+     *
+     * @param changed fichiers modifiés (fichiers à compiler ou partiels)
+     * @return nombre de fichiers qui n'ont pas pu être compilés
+     * @throws IOException si le dossier source ne peut pas être parcouru
+     */
+    public int compileChanged(Collection<Path> changed) throws IOException {
+        return compile(affectedSources(changed));
+    }
+
+    /**
+     * Méthode calculant les fichiers à recompiler après des modifications : les fichiers modifiés eux-mêmes
+     * et, par les arcs inverses du graphe de dépendances, les fichiers qui importent un fichier modifié.
+     * Si un partiel a changé, les fichiers dont les dépendances sont inconnues (jamais compilés) sont aussi recompilés.
+     *
+     * @param changed fichiers modifiés
+     * @return fichiers à recompiler, triés
+     * @throws IOException si le dossier source ne peut pas être parcouru
+     */
+    public List<Path> affectedSources(Collection<Path> changed) throws IOException {
+        TreeSet<Path> affected = new TreeSet<>();
+        boolean partialChanged = false;
+        for (Path file : changed) {
+            Path source = inSourceDir(file);
+            if (source != null && isEntryPoint(source) && Files.isRegularFile(source)) affected.add(source);
+            else partialChanged = true;
+        }
+        for (Path dependent : dependencies.dependentsOf(changed)) {
+            Path source = inSourceDir(dependent);
+            if (source != null && Files.isRegularFile(source)) affected.add(source);
+        }
+        if (partialChanged) {
+            for (Path source : findSources()) {
+                if (!dependencies.contains(source)) affected.add(source);
+            }
+        }
+        return new ArrayList<>(affected);
+    }
+
+    /**
+     * Méthode exprimant un chemin par rapport au dossier source, comme les chemins renvoyés par findSources()
+     * (le graphe de dépendances garde des chemins absolus).
+     *
+     * @param file fichier
+     * @return chemin du fichier dans le dossier source, null s'il est en dehors
+     */
+    private Path inSourceDir(Path file) {
+        Path root = sourceDir.toAbsolutePath().normalize();
+        Path absolute = file.toAbsolutePath().normalize();
+        return absolute.startsWith(root) ? sourceDir.resolve(root.relativize(absolute)) : null;
+    }
+
+    /**
+     * Méthode compilant une liste de fichiers du dossier source.
+     *
+     * @param sources fichiers SCSS
+     * @return nombre de fichiers qui n'ont pas pu être compilés
+     */
+    public int compile(List<Path> sources) {
+        long start = System.nanoTime();
+        // Les partiels ont pu changer depuis la compilation précédente
+        clearModules();
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+
+        List<Future<?>> tasks = new ArrayList<>();
+        for (Path source : sources) {
+            tasks.add(executor.submit(() -> {
+                // Un compilateur emprunté par tâche, jamais partagé entre deux threads
+                ScssCompiler compiler = compilers.borrow();
+                try {
+                    compileFile(compiler, source);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } finally {
+                    compilers.release(compiler);
+                }
+            }));
+        }
+
+        int failures = 0;
+        try {
+            for (int i = 0; i < tasks.size(); i++) {
+                try {
+                    tasks.get(i).get();
+                } catch (ExecutionException e) {
+                    failures++;
+                    System.out.println("Erreur lors de la compilation de " + sources.get(i) + " : " + e.getCause().getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failures = sources.size();
+        } finally {
+            executor.shutdownNow();
+        }
+        saveDependencies();
+
+        System.out.printf("%d fichier(s) compilé(s), %d erreur(s) en %d ms avec %d thread(s)%n",
+                sources.size() - failures, failures, (System.nanoTime() - start) / 1_000_000, workers);
+        if (cache != null)
+            System.out.printf("Cache : %d succès, %d échec(s)%n", cache.getHits(), cache.getMisses());
+        System.out.println(moduleLoader.statistics());
+        System.out.println(ScssCompiler.parseStatistics());
+        System.out.println(ScssToCssGenerator.mixinStatistics());
+        System.out.println(DfaWarmup.statistics());
+        return failures;
+    }
+
+    /**
+     * Méthode compilant un fichier, sauf si le cache indique que son fichier CSS est à jour.
+     *
+     * @param compiler compilateur du thread courant
+     * @param source   fichier SCSS
+     * @return true si le fichier a été compilé, false s'il était à jour
+     * @throws IOException si un des fichiers ne peut pas être lu ou écrit
+     */
+    public boolean compileFile(ScssCompiler compiler, Path source) throws IOException {
+        Path output = outputFor(source);
+
+        if (cache == null) {
+            compiler.compile(source, output);
+            dependencies.record(source, compiler.getDependencies());
+            return true;
+        }
+
+        byte[] content = Files.readAllBytes(source);
+        String key = cache.key(content, compiler.outputOptions(), dependencies.dependenciesOf(source));
+        if (cache.isUpToDate(source, output, key)) return false;
+
+        compiler.compile(source, content, output);
+        dependencies.record(source, compiler.getDependencies());
+        // Empreinte calculée avec les modules importés par cette compilation, qui ont pu changer
+        cache.store(source, output, cache.key(content, compiler.outputOptions(), compiler.getDependencies()));
+        return true;
+    }
+
+    /**
+     * Méthode supprimant les fichiers produits par un fichier SCSS supprimé ou renommé : son fichier CSS,
+     * sa source map, son entrée du cache et ses arcs du graphe de dépendances.
+     *
+     * @param source fichier SCSS supprimé
+     * @return true si un fichier CSS a été supprimé
+     * @throws IOException si un des fichiers ne peut pas être supprimé
+     */
+    public boolean removeOutput(Path source) throws IOException {
+        Path output = outputFor(source);
+        dependencies.remove(source);
+        if (cache != null) cache.remove(source, output);
+        Files.deleteIfExists(output.resolveSibling(output.getFileName() + ".map"));
+        return Files.deleteIfExists(output);
+    }
+
+    /**
+     * Méthode activant le profilage des décisions du parser pour les prochaines compilations.
+     * @param profile profil dans lequel cumuler les mesures
+     */
+    public void setParserProfile(ParserProfile profile) {
+        this.profile = profile;
+        this.compilers = createCompilers();
+    }
+
+    /**
+     * Méthode choisissant le style d'écriture du code CSS pour les prochaines compilations.
+     * @param style style d'écriture
+     */
+    public void setOutputStyle(OutputStyle style) {
+        this.style = style;
+        this.compilers = createCompilers();
+    }
+
+    /**
+     * Méthode activant l'optimisation du CSS pour les prochaines compilations.
+     * @param optimize true pour optimiser
+     */
+    public void setOptimize(boolean optimize) {
+        this.optimize = optimize;
+        this.compilers = createCompilers();
+    }
+
+    /**
+     * Méthode activant l'écriture des source maps pour les prochaines compilations.
+     * @param sourceMap true pour écrire les source maps
+     */
+    public void setSourceMap(boolean sourceMap) {
+        this.sourceMap = sourceMap;
+        this.compilers = createCompilers();
+    }
+
+    /**
+     * Méthode choisissant le chargeur des modules importés pour les prochaines compilations.
+     * @param moduleLoader chargeur de modules (avec ses dossiers de chargement)
+     */
+    public void setModuleLoader(ModuleLoader moduleLoader) {
+        this.moduleLoader = moduleLoader;
+        this.compilers = createCompilers();
+    }
+
+    /**
+     * Méthode enregistrant le graphe de dépendances dans le dossier de sortie. Une erreur d'écriture n'empêche pas
+     * la compilation : les fichiers modifiés seront seulement tous recompilés la prochaine fois.
+     */
+    public void saveDependencies() {
+        try {
+            dependencies.save(outputDir.resolve(DependencyGraph.FILE_NAME));
+        } catch (IOException e) {
+            System.out.println("Le graphe de dépendances n'a pas pu être enregistré : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Méthode vidant le cache des modules importés, pour relire les partiels modifiés.
+     */
+    public void clearModules() {
+        moduleLoader.clear();
+    }
+
+    public Path getSourceDir() {
+        return sourceDir;
+    }
+}
@@ -0,0 +1,136 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Classe modélisant le cache de compilation enregistré sur le disque (par défaut dans le dossier .scss-cache).
+ * <p>
+ * Pour chaque fichier SCSS, le cache garde une empreinte SHA-256 de son contenu, du contenu des modules qu'il importe
+ * et de la version du compilateur. Si l'empreinte n'a pas changé et que le fichier CSS existe toujours,
+ * la compilation est inutile.
+ * Le cache peut être utilisé par plusieurs threads en même temps.
+ */
+public class CompilationCache {
+
+    public static final String DEFAULT_DIRECTORY = ".scss-cache";
+
+    private final Path directory;
+    private final AtomicInteger hits;
+    private final AtomicInteger misses;
+
+    public CompilationCache(Path directory) {
+        this.directory = directory;
+        this.hits = new AtomicInteger();
+        this.misses = new AtomicInteger();
+    }
+
+    /**
+     * Méthode calculant l'empreinte d'un fichier SCSS : SHA-256 de la version du compilateur, des options d'écriture,
+     * du contenu du fichier et de celui des modules qu'il importe. Un fichier est ainsi recompilé si un de ses partiels
+     * a changé, même si son propre contenu est identique.
+     *
+     * @param content      contenu du fichier SCSS
+     * @param options      options qui changent les fichiers écrits (voir ScssCompiler.outputOptions())
+     * @param dependencies modules importés lors de la dernière compilation (voir DependencyGraph)
+     * @return empreinte en hexadécimal
+     */
+    public String key(byte[] content, String options, Collection<Path> dependencies) {
+        MessageDigest digest = sha256();
+        digest.update(ScssCompiler.VERSION.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(options.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(content);
+        for (Path dependency : dependencies) {
+            digest.update((byte) 0);
+            digest.update(dependency.toString().getBytes(StandardCharsets.UTF_8));
+            try {
+                digest.update(Files.readAllBytes(dependency));
+            } catch (IOException e) {
+                // Module supprimé ou illisible : l'empreinte change, le fichier sera recompilé
+                digest.update((byte) 1);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Méthode indiquant si le fichier CSS d'un fichier SCSS est à jour, et comptant les succès et échecs du cache.
+     *
+     * @param source fichier SCSS
+     * @param output fichier CSS
+     * @param key    empreinte actuelle du fichier SCSS
+     * @return true si la compilation peut être évitée
+     */
+    public boolean isUpToDate(Path source, Path output, String key) {
+        boolean upToDate = false;
+        Path entry = entryFor(source, output);
+        try {
+            upToDate = Files.exists(output) && Files.exists(entry) && Files.readString(entry, StandardCharsets.UTF_8).equals(key);
+        } catch (IOException ignored) {
+            // Entrée illisible : le fichier sera recompilé
+        }
+
+        if (upToDate) hits.incrementAndGet();
+        else misses.incrementAndGet();
+        return upToDate;
+    }
+
+    /**
+     * Méthode enregistrant l'empreinte d'un fichier SCSS après sa compilation.
+     *
+     * @param source fichier SCSS
+     * @param output fichier CSS
+     * @param key    empreinte du fichier SCSS compilé
+     * @throws IOException si l'entrée ne peut pas être écrite
+     */
+    public void store(Path source, Path output, String key) throws IOException {
+        Files.createDirectories(directory);
+        Files.writeString(entryFor(source, output), key, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Méthode supprimant l'empreinte d'un fichier SCSS supprimé.
+     *
+     * @param source fichier SCSS
+     * @param output fichier CSS
+     * @throws IOException si l'entrée ne peut pas être supprimée
+     */
+    public void remove(Path source, Path output) throws IOException {
+        Files.deleteIfExists(entryFor(source, output));
+    }
+
+    public int getHits() {
+        return hits.get();
+    }
+
+    public int getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Méthode renvoyant le fichier du cache correspondant à un couple (fichier SCSS, fichier CSS).
+     * Son nom est l'empreinte des deux chemins absolus.
+     */
+    private Path entryFor(Path source, Path output) {
+        MessageDigest digest = sha256();
+        digest.update(source.toAbsolutePath().normalize().toString().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(output.toAbsolutePath().normalize().toString().getBytes(StandardCharsets.UTF_8));
+        return directory.resolve(HexFormat.of().formatHex(digest.digest()));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 n'est pas disponible", e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ * Classe modélisant une déclaration CSS (propriété et valeur déjà évaluée),
+ * avec la position de la déclaration SCSS d'origine pour la source map.
+ */
+public class CssDeclaration {
+
+    private final String property;
+    private final String value;
+    // Position dans le code SCSS : fichier (null si inconnu), ligne (à partir de 1, 0 si inconnue) et colonne (à partir de 0)
+    private final String source;
+    private final int line;
+    private final int column;
+
+    /**
+     * Constructeur d'une déclaration sans position d'origine.
+     * @param property nom de la propriété
+     * @param value valeur évaluée
+     */
+    public CssDeclaration(String property, String value) {
+        this(property, value, null, 0, 0);
+    }
+
+    /**
+     * Constructeur.
+     * @param property nom de la propriété
+     * @param value valeur évaluée
+     * @param source fichier SCSS de la déclaration
+     * @param line ligne de la déclaration SCSS (à partir de 1, 0 si inconnue)
+     * @param column colonne de la déclaration SCSS (à partir de 0)
+     */
+    public CssDeclaration(String property, String value, String source, int line, int column) {
+        this.property = property;
+        this.value = value;
+        this.source = source;
+        this.line = line;
+        this.column = column;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+}
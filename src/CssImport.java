@@ -0,0 +1,39 @@
+/**
+ * Classe modélisant un import CSS conservé tel quel dans le code généré (@import "reset.css";, @import url(...);).
+ * <p>
+ * Seuls les imports de fichiers CSS, d'URL http(s) et les url() sont conservés : les autres imports sont
+ * des modules SCSS, évalués par le compilateur (voir ModuleLoader). En CSS, les @import doivent précéder
+ * toutes les autres règles : le générateur les écrit en tête du fichier, avant :root.
+ */
+public class CssImport implements CssNode {
+
+    // Fichier importé, tel qu'il est écrit dans le code SCSS ("reset.css", url(...))
+    private final String url;
+
+    /**
+     * Constructeur.
+     * @param url fichier importé, avec ses guillemets ou sous la forme url(...)
+     */
+    public CssImport(String url) {
+        this.url = url;
+    }
+
+    /**
+     * Méthode indiquant si un import désigne un fichier CSS à conserver plutôt qu'un module SCSS.
+     *
+     * @param path chemin importé, sans guillemets
+     * @return true si l'import doit être conservé dans le CSS
+     */
+    public static boolean isPlainCss(String path) {
+        return path.endsWith(".css") || path.startsWith("http://") || path.startsWith("https://") || path.startsWith("//");
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+}
@@ -0,0 +1,56 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Classe modélisant une règle @media et les règles qu'elle contient.
+ */
+public class CssMediaRule implements CssNode {
+
+    private final String query;
+    private final List<CssNode> children;
+    // Position dans le code SCSS : fichier (null si inconnu), ligne (à partir de 1, 0 si inconnue) et colonne (à partir de 0)
+    private final String source;
+    private final int line;
+    private final int column;
+
+    /**
+     * Constructeur d'une règle @media vide.
+     * @param query requête média évaluée (par exemple "(min-width: 768px)")
+     * @param source fichier SCSS de la règle
+     * @param line ligne de la règle SCSS (à partir de 1, 0 si inconnue)
+     * @param column colonne de la règle SCSS (à partir de 0)
+     */
+    public CssMediaRule(String query, String source, int line, int column) {
+        this.query = query;
+        this.children = new ArrayList<>();
+        this.source = source;
+        this.line = line;
+        this.column = column;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public List<CssNode> getChildren() {
+        return children;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (CssNode child : children) if (!child.isEmpty()) return false;
+        return true;
+    }
+}
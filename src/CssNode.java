@@ -0,0 +1,17 @@
+/**
+ * Interface commune aux nœuds du modèle objet du CSS généré : règles (CssRule), règles @media (CssMediaRule)
+ * et imports CSS conservés (CssImport).
+ * <p>
+ * Le générateur évalue le code SCSS en nœuds CSS, puis CssPrinter les écrit dans une sortie :
+ * l'évaluation ne manipule jamais de code CSS déjà mis en forme.
+ */
+public interface CssNode {
+
+    /**
+     * Méthode indiquant si le nœud ne produit aucun code CSS (règle sans déclaration...).
+     * Les nœuds vides ne sont pas écrits.
+     *
+     * @return true si le nœud est vide
+     */
+    boolean isEmpty();
+}
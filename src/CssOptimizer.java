@@ -0,0 +1,286 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Classe optimisant le modèle objet du CSS avant son écriture :
+ * - les règles consécutives qui ont les mêmes sélecteurs sont fusionnées
+ * - dans une règle, une déclaration écrasée par une déclaration suivante de la même propriété est supprimée
+ * - les règles dont les déclarations sont identiques sont regroupées en une seule règle (sélecteurs séparés par des virgules)
+ * <p>
+ * L'ordre de la cascade est respecté : deux règles ne sont regroupées que si aucune règle entre elles ne déclare
+ * une propriété de la même famille qu'une des leurs, et aucune règle n'est fusionnée à travers une règle @media.
+ * Une famille réunit une propriété raccourcie et ses propriétés détaillées (margin, margin-top, margin-inline...) :
+ * margin écrase margin-top, qui précise margin, l'ordre entre les deux compte.
+ * Les corps de règles et les dernières déclarations de chaque propriété sont indexés dans des tables de hachage :
+ * l'optimisation est linéaire en nombre de déclarations.
+ */
+public class CssOptimizer {
+
+    // Propriétés détaillées dont la propriété raccourcie n'est pas leur premier segment
+    private static final Map<String, String> FAMILIES = Map.ofEntries(
+            Map.entry("top", "inset"), Map.entry("right", "inset"), Map.entry("bottom", "inset"), Map.entry("left", "inset"),
+            Map.entry("row-gap", "gap"), Map.entry("column-gap", "gap"), Map.entry("grid-gap", "gap"),
+            Map.entry("grid-row-gap", "gap"), Map.entry("grid-column-gap", "gap"),
+            Map.entry("columns", "column"), Map.entry("line-height", "font"),
+            Map.entry("align", "place"), Map.entry("justify", "place"));
+
+    private int mergedRules;
+    private int removedDeclarations;
+    private int groupedRules;
+
+    /**
+     * Méthode optimisant une feuille de style (modifiée sur place).
+     * @param stylesheet feuille de style
+     */
+    public void optimize(CssStylesheet stylesheet) {
+        List<CssNode> optimized = optimize(stylesheet.getNodes());
+        stylesheet.getNodes().clear();
+        stylesheet.getNodes().addAll(optimized);
+    }
+
+    /**
+     * Méthode optimisant une liste de règles (premier niveau ou contenu d'une règle @media).
+     * @param nodes règles
+     * @return règles optimisées
+     */
+    private List<CssNode> optimize(List<CssNode> nodes) {
+        List<CssNode> merged = mergeAdjacentRules(nodes);
+        for (CssNode node : merged) {
+            if (node instanceof CssRule rule) removeOverriddenDeclarations(rule);
+        }
+        return groupIdenticalRules(merged);
+    }
+
+    /**
+     * Méthode fusionnant les règles consécutives qui ont les mêmes sélecteurs, et supprimant les règles vides.
+     * @param nodes règles
+     * @return règles fusionnées
+     */
+    private List<CssNode> mergeAdjacentRules(List<CssNode> nodes) {
+        List<CssNode> result = new ArrayList<>(nodes.size());
+        CssRule previous = null;
+
+        for (CssNode node : nodes) {
+            if (node instanceof CssMediaRule media) {
+                CssMediaRule optimized = new CssMediaRule(media.getQuery(), media.getSource(), media.getLine(), media.getColumn());
+                optimized.getChildren().addAll(optimize(media.getChildren()));
+                if (!optimized.isEmpty()) result.add(optimized);
+                previous = null;
+            } else if (node instanceof CssRule rule && !rule.isEmpty()) {
+                if (previous != null && previous.getSelectors().equals(rule.getSelectors())) {
+                    previous.getDeclarations().addAll(rule.getDeclarations());
+                    mergedRules++;
+                } else {
+                    result.add(rule);
+                    previous = rule;
+                }
+            } else if (!(node instanceof CssRule)) {
+                // Autres nœuds (imports CSS...) : gardés à leur place
+                result.add(node);
+                previous = null;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Méthode supprimant les déclarations écrasées par une déclaration suivante de la même propriété.
+     * <p>
+     * Une déclaration suivie d'une propriété de la même famille (margin: 0 suivi de margin-top) est gardée :
+     * elle forme une paire avec cette propriété, même si une déclaration plus loin reprend sa propriété.
+     * <p>
+     * Une déclaration n'est supprimée que si c'est sans effet sur le rendu : même valeur, ou deux valeurs simples.
+     * Les valeurs qui utilisent une fonction ou un préfixe (color-mix(...), -webkit-box...) sont gardées,
+     * car elles servent souvent de valeur de repli pour les navigateurs qui ne connaissent pas la suivante.
+     *
+     * @param rule règle (modifiée sur place)
+     */
+    private void removeOverriddenDeclarations(CssRule rule) {
+        List<CssDeclaration> declarations = rule.getDeclarations();
+        if (declarations.size() < 2) return;
+
+        // Parcours de la fin vers le début : la déclaration suivante de chaque famille est déjà connue
+        HashMap<String, CssDeclaration> next = new HashMap<>();
+        List<CssDeclaration> kept = new ArrayList<>(declarations.size());
+        for (int i = declarations.size() - 1; i >= 0; i--) {
+            CssDeclaration declaration = declarations.get(i);
+            String family = family(declaration.getProperty());
+            CssDeclaration override = next.get(family);
+            if (override != null && override.getProperty().equals(declaration.getProperty())
+                    && overrides(override.getValue(), declaration.getValue())) {
+                removedDeclarations++;
+                continue;
+            }
+            next.put(family, declaration);
+            kept.add(declaration);
+        }
+
+        if (kept.size() == declarations.size()) return;
+        Collections.reverse(kept);
+        declarations.clear();
+        declarations.addAll(kept);
+    }
+
+    /**
+     * Méthode indiquant si une valeur écrase complètement une valeur précédente de la même propriété.
+     * @param value    valeur suivante
+     * @param previous valeur précédente
+     * @return true si la valeur précédente peut être supprimée
+     */
+    private static boolean overrides(String value, String previous) {
+        if (value.equals(previous)) return true;
+        if (previous.contains("!important") && !value.contains("!important")) return false;
+        return isPlain(value) && isPlain(previous);
+    }
+
+    /**
+     * Méthode indiquant si une valeur est simple : ni fonction, ni mot-clé préfixé (-webkit-box...).
+     * @param value valeur
+     * @return true si la valeur est simple
+     */
+    private static boolean isPlain(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '(') return false;
+            if (c == '-' && (i == 0 || value.charAt(i - 1) == ' ') && i + 1 < value.length() && Character.isLetter(value.charAt(i + 1)))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Méthode regroupant les règles dont les déclarations sont identiques.
+     * <p>
+     * Une règle est ajoutée aux sélecteurs de la première règle de même corps si aucune règle entre les deux
+     * ne déclare une propriété de la même famille qu'une des siennes (la dernière règle qui déclare chaque famille
+     * est indexée). Une règle qui déclare all écrase toutes les propriétés : rien n'est regroupé à travers elle.
+     *
+     * @param nodes règles
+     * @return règles regroupées
+     */
+    private List<CssNode> groupIdenticalRules(List<CssNode> nodes) {
+        List<CssNode> result = new ArrayList<>(nodes.size());
+        // Corps de règle → indice de la règle dans result
+        HashMap<String, Integer> bodies = new HashMap<>();
+        // Famille de propriétés → indice dans result de la dernière règle qui en déclare une
+        HashMap<String, Integer> lastDeclared = new HashMap<>();
+        // Indice dans result → sélecteurs des règles regroupées
+        HashMap<Integer, LinkedHashSet<String>> groups = new HashMap<>();
+
+        for (CssNode node : nodes) {
+            if (!(node instanceof CssRule rule)) {
+                // Une règle @media peut déclarer n'importe quelle propriété : rien n'est regroupé à travers elle
+                result.add(node);
+                bodies.clear();
+                lastDeclared.clear();
+                continue;
+            }
+
+            if (declaresAll(rule)) {
+                result.add(rule);
+                bodies.clear();
+                lastDeclared.clear();
+                continue;
+            }
+
+            String body = body(rule);
+            Integer candidate = bodies.get(body);
+            if (candidate != null && untouchedSince(rule, candidate, lastDeclared)) {
+                groups.computeIfAbsent(candidate, index -> new LinkedHashSet<>(((CssRule) result.get(index)).getSelectors()))
+                        .addAll(rule.getSelectors());
+                groupedRules++;
+                continue;
+            }
+
+            int index = result.size();
+            bodies.put(body, index);
+            for (CssDeclaration declaration : rule.getDeclarations()) lastDeclared.put(family(declaration.getProperty()), index);
+            result.add(rule);
+        }
+
+        for (Map.Entry<Integer, LinkedHashSet<String>> group : groups.entrySet()) {
+            CssRule rule = (CssRule) result.get(group.getKey());
+            CssRule grouped = new CssRule(new ArrayList<>(group.getValue()), rule.getSource(), rule.getLine(), rule.getColumn());
+            grouped.getDeclarations().addAll(rule.getDeclarations());
+            result.set(group.getKey(), grouped);
+        }
+        return result;
+    }
+
+    /**
+     * Méthode indiquant si aucune propriété de la famille d'une propriété d'une règle n'a été déclarée depuis une règle précédente.
+     * @param rule         règle
+     * @param candidate    indice de la règle précédente
+     * @param lastDeclared dernière règle qui déclare chaque famille
+     * @return true si la règle peut être regroupée avec la règle précédente
+     */
+    private static boolean untouchedSince(CssRule rule, int candidate, Map<String, Integer> lastDeclared) {
+        for (CssDeclaration declaration : rule.getDeclarations()) {
+            Integer last = lastDeclared.get(family(declaration.getProperty()));
+            if (last == null || last != candidate) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Méthode indiquant si une règle déclare la propriété all, qui écrase toutes les autres.
+     * @param rule règle
+     * @return true si la règle déclare all
+     */
+    private static boolean declaresAll(CssRule rule) {
+        for (CssDeclaration declaration : rule.getDeclarations()) {
+            if (declaration.getProperty().equalsIgnoreCase("all")) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Méthode renvoyant la famille d'une propriété : la propriété raccourcie qui la définit aussi
+     * (margin-top → margin, -webkit-border-radius → border, top → inset).
+     * Les propriétés personnalisées (--couleur) forment chacune leur propre famille.
+     *
+     * @param property propriété
+     * @return famille de la propriété
+     */
+    static String family(String property) {
+        if (property.startsWith("--")) return property;
+        String name = property.toLowerCase(Locale.ROOT);
+        // Préfixe d'un navigateur (-webkit-, -moz-...)
+        if (name.startsWith("-")) {
+            int end = name.indexOf('-', 1);
+            if (end > 0) name = name.substring(end + 1);
+        }
+        String family = FAMILIES.get(name);
+        if (family != null) return family;
+        int dash = name.indexOf('-');
+        String first = dash > 0 ? name.substring(0, dash) : name;
+        return FAMILIES.getOrDefault(first, first);
+    }
+
+    /**
+     * Méthode renvoyant la clé d'un corps de règle : ses déclarations dans l'ordre.
+     * @param rule règle
+     * @return clé du corps
+     */
+    private static String body(CssRule rule) {
+        StringBuilder body = new StringBuilder();
+        for (CssDeclaration declaration : rule.getDeclarations()) {
+            body.append(declaration.getProperty()).append(':').append(declaration.getValue()).append(';');
+        }
+        return body.toString();
+    }
+
+    /**
+     * Méthode renvoyant le bilan des optimisations faites par cet optimiseur.
+     * @return bilan affichable
+     */
+    public String statistics() {
+        return String.format(Locale.ROOT, "Optimisation : %d règle(s) fusionnée(s), %d déclaration(s) supprimée(s), %d règle(s) regroupée(s)",
+                mergedRules, removedDeclarations, groupedRules);
+    }
+}
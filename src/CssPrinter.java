@@ -0,0 +1,290 @@
+import java.util.Set;
+
+/**
+ * Classe écrivant le modèle objet du CSS (CssStylesheet, CssRule...) dans une sortie.
+ * <p>
+ * En style EXPANDED, les règles sont séparées par une ligne vide, chaque déclaration est sur sa propre ligne,
+ * indentée par une tabulation. En style COMPRESSED, le code est écrit sans espace ni commentaire inutile,
+ * en une seule passe sur chaque valeur : les nombres et les couleurs sont raccourcis pendant l'écriture
+ * (0.50 → .5, 0px → 0, #aabbcc → #abc).
+ * <p>
+ * Avant chaque sélecteur et chaque déclaration, la position SCSS d'origine est transmise à la sortie pour la source map.
+ * <p>
+ * Les règles vides ne sont pas écrites. Les règles peuvent être écrites une par une, à la fin de l'évaluation de chaque instruction
+ * de premier niveau.
+ */
+public class CssPrinter {
+
+    // Unités de longueur : un zéro n'a pas besoin de son unité (0px → 0)
+    private static final Set<String> LENGTH_UNITS = Set.of(
+            "px", "em", "rem", "ex", "ch", "vw", "vh", "vmin", "vmax", "cm", "mm", "q", "in", "pt", "pc");
+
+    private final CssWriter out;
+    private final OutputStyle style;
+    // Valeur compressée en cours d'écriture (réutilisée d'une valeur à l'autre)
+    private final StringBuilder buffer;
+    // Vrai tant qu'aucune règle n'a été écrite (pas de ligne vide avant la première)
+    private boolean first;
+
+    /**
+     * Constructeur en style EXPANDED.
+     * @param out sortie
+     */
+    public CssPrinter(CssWriter out) {
+        this(out, OutputStyle.EXPANDED);
+    }
+
+    /**
+     * Constructeur.
+     * @param out sortie
+     * @param style style d'écriture
+     */
+    public CssPrinter(CssWriter out, OutputStyle style) {
+        this.out = out;
+        this.style = style;
+        this.buffer = new StringBuilder();
+        this.first = true;
+    }
+
+    /**
+     * Méthode écrivant toutes les règles d'une feuille de style.
+     * @param stylesheet feuille de style
+     */
+    public void print(CssStylesheet stylesheet) {
+        for (CssNode node : stylesheet.getNodes()) print(node);
+    }
+
+    /**
+     * Méthode écrivant une règle de premier niveau.
+     * @param node règle
+     */
+    public void print(CssNode node) {
+        if (node.isEmpty()) return;
+        if (style == OutputStyle.COMPRESSED) {
+            printCompressed(node);
+            return;
+        }
+        if (!first) out.write("\n\n");
+        first = false;
+        print(node, "");
+    }
+
+    /**
+     * Méthode écrivant une règle avec une indentation.
+     * @param node règle
+     * @param indent indentation de la règle
+     */
+    private void print(CssNode node, String indent) {
+        if (node instanceof CssMediaRule media) {
+            out.write(indent).map(media.getSource(), media.getLine(), media.getColumn());
+            out.write("@media ").write(media.getQuery()).write("{");
+            for (CssNode child : media.getChildren()) {
+                if (child.isEmpty()) continue;
+                out.write("\n");
+                print(child, indent + "\t");
+            }
+            out.write("\n").write(indent).write("}");
+        } else if (node instanceof CssRule rule) {
+            out.write(indent).map(rule.getSource(), rule.getLine(), rule.getColumn());
+            out.write(String.join(", ", rule.getSelectors())).write("{");
+            for (CssDeclaration declaration : rule.getDeclarations()) {
+                out.write("\n").write(indent).write("\t").map(declaration.getSource(), declaration.getLine(), declaration.getColumn());
+                out.write(declaration.getProperty()).write(": ").write(declaration.getValue()).write(";");
+            }
+            out.write("\n").write(indent).write("}");
+        } else if (node instanceof CssImport cssImport) {
+            out.write(indent).write("@import ").write(cssImport.getUrl()).write(";");
+        }
+    }
+
+    /**
+     * Méthode écrivant une règle en style COMPRESSED.
+     * @param node règle
+     */
+    private void printCompressed(CssNode node) {
+        if (node instanceof CssMediaRule media) {
+            out.map(media.getSource(), media.getLine(), media.getColumn());
+            out.write("@media ").write(compress(media.getQuery(), true)).write("{");
+            for (CssNode child : media.getChildren()) {
+                if (!child.isEmpty()) printCompressed(child);
+            }
+            out.write("}");
+        } else if (node instanceof CssRule rule) {
+            out.map(rule.getSource(), rule.getLine(), rule.getColumn());
+            out.write(String.join(",", rule.getSelectors())).write("{");
+            boolean firstDeclaration = true;
+            for (CssDeclaration declaration : rule.getDeclarations()) {
+                if (!firstDeclaration) out.write(";");
+                firstDeclaration = false;
+                String property = declaration.getProperty();
+                out.map(declaration.getSource(), declaration.getLine(), declaration.getColumn());
+                // Une variable CSS peut être utilisée dans calc(), où un zéro doit garder son unité
+                out.write(property).write(":").write(compress(declaration.getValue(), property.startsWith("--")));
+            }
+            out.write("}");
+        } else if (node instanceof CssImport cssImport) {
+            out.write("@import ").write(cssImport.getUrl()).write(";");
+        }
+    }
+
+    /**
+     * Méthode compressant une valeur en une seule passe : les commentaires et les espaces inutiles sont supprimés,
+     * chaque mot est raccourci s'il s'agit d'un nombre ou d'une couleur. Les chaînes et les url() sont recopiées.
+     *
+     * @param value          valeur
+     * @param keepZeroUnits  vrai pour garder l'unité des zéros partout (sinon, seulement entre parenthèses)
+     * @return valeur compressée (valable jusqu'au prochain appel)
+     */
+    private CharSequence compress(String value, boolean keepZeroUnits) {
+        StringBuilder result = buffer;
+        result.setLength(0);
+        int length = value.length();
+        int depth = 0;
+        boolean space = false;
+        int i = 0;
+
+        while (i < length) {
+            char c = value.charAt(i);
+
+            // Commentaire : équivaut à un espace
+            if (c == '/' && i + 1 < length && value.charAt(i + 1) == '*') {
+                int end = value.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+                space = true;
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                space = true;
+                i++;
+                continue;
+            }
+
+            // Un espace n'est gardé qu'entre deux éléments qui ne sont pas des séparateurs
+            if (space && !result.isEmpty() && !isPunctuation(result.charAt(result.length() - 1)) && (!isPunctuation(c) || c == '(')) {
+                result.append(' ');
+            }
+            space = false;
+
+            if (c == '"' || c == '\'') {
+                i = copyString(value, i, result);
+            } else if (isPunctuation(c)) {
+                if (c == '(') depth++;
+                else if (c == ')') depth--;
+                result.append(c);
+                i++;
+            } else {
+                int start = i;
+                while (i < length && !Character.isWhitespace(value.charAt(i)) && !isPunctuation(value.charAt(i))
+                        && value.charAt(i) != '"' && value.charAt(i) != '\'') i++;
+                String word = value.substring(start, i);
+                // url(...) est recopiée telle quelle
+                if (i < length && value.charAt(i) == '(' && word.equalsIgnoreCase("url")) {
+                    int end = value.indexOf(')', i);
+                    end = end < 0 ? length : end + 1;
+                    result.append(word).append(value, i, end);
+                    i = end;
+                    continue;
+                }
+                appendWord(word, !keepZeroUnits && depth == 0, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Méthode recopiant une chaîne entre guillemets.
+     * @param value valeur
+     * @param start indice du guillemet ouvrant
+     * @param result destination
+     * @return indice qui suit le guillemet fermant
+     */
+    private static int copyString(String value, int start, StringBuilder result) {
+        char quote = value.charAt(start);
+        int i = start + 1;
+        while (i < value.length() && value.charAt(i) != quote) {
+            if (value.charAt(i) == '\\') i++;
+            i++;
+        }
+        int end = Math.min(i + 1, value.length());
+        result.append(value, start, end);
+        return end;
+    }
+
+    /**
+     * Méthode indiquant si un caractère sépare des éléments sans avoir besoin d'espaces autour.
+     * La parenthèse ouvrante garde l'espace qui la précède ("and (min-width...)"), mais pas celui qui la suit.
+     */
+    private static boolean isPunctuation(char c) {
+        return c == ',' || c == '(' || c == ')' || c == '/' || c == ':';
+    }
+
+    /**
+     * Méthode écrivant un mot d'une valeur sous sa forme la plus courte :
+     * - couleur hexadécimale dont les chiffres vont par paires : #aabbcc → #abc
+     * - nombre : zéros inutiles supprimés (0.50 → .5, 1.0 → 1), unité d'un zéro supprimée pour les longueurs
+     *
+     * @param word          mot
+     * @param dropZeroUnit  vrai si l'unité d'une longueur nulle peut être supprimée
+     * @param result        destination
+     */
+    private static void appendWord(String word, boolean dropZeroUnit, StringBuilder result) {
+        int length = word.length();
+
+        if (length == 7 && word.charAt(0) == '#' && isHex(word, 1)) {
+            if (word.charAt(1) == word.charAt(2) && word.charAt(3) == word.charAt(4) && word.charAt(5) == word.charAt(6))
+                result.append('#').append(word.charAt(1)).append(word.charAt(3)).append(word.charAt(5));
+            else result.append(word);
+            return;
+        }
+
+        // Nombre : signe, chiffres (avec au plus un point) puis unité éventuelle (lettres ou %)
+        int p = 0;
+        if (p < length && (word.charAt(p) == '-' || word.charAt(p) == '+')) p++;
+        int numberStart = p;
+        int dot = -1;
+        boolean digit = false;
+        while (p < length && (Character.isDigit(word.charAt(p)) || word.charAt(p) == '.' && dot < 0)) {
+            if (word.charAt(p) == '.') dot = p;
+            else digit = true;
+            p++;
+        }
+        String unit = word.substring(p);
+        if (!digit || !isUnit(unit)) {
+            result.append(word);
+            return;
+        }
+
+        int integerStart = numberStart;
+        int integerEnd = dot < 0 ? p : dot;
+        while (integerStart < integerEnd && word.charAt(integerStart) == '0') integerStart++;
+        int fractionEnd = p;
+        if (dot >= 0) while (fractionEnd > dot + 1 && word.charAt(fractionEnd - 1) == '0') fractionEnd--;
+        boolean hasFraction = dot >= 0 && fractionEnd > dot + 1;
+
+        // Zéro : ni signe, ni unité pour une longueur
+        if (integerStart == integerEnd && !hasFraction) {
+            result.append('0');
+            if (!(dropZeroUnit && LENGTH_UNITS.contains(unit.toLowerCase()))) result.append(unit);
+            return;
+        }
+
+        result.append(word, 0, numberStart).append(word, integerStart, integerEnd);
+        if (hasFraction) result.append(word, dot, fractionEnd);
+        result.append(unit);
+    }
+
+    private static boolean isHex(String word, int start) {
+        for (int i = start; i < word.length(); i++) {
+            if (Character.digit(word.charAt(i), 16) < 0) return false;
+        }
+        return true;
+    }
+
+    private static boolean isUnit(String unit) {
+        if (unit.equals("%")) return true;
+        for (int i = 0; i < unit.length(); i++) {
+            if (!Character.isLetter(unit.charAt(i))) return false;
+        }
+        return true;
+    }
+}
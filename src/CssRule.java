@@ -0,0 +1,100 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Classe modélisant une règle CSS : une liste de sélecteurs (déjà résolus, sans imbrication) et ses déclarations,
+ * avec la position de la règle SCSS d'origine pour la source map.
+ */
+public class CssRule implements CssNode {
+
+    private final List<String> selectors;
+    private final List<CssDeclaration> declarations;
+    // Position dans le code SCSS : fichier (null si inconnu), ligne (à partir de 1, 0 si inconnue) et colonne (à partir de 0)
+    private final String source;
+    private final int line;
+    private final int column;
+
+    /**
+     * Constructeur d'une règle sans déclaration ni position d'origine.
+     * @param selectors sélecteurs de la règle
+     */
+    public CssRule(List<String> selectors) {
+        this(selectors, null, 0, 0);
+    }
+
+    /**
+     * Constructeur d'une règle sans déclaration.
+     * @param selectors sélecteurs de la règle
+     * @param source fichier SCSS de la règle
+     * @param line ligne de la règle SCSS (à partir de 1, 0 si inconnue)
+     * @param column colonne de la règle SCSS (à partir de 0)
+     */
+    public CssRule(List<String> selectors, String source, int line, int column) {
+        this.selectors = selectors;
+        this.declarations = new ArrayList<>();
+        this.source = source;
+        this.line = line;
+        this.column = column;
+    }
+
+    /**
+     * Méthode ajoutant une déclaration à la fin de la règle.
+     * @param property nom de la propriété
+     * @param value valeur évaluée
+     */
+    public void addDeclaration(String property, String value) {
+        declarations.add(new CssDeclaration(property, value));
+    }
+
+    /**
+     * Méthode ajoutant une déclaration à la fin de la règle.
+     * @param declaration déclaration
+     */
+    public void addDeclaration(CssDeclaration declaration) {
+        declarations.add(declaration);
+    }
+
+    public List<String> getSelectors() {
+        return selectors;
+    }
+
+    public List<CssDeclaration> getDeclarations() {
+        return declarations;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return declarations.isEmpty();
+    }
+
+    /**
+     * Méthode résolvant les sélecteurs d'une règle imbriquée dans une règle parente.
+     * Chaque sélecteur enfant est combiné avec chaque sélecteur parent : la référence au parent (&) est remplacée
+     * par le sélecteur parent, et un sélecteur sans référence devient un descendant du parent.
+     *
+     * @param parents   sélecteurs de la règle parente
+     * @param selectors sélecteurs de la règle imbriquée
+     * @return sélecteurs résolus
+     */
+    public static List<String> nest(List<String> parents, List<String> selectors) {
+        List<String> nested = new ArrayList<>(parents.size() * selectors.size());
+        for (String parent : parents) {
+            for (String selector : selectors) {
+                nested.add((selector.contains("&") ? selector.replace("&", parent) : parent + " " + selector).trim());
+            }
+        }
+        return nested;
+    }
+}
@@ -0,0 +1,26 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Classe modélisant une feuille de style CSS évaluée : la liste ordonnée de ses règles de premier niveau.
+ */
+public class CssStylesheet {
+
+    private final List<CssNode> nodes;
+
+    public CssStylesheet() {
+        this.nodes = new ArrayList<>();
+    }
+
+    /**
+     * Méthode ajoutant une règle à la fin de la feuille de style.
+     * @param node règle
+     */
+    public void add(CssNode node) {
+        nodes.add(node);
+    }
+
+    public List<CssNode> getNodes() {
+        return nodes;
+    }
+}
@@ -0,0 +1,130 @@
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Classe modélisant la sortie du générateur CSS.
+ * <p>
+ * Le code CSS est écrit directement dans un Appendable (Writer, StringBuilder...) à la fin de chaque instruction
+ * de premier niveau (voir ScssToCssGenerator.generate), au lieu d'être concaténé en une seule chaîne.
+ * Les espaces en début et en fin de sortie sont supprimés : les espaces finaux d'une écriture sont gardés
+ * en attente jusqu'à l'écriture suivante.
+ * <p>
+ * Avec une source map, la position (ligne, colonne) du code écrit est suivie pour enregistrer les correspondances
+ * avec le code SCSS. Sans source map, la position n'est pas calculée.
+ */
+public class CssWriter {
+
+    private final Appendable out;
+    // Espaces en attente : écrits seulement si du code non vide les suit
+    private final StringBuilder pendingWhitespace;
+    private boolean started;
+    // Source map (null si désactivée) et position de la sortie
+    private SourceMap sourceMap;
+    private int line;
+    private int column;
+
+    public CssWriter(Appendable out) {
+        this.out = out;
+        this.pendingWhitespace = new StringBuilder();
+        this.started = false;
+    }
+
+    /**
+     * Méthode activant l'enregistrement des correspondances avec le code SCSS.
+     * @param sourceMap source map
+     */
+    public void setSourceMap(SourceMap sourceMap) {
+        this.sourceMap = sourceMap;
+    }
+
+    /**
+     * Méthode enregistrant que le prochain code écrit provient d'une position du code SCSS.
+     * Sans source map, ou si la position est inconnue (fichier null ou ligne 0), rien n'est enregistré.
+     *
+     * @param source       fichier SCSS
+     * @param sourceLine   ligne dans le code SCSS (à partir de 1, comme dans ANTLR)
+     * @param sourceColumn colonne dans le code SCSS (à partir de 0)
+     */
+    public void map(String source, int sourceLine, int sourceColumn) {
+        if (sourceMap == null || source == null || sourceLine <= 0) return;
+
+        // Le prochain code sera précédé des espaces en attente (ignorés en début de sortie)
+        int nextLine = line;
+        int nextColumn = column;
+        if (started) {
+            for (int i = 0; i < pendingWhitespace.length(); i++) {
+                if (pendingWhitespace.charAt(i) == '\n') {
+                    nextLine++;
+                    nextColumn = 0;
+                } else nextColumn++;
+            }
+        }
+        sourceMap.add(nextLine, nextColumn, sourceMap.source(source), sourceLine - 1, sourceColumn);
+    }
+
+    /**
+     * Méthode avançant la position de la sortie sur du code écrit.
+     */
+    private void advance(CharSequence code, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (code.charAt(i) == '\n') {
+                line++;
+                column = 0;
+            } else column++;
+        }
+    }
+
+    /**
+     * Méthode écrivant du code CSS.
+     * @param code code CSS
+     * @return l'objet CssWriter, pour enchaîner les écritures
+     */
+    public CssWriter write(CharSequence code) {
+        int end = code.length();
+        while (end > 0 && isWhitespace(code.charAt(end - 1))) end--;
+
+        // Que des espaces : ils sont mis en attente (ou ignorés en début de sortie)
+        if (end == 0) {
+            if (started) pendingWhitespace.append(code);
+            return this;
+        }
+
+        try {
+            int start = 0;
+            if (!started) {
+                while (isWhitespace(code.charAt(start))) start++;
+                started = true;
+            } else if (!pendingWhitespace.isEmpty()) {
+                out.append(pendingWhitespace);
+                if (sourceMap != null) advance(pendingWhitespace, 0, pendingWhitespace.length());
+                pendingWhitespace.setLength(0);
+            }
+            out.append(code, start, end);
+            if (sourceMap != null) advance(code, start, end);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        pendingWhitespace.append(code, end, code.length());
+        return this;
+    }
+
+    /**
+     * Méthode terminant l'écriture : les espaces en attente sont abandonnés et la sortie est vidée si possible.
+     */
+    public void finish() {
+        pendingWhitespace.setLength(0);
+        if (out instanceof Flushable flushable) {
+            try {
+                flushable.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c <= ' ';
+    }
+}
@@ -0,0 +1,160 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Classe modélisant le graphe des dépendances entre fichiers SCSS : pour chaque fichier compilé, les modules
+ * qu'il importe (directement ou par l'intermédiaire d'autres modules).
+ * <p>
+ * Le graphe garde aussi les arcs inverses (module → fichiers qui l'importent) : quand un partiel est modifié,
+ * seuls les fichiers qui en dépendent sont recompilés. Il est enregistré dans le dossier de sortie
+ * (fichier .scss-dependencies) pour servir aux compilations suivantes.
+ * <p>
+ * Le graphe peut être mis à jour par plusieurs threads en même temps. Les chemins sont absolus.
+ */
+public class DependencyGraph {
+
+    public static final String FILE_NAME = ".scss-dependencies";
+
+    // Fichier compilé → modules importés
+    private final Map<Path, Set<Path>> dependencies;
+    // Module → fichiers compilés qui l'importent
+    private final Map<Path, Set<Path>> dependents;
+
+    public DependencyGraph() {
+        this.dependencies = new HashMap<>();
+        this.dependents = new HashMap<>();
+    }
+
+    /**
+     * Méthode enregistrant les modules importés par un fichier lors de sa dernière compilation.
+     *
+     * @param source  fichier compilé
+     * @param modules modules importés (directement ou non)
+     */
+    public synchronized void record(Path source, Collection<Path> modules) {
+        Path file = normalize(source);
+        unlink(file);
+
+        Set<Path> recorded = new LinkedHashSet<>();
+        for (Path module : modules) recorded.add(normalize(module));
+        dependencies.put(file, recorded);
+        for (Path module : recorded) dependents.computeIfAbsent(module, key -> new LinkedHashSet<>()).add(file);
+    }
+
+    /**
+     * Méthode retirant un fichier compilé du graphe (fichier supprimé ou renommé). Les arcs inverses vers ce fichier
+     * sont retirés ; si le fichier était aussi un module, les fichiers qui l'importent restent dans le graphe.
+     *
+     * @param source fichier supprimé
+     */
+    public synchronized void remove(Path source) {
+        unlink(normalize(source));
+    }
+
+    private void unlink(Path file) {
+        Set<Path> previous = dependencies.remove(file);
+        if (previous == null) return;
+        for (Path module : previous) {
+            Set<Path> files = dependents.get(module);
+            files.remove(file);
+            if (files.isEmpty()) dependents.remove(module);
+        }
+    }
+
+    /**
+     * Méthode indiquant si les dépendances d'un fichier sont connues (le fichier a déjà été compilé).
+     * @param source fichier compilé
+     * @return true si le fichier est dans le graphe
+     */
+    public synchronized boolean contains(Path source) {
+        return dependencies.containsKey(normalize(source));
+    }
+
+    /**
+     * Méthode renvoyant les modules importés par un fichier lors de sa dernière compilation.
+     * @param source fichier compilé
+     * @return modules importés (vide si le fichier n'est pas dans le graphe)
+     */
+    public synchronized Set<Path> dependenciesOf(Path source) {
+        Set<Path> modules = dependencies.get(normalize(source));
+        return modules != null ? new LinkedHashSet<>(modules) : Set.of();
+    }
+
+    /**
+     * Méthode renvoyant les fichiers compilés qui importent au moins un des fichiers modifiés,
+     * en suivant les arcs inverses du graphe.
+     *
+     * @param changed fichiers modifiés
+     * @return fichiers compilés qui en dépendent
+     */
+    public synchronized Set<Path> dependentsOf(Collection<Path> changed) {
+        Set<Path> files = new TreeSet<>();
+        for (Path file : changed) {
+            Set<Path> direct = dependents.get(normalize(file));
+            if (direct != null) files.addAll(direct);
+        }
+        return files;
+    }
+
+    /**
+     * Méthode lisant un graphe enregistré.
+     *
+     * @param file fichier du graphe
+     * @return graphe lu (vide si le fichier n'existe pas)
+     * @throws IOException si le fichier ne peut pas être lu
+     */
+    public static DependencyGraph load(Path file) throws IOException {
+        DependencyGraph graph = new DependencyGraph();
+        if (!Files.exists(file)) return graph;
+
+        // Une ligne par fichier compilé, suivie d'une ligne indentée par module importé
+        Path source = null;
+        Set<Path> modules = new LinkedHashSet<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.isEmpty()) continue;
+            if (line.charAt(0) == '\t') {
+                modules.add(Path.of(line.substring(1)));
+                continue;
+            }
+            if (source != null) graph.record(source, modules);
+            source = Path.of(line);
+            modules = new LinkedHashSet<>();
+        }
+        if (source != null) graph.record(source, modules);
+        return graph;
+    }
+
+    /**
+     * Méthode enregistrant le graphe dans un fichier.
+     *
+     * @param file fichier du graphe
+     * @throws IOException si le fichier ne peut pas être écrit
+     */
+    public synchronized void save(Path file) throws IOException {
+        if (file.getParent() != null) Files.createDirectories(file.getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (Path source : new TreeSet<>(dependencies.keySet())) {
+                writer.write(source.toString());
+                writer.newLine();
+                for (Path module : dependencies.get(source)) {
+                    writer.write('\t');
+                    writer.write(module.toString());
+                    writer.newLine();
+                }
+            }
+        }
+    }
+
+    private static Path normalize(Path file) {
+        return file.toAbsolutePath().normalize();
+    }
+}
@@ -0,0 +1,205 @@
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.dfa.DFA;
+
+import java.util.Locale;
+
+/**
+ * Classe préchauffant les caches DFA d'ANTLR avant les premières compilations.
+ * <p>
+ * Le lexer et le parser générés gardent dans un tableau statique (_decisionToDFA) les décisions déjà prises :
+ * ce cache est partagé par toutes les instances de la JVM mais il est vide au démarrage, donc les premières
+ * compilations passent par la simulation de l'ATN, beaucoup plus lente.
+ * Le préchauffage compile une feuille de style représentative (toutes les constructions de la grammaire)
+ * pour remplir ces caches, et compile au passage les méthodes du générateur par le JIT.
+ */
+public class DfaWarmup {
+
+    // Feuille de style de préchauffage : variables, listes, maps, opérations, fonctions, mixins, conditions et boucles
+    static final String CORPUS = """
+            $base-width: 100px;
+            $padding: 10px;
+            $multiplier: 2;
+            $primary-color: #3498db;
+            $large-screen: true;
+            $button-size: large;
+            $colors: red, green, blue;
+            $font-sizes: 10px, 12px, 14px;
+            $sizes: (
+              small: 12px,
+              large: 20px
+            );
+
+            @mixin flex-center {
+              display: flex;
+              justify-content: center;
+            }
+
+            @mixin button($bg-color, $text-color) {
+              background-color: $bg-color;
+              color: $text-color;
+              padding: 10px 20px;
+              transition: background-color 0.3s ease;
+
+              &:hover {
+                background-color: darken($bg-color, 10%);
+              }
+            }
+
+            @mixin box-shadow($x-offset: 0px, $y-offset: 2px, $color: rgba(0, 0, 0, 0.15)) {
+              box-shadow: $x-offset $y-offset $color;
+            }
+
+            @mixin gradient-bg($colors...) {
+              background: linear-gradient(to right, $colors);
+            }
+
+            .container {
+              @include flex-center;
+              width: $base-width * $multiplier;
+              height: 300px;
+              margin: calc($base-width - $padding) / 2;
+              padding: ($padding + 5px) * $multiplier;
+              font-size: 16px + (2px * $multiplier);
+              @include gradient-bg(red, yellow, blue);
+
+              .title {
+                width: 100% / 3;
+              }
+            }
+
+            .button-primary {
+              @include button(#3498db, white);
+              @include box-shadow();
+              @include box-shadow(0px, 4px, rgba(0, 0, 0, 0.2));
+
+              @if $large-screen and $button-size ==large {
+                font-size: 18px;
+              }
+
+              @else if $button-size ==small {
+                font-size: 12px;
+              }
+
+              @else {
+                font-size: 14px;
+              }
+
+              @if not $large-screen {
+                border: 1px solid $primary-color;
+              }
+            }
+
+            @each $color in $colors {
+              .text-#{$color} {
+                color: $color;
+              }
+            }
+
+            @each $size-name, $size-value in $sizes {
+              .font-#{$size-name} {
+                font-size: $size-value;
+              }
+            }
+
+            @for $i from 1 through length($font-sizes) {
+              .font-size-#{$i} {
+                font-size: nth($font-sizes, $i);
+              }
+            }
+
+            @for $i from 1 to 3 {
+              .col-#{$i} {
+                width: calc(100% / 12) * $i;
+              }
+            }
+
+            @media (min-width: 768px) {
+              .responsive-box {
+                width: calc($base-width + (50px / 2));
+              }
+            }
+            """;
+
+    // Vrai une fois le préchauffage terminé (il n'est fait qu'une fois par JVM)
+    private static boolean warm;
+
+    /**
+     * Méthode préchauffant les caches DFA du lexer et du parser, si ce n'est pas déjà fait.
+     * <p>
+     * Les erreurs éventuelles sont ignorées : le préchauffage ne sert qu'à remplir les caches.
+     *
+     * @return durée du préchauffage en millisecondes (0 s'il avait déjà été fait)
+     */
+    public static synchronized long warmUp() {
+        if (warm) return 0;
+        long start = System.nanoTime();
+
+        ScssLexer lexer = new ScssLexer(CharStreams.fromString(CORPUS, "préchauffage"));
+        lexer.removeErrorListeners();
+        ScssParser parser = new ScssParser(new CommonTokenStream(lexer));
+        parser.removeErrorListeners();
+        // Même mode que la première étape de ScssCompiler.parse, sans compter l'analyse dans ses statistiques
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        ScssParser.StylesheetContext stylesheet = parser.stylesheet();
+
+        // Les mixins du corpus de préchauffage ne comptent pas dans le bilan des compilations
+        ScssToCssGenerator generator = new ScssToCssGenerator();
+        generator.setCountMixins(false);
+        try {
+            generator.generate(stylesheet, new CssWriter(new StringBuilder()));
+        } catch (RuntimeException ignored) {
+            // Seuls les caches comptent
+        }
+
+        warm = true;
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    /**
+     * Méthode lançant le préchauffage dans un thread en arrière-plan, pendant que le programme prépare la compilation
+     * (recherche des fichiers, lecture du cache...). Les compilations peuvent commencer avant la fin du préchauffage :
+     * les caches DFA d'ANTLR supportent les accès concurrents.
+     *
+     * @return thread de préchauffage
+     */
+    public static Thread startInBackground() {
+        Thread thread = new Thread(() -> System.out.printf("Préchauffage des DFA : %d ms%n", warmUp()), "dfa-warmup");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * Méthode renvoyant la taille des caches DFA du lexer et du parser.
+     * @return bilan affichable
+     */
+    public static String statistics() {
+        return String.format(Locale.ROOT, "DFA : lexer %d état(s), parser %d état(s) (%d décision(s) sur %d déjà rencontrée(s))",
+                states(ScssLexer._decisionToDFA), states(ScssParser._decisionToDFA),
+                visitedDecisions(ScssParser._decisionToDFA), ScssParser._decisionToDFA.length);
+    }
+
+    /**
+     * Méthode comptant les états d'un tableau de DFA.
+     * @param dfas DFA d'un lexer ou d'un parser
+     * @return nombre total d'états
+     */
+    private static int states(DFA[] dfas) {
+        int states = 0;
+        for (DFA dfa : dfas) states += dfa.states.size();
+        return states;
+    }
+
+    /**
+     * Méthode comptant les décisions dont le DFA n'est plus vide.
+     * @param dfas DFA d'un parser
+     * @return nombre de décisions
+     */
+    private static int visitedDecisions(DFA[] dfas) {
+        int visited = 0;
+        for (DFA dfa : dfas) if (!dfa.states.isEmpty()) visited++;
+        return visited;
+    }
+}
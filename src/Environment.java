@@ -0,0 +1,164 @@
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Classe modélisant la portée des variables SCSS : une chaîne de cadres, du bloc en cours jusqu'au cadre global.
+ * <p>
+ * Chaque bloc (règle, @media, boucle, corps de mixin, bloc passé à un mixin...) ouvre un cadre qui pointe vers
+ * le cadre englobant : entrer dans un bloc ou en sortir ne copie aucune table, et la table d'un cadre n'est créée
+ * qu'à sa première variable. Une variable est cherchée du cadre en cours vers le cadre global ; chaque cadre garde
+ * le dernier cadre englobant où il a trouvé une variable, pour ne pas reparcourir la chaîne à chaque utilisation.
+ * <p>
+ * Une affectation suit les règles de Sass :
+ * - avec !global, la variable est affectée dans le cadre global ;
+ * - une variable qui existe déjà dans un cadre local englobant y est modifiée ;
+ * - dans un bloc de contrôle (@if, @for, @each) au premier niveau, la variable est affectée dans le cadre global ;
+ * - sinon, elle est déclarée dans le cadre en cours et masque les variables du même nom des cadres englobants.
+ */
+public class Environment {
+
+    private final Environment parent;
+    private final Environment global;
+    // Bloc de contrôle (@if, @for, @each) : au premier niveau, ses variables sont globales
+    private final boolean flowControl;
+    // Le cadre global d'un module importé est partagé par tous les fichiers : il ne peut pas être modifié
+    private final boolean readOnly;
+    // Variables du cadre (null tant qu'aucune variable n'y est déclarée)
+    private Map<String, Variable> variables;
+    // Dernière variable trouvée dans un cadre englobant : son nom et ce cadre
+    private String lastName;
+    private Environment lastFrame;
+
+    /**
+     * Constructeur du cadre global (les variables gardent leur ordre de déclaration, pour :root).
+     */
+    public Environment() {
+        this(null, new LinkedHashMap<>(), false, false);
+    }
+
+    private Environment(Environment parent, Map<String, Variable> variables, boolean flowControl, boolean readOnly) {
+        this.parent = parent;
+        this.global = parent != null ? parent.global : this;
+        this.variables = variables;
+        this.flowControl = flowControl;
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Méthode créant un cadre global en lecture seule sur les variables d'un module, sans les copier.
+     * @param variables variables exportées par le module
+     * @return cadre global
+     */
+    public static Environment of(Map<String, Variable> variables) {
+        return new Environment(null, variables, false, true);
+    }
+
+    /**
+     * Méthode ouvrant un cadre pour un bloc.
+     * @return nouveau cadre, dont le cadre englobant est celui-ci
+     */
+    public Environment push() {
+        return new Environment(this, null, false, false);
+    }
+
+    /**
+     * Méthode ouvrant un cadre pour un bloc de contrôle (@if, @for, @each).
+     * @return nouveau cadre, dont le cadre englobant est celui-ci
+     */
+    public Environment pushFlowControl() {
+        return new Environment(this, null, true, false);
+    }
+
+    public boolean isGlobal() {
+        return parent == null;
+    }
+
+    public Environment getGlobal() {
+        return global;
+    }
+
+    /**
+     * Méthode renvoyant les variables déclarées dans ce cadre uniquement.
+     * @return variables du cadre
+     */
+    public Map<String, Variable> getVariables() {
+        return variables != null ? variables : Map.of();
+    }
+
+    /**
+     * Méthode cherchant une variable, du cadre en cours vers le cadre global.
+     *
+     * @param name nom de la variable (sans $)
+     * @return variable, null si elle n'est déclarée dans aucun cadre
+     */
+    public Variable get(String name) {
+        if (variables != null) {
+            Variable variable = variables.get(name);
+            if (variable != null) return variable;
+        }
+
+        // Aucun cadre entre celui-ci et le cadre trouvé ne reçoit de nouvelle variable tant que celui-ci est ouvert
+        if (name.equals(lastName)) {
+            Variable variable = lastFrame.variables.get(name);
+            if (variable != null) return variable;
+        }
+
+        for (Environment frame = parent; frame != null; frame = frame.parent) {
+            if (frame.variables == null) continue;
+            Variable variable = frame.variables.get(name);
+            if (variable != null) {
+                lastName = name;
+                lastFrame = frame;
+                return variable;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Méthode déclarant une variable dans ce cadre, sans chercher dans les cadres englobants
+     * (paramètres d'un mixin, variable de boucle, membres d'un module importé).
+     *
+     * @param name     nom de la variable (sans $)
+     * @param variable variable
+     */
+    public void declare(String name, Variable variable) {
+        if (readOnly) throw new RuntimeException("La variable " + name + " d'un module importé ne peut pas être modifiée");
+        if (variables == null) variables = new HashMap<>();
+        variables.put(name, variable);
+    }
+
+    /**
+     * Méthode affectant une variable selon les règles de Sass (voir la description de la classe).
+     *
+     * @param name     nom de la variable (sans $)
+     * @param variable variable
+     * @param global   vrai avec !global
+     * @return cadre dans lequel la variable a été affectée
+     */
+    public Environment assign(String name, Variable variable, boolean global) {
+        Environment frame = global ? this.global : frameFor(name);
+        frame.declare(name, variable);
+        return frame;
+    }
+
+    private Environment frameFor(String name) {
+        for (Environment frame = this; frame.parent != null; frame = frame.parent) {
+            if (frame.variables != null && frame.variables.containsKey(name)) return frame;
+        }
+        for (Environment frame = this; frame.parent != null; frame = frame.parent) {
+            if (!frame.flowControl) return this;
+        }
+        return global;
+    }
+
+    /**
+     * Méthode vidant le cadre, avant une nouvelle feuille de style.
+     */
+    public void clear() {
+        if (variables != null) variables.clear();
+        lastName = null;
+        lastFrame = null;
+    }
+}
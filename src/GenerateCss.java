@@ -1,24 +1,100 @@
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.CommonTokenStream;
-
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * Point d'entrée du compilateur.
+ * <p>
+ * Utilisation :
+ * - GenerateCss : compile le fichier inputPath dans outputPath
+ * - GenerateCss fichier.scss fichier.css : compile un seul fichier
+ * - GenerateCss dossierScss dossierCss [--jobs n] [--cache-dir dossier | --no-cache] : compile tous les fichiers SCSS
+ *   du dossier (partiels exclus) sur n threads (par défaut, le nombre de processeurs). Les fichiers inchangés depuis
+ *   la dernière compilation sont ignorés grâce au cache (par défaut dans .scss-cache).
+ *   Avec --watch, le dossier est ensuite surveillé et les fichiers modifiés sont recompilés.
+ * <p>
+ * Avec --profile-parser, le profilage d'ANTLR est activé et un rapport par décision de la grammaire est affiché à la fin.
+ * Avec --warmup, les caches DFA d'ANTLR sont préchauffés en arrière-plan dès le démarrage (voir DfaWarmup).
+ * Avec --style=compressed (ou --style compressed), le CSS est écrit sans espace ni commentaire inutile (voir CssPrinter).
+ * Avec --optimize, les règles sont fusionnées et regroupées avant d'être écrites (voir CssOptimizer).
+ * Avec --source-map, une source map (fichier.css.map) est écrite à côté de chaque fichier CSS (voir SourceMap).
+ * Avec --load-path dossier (répétable), les modules importés (@import, @use, @forward) sont aussi cherchés
+ * dans ce dossier (voir ModuleLoader).
+ * Avec --changed fichier (répétable), seuls les fichiers modifiés et les fichiers qui les importent sont compilés,
+ * d'après le graphe de dépendances de la compilation précédente (voir DependencyGraph).
+ */
 public class GenerateCss {
     public static void main(String[] args) throws IOException {
         String inputPath = "scssFiles/mixin.scss";
         String outputPath = "cssFiles/mixin.css";
+        int jobs = Runtime.getRuntime().availableProcessors();
+        String cacheDir = CompilationCache.DEFAULT_DIRECTORY;
+        boolean watch = false;
+        ParserProfile profile = null;
+        boolean warmup = false;
+        OutputStyle style = OutputStyle.EXPANDED;
+        boolean optimize = false;
+        boolean sourceMap = false;
+        List<Path> loadPaths = new ArrayList<>();
+        List<Path> changed = new ArrayList<>();
 
-        ScssLexer lexer = new ScssLexer(CharStreams.fromFileName(inputPath));
-        CommonTokenStream tokens = new CommonTokenStream(lexer);
-        ScssParser parser = new ScssParser(tokens);
+        if (args.length >= 2) {
+            inputPath = args[0];
+            outputPath = args[1];
+        }
+        for (int i = 2; i < args.length; i++) {
+            switch (args[i]) {
+                case "--jobs" -> jobs = Integer.parseInt(args[++i]);
+                case "--cache-dir" -> cacheDir = args[++i];
+                case "--no-cache" -> cacheDir = null;
+                case "--watch" -> watch = true;
+                case "--profile-parser" -> profile = new ParserProfile();
+                case "--warmup" -> warmup = true;
+                case "--optimize" -> optimize = true;
+                case "--source-map" -> sourceMap = true;
+                case "--load-path" -> loadPaths.add(Path.of(args[++i]));
+                case "--changed" -> changed.add(Path.of(args[++i]));
+                case "--style" -> style = OutputStyle.parse(args[++i]);
+                default -> {
+                    if (!args[i].startsWith("--style=")) throw new IllegalArgumentException("Argument inconnu : " + args[i]);
+                    style = OutputStyle.parse(args[i].substring("--style=".length()));
+                }
+            }
+        }
 
-        String content = new ScssToCssGenerator().visit(parser.stylesheet());
+        Path input = Path.of(inputPath);
+        Path output = Path.of(outputPath);
+        if (warmup) DfaWarmup.startInBackground();
+        ModuleLoader moduleLoader = new ModuleLoader(loadPaths);
+
+        if (Files.isDirectory(input)) {
+            CompilationCache cache = cacheDir != null ? new CompilationCache(Path.of(cacheDir)) : null;
+            BatchCompiler batch = new BatchCompiler(input, output, jobs, cache);
+            batch.setParserProfile(profile);
+            batch.setOutputStyle(style);
+            batch.setOptimize(optimize);
+            batch.setSourceMap(sourceMap);
+            batch.setModuleLoader(moduleLoader);
+            int failures = changed.isEmpty() ? batch.compileAll() : batch.compileChanged(changed);
+            if (profile != null) System.out.print(profile.report());
+            if (watch) new WatchMode(batch).run();
+            else if (failures > 0) System.exit(1);
+            return;
+        }
 
-        try (FileWriter writer = new FileWriter(outputPath)) {
-            writer.write(content);
-        } catch (IOException e) {
+        try {
+            ScssCompiler compiler = new ScssCompiler(profile);
+            compiler.setOutputStyle(style);
+            compiler.setOptimize(optimize);
+            compiler.setSourceMap(sourceMap);
+            compiler.setModuleLoader(moduleLoader);
+            compiler.compile(input, output);
+        } catch (IOException | UncheckedIOException e) {
             System.out.println("Une erreur est survenue lors de l'écriture dans le fichier : " + e.getMessage());
         }
+        if (profile != null) System.out.print(profile.report());
     }
 }
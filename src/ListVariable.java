@@ -44,4 +44,9 @@ public class ListVariable implements Variable {
     public String getType() {
         return "list";
     }
+
+    @Override
+    public SassValue getSassValue() {
+        return new SassList(Arrays.stream(values).map(Variable::getSassValue).toList());
+    }
 }
@@ -1,4 +1,5 @@
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Set;
 
 public class MapVariable implements Variable {
@@ -45,4 +46,11 @@ public class MapVariable implements Variable {
     public String getType() {
         return "map";
     }
+
+    @Override
+    public SassValue getSassValue() {
+        LinkedHashMap<String, SassValue> sassValues = new LinkedHashMap<>();
+        values.forEach((key, variable) -> sassValues.put(key, variable.getSassValue()));
+        return new SassMap(sassValues);
+    }
 }
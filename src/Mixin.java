@@ -1,82 +1,186 @@
+import org.antlr.v4.runtime.tree.ParseTree;
+
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Classe modélisant un mixin.
- * Elle permet de stocker un ruleset, les arguments du Mixin (s'il en a) ainsi que des valeurs par défaut pour ces attributs.
+ * Classe modélisant un mixin déclaré.
+ * Elle garde l'arbre de dérivation du corps du mixin et ses paramètres (noms et valeurs par défaut) : le corps
+ * est évalué par le générateur à chaque inclusion, dans une portée qui contient les variables globales
+ * et les arguments liés à leur valeur (voir ScssToCssGenerator.visitIncludeDeclaration).
+ * <p>
+ * Un mixin déclaré dans un module importé garde la portée de ce module (ses variables globales et ses mixins) :
+ * son corps est évalué avec les variables du module, pas avec celles du fichier qui l'inclut.
+ * Un mixin n'est plus modifié après sa déclaration (seuls ses corps évalués sont ajoutés, dans une table
+ * concurrente) : il peut être partagé entre plusieurs threads.
+ * <p>
+ * Un mixin dont les paramètres ne servent que de valeurs de déclarations ("border: $width solid $color") peut
+ * être découpé en gabarit (voir MixinTemplate) : son corps n'est alors évalué qu'une fois pour tous les arguments.
  */
 public class Mixin {
 
-    String[] rules;
-    String[] args;
-    HashMap<String, String> defaultValues;
-    String[] pendingCss;
+    private final ScssParser.BlockContext body;
+    // Noms des paramètres (sans $) et valeur par défaut de chacun (null s'il n'en a pas)
+    private final String[] parameters;
+    private final ScssParser.ParameterContext[] defaultValues;
+    // Vrai si le dernier paramètre reçoit tous les arguments restants ($args...)
+    private final boolean argList;
+    // Portée de déclaration (null : variables et mixins du fichier qui inclut le mixin)
+    private final Map<String, Variable> variables;
+    private final Map<String, Mixin> mixins;
+    // Corps déjà évalués par arguments, pour un mixin lié à un module (null sinon) : partagés par tous les fichiers
+    private final Map<Object, MixinBody> renderedBodies;
+    // Gabarits du corps par préfixe de propriétés imbriquées, pour un mixin lié à un module (null sinon)
+    private final Map<String, MixinTemplate> templates;
+    // Vrai si les paramètres ne servent que de valeurs de déclarations (calculé à la première inclusion)
+    private volatile Boolean templatable;
 
     /**
-     * Constructeur sans valeurs par défaut.
-     * @param rules ruleset
-     * @param args attributs du mixin
+     * Constructeur à partir de la déclaration du mixin.
+     * @param ctx déclaration @mixin
      */
-    public Mixin(String[] rules, String[] args){
-        this.rules = rules;
-        this.args = args;
-        this.defaultValues = new HashMap<>();
+    public Mixin(ScssParser.MixinDeclarationContext ctx){
+        this(ctx.block(), ctx.parameters());
     }
 
     /**
-     * Constructeurs avec valeurs par défaut.
-     * @param rules ruleset
-     * @param args attributs du mixin
-     * @param defaultValues valeurs par défaut
+     * Constructeur à partir d'un bloc et de ses paramètres : corps d'un mixin, ou bloc passé à un mixin
+     * (@include m using ($p) { ... }).
+     * @param body bloc
+     * @param declared paramètres (null s'il n'y en a pas)
      */
-    public Mixin(String[] rules, String[] args, HashMap<String, String> defaultValues){
-        this.rules = rules;
-        this.args = args;
-        this.defaultValues = defaultValues;
+    public Mixin(ScssParser.BlockContext body, ScssParser.ParametersContext declared){
+        this.body = body;
+        int count = declared != null ? declared.parameter().size() : 0;
+        this.parameters = new String[count];
+        this.defaultValues = new ScssParser.ParameterContext[count];
+
+        boolean argList = false;
+        for(int i = 0; i < count; i++){
+            ScssParser.ParameterContext p = declared.parameter(i);
+            if(p.variableName() != null){
+                // $nom: valeur par défaut
+                parameters[i] = p.variableName().getText().substring(1);
+                defaultValues[i] = p;
+            } else {
+                parameters[i] = p.listSpaceSeparated().getText().substring(1);
+                argList = p.arglist() != null;
+            }
+        }
+        this.argList = argList;
+        this.variables = null;
+        this.mixins = null;
+        this.renderedBodies = null;
+        this.templates = null;
+    }
+
+    private Mixin(Mixin mixin, Map<String, Variable> variables, Map<String, Mixin> mixins){
+        this.body = mixin.body;
+        this.parameters = mixin.parameters;
+        this.defaultValues = mixin.defaultValues;
+        this.argList = mixin.argList;
+        this.variables = variables;
+        this.mixins = mixins;
+        this.renderedBodies = new ConcurrentHashMap<>();
+        this.templates = new ConcurrentHashMap<>();
+        this.templatable = mixin.templatable;
     }
 
     /**
-     * Méthode récupérant le code compilé du ruleset du mixin.
-     * @param callArgs arguments
-     * @return chaîne compilée
+     * Méthode liant le mixin à la portée du module qui le déclare.
+     * @param variables variables globales du module
+     * @param mixins mixins du module
+     * @return mixin lié (le mixin lui-même s'il est déjà lié)
      */
-    public String convertToCss(String[] callArgs){
-
-        if(callArgs.length < args.length - defaultValues.size()) throw new RuntimeException("Il n'y a pas assez d'arguments pour la liste d'arguments");
-        String[] callRules = Arrays.stream(rules).filter(s -> !s.contains("&:")).toArray(String[]::new);
-        pendingCss = Arrays.stream(rules).filter(s -> s.contains("&:")).toArray(String[]::new);
-        for(int i = 0; i < args.length; i++){
-            String argName = args[i];
-            String value;
-            if(i < callArgs.length) value = callArgs[i];
-            else if(defaultValues.containsKey(argName)) value = defaultValues.get(argName);
-            else throw new RuntimeException("Aucun argument pour " + argName);
-
-            callRules = Arrays.stream(callRules)
-                    .map(s -> s.replace(argName, value))
-                    .toArray(String[]::new);
-
-            pendingCss = Arrays.stream(pendingCss)
-                    .map(s -> s.replace(argName, value))
-                    .toArray(String[]::new);
-        }
-        return Arrays.stream(callRules).reduce("", (a, s) -> a + "\t" + s);
+    public Mixin bind(Map<String, Variable> variables, Map<String, Mixin> mixins){
+        if(this.variables != null) return this;
+        return new Mixin(this, variables, mixins);
+    }
+
+    public ScssParser.BlockContext getBody(){
+        return body;
+    }
+
+    public String[] getParameters(){
+        return parameters;
     }
 
     /**
-     * Méthode récupérant le code compilé du ruleset du mixin sans argument.
-     * @return chaîne compilée
+     * Méthode renvoyant la valeur par défaut d'un paramètre.
+     * @param index indice du paramètre
+     * @return paramètre "$nom: valeur" de la déclaration, null si le paramètre n'a pas de valeur par défaut
      */
-    public String convertToCss(){
-        if(defaultValues != null && args.length != defaultValues.size()) throw new RuntimeException("Il n'y a pas assez de valeurs par défaut pour les attributs");
-        return convertToCss(new String[] {});
+    public ScssParser.ParameterContext getDefaultValue(int index){
+        return defaultValues[index];
+    }
+
+    public boolean hasArgList(){
+        return argList;
+    }
+
+    public Map<String, Variable> getVariables(){
+        return variables;
+    }
+
+    public Map<String, Mixin> getMixins(){
+        return mixins;
+    }
+
+    /**
+     * Méthode renvoyant les corps déjà évalués d'un mixin lié à un module. Sa portée ne change plus : un corps
+     * évalué pour des arguments reste valable pour tous les fichiers qui importent le module, sur tous les threads.
+     * @return corps évalués par arguments, null si le mixin n'est pas lié à un module
+     */
+    public Map<Object, MixinBody> getRenderedBodies(){
+        return renderedBodies;
+    }
+
+    /**
+     * Méthode renvoyant les gabarits du corps d'un mixin lié à un module, par préfixe de propriétés imbriquées.
+     * @return gabarits, null si le mixin n'est pas lié à un module
+     */
+    public Map<String, MixinTemplate> getTemplates(){
+        return templates;
+    }
+
+    /**
+     * Méthode indiquant si le corps du mixin peut être découpé en gabarit : chaque paramètre n'y est utilisé
+     * que seul, comme valeur (ou élément de la valeur) d'une déclaration. Le texte de l'argument est alors recopié
+     * tel quel, quel que soit l'argument ; utilisé dans un calcul, un appel de fonction, une condition, une boucle,
+     * une interpolation, un sélecteur ou un autre @include, il peut changer le corps lui-même.
+     * @return true si le corps peut être découpé en gabarit
+     */
+    public boolean isTemplatable(){
+        Boolean result = templatable;
+        if(result == null){
+            result = !argList && parameters.length > 0 && onlyDeclarationValues(body);
+            templatable = result;
+        }
+        return result;
+    }
+
+    private boolean onlyDeclarationValues(ParseTree tree){
+        if(tree instanceof ScssParser.VariableNameContext variable){
+            String text = variable.getText();
+            String name = text.substring(text.lastIndexOf('$') + 1);
+            return !Arrays.asList(parameters).contains(name) || isDeclarationValue(variable);
+        }
+        for(int i = 0; i < tree.getChildCount(); i++){
+            if(!onlyDeclarationValues(tree.getChild(i))) return false;
+        }
+        return true;
     }
 
     /**
-     * Méthode permettant de récupérer le code du mixin qui doit être écrit en dehors de la close.
-     * @return chaîne compilée
+     * Méthode indiquant si une variable est une valeur seule d'une déclaration :
+     * déclaration > valeur de propriété > (liste > élément de liste >) valeur > variable.
      */
-    public String[] getPendingCss(){
-        return pendingCss;
+    private static boolean isDeclarationValue(ScssParser.VariableNameContext variable){
+        if(variable.plusMinus() != null || variable.namespace_() != null || !variable.getText().startsWith("$")) return false;
+        if(!(variable.getParent() instanceof ScssParser.ValueContext value)) return false;
+        ParseTree parent = value.getParent();
+        if(parent instanceof ScssParser.ListElementContext element) parent = element.getParent().getParent();
+        return parent instanceof ScssParser.PropertyValueContext property && property.getParent() instanceof ScssParser.PropertyDeclarationContext;
     }
 }
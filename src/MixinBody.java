@@ -0,0 +1,67 @@
+import java.util.List;
+
+/**
+ * Classe modélisant le corps évalué d'un mixin pour des valeurs d'arguments données.
+ * <p>
+ * Les déclarations s'appliquent à la règle qui inclut le mixin. Les règles imbriquées référencent cette règle
+ * avec & ("&:hover", "& .icon") : leurs sélecteurs sont résolus à chaque inclusion. Un même corps peut être
+ * inclus plusieurs fois : il n'est jamais modifié, les règles sont copiées à chaque inclusion.
+ */
+public class MixinBody {
+
+    private final List<CssDeclaration> declarations;
+    private final List<CssNode> rules;
+
+    /**
+     * Constructeur.
+     * @param declarations déclarations du corps
+     * @param rules règles imbriquées
+     */
+    public MixinBody(List<CssDeclaration> declarations, List<CssNode> rules) {
+        this.declarations = declarations;
+        this.rules = rules;
+    }
+
+    /**
+     * Méthode incluant le corps : ses déclarations sont ajoutées à la règle parente, ses règles imbriquées
+     * (dont les sélecteurs sont résolus par rapport à la règle parente) sont ajoutées à la suite.
+     * @param parent règle qui inclut le mixin (null au premier niveau)
+     * @param target liste qui reçoit les règles imbriquées
+     */
+    public void include(CssRule parent, List<CssNode> target) {
+        if (!declarations.isEmpty()) {
+            if (parent == null) throw new RuntimeException("Un mixin contenant des déclarations doit être inclus dans une règle");
+            // Les déclarations ne sont jamais modifiées : elles sont partagées par toutes les inclusions
+            for (CssDeclaration declaration : declarations) parent.addDeclaration(declaration);
+        }
+
+        List<String> parentSelectors = parent != null ? parent.getSelectors() : List.of("");
+        for (CssNode rule : rules) target.add(instantiate(rule, parentSelectors));
+    }
+
+    /**
+     * Méthode copiant une règle imbriquée du corps pour une inclusion.
+     * @param node règle du corps
+     * @param parentSelectors sélecteurs de la règle qui inclut le mixin
+     * @return règle à ajouter au CSS
+     */
+    private static CssNode instantiate(CssNode node, List<String> parentSelectors) {
+        if (node instanceof CssMediaRule media) {
+            CssMediaRule copy = new CssMediaRule(media.getQuery(), media.getSource(), media.getLine(), media.getColumn());
+            for (CssNode child : media.getChildren()) copy.getChildren().add(instantiate(child, parentSelectors));
+            return copy;
+        }
+        CssRule rule = (CssRule) node;
+        CssRule copy = new CssRule(CssRule.nest(parentSelectors, rule.getSelectors()), rule.getSource(), rule.getLine(), rule.getColumn());
+        copy.getDeclarations().addAll(rule.getDeclarations());
+        return copy;
+    }
+
+    public List<CssDeclaration> getDeclarations() {
+        return declarations;
+    }
+
+    public List<CssNode> getRules() {
+        return rules;
+    }
+}
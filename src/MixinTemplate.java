@@ -0,0 +1,206 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Classe modélisant le corps d'un mixin découpé en gabarits : le corps est évalué une seule fois, avec un repère
+ * à la place de chaque argument, puis chaque valeur de déclaration est découpée en morceaux fixes séparés
+ * par les emplacements des arguments. Une inclusion avec de nouveaux arguments remplit les emplacements
+ * en un seul parcours, sans évaluer le corps à nouveau.
+ * <p>
+ * Seul un mixin dont les paramètres ne servent que de valeurs de déclarations peut être découpé
+ * (voir Mixin.isTemplatable) : un paramètre utilisé dans un calcul, une condition ou un sélecteur
+ * change le corps lui-même, pas seulement le texte des valeurs.
+ */
+public class MixinTemplate {
+
+    // Corps qui ne peut pas être découpé : un repère apparaît ailleurs que dans une valeur de déclaration
+    static final MixinTemplate NONE = new MixinTemplate(null, null);
+
+    // Le repère de l'argument n est n entre deux caractères à usage privé, absents du code SCSS
+    private static final char SLOT_START = '\uE000';
+    private static final char SLOT_END = '\uE001';
+
+    // Gabarits des déclarations du corps et des règles imbriquées
+    private final DeclarationTemplate[] declarations;
+    private final NodeTemplate[] rules;
+
+    private MixinTemplate(DeclarationTemplate[] declarations, NodeTemplate[] rules) {
+        this.declarations = declarations;
+        this.rules = rules;
+    }
+
+    /**
+     * Méthode renvoyant les repères à passer comme arguments pour évaluer le corps à découper.
+     * @param count nombre de paramètres du mixin
+     * @return repères, un par paramètre
+     */
+    static List<String> markers(int count) {
+        List<String> markers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) markers.add(SLOT_START + Integer.toString(i) + SLOT_END);
+        return markers;
+    }
+
+    /**
+     * Méthode découpant un corps évalué avec les repères des arguments.
+     * @param body corps évalué avec markers()
+     * @return gabarit du corps, NONE si un repère apparaît ailleurs que dans une valeur de déclaration
+     */
+    static MixinTemplate compile(MixinBody body) {
+        DeclarationTemplate[] declarations = compile(body.getDeclarations());
+        NodeTemplate[] rules = new NodeTemplate[body.getRules().size()];
+        for (int i = 0; i < rules.length; i++) {
+            rules[i] = NodeTemplate.compile(body.getRules().get(i));
+            if (rules[i] == null) return NONE;
+        }
+        return declarations != null ? new MixinTemplate(declarations, rules) : NONE;
+    }
+
+    private static DeclarationTemplate[] compile(List<CssDeclaration> declarations) {
+        DeclarationTemplate[] templates = new DeclarationTemplate[declarations.size()];
+        for (int i = 0; i < templates.length; i++) {
+            CssDeclaration declaration = declarations.get(i);
+            if (hasMarker(declaration.getProperty())) return null;
+            templates[i] = new DeclarationTemplate(declaration, Template.compile(declaration.getValue()));
+        }
+        return templates;
+    }
+
+    private static boolean hasMarker(String text) {
+        return text.indexOf(SLOT_START) >= 0;
+    }
+
+    public boolean isUsable() {
+        return declarations != null;
+    }
+
+    /**
+     * Méthode remplissant les emplacements avec les valeurs des arguments.
+     * @param values valeurs des arguments (dans l'ordre des paramètres du mixin)
+     * @return corps évalué pour ces valeurs
+     */
+    public MixinBody fill(String[] values) {
+        List<CssDeclaration> filled = new ArrayList<>(declarations.length);
+        for (DeclarationTemplate declaration : declarations) filled.add(declaration.fill(values));
+        List<CssNode> nodes = new ArrayList<>(rules.length);
+        for (NodeTemplate rule : rules) nodes.add(rule.fill(values));
+        return new MixinBody(filled, nodes);
+    }
+
+    /**
+     * Classe modélisant un texte découpé en morceaux fixes, séparés par les emplacements des arguments.
+     * <p>
+     * "1 solid 0" donne les morceaux ["", " solid ", ""] et les emplacements [1, 0].
+     */
+    private static final class Template {
+
+        private final String[] parts;
+        // Indice de l'argument de chaque emplacement (un emplacement de moins que de morceaux)
+        private final int[] slots;
+        // Longueur totale des morceaux fixes
+        private final int fixedLength;
+
+        private Template(String[] parts, int[] slots) {
+            this.parts = parts;
+            this.slots = slots;
+            int length = 0;
+            for (String part : parts) length += part.length();
+            this.fixedLength = length;
+        }
+
+        /**
+         * Méthode repérant les emplacements des arguments dans un texte.
+         * @param text texte évalué avec les repères
+         * @return gabarit du texte
+         */
+        static Template compile(String text) {
+            List<String> parts = new ArrayList<>();
+            List<Integer> slots = new ArrayList<>();
+            int start = 0;
+            int marker;
+            while ((marker = text.indexOf(SLOT_START, start)) >= 0) {
+                int end = text.indexOf(SLOT_END, marker);
+                parts.add(text.substring(start, marker));
+                slots.add(Integer.parseInt(text, marker + 1, end, 10));
+                start = end + 1;
+            }
+            parts.add(text.substring(start));
+            return new Template(parts.toArray(String[]::new), slots.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        boolean isFixed() {
+            return slots.length == 0;
+        }
+
+        /**
+         * Méthode remplissant les emplacements avec les valeurs des arguments.
+         * @param values valeurs des arguments (dans l'ordre des paramètres du mixin)
+         * @return texte avec les valeurs
+         */
+        String fill(String[] values) {
+            if (slots.length == 0) return parts[0];
+            int length = fixedLength;
+            for (int slot : slots) length += values[slot].length();
+
+            StringBuilder text = new StringBuilder(length);
+            for (int i = 0; i < slots.length; i++) text.append(parts[i]).append(values[slots[i]]);
+            return text.append(parts[slots.length]).toString();
+        }
+    }
+
+    /**
+     * Classe modélisant une déclaration du corps et le gabarit de sa valeur.
+     */
+    private record DeclarationTemplate(CssDeclaration declaration, Template value) {
+
+        /**
+         * Méthode copiant la déclaration pour une inclusion (la position reste celle du corps du mixin).
+         * Une déclaration sans emplacement est partagée : les déclarations ne sont jamais modifiées.
+         */
+        CssDeclaration fill(String[] values) {
+            if (value.isFixed()) return declaration;
+            return new CssDeclaration(declaration.getProperty(), value.fill(values), declaration.getSource(),
+                    declaration.getLine(), declaration.getColumn());
+        }
+    }
+
+    /**
+     * Classe modélisant une règle imbriquée du corps avec les gabarits de ses déclarations.
+     */
+    private record NodeTemplate(CssNode node, DeclarationTemplate[] declarations, NodeTemplate[] children) {
+
+        /**
+         * Méthode découpant une règle imbriquée.
+         * @param node règle ou règle @media évaluée avec les repères
+         * @return gabarit, null si un repère apparaît dans un sélecteur, une requête ou un nom de propriété
+         */
+        static NodeTemplate compile(CssNode node) {
+            if (node instanceof CssMediaRule media) {
+                if (hasMarker(media.getQuery())) return null;
+                NodeTemplate[] children = new NodeTemplate[media.getChildren().size()];
+                for (int i = 0; i < children.length; i++) {
+                    children[i] = compile(media.getChildren().get(i));
+                    if (children[i] == null) return null;
+                }
+                return new NodeTemplate(node, new DeclarationTemplate[0], children);
+            }
+            CssRule rule = (CssRule) node;
+            for (String selector : rule.getSelectors()) {
+                if (hasMarker(selector)) return null;
+            }
+            DeclarationTemplate[] declarations = MixinTemplate.compile(rule.getDeclarations());
+            return declarations != null ? new NodeTemplate(node, declarations, new NodeTemplate[0]) : null;
+        }
+
+        CssNode fill(String[] values) {
+            if (node instanceof CssMediaRule media) {
+                CssMediaRule copy = new CssMediaRule(media.getQuery(), media.getSource(), media.getLine(), media.getColumn());
+                for (NodeTemplate child : children) copy.getChildren().add(child.fill(values));
+                return copy;
+            }
+            CssRule rule = (CssRule) node;
+            CssRule copy = new CssRule(rule.getSelectors(), rule.getSource(), rule.getLine(), rule.getColumn());
+            for (DeclarationTemplate declaration : declarations) copy.addDeclaration(declaration.fill(values));
+            return copy;
+        }
+    }
+}
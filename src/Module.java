@@ -0,0 +1,136 @@
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Classe modélisant un module SCSS évalué : un fichier chargé par @import, @use ou @forward.
+ * <p>
+ * Un module est évalué une seule fois (voir ModuleLoader) puis partagé par tous les fichiers qui l'importent,
+ * éventuellement sur plusieurs threads : son contenu ne doit plus être modifié. Les règles CSS sont copiées
+ * à chaque import, car les passes suivantes (optimisation...) peuvent modifier les règles sur place.
+ */
+public class Module {
+
+    private final Path path;
+    // Arbre de dérivation du fichier, analysé une seule fois
+    private final ScssParser.StylesheetContext tree;
+    // Membres exportés : variables globales et mixins (y compris ceux des modules importés par ce module)
+    private final Map<String, Variable> variables;
+    private final Map<String, Mixin> mixins;
+    // CSS produit par le module lui-même (les modules utilisés avec @use sont dans uses)
+    private final List<CssNode> nodes;
+    // Imports CSS conservés du module et des modules qu'il importe
+    private final List<CssImport> cssImports;
+    // Modules chargés avec @use ou @forward, dont le CSS doit être écrit une seule fois avant celui du module
+    private final List<Module> uses;
+    // Fichiers des modules importés par ce module, directement ou non
+    private final Set<Path> dependencies;
+
+    /**
+     * Constructeur.
+     * @param path       chemin absolu du fichier
+     * @param tree       arbre de dérivation du fichier
+     * @param variables  variables globales exportées
+     * @param mixins     mixins exportés
+     * @param nodes      règles CSS du module
+     * @param cssImports imports CSS conservés
+     * @param uses       modules chargés avec @use ou @forward
+     * @param dependencies fichiers des modules importés, directement ou non
+     */
+    public Module(Path path, ScssParser.StylesheetContext tree, Map<String, Variable> variables, Map<String, Mixin> mixins, List<CssNode> nodes,
+                  List<CssImport> cssImports, List<Module> uses, Set<Path> dependencies) {
+        this.path = path;
+        this.tree = tree;
+        this.variables = variables;
+        this.mixins = mixins;
+        this.nodes = nodes;
+        this.cssImports = cssImports;
+        this.uses = uses;
+        this.dependencies = dependencies;
+    }
+
+    /**
+     * Méthode renvoyant le nom de l'espace de noms d'un module chargé avec @use : le nom du fichier,
+     * sans "_" ni extension ("lib/_variables.scss" → "variables").
+     *
+     * @param url chemin écrit dans le @use
+     * @return espace de noms par défaut
+     */
+    public static String defaultNamespace(String url) {
+        String name = url.substring(url.lastIndexOf('/') + 1);
+        if (name.startsWith("_")) name = name.substring(1);
+        int extension = name.lastIndexOf('.');
+        return extension > 0 ? name.substring(0, extension) : name;
+    }
+
+    /**
+     * Méthode copiant les règles CSS du module, pour les ajouter au CSS d'un fichier qui l'importe.
+     * @param target liste dans laquelle ajouter les copies
+     */
+    public void copyNodes(List<CssNode> target) {
+        for (CssNode node : nodes) target.add(copy(node));
+    }
+
+    private static CssNode copy(CssNode node) {
+        if (node instanceof CssRule rule) {
+            CssRule copy = new CssRule(rule.getSelectors(), rule.getSource(), rule.getLine(), rule.getColumn());
+            copy.getDeclarations().addAll(rule.getDeclarations());
+            return copy;
+        }
+        if (node instanceof CssMediaRule media) {
+            CssMediaRule copy = new CssMediaRule(media.getQuery(), media.getSource(), media.getLine(), media.getColumn());
+            for (CssNode child : media.getChildren()) copy.getChildren().add(copy(child));
+            return copy;
+        }
+        // Les déclarations et les imports ne sont jamais modifiés : ils peuvent être partagés
+        return node;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public ScssParser.StylesheetContext getTree() {
+        return tree;
+    }
+
+    public Map<String, Variable> getVariables() {
+        return variables;
+    }
+
+    public Map<String, Mixin> getMixins() {
+        return mixins;
+    }
+
+    public List<CssImport> getCssImports() {
+        return cssImports;
+    }
+
+    public List<Module> getUses() {
+        return uses;
+    }
+
+    public Set<Path> getDependencies() {
+        return dependencies;
+    }
+
+    /**
+     * Méthode créant un module à partir de l'état d'un générateur après l'évaluation d'un fichier.
+     * Les tables sont copiées : le générateur peut ensuite être réinitialisé.
+     */
+    static Module of(Path path, ScssParser.StylesheetContext tree, Map<String, Variable> variables, Map<String, Mixin> mixins, List<CssNode> nodes,
+                     List<CssImport> cssImports, List<Module> uses, Set<Path> dependencies) {
+        // Variables du cadre global du générateur : les variables locales (blocs, boucles) n'y sont jamais
+        LinkedHashMap<String, Variable> exported = new LinkedHashMap<>(variables);
+        // Chaque mixin garde la portée du module : il est évalué avec les variables du module, pas celles de l'appelant
+        HashMap<String, Mixin> exportedMixins = new HashMap<>();
+        for (Map.Entry<String, Mixin> entry : mixins.entrySet()) exportedMixins.put(entry.getKey(), entry.getValue().bind(exported, exportedMixins));
+        return new Module(path, tree, exported, exportedMixins, new ArrayList<>(nodes), new ArrayList<>(cssImports), new ArrayList<>(uses),
+                new LinkedHashSet<>(dependencies));
+    }
+}
@@ -0,0 +1,227 @@
+import org.antlr.v4.runtime.CharStreams;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Classe chargeant les modules SCSS importés par @import, @use et @forward.
+ * <p>
+ * Un chemin importé est cherché d'abord dans le dossier du fichier qui l'importe, puis dans chaque dossier
+ * de chargement (--load-path), sous les formes _nom.scss, nom.scss, nom/_index.scss et nom/index.scss.
+ * <p>
+ * Chaque module est analysé et évalué une seule fois, puis gardé en mémoire : un partiel importé par
+ * de nombreux fichiers n'est plus relu ni réanalysé pour chacun d'eux. Un module configuré
+ * (@use ... with ($nom: valeur)) est évalué à part, une fois par configuration. Le cache peut être utilisé par
+ * plusieurs threads en même temps ; il doit être vidé (clear()) quand les fichiers SCSS changent.
+ * <p>
+ * Chaque module a son propre chargement : le premier thread qui en a besoin l'évalue, les autres attendent
+ * ce module seulement, et des modules différents sont évalués en parallèle. Un import circulaire est détecté
+ * dans un même thread (chaîne des modules en cours d'évaluation), ou entre threads quand un thread attendrait
+ * un module dont l'évaluation attend elle-même un module de sa chaîne.
+ */
+public class ModuleLoader {
+
+    private final List<Path> loadPaths;
+    // Modules évalués ou en cours d'évaluation, par chemin absolu et configuration
+    private final ConcurrentHashMap<ModuleKey, Loading> modules;
+    // Modules en cours d'évaluation par le thread en cours, pour détecter les imports circulaires
+    private final ThreadLocal<Set<Path>> loading;
+    // Chargement attendu par chaque thread bloqué, pour détecter les imports circulaires entre threads
+    private final ConcurrentHashMap<Thread, Loading> waiting;
+    private final AtomicInteger hits;
+    private final AtomicInteger loads;
+
+    public ModuleLoader() {
+        this(List.of());
+    }
+
+    /**
+     * Constructeur.
+     * @param loadPaths dossiers dans lesquels chercher les modules qui ne sont pas à côté du fichier qui les importe
+     */
+    public ModuleLoader(List<Path> loadPaths) {
+        this.loadPaths = new ArrayList<>(loadPaths);
+        this.modules = new ConcurrentHashMap<>();
+        this.loading = ThreadLocal.withInitial(HashSet::new);
+        this.waiting = new ConcurrentHashMap<>();
+        this.hits = new AtomicInteger();
+        this.loads = new AtomicInteger();
+    }
+
+    /**
+     * Méthode cherchant le fichier d'un module.
+     *
+     * @param url         chemin écrit dans l'import, sans guillemets
+     * @param importerDir dossier du fichier qui importe (null s'il est inconnu)
+     * @return chemin absolu du fichier
+     * @throws RuntimeException si aucun fichier ne correspond
+     */
+    public Path resolve(String url, Path importerDir) {
+        if (importerDir != null) {
+            Path found = resolveIn(importerDir, url);
+            if (found != null) return found;
+        }
+        for (Path loadPath : loadPaths) {
+            Path found = resolveIn(loadPath, url);
+            if (found != null) return found;
+        }
+        throw new RuntimeException("Le module " + url + " est introuvable");
+    }
+
+    private static Path resolveIn(Path directory, String url) {
+        Path base = directory.resolve(url);
+        String name = base.getFileName().toString();
+
+        List<Path> candidates = name.endsWith(".scss")
+                ? List.of(base)
+                : List.of(base.resolveSibling("_" + name + ".scss"), base.resolveSibling(name + ".scss"),
+                          base.resolve("_index.scss"), base.resolve("index.scss"));
+        for (Path candidate : candidates) {
+            if (Files.isRegularFile(candidate)) return candidate.toAbsolutePath().normalize();
+        }
+        return null;
+    }
+
+    /**
+     * Méthode renvoyant un module évalué, en le chargeant s'il n'est pas encore en cache.
+     *
+     * @param url         chemin écrit dans l'import, sans guillemets
+     * @param importerDir dossier du fichier qui importe (null s'il est inconnu)
+     * @return module
+     * @throws RuntimeException si le module est introuvable, contient une erreur ou s'importe lui-même
+     */
+    public Module load(String url, Path importerDir) {
+        return load(url, importerDir, Map.of());
+    }
+
+    /**
+     * Méthode renvoyant un module évalué avec une configuration, en le chargeant s'il n'est pas encore en cache.
+     *
+     * @param url           chemin écrit dans l'import, sans guillemets
+     * @param importerDir   dossier du fichier qui importe (null s'il est inconnu)
+     * @param configuration valeurs des variables !default du module (@use ... with), vide sans configuration
+     * @return module
+     * @throws RuntimeException si le module est introuvable, contient une erreur ou s'importe lui-même
+     */
+    public Module load(String url, Path importerDir, Map<String, String> configuration) {
+        Path path = resolve(url, importerDir);
+        ModuleKey key = new ModuleKey(path, configuration);
+        Set<Path> chain = loading.get();
+        if (chain.contains(path)) throw new RuntimeException("Import circulaire du module " + path);
+
+        // Le premier thread qui enregistre le chargement évalue le module, les autres attendent son résultat
+        Loading created = new Loading(path, Thread.currentThread(), new CompletableFuture<>());
+        Loading existing = modules.putIfAbsent(key, created);
+        if (existing != null) {
+            hits.incrementAndGet();
+            return await(path, existing, chain);
+        }
+
+        chain.add(path);
+        try {
+            Module module = evaluate(path, configuration);
+            created.module().complete(module);
+            loads.incrementAndGet();
+            return module;
+        } catch (RuntimeException e) {
+            // Un module en erreur n'est pas gardé : il sera réévalué au prochain import
+            modules.remove(key, created);
+            created.module().completeExceptionally(e);
+            throw e;
+        } finally {
+            chain.remove(path);
+        }
+    }
+
+    /**
+     * Méthode attendant un module évalué par un autre thread.
+     *
+     * @param path    chemin du module
+     * @param entry   chargement du module
+     * @param chain   modules en cours d'évaluation par ce thread
+     * @return module
+     * @throws RuntimeException si l'évaluation du module attend un module de la chaîne (import circulaire)
+     */
+    private Module await(Path path, Loading entry, Set<Path> chain) {
+        if (entry.module().isDone()) return join(entry);
+
+        // Enregistré avant la vérification : deux threads qui s'attendent l'un l'autre voient au moins l'attente de l'autre
+        Thread current = Thread.currentThread();
+        waiting.put(current, entry);
+        try {
+            Loading next = entry;
+            for (int i = 0; i <= modules.size() && next != null && !next.module().isDone(); i++) {
+                next = waiting.get(next.owner());
+                if (next != null && chain.contains(next.path())) throw new RuntimeException("Import circulaire du module " + path);
+            }
+            return join(entry);
+        } finally {
+            waiting.remove(current);
+        }
+    }
+
+    private static Module join(Loading entry) {
+        try {
+            return entry.module().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    /**
+     * Méthode analysant et évaluant un fichier, avec un compilateur et un générateur qui lui sont propres
+     * (le générateur du fichier qui importe est en cours d'évaluation).
+     */
+    private Module evaluate(Path path, Map<String, String> configuration) {
+        ScssParser.StylesheetContext tree;
+        try {
+            tree = new ScssCompiler().parse(CharStreams.fromPath(path, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        ScssToCssGenerator generator = new ScssToCssGenerator();
+        generator.setModuleLoader(this);
+        return generator.evaluateModule(path, tree, configuration);
+    }
+
+    /**
+     * Clé d'un module en cache : son fichier et sa configuration.
+     */
+    private record ModuleKey(Path path, Map<String, String> configuration) {
+    }
+
+    /**
+     * Chargement d'un module : son fichier, le thread qui l'évalue et le module, disponible à la fin de l'évaluation.
+     */
+    private record Loading(Path path, Thread owner, CompletableFuture<Module> module) {
+    }
+
+    /**
+     * Méthode vidant le cache des modules, pour relire les fichiers modifiés.
+     */
+    public void clear() {
+        modules.clear();
+    }
+
+    /**
+     * Méthode renvoyant le bilan du chargement des modules.
+     * @return bilan affichable
+     */
+    public String statistics() {
+        return String.format("Modules : %d chargé(s), %d réutilisé(s) depuis le cache", loads.get(), hits.get());
+    }
+}
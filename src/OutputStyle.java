@@ -0,0 +1,23 @@
+/**
+ * Styles d'écriture du code CSS.
+ * <p>
+ * - EXPANDED : une déclaration par ligne, règles séparées par une ligne vide (style par défaut)
+ * - COMPRESSED : aucun espace ni commentaire inutile, nombres et couleurs sous leur forme la plus courte
+ */
+public enum OutputStyle {
+    EXPANDED,
+    COMPRESSED;
+
+    /**
+     * Méthode renvoyant le style correspondant à un nom ("expanded" ou "compressed").
+     * @param name nom du style
+     * @return style
+     * @throws IllegalArgumentException si le style n'existe pas
+     */
+    public static OutputStyle parse(String name) {
+        for (OutputStyle style : values()) {
+            if (style.name().equalsIgnoreCase(name)) return style;
+        }
+        throw new IllegalArgumentException("Style de sortie inconnu : " + name);
+    }
+}
@@ -0,0 +1,96 @@
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.atn.DecisionInfo;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+
+/**
+ * Classe cumulant les mesures du profilage d'ANTLR (ProfilingATNSimulator) pour chaque décision de ScssParser,
+ * sur toutes les analyses syntaxiques d'une compilation (mode --profile-parser).
+ * <p>
+ * Pour chaque décision, le rapport donne la règle de la grammaire, le nombre d'appels, la profondeur de lecture
+ * anticipée (lookahead) en SLL et en LL, le nombre de reprises en LL, d'ambiguïtés et le temps passé à prédire.
+ */
+public class ParserProfile {
+
+    private final String[] ruleNames;
+    private final int[] decisionRules;
+
+    private final long[] invocations;
+    private final long[] timeInPrediction;
+    private final long[] sllTotalLook;
+    private final long[] sllMaxLook;
+    private final long[] llTotalLook;
+    private final long[] llMaxLook;
+    private final long[] llFallbacks;
+    private final long[] ambiguities;
+    private final long[] contextSensitivities;
+    private final long[] errors;
+
+    public ParserProfile() {
+        ruleNames = ScssParser.ruleNames;
+        int decisions = ScssParser._ATN.getNumberOfDecisions();
+        decisionRules = new int[decisions];
+        for (int d = 0; d < decisions; d++) decisionRules[d] = ScssParser._ATN.getDecisionState(d).ruleIndex;
+
+        invocations = new long[decisions];
+        timeInPrediction = new long[decisions];
+        sllTotalLook = new long[decisions];
+        sllMaxLook = new long[decisions];
+        llTotalLook = new long[decisions];
+        llMaxLook = new long[decisions];
+        llFallbacks = new long[decisions];
+        ambiguities = new long[decisions];
+        contextSensitivities = new long[decisions];
+        errors = new long[decisions];
+    }
+
+    /**
+     * Méthode ajoutant au profil les mesures d'un parser dont le profilage était activé (setProfile(true)).
+     * @param parser parser après l'analyse
+     */
+    public synchronized void add(Parser parser) {
+        if (parser.getParseInfo() == null) return;
+
+        for (DecisionInfo info : parser.getParseInfo().getDecisionInfo()) {
+            int d = info.decision;
+            invocations[d] += info.invocations;
+            timeInPrediction[d] += info.timeInPrediction;
+            sllTotalLook[d] += info.SLL_TotalLook;
+            sllMaxLook[d] = Math.max(sllMaxLook[d], info.SLL_MaxLook);
+            llTotalLook[d] += info.LL_TotalLook;
+            llMaxLook[d] = Math.max(llMaxLook[d], info.LL_MaxLook);
+            llFallbacks[d] += info.LL_Fallback;
+            ambiguities[d] += info.ambiguities.size();
+            contextSensitivities[d] += info.contextSensitivities.size();
+            errors[d] += info.errors.size();
+        }
+    }
+
+    /**
+     * Méthode construisant le rapport du profilage : une ligne par décision appelée, de la plus coûteuse à la moins coûteuse.
+     * @return rapport affichable
+     */
+    public synchronized String report() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "%-8s %-26s %10s %10s %8s %10s %8s %9s %9s %9s %10s%n",
+                "décision", "règle", "appels", "SLL look", "SLL max", "LL look", "LL max", "reprises", "ambiguës", "contexte", "temps ms"));
+
+        Integer[] decisions = new Integer[invocations.length];
+        for (int d = 0; d < decisions.length; d++) decisions[d] = d;
+        Arrays.sort(decisions, Comparator.comparingLong((Integer d) -> timeInPrediction[d]).reversed());
+
+        long totalTime = 0;
+        for (int d : decisions) {
+            if (invocations[d] == 0) continue;
+            totalTime += timeInPrediction[d];
+            report.append(String.format(Locale.ROOT, "%-8d %-26s %10d %10d %8d %10d %8d %9d %9d %9d %10.3f%n",
+                    d, ruleNames[decisionRules[d]], invocations[d], sllTotalLook[d], sllMaxLook[d], llTotalLook[d], llMaxLook[d],
+                    llFallbacks[d], ambiguities[d], contextSensitivities[d], timeInPrediction[d] / 1_000_000.0));
+        }
+
+        report.append(String.format(Locale.ROOT, "Temps total de prédiction : %.3f ms%n", totalTime / 1_000_000.0));
+        return report.toString();
+    }
+}
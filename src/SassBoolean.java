@@ -0,0 +1,41 @@
+/**
+ * Classe modélisant un booléen SASS. Seules les deux instances TRUE et FALSE existent.
+ */
+public class SassBoolean implements SassValue {
+
+    public static final SassBoolean TRUE = new SassBoolean(true);
+    public static final SassBoolean FALSE = new SassBoolean(false);
+
+    final boolean value;
+
+    private SassBoolean(boolean value) {
+        this.value = value;
+    }
+
+    public static SassBoolean of(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    public boolean getValue() {
+        return value;
+    }
+
+    public SassBoolean not() {
+        return of(!value);
+    }
+
+    @Override
+    public String toCss() {
+        return value ? "true" : "false";
+    }
+
+    @Override
+    public String getType() {
+        return "boolean";
+    }
+
+    @Override
+    public String toString() {
+        return toCss();
+    }
+}
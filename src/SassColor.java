@@ -0,0 +1,36 @@
+/**
+ * Classe modélisant une couleur hexadécimale SASS (#333, #3498db...).
+ */
+public class SassColor implements SassValue {
+
+    final String hex;
+
+    public SassColor(String hex) {
+        this.hex = hex;
+    }
+
+    @Override
+    public String toCss() {
+        return hex;
+    }
+
+    @Override
+    public String getType() {
+        return "color";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof SassColor other && hex.equalsIgnoreCase(other.hex);
+    }
+
+    @Override
+    public int hashCode() {
+        return hex.toLowerCase().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toCss();
+    }
+}
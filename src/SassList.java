@@ -0,0 +1,52 @@
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Classe modélisant une liste SASS. Ses éléments sont écrits séparés de virgules.
+ */
+public class SassList implements SassValue {
+
+    final List<SassValue> values;
+
+    public SassList(List<SassValue> values) {
+        this.values = values;
+    }
+
+    public List<SassValue> getValues() {
+        return values;
+    }
+
+    @Override
+    public String toCss() {
+        return values.stream().map(SassValue::toCss).collect(Collectors.joining(", "));
+    }
+
+    @Override
+    public String getType() {
+        return "list";
+    }
+
+    @Override
+    public boolean sassEquals(SassValue o) {
+        if (!(o instanceof SassList other) || values.size() != other.values.size()) return false;
+        for (int i = 0; i < values.size(); i++) {
+            if (!values.get(i).sassEquals(other.values.get(i))) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof SassList other && values.equals(other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return values.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toCss();
+    }
+}
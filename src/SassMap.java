@@ -0,0 +1,45 @@
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Classe modélisant une map SASS (clé: valeur).
+ */
+public class SassMap implements SassValue {
+
+    final Map<String, SassValue> values;
+
+    public SassMap(Map<String, SassValue> values) {
+        this.values = values;
+    }
+
+    public Map<String, SassValue> getValues() {
+        return values;
+    }
+
+    @Override
+    public String toCss() {
+        return values.entrySet().stream()
+                .map(entry -> entry.getKey() + ": " + entry.getValue().toCss())
+                .collect(Collectors.joining(", "));
+    }
+
+    @Override
+    public String getType() {
+        return "map";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof SassMap other && values.equals(other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return values.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toCss();
+    }
+}
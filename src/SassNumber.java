@@ -0,0 +1,142 @@
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Classe modélisant un nombre SASS et son unité (px, %, ou aucune unité).
+ * <p>
+ * Un nombre n'a qu'une unité : les opérations qui donneraient une unité composée (px*px, 1/px) sont refusées.
+ */
+public class SassNumber implements SassValue {
+
+    // Nombre de décimales conservées à l'écriture (même précision que Dart Sass)
+    private static final int PRECISION = 10;
+
+    final double value;
+    final String unit;
+
+    public SassNumber(double value, String unit) {
+        this.value = value;
+        this.unit = unit;
+    }
+
+    public double getValue() {
+        return value;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    /**
+     * Méthode déterminant l'unité du résultat d'une opération.
+     * Un nombre sans unité prend l'unité de l'autre opérande.
+     *
+     * @param other deuxième opérande
+     * @param operator opérateur de l'opération
+     * @return unité du résultat
+     */
+    private String resultUnit(SassNumber other, String operator) {
+        if (unit.isEmpty()) return other.unit;
+        if (other.unit.isEmpty() || unit.equals(other.unit)) return unit;
+        throw new RuntimeException("Les unités " + unit + " et " + other.unit + " ne peuvent pas être mélangées (opérateur " + operator + ")");
+    }
+
+    public SassNumber plus(SassNumber other) {
+        return new SassNumber(value + other.value, resultUnit(other, "+"));
+    }
+
+    public SassNumber minus(SassNumber other) {
+        return new SassNumber(value - other.value, resultUnit(other, "-"));
+    }
+
+    /**
+     * Méthode multipliant deux nombres : au plus un des deux peut avoir une unité (3px * 2px donnerait des px²).
+     * @param other deuxième opérande
+     * @return produit
+     */
+    public SassNumber times(SassNumber other) {
+        if (!unit.isEmpty() && !other.unit.isEmpty()) {
+            resultUnit(other, "*");
+            throw new RuntimeException("Le produit de " + toCss() + " et " + other.toCss() + " aurait une unité composée (" + unit + "*" + unit + ")");
+        }
+        return new SassNumber(value * other.value, unit.isEmpty() ? other.unit : unit);
+    }
+
+    /**
+     * Méthode divisant deux nombres : deux nombres de même unité donnent un nombre sans unité (10px / 2px = 5),
+     * un nombre sans unité ne peut pas être divisé par un nombre qui en a une (1/px).
+     * @param other diviseur
+     * @return quotient
+     */
+    public SassNumber dividedBy(SassNumber other) {
+        if (other.value == 0) throw new RuntimeException("Division par zéro : " + toCss() + " / " + other.toCss());
+        if (other.unit.isEmpty()) return new SassNumber(value / other.value, unit);
+        if (unit.isEmpty())
+            throw new RuntimeException("Le quotient de " + toCss() + " par " + other.toCss() + " aurait une unité composée (1/" + other.unit + ")");
+        resultUnit(other, "/");
+        return new SassNumber(value / other.value, "");
+    }
+
+    public SassNumber negate() {
+        return new SassNumber(-value, unit);
+    }
+
+    /**
+     * Méthode comparant deux nombres.
+     * @param other nombre comparé
+     * @param operator opérateur de comparaison
+     * @return résultat négatif, nul ou positif comme Double.compare
+     */
+    public int compare(SassNumber other, String operator) {
+        resultUnit(other, operator);
+        return Double.compare(value, other.value);
+    }
+
+    /**
+     * Méthode écrivant un nombre sans décimales inutiles : 200.0 devient 200, 8.33333333333 est arrondi à 10 décimales.
+     * @param value nombre
+     * @return chaîne du nombre
+     * @throws RuntimeException si le nombre est infini ou NaN (dépassement de capacité)
+     */
+    public static String format(double value) {
+        if (!Double.isFinite(value)) throw new RuntimeException("Le résultat du calcul n'est pas un nombre fini : " + value);
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) return Long.toString((long) value);
+        return BigDecimal.valueOf(value).setScale(PRECISION, RoundingMode.HALF_UP).stripTrailingZeros().toPlainString();
+    }
+
+    @Override
+    public String toCss() {
+        return format(value) + unit;
+    }
+
+    @Override
+    public String getType() {
+        return "number";
+    }
+
+    /**
+     * Méthode comparant deux valeurs avec l'opérateur == de SASS : un nombre sans unité est égal au même nombre
+     * avec une unité (1 == 1px).
+     */
+    @Override
+    public boolean sassEquals(SassValue o) {
+        if (!(o instanceof SassNumber other)) return false;
+        return value == other.value && (unit.equals(other.unit) || unit.isEmpty() || other.unit.isEmpty());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof SassNumber other)) return false;
+        return Double.compare(value, other.value) == 0 && unit.equals(other.unit);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(value) + unit.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toCss();
+    }
+}
@@ -0,0 +1,36 @@
+/**
+ * Classe modélisant une chaîne SASS (identifiant comme "small", chaîne entre guillemets ou valeur non interprétée).
+ */
+public class SassString implements SassValue {
+
+    final String text;
+
+    public SassString(String text) {
+        this.text = text;
+    }
+
+    @Override
+    public String toCss() {
+        return text;
+    }
+
+    @Override
+    public String getType() {
+        return "string";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof SassString other && text.equals(other.text);
+    }
+
+    @Override
+    public int hashCode() {
+        return text.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toCss();
+    }
+}
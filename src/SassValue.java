@@ -0,0 +1,67 @@
+/**
+ * Interface modélisant une valeur SASS typée, utilisée lors de l'évaluation des expressions.
+ * Les valeurs sont construites une seule fois puis combinées sans repasser par des chaînes de caractères.
+ */
+public interface SassValue {
+
+    /**
+     * Méthode renvoyant la valeur telle qu'elle doit être écrite dans le code CSS.
+     * @return chaîne CSS
+     */
+    String toCss();
+
+    /**
+     * Méthode renvoyant le type de la valeur (number, color, boolean, string, list ou map).
+     * @return type de la valeur
+     */
+    String getType();
+
+    /**
+     * Méthode comparant deux valeurs avec l'opérateur == de SASS.
+     * @param other valeur comparée
+     * @return true si les deux valeurs sont égales pour SASS
+     */
+    default boolean sassEquals(SassValue other) {
+        return equals(other);
+    }
+
+    /**
+     * Méthode convertissant une valeur SASS écrite sous forme de texte (valeur d'une variable par exemple) en valeur typée.
+     * Le type est reconnu en une seule passe par UnitScanner.
+     *
+     * @param value valeur SASS
+     * @return valeur typée
+     */
+    static SassValue parse(String value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && Character.isWhitespace(value.charAt(start))) start++;
+        while (end > start && Character.isWhitespace(value.charAt(end - 1))) end--;
+
+        switch (UnitScanner.classify(value, start, end)) {
+            case UnitScanner.ENTIER, UnitScanner.REEL -> {
+                return new SassNumber(UnitScanner.parseNumber(value, start, end), "");
+            }
+            case UnitScanner.PIXEL -> {
+                return new SassNumber(UnitScanner.parseNumber(value, start, end - 2), "px");
+            }
+            case UnitScanner.POURCENTAGE -> {
+                return new SassNumber(UnitScanner.parseNumber(value, start, end - 1), "%");
+            }
+            case UnitScanner.UNITE -> {
+                // Même typage qu'un littéral (2em, 90deg, 1.5s) : nombre et unité
+                int unit = UnitScanner.unitStart(value, start, end);
+                return new SassNumber(UnitScanner.parseNumber(value, start, unit), value.substring(unit, end));
+            }
+            case UnitScanner.HEX -> {
+                return new SassColor(value.substring(start, end));
+            }
+            default -> {
+                String trimmed = value.substring(start, end);
+                if (trimmed.equals("true")) return SassBoolean.TRUE;
+                if (trimmed.equals("false")) return SassBoolean.FALSE;
+                return new SassString(trimmed);
+            }
+        }
+    }
+}
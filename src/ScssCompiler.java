@@ -0,0 +1,329 @@
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.atn.ProfilingATNSimulator;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Classe regroupant les étapes de compilation d'un fichier SCSS : tokenisation, analyse syntaxique puis génération du CSS.
+ * <p>
+ * Le lexer, le flux de tokens, le parser et le générateur sont créés une seule fois puis réinitialisés à chaque
+ * compilation : une instance peut compiler de nombreux fichiers à la suite en produisant peu de déchets.
+ * Une instance n'est pas partagée entre plusieurs threads : chaque thread de compilation possède la sienne
+ * (voir aussi ScssCompilerPool).
+ */
+public class ScssCompiler {
+
+    // Version du compilateur, enregistrée dans le cache : à changer dès que le CSS généré change
+    public static final String VERSION = "1.3";
+
+    // Nombre d'analyses réussies en mode SLL et de reprises en mode LL, pour tous les compilateurs
+    private static final AtomicLong SLL_PARSES = new AtomicLong();
+    private static final AtomicLong LL_FALLBACKS = new AtomicLong();
+
+    // Étapes réutilisées d'une compilation à l'autre
+    private final ScssLexer lexer;
+    private final CommonTokenStream tokens;
+    private final ScssParser parser;
+    private final ScssToCssGenerator generator;
+    private final SyntaxErrorListener errors;
+    private final BailErrorStrategy bailErrorStrategy;
+    private final DefaultErrorStrategy defaultErrorStrategy;
+    // Profil des décisions du parser, null si le profilage est désactivé
+    private final ParserProfile profile;
+    // Style d'écriture du code CSS
+    private OutputStyle style;
+    // Vrai si le CSS est optimisé avant d'être écrit (voir CssOptimizer)
+    private boolean optimize;
+    // Vrai si une source map (fichier .css.map) est écrite à côté de chaque fichier CSS
+    private boolean sourceMap;
+
+    public ScssCompiler() {
+        this(null);
+    }
+
+    /**
+     * Constructeur avec profilage du parser.
+     * @param profile profil dans lequel cumuler les mesures de chaque analyse syntaxique (null pour ne pas profiler)
+     */
+    public ScssCompiler(ParserProfile profile) {
+        this.errors = new SyntaxErrorListener();
+        this.bailErrorStrategy = new BailErrorStrategy();
+        this.defaultErrorStrategy = new DefaultErrorStrategy();
+
+        this.lexer = new ScssLexer(null);
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(errors);
+
+        this.tokens = new CommonTokenStream(lexer);
+        this.parser = new ScssParser(tokens);
+        parser.removeErrorListeners();
+
+        this.generator = new ScssToCssGenerator();
+        this.profile = profile;
+        this.style = OutputStyle.EXPANDED;
+    }
+
+    /**
+     * Méthode choisissant le style d'écriture du code CSS des prochaines compilations.
+     * @param style style d'écriture
+     */
+    public void setOutputStyle(OutputStyle style) {
+        this.style = style;
+    }
+
+    /**
+     * Méthode activant l'optimisation du CSS (fusion et regroupement des règles) des prochaines compilations.
+     * Le CSS d'un fichier est alors entièrement évalué avant d'être écrit.
+     * @param optimize true pour optimiser
+     */
+    public void setOptimize(boolean optimize) {
+        this.optimize = optimize;
+    }
+
+    /**
+     * Méthode activant l'écriture d'une source map (fichier.css.map) pour les prochains fichiers compilés.
+     * @param sourceMap true pour écrire les source maps
+     */
+    public void setSourceMap(boolean sourceMap) {
+        this.sourceMap = sourceMap;
+    }
+
+    /**
+     * Méthode choisissant le chargeur des modules importés par les fichiers compilés (@import, @use, @forward).
+     * Un même chargeur peut être partagé par plusieurs compilateurs : chaque module n'est alors évalué qu'une fois.
+     * @param moduleLoader chargeur de modules
+     */
+    public void setModuleLoader(ModuleLoader moduleLoader) {
+        generator.setModuleLoader(moduleLoader);
+    }
+
+    /**
+     * Méthode renvoyant les modules importés par le dernier fichier compilé, directement ou non.
+     * @return chemins absolus des modules
+     */
+    public Set<Path> getDependencies() {
+        return Set.copyOf(generator.getDependencies());
+    }
+
+    /**
+     * Méthode décrivant les options qui changent les fichiers écrits (style, optimisation, source map),
+     * pour l'empreinte du cache de compilation.
+     * @return description des options
+     */
+    public String outputOptions() {
+        return style.name() + (optimize ? " optimize" : "") + (sourceMap ? " source-map" : "");
+    }
+
+    /**
+     * Méthode construisant l'arbre de dérivation d'un code SCSS.
+     * <p>
+     * L'analyse se fait en deux étapes : d'abord en mode SLL, beaucoup plus rapide, qui abandonne à la première erreur.
+     * En cas d'échec (erreur de syntaxe ou décision qui demande le contexte complet), le code est analysé
+     * de nouveau en mode LL complet, avec la récupération d'erreurs habituelle.
+     * <p>
+     * Le lexer, le flux de tokens et le parser de l'instance sont réinitialisés sur le nouveau code.
+     *
+     * @param input code SCSS
+     * @return arbre de dérivation
+     * @throws RuntimeException si le code contient des erreurs de syntaxe
+     */
+    public ScssParser.StylesheetContext parse(CharStream input) {
+        errors.messages.clear();
+
+        lexer.setInputStream(input);
+        tokens.setTokenSource(lexer);
+        // Stratégie choisie avant la réinitialisation du parser, qui réinitialise aussi la stratégie
+        parser.setErrorHandler(bailErrorStrategy);
+        parser.setInputStream(tokens);
+        parser.removeErrorListeners();
+        // Nouveau simulateur à chaque analyse : le profil ne doit compter que cette analyse
+        if (profile != null) parser.setInterpreter(new ProfilingATNSimulator(parser));
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+
+        ScssParser.StylesheetContext stylesheet;
+        try {
+            stylesheet = parser.stylesheet();
+            SLL_PARSES.incrementAndGet();
+        } catch (ParseCancellationException e) {
+            // Deuxième étape : analyse LL complète depuis le début
+            tokens.seek(0);
+            parser.setErrorHandler(defaultErrorStrategy);
+            parser.reset();
+            parser.addErrorListener(errors);
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+
+            stylesheet = parser.stylesheet();
+            LL_FALLBACKS.incrementAndGet();
+        }
+
+        if (profile != null) profile.add(parser);
+
+        if (!errors.messages.isEmpty())
+            throw new RuntimeException("Erreur de syntaxe dans " + input.getSourceName() + " : " + String.join(", ", errors.messages));
+
+        return stylesheet;
+    }
+
+    /**
+     * Méthode renvoyant le bilan des analyses syntaxiques : nombre d'analyses SLL réussies et de reprises en LL.
+     * @return bilan affichable
+     */
+    public static String parseStatistics() {
+        long sll = SLL_PARSES.get();
+        long ll = LL_FALLBACKS.get();
+        long total = sll + ll;
+        return String.format(Locale.ROOT, "Analyse syntaxique : %d en SLL, %d reprise(s) en LL (%.1f %%)", sll, ll, total == 0 ? 0.0 : 100.0 * ll / total);
+    }
+
+    /**
+     * Méthode compilant un code SCSS en CSS.
+     *
+     * @param source code SCSS
+     * @return code CSS
+     */
+    public String compile(String source) {
+        StringBuilder css = new StringBuilder();
+        generate(parse(CharStreams.fromString(source)), new CssWriter(css));
+        return css.toString();
+    }
+
+    /**
+     * Méthode compilant un code SCSS en CSS en enregistrant les correspondances dans une source map.
+     *
+     * @param source     code SCSS
+     * @param sourcePath chemin du fichier SCSS, tel qu'il doit apparaître dans la source map
+     * @param sourceMap  source map
+     * @return code CSS
+     */
+    public String compile(String source, String sourcePath, SourceMap sourceMap) {
+        StringBuilder css = new StringBuilder();
+        CssWriter out = new CssWriter(css);
+        out.setSourceMap(sourceMap);
+        generate(parse(CharStreams.fromString(source, sourcePath)), out);
+        return css.toString();
+    }
+
+    /**
+     * Méthode compilant un fichier SCSS dans un fichier CSS.
+     * Le code CSS est écrit après chaque instruction de premier niveau, dans un fichier temporaire qui remplace
+     * le fichier CSS à la fin (voir write).
+     *
+     * @param input  fichier SCSS
+     * @param output fichier CSS
+     * @throws IOException si un des fichiers ne peut pas être lu ou écrit
+     */
+    public void compile(Path input, Path output) throws IOException {
+        write(parse(CharStreams.fromPath(input, StandardCharsets.UTF_8)), input, output);
+    }
+
+    /**
+     * Méthode compilant le contenu déjà lu d'un fichier SCSS dans un fichier CSS.
+     *
+     * @param input   fichier SCSS (utilisé pour les messages d'erreur)
+     * @param content contenu du fichier SCSS
+     * @param output  fichier CSS
+     * @throws IOException si le fichier CSS ne peut pas être écrit
+     */
+    public void compile(Path input, byte[] content, Path output) throws IOException {
+        write(parse(CharStreams.fromString(new String(content, StandardCharsets.UTF_8), input.toString())), input, output);
+    }
+
+    /**
+     * Méthode générant le code CSS d'un arbre de dérivation dans un fichier, et sa source map si elle est activée.
+     * Le fichier CSS se termine alors par un commentaire sourceMappingURL qui indique où trouver la source map.
+     * <p>
+     * Le code est écrit dans un fichier temporaire du même dossier, qui remplace le fichier CSS seulement si la
+     * génération réussit : une erreur de compilation laisse le fichier précédent intact, et un lecteur
+     * (serveur de développement, mode --watch) ne voit jamais un fichier à moitié écrit.
+     */
+    private void write(ScssParser.StylesheetContext stylesheet, Path input, Path output) throws IOException {
+        Path directory = output.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path css = Files.createTempFile(directory, output.getFileName().toString(), ".tmp");
+        Path map = null;
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(css, StandardCharsets.UTF_8)) {
+                CssWriter out = new CssWriter(writer);
+                if (!sourceMap) {
+                    generate(stylesheet, out);
+                } else {
+                    String mapName = output.getFileName() + ".map";
+                    SourceMap mapping = new SourceMap(output.getFileName().toString(), directory);
+                    out.setSourceMap(mapping);
+                    generate(stylesheet, out);
+                    writer.write("\n/*# sourceMappingURL=" + mapName + " */");
+
+                    map = Files.createTempFile(directory, mapName, ".tmp");
+                    try (BufferedWriter mapWriter = Files.newBufferedWriter(map, StandardCharsets.UTF_8)) {
+                        mapping.writeTo(mapWriter);
+                    }
+                }
+            }
+            // La source map d'abord : le fichier CSS qui y fait référence n'apparaît qu'une fois qu'elle est en place
+            if (map != null) replace(map, output.resolveSibling(output.getFileName() + ".map"));
+            replace(css, output);
+        } finally {
+            Files.deleteIfExists(css);
+            if (map != null) Files.deleteIfExists(map);
+        }
+    }
+
+    /**
+     * Méthode remplaçant un fichier par un fichier temporaire du même dossier, de façon atomique si le système
+     * de fichiers le permet.
+     */
+    private static void replace(Path temporary, Path target) throws IOException {
+        try {
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Méthode générant le code CSS d'un arbre de dérivation dans une sortie, optimisé si l'optimisation est activée.
+     */
+    private void generate(ScssParser.StylesheetContext stylesheet, CssWriter out) {
+        if (!optimize) {
+            generator.generate(stylesheet, out, style);
+            return;
+        }
+        CssStylesheet css = generator.evaluate(stylesheet);
+        new CssOptimizer().optimize(css);
+        new CssPrinter(out, style).print(css);
+        out.finish();
+    }
+
+    /**
+     * Classe récupérant les erreurs de syntaxe au lieu de les afficher dans la console.
+     */
+    private static class SyntaxErrorListener extends BaseErrorListener {
+
+        private final List<String> messages = new ArrayList<>();
+
+        @Override
+        public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine, String msg, RecognitionException e) {
+            messages.add("ligne " + line + ":" + charPositionInLine + " " + msg);
+        }
+    }
+}
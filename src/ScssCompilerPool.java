@@ -0,0 +1,57 @@
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * Classe gardant des compilateurs prêts à être réutilisés, pour compiler depuis plusieurs threads.
+ * <p>
+ * Un ScssCompiler n'est pas partagé entre threads : il est emprunté le temps d'une compilation puis rendu.
+ * Son lexer, son parser et son générateur sont ainsi réinitialisés au lieu d'être recréés à chaque compilation.
+ * Au-delà de la capacité, les compilateurs rendus sont abandonnés.
+ */
+public class ScssCompilerPool {
+
+    private final ArrayBlockingQueue<ScssCompiler> idle;
+    private final Supplier<ScssCompiler> factory;
+
+    /**
+     * Constructeur.
+     * @param capacity nombre maximal de compilateurs gardés (en général, le nombre de threads de compilation)
+     * @param factory création d'un compilateur quand aucun n'est disponible
+     */
+    public ScssCompilerPool(int capacity, Supplier<ScssCompiler> factory) {
+        this.idle = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.factory = factory;
+    }
+
+    /**
+     * Méthode empruntant un compilateur, à rendre avec release() après la compilation.
+     * @return compilateur disponible, ou nouveau compilateur
+     */
+    public ScssCompiler borrow() {
+        ScssCompiler compiler = idle.poll();
+        return compiler != null ? compiler : factory.get();
+    }
+
+    /**
+     * Méthode rendant un compilateur emprunté.
+     * @param compiler compilateur
+     */
+    public void release(ScssCompiler compiler) {
+        idle.offer(compiler);
+    }
+
+    /**
+     * Méthode compilant un code SCSS en CSS avec un compilateur emprunté.
+     *
+     * @param source code SCSS
+     * @return code CSS
+     */
+    public String compile(String source) {
+        ScssCompiler compiler = borrow();
+        try {
+            return compiler.compile(source);
+        } finally {
+            release(compiler);
+        }
+    }
+}
@@ -103,6 +103,7 @@ In      : 'in';
 
 Default   : '!default';
 Important : '!important';
+Global    : '!global';
 
 Lparen     : '(';
 Rparen     : ')';
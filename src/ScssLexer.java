@@ -23,13 +23,13 @@ public class ScssLexer extends Lexer {
 		Keyframes=25, Return=26, Media=27, Extend=28, Warn=29, Error=30, If=31, 
 		AtIf=32, AtFor=33, AtElse=34, AtWhile=35, AtEach=36, From=37, To=38, Through=39, 
 		Only=40, Not=41, And=42, Using=43, As=44, With=45, Or=46, In=47, Default=48, 
-		Important=49, Lparen=50, Rparen=51, Lbrack=52, Rbrack=53, BlockStart=54, 
-		BlockEnd=55, Dot=56, Comma=57, Colon=58, Semi=59, Tilde=60, Under=61, 
-		Dollar=62, At=63, Amp=64, Hash=65, True=66, False=67, Plus=68, Div=69, 
-		Minus=70, Times=71, Eq=72, NotEq=73, Greater=74, Less=75, Includes=76, 
-		DashMatch=77, Pipe=78, Cdo=79, Cdc=80, PseudoNot=81, Calc=82, Rotate=83, 
-		Var=84, Rgba=85, Repeat=86, PrefixMatch=87, SuffixMatch=88, SubstringMatch=89, 
-		VendorPrefix=90, Variable=91, Number=92, String_=93, Ident=94;
+		Important=49, Global=50, Lparen=51, Rparen=52, Lbrack=53, Rbrack=54, BlockStart=55, 
+		BlockEnd=56, Dot=57, Comma=58, Colon=59, Semi=60, Tilde=61, Under=62, 
+		Dollar=63, At=64, Amp=65, Hash=66, True=67, False=68, Plus=69, Div=70, 
+		Minus=71, Times=72, Eq=73, NotEq=74, Greater=75, Less=76, Includes=77, 
+		DashMatch=78, Pipe=79, Cdo=80, Cdc=81, PseudoNot=82, Calc=83, Rotate=84, 
+		Var=85, Rgba=86, Repeat=87, PrefixMatch=88, SuffixMatch=89, SubstringMatch=90, 
+		VendorPrefix=91, Variable=92, Number=93, String_=94, Ident=95;
 	public static String[] channelNames = {
 		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
 	};
@@ -48,12 +48,12 @@ public class ScssLexer extends Lexer {
 			"Charset", "Mixin", "Function", "FontFace", "Forward", "Content", "Keyframes", 
 			"Return", "Media", "Extend", "Warn", "Error", "If", "AtIf", "AtFor", 
 			"AtElse", "AtWhile", "AtEach", "From", "To", "Through", "Only", "Not", 
-			"And", "Using", "As", "With", "Or", "In", "Default", "Important", "Lparen", 
-			"Rparen", "Lbrack", "Rbrack", "BlockStart", "BlockEnd", "Dot", "Comma", 
-			"Colon", "Semi", "Tilde", "Under", "Dollar", "At", "Amp", "Hash", "True", 
-			"False", "Plus", "Div", "Minus", "Times", "Eq", "NotEq", "Greater", "Less", 
-			"Includes", "DashMatch", "Pipe", "Cdo", "Cdc", "PseudoNot", "Calc", "Rotate", 
-			"Var", "Rgba", "Repeat", "PrefixMatch", "SuffixMatch", "SubstringMatch", 
+			"And", "Using", "As", "With", "Or", "In", "Default", "Important", "Global", 
+			"Lparen", "Rparen", "Lbrack", "Rbrack", "BlockStart", "BlockEnd", "Dot", 
+			"Comma", "Colon", "Semi", "Tilde", "Under", "Dollar", "At", "Amp", "Hash", 
+			"True", "False", "Plus", "Div", "Minus", "Times", "Eq", "NotEq", "Greater", 
+			"Less", "Includes", "DashMatch", "Pipe", "Cdo", "Cdc", "PseudoNot", "Calc", 
+			"Rotate", "Var", "Rgba", "Repeat", "PrefixMatch", "SuffixMatch", "SubstringMatch", 
 			"VendorPrefix", "Variable", "Interpolation", "Number", "String_", "Ident"
 		};
 	}
@@ -67,12 +67,12 @@ public class ScssLexer extends Lexer {
 			"'@content'", "'@keyframes'", "'@return'", "'@media'", "'@extend'", "'@warn'", 
 			"'@error'", "'if'", "'@if'", "'@for'", "'@else'", "'@while'", "'@each'", 
 			"'from'", "'to'", "'through'", "'only'", "'not'", "'and'", "'using'", 
-			"'as'", "'with'", "'or'", "'in'", "'!default'", "'!important'", "'('", 
-			"')'", "'['", "']'", "'{'", "'}'", "'.'", "','", "':'", "';'", "'~'", 
-			"'_'", "'$'", "'@'", "'&'", "'#'", "'true'", "'false'", "'+'", "'/'", 
-			"'-'", "'*'", "'='", "'!='", "'>'", "'<'", "'~='", "'|='", "'|'", "'<!--'", 
-			"'-->'", "':not('", "'calc('", "'rotate('", "'var('", "'rgba('", "'repeat('", 
-			"'^='", "'$='", "'*='"
+			"'as'", "'with'", "'or'", "'in'", "'!default'", "'!important'", "'!global'", 
+			"'('", "')'", "'['", "']'", "'{'", "'}'", "'.'", "','", "':'", "';'", 
+			"'~'", "'_'", "'$'", "'@'", "'&'", "'#'", "'true'", "'false'", "'+'", 
+			"'/'", "'-'", "'*'", "'='", "'!='", "'>'", "'<'", "'~='", "'|='", "'|'", 
+			"'<!--'", "'-->'", "':not('", "'calc('", "'rotate('", "'var('", "'rgba('", 
+			"'repeat('", "'^='", "'$='", "'*='"
 		};
 	}
 	private static final String[] _LITERAL_NAMES = makeLiteralNames();
@@ -84,12 +84,12 @@ public class ScssLexer extends Lexer {
 			"Charset", "Mixin", "Function", "FontFace", "Forward", "Content", "Keyframes", 
 			"Return", "Media", "Extend", "Warn", "Error", "If", "AtIf", "AtFor", 
 			"AtElse", "AtWhile", "AtEach", "From", "To", "Through", "Only", "Not", 
-			"And", "Using", "As", "With", "Or", "In", "Default", "Important", "Lparen", 
-			"Rparen", "Lbrack", "Rbrack", "BlockStart", "BlockEnd", "Dot", "Comma", 
-			"Colon", "Semi", "Tilde", "Under", "Dollar", "At", "Amp", "Hash", "True", 
-			"False", "Plus", "Div", "Minus", "Times", "Eq", "NotEq", "Greater", "Less", 
-			"Includes", "DashMatch", "Pipe", "Cdo", "Cdc", "PseudoNot", "Calc", "Rotate", 
-			"Var", "Rgba", "Repeat", "PrefixMatch", "SuffixMatch", "SubstringMatch", 
+			"And", "Using", "As", "With", "Or", "In", "Default", "Important", "Global", 
+			"Lparen", "Rparen", "Lbrack", "Rbrack", "BlockStart", "BlockEnd", "Dot", 
+			"Comma", "Colon", "Semi", "Tilde", "Under", "Dollar", "At", "Amp", "Hash", 
+			"True", "False", "Plus", "Div", "Minus", "Times", "Eq", "NotEq", "Greater", 
+			"Less", "Includes", "DashMatch", "Pipe", "Cdo", "Cdc", "PseudoNot", "Calc", 
+			"Rotate", "Var", "Rgba", "Repeat", "PrefixMatch", "SuffixMatch", "SubstringMatch", 
 			"VendorPrefix", "Variable", "Number", "String_", "Ident"
 		};
 	}
@@ -152,7 +152,7 @@ public class ScssLexer extends Lexer {
 	public ATN getATN() { return _ATN; }
 
 	public static final String _serializedATN =
-		"\u0004\u0000^\u03a1\u0006\uffff\uffff\u0002\u0000\u0007\u0000\u0002\u0001"+
+		"\u0004\u0000_\u03ab\u0006\uffff\uffff\u0002\u0000\u0007\u0000\u0002\u0001"+
 		"\u0007\u0001\u0002\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004"+
 		"\u0007\u0004\u0002\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007"+
 		"\u0007\u0007\u0002\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b"+
@@ -177,566 +177,573 @@ public class ScssLexer extends Lexer {
 		"X\u0002Y\u0007Y\u0002Z\u0007Z\u0002[\u0007[\u0002\\\u0007\\\u0002]\u0007"+
 		"]\u0002^\u0007^\u0002_\u0007_\u0002`\u0007`\u0002a\u0007a\u0002b\u0007"+
 		"b\u0002c\u0007c\u0002d\u0007d\u0002e\u0007e\u0002f\u0007f\u0002g\u0007"+
-		"g\u0002h\u0007h\u0002i\u0007i\u0002j\u0007j\u0002k\u0007k\u0001\u0000"+
-		"\u0001\u0000\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0003\u0001"+
-		"\u00e0\b\u0001\u0001\u0002\u0001\u0002\u0001\u0002\u0003\u0002\u00e5\b"+
-		"\u0002\u0001\u0002\u0003\u0002\u00e8\b\u0002\u0001\u0002\u0003\u0002\u00eb"+
-		"\b\u0002\u0001\u0002\u0003\u0002\u00ee\b\u0002\u0001\u0002\u0003\u0002"+
-		"\u00f1\b\u0002\u0001\u0002\u0001\u0002\u0001\u0003\u0001\u0003\u0001\u0003"+
-		"\u0003\u0003\u00f8\b\u0003\u0001\u0004\u0001\u0004\u0003\u0004\u00fc\b"+
-		"\u0004\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0003\u0005\u0102"+
-		"\b\u0005\u0001\u0006\u0003\u0006\u0105\b\u0006\u0001\u0006\u0003\u0006"+
-		"\u0108\b\u0006\u0001\u0006\u0003\u0006\u010b\b\u0006\u0001\u0006\u0003"+
-		"\u0006\u010e\b\u0006\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001"+
-		"\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0003\u0007\u0118\b\u0007\u0001"+
-		"\b\u0001\b\u0001\b\u0003\b\u011d\b\b\u0001\t\u0001\t\u0001\t\u0003\t\u0122"+
-		"\b\t\u0001\n\u0001\n\u0001\u000b\u0004\u000b\u0127\b\u000b\u000b\u000b"+
-		"\f\u000b\u0128\u0001\f\u0001\f\u0001\f\u0005\f\u012e\b\f\n\f\f\f\u0131"+
-		"\t\f\u0001\r\u0001\r\u0003\r\u0135\b\r\u0001\r\u0001\r\u0001\u000e\u0001"+
-		"\u000e\u0001\u000e\u0001\u000e\u0005\u000e\u013d\b\u000e\n\u000e\f\u000e"+
-		"\u0140\t\u000e\u0001\u000e\u0004\u000e\u0143\b\u000e\u000b\u000e\f\u000e"+
-		"\u0144\u0001\u000e\u0001\u000e\u0005\u000e\u0149\b\u000e\n\u000e\f\u000e"+
-		"\u014c\t\u000e\u0001\u000e\u0004\u000e\u014f\b\u000e\u000b\u000e\f\u000e"+
-		"\u0150\u0005\u000e\u0153\b\u000e\n\u000e\f\u000e\u0156\t\u000e\u0001\u000e"+
-		"\u0001\u000e\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0005\u000f"+
-		"\u015e\b\u000f\n\u000f\f\u000f\u0161\t\u000f\u0001\u0010\u0004\u0010\u0164"+
-		"\b\u0010\u000b\u0010\f\u0010\u0165\u0001\u0010\u0001\u0010\u0001\u0011"+
+		"g\u0002h\u0007h\u0002i\u0007i\u0002j\u0007j\u0002k\u0007k\u0002l\u0007"+
+		"l\u0001\u0000\u0001\u0000\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
+		"\u0003\u0001\u00e2\b\u0001\u0001\u0002\u0001\u0002\u0001\u0002\u0003\u0002"+
+		"\u00e7\b\u0002\u0001\u0002\u0003\u0002\u00ea\b\u0002\u0001\u0002\u0003"+
+		"\u0002\u00ed\b\u0002\u0001\u0002\u0003\u0002\u00f0\b\u0002\u0001\u0002"+
+		"\u0003\u0002\u00f3\b\u0002\u0001\u0002\u0001\u0002\u0001\u0003\u0001\u0003"+
+		"\u0001\u0003\u0003\u0003\u00fa\b\u0003\u0001\u0004\u0001\u0004\u0003\u0004"+
+		"\u00fe\b\u0004\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0003\u0005"+
+		"\u0104\b\u0005\u0001\u0006\u0003\u0006\u0107\b\u0006\u0001\u0006\u0003"+
+		"\u0006\u010a\b\u0006\u0001\u0006\u0003\u0006\u010d\b\u0006\u0001\u0006"+
+		"\u0003\u0006\u0110\b\u0006\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007"+
+		"\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0003\u0007\u011a\b\u0007"+
+		"\u0001\b\u0001\b\u0001\b\u0003\b\u011f\b\b\u0001\t\u0001\t\u0001\t\u0003"+
+		"\t\u0124\b\t\u0001\n\u0001\n\u0001\u000b\u0004\u000b\u0129\b\u000b\u000b"+
+		"\u000b\f\u000b\u012a\u0001\f\u0001\f\u0001\f\u0005\f\u0130\b\f\n\f\f\f"+
+		"\u0133\t\f\u0001\r\u0001\r\u0003\r\u0137\b\r\u0001\r\u0001\r\u0001\u000e"+
+		"\u0001\u000e\u0001\u000e\u0001\u000e\u0005\u000e\u013f\b\u000e\n\u000e"+
+		"\f\u000e\u0142\t\u000e\u0001\u000e\u0004\u000e\u0145\b\u000e\u000b\u000e"+
+		"\f\u000e\u0146\u0001\u000e\u0001\u000e\u0005\u000e\u014b\b\u000e\n\u000e"+
+		"\f\u000e\u014e\t\u000e\u0001\u000e\u0004\u000e\u0151\b\u000e\u000b\u000e"+
+		"\f\u000e\u0152\u0005\u000e\u0155\b\u000e\n\u000e\f\u000e\u0158\t\u000e"+
+		"\u0001\u000e\u0001\u000e\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f"+
+		"\u0005\u000f\u0160\b\u000f\n\u000f\f\u000f\u0163\t\u000f\u0001\u0010\u0004"+
+		"\u0010\u0166\b\u0010\u000b\u0010\f\u0010\u0167\u0001\u0010\u0001\u0010"+
 		"\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011"+
-		"\u0001\u0011\u0003\u0011\u0172\b\u0011\u0001\u0011\u0001\u0011\u0001\u0011"+
-		"\u0003\u0011\u0177\b\u0011\u0005\u0011\u0179\b\u0011\n\u0011\f\u0011\u017c"+
-		"\t\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0012\u0001\u0012\u0001"+
-		"\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001"+
-		"\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0013\u0001"+
-		"\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001"+
-		"\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0003\u0013\u0199\b\u0013\u0001"+
-		"\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001"+
-		"\u0014\u0001\u0014\u0001\u0014\u0003\u0014\u01a4\b\u0014\u0001\u0015\u0001"+
-		"\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001"+
-		"\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0003\u0015\u01b2"+
-		"\b\u0015\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001"+
-		"\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001"+
-		"\u0016\u0001\u0016\u0001\u0016\u0003\u0016\u01c2\b\u0016\u0001\u0017\u0001"+
-		"\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001"+
-		"\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0003\u0017\u01cf\b\u0017\u0001"+
-		"\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001"+
-		"\u0018\u0003\u0018\u01d8\b\u0018\u0001\u0019\u0001\u0019\u0001\u0019\u0003"+
-		"\u0019\u01dd\b\u0019\u0001\u001a\u0001\u001a\u0001\u001b\u0001\u001b\u0001"+
-		"\u001b\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b\u0001"+
-		"\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0001"+
-		"\u001c\u0001\u001c\u0001\u001c\u0001\u001d\u0001\u001d\u0001\u001d\u0001"+
-		"\u001d\u0001\u001d\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001"+
-		"\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001f\u0001"+
-		"\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001"+
-		"\u001f\u0001\u001f\u0001\u001f\u0001 \u0001 \u0001 \u0001 \u0001 \u0001"+
-		" \u0001 \u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001"+
-		"!\u0001!\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001"+
-		"\"\u0001\"\u0001\"\u0001\"\u0001#\u0001#\u0001#\u0001#\u0001#\u0001#\u0001"+
-		"#\u0001#\u0001#\u0001$\u0001$\u0001$\u0001$\u0001$\u0001$\u0001$\u0001"+
-		"$\u0001$\u0001%\u0001%\u0001%\u0001%\u0001%\u0001%\u0001%\u0001%\u0001"+
-		"%\u0001%\u0001%\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001"+
-		"&\u0001\'\u0001\'\u0001\'\u0001\'\u0001\'\u0001\'\u0001\'\u0001(\u0001"+
-		"(\u0001(\u0001(\u0001(\u0001(\u0001(\u0001(\u0001)\u0001)\u0001)\u0001"+
-		")\u0001)\u0001)\u0001*\u0001*\u0001*\u0001*\u0001*\u0001*\u0001*\u0001"+
-		"+\u0001+\u0001+\u0001,\u0001,\u0001,\u0001,\u0001-\u0001-\u0001-\u0001"+
-		"-\u0001-\u0001.\u0001.\u0001.\u0001.\u0001.\u0001.\u0001/\u0001/\u0001"+
-		"/\u0001/\u0001/\u0001/\u0001/\u00010\u00010\u00010\u00010\u00010\u0001"+
-		"0\u00011\u00011\u00011\u00011\u00011\u00012\u00012\u00012\u00013\u0001"+
-		"3\u00013\u00013\u00013\u00013\u00013\u00013\u00014\u00014\u00014\u0001"+
-		"4\u00014\u00015\u00015\u00015\u00015\u00016\u00016\u00016\u00016\u0001"+
-		"7\u00017\u00017\u00017\u00017\u00017\u00018\u00018\u00018\u00019\u0001"+
-		"9\u00019\u00019\u00019\u0001:\u0001:\u0001:\u0001;\u0001;\u0001;\u0001"+
-		"<\u0001<\u0001<\u0001<\u0001<\u0001<\u0001<\u0001<\u0001<\u0001=\u0001"+
-		"=\u0001=\u0001=\u0001=\u0001=\u0001=\u0001=\u0001=\u0001=\u0001=\u0001"+
+		"\u0001\u0011\u0001\u0011\u0003\u0011\u0174\b\u0011\u0001\u0011\u0001\u0011"+
+		"\u0001\u0011\u0003\u0011\u0179\b\u0011\u0005\u0011\u017b\b\u0011\n\u0011"+
+		"\f\u0011\u017e\t\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0012"+
+		"\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012"+
+		"\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012"+
+		"\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013"+
+		"\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0003\u0013"+
+		"\u019b\b\u0013\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014"+
+		"\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0003\u0014\u01a6\b\u0014"+
+		"\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015"+
+		"\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015"+
+		"\u0003\u0015\u01b4\b\u0015\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016"+
+		"\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016"+
+		"\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0003\u0016\u01c4\b\u0016"+
+		"\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017"+
+		"\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0003\u0017"+
+		"\u01d1\b\u0017\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018"+
+		"\u0001\u0018\u0001\u0018\u0003\u0018\u01da\b\u0018\u0001\u0019\u0001\u0019"+
+		"\u0001\u0019\u0003\u0019\u01df\b\u0019\u0001\u001a\u0001\u001a\u0001\u001b"+
+		"\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b"+
+		"\u0001\u001b\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c"+
+		"\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001d\u0001\u001d"+
+		"\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001e\u0001\u001e\u0001\u001e"+
+		"\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e"+
+		"\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f"+
+		"\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001 \u0001 \u0001 "+
+		"\u0001 \u0001 \u0001 \u0001 \u0001!\u0001!\u0001!\u0001!\u0001!\u0001"+
+		"!\u0001!\u0001!\u0001!\u0001!\u0001\"\u0001\"\u0001\"\u0001\"\u0001\""+
+		"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001#\u0001#\u0001#"+
+		"\u0001#\u0001#\u0001#\u0001#\u0001#\u0001#\u0001$\u0001$\u0001$\u0001"+
+		"$\u0001$\u0001$\u0001$\u0001$\u0001$\u0001%\u0001%\u0001%\u0001%\u0001"+
+		"%\u0001%\u0001%\u0001%\u0001%\u0001%\u0001%\u0001&\u0001&\u0001&\u0001"+
+		"&\u0001&\u0001&\u0001&\u0001&\u0001\'\u0001\'\u0001\'\u0001\'\u0001\'"+
+		"\u0001\'\u0001\'\u0001(\u0001(\u0001(\u0001(\u0001(\u0001(\u0001(\u0001"+
+		"(\u0001)\u0001)\u0001)\u0001)\u0001)\u0001)\u0001*\u0001*\u0001*\u0001"+
+		"*\u0001*\u0001*\u0001*\u0001+\u0001+\u0001+\u0001,\u0001,\u0001,\u0001"+
+		",\u0001-\u0001-\u0001-\u0001-\u0001-\u0001.\u0001.\u0001.\u0001.\u0001"+
+		".\u0001.\u0001/\u0001/\u0001/\u0001/\u0001/\u0001/\u0001/\u00010\u0001"+
+		"0\u00010\u00010\u00010\u00010\u00011\u00011\u00011\u00011\u00011\u0001"+
+		"2\u00012\u00012\u00013\u00013\u00013\u00013\u00013\u00013\u00013\u0001"+
+		"3\u00014\u00014\u00014\u00014\u00014\u00015\u00015\u00015\u00015\u0001"+
+		"6\u00016\u00016\u00016\u00017\u00017\u00017\u00017\u00017\u00017\u0001"+
+		"8\u00018\u00018\u00019\u00019\u00019\u00019\u00019\u0001:\u0001:\u0001"+
+		":\u0001;\u0001;\u0001;\u0001<\u0001<\u0001<\u0001<\u0001<\u0001<\u0001"+
+		"<\u0001<\u0001<\u0001=\u0001=\u0001=\u0001=\u0001=\u0001=\u0001=\u0001"+
+		"=\u0001=\u0001=\u0001=\u0001>\u0001>\u0001>\u0001>\u0001>\u0001>\u0001"+
 		">\u0001>\u0001?\u0001?\u0001@\u0001@\u0001A\u0001A\u0001B\u0001B\u0001"+
 		"C\u0001C\u0001D\u0001D\u0001E\u0001E\u0001F\u0001F\u0001G\u0001G\u0001"+
 		"H\u0001H\u0001I\u0001I\u0001J\u0001J\u0001K\u0001K\u0001L\u0001L\u0001"+
-		"M\u0001M\u0001N\u0001N\u0001N\u0001N\u0001N\u0001O\u0001O\u0001O\u0001"+
-		"O\u0001O\u0001O\u0001P\u0001P\u0001Q\u0001Q\u0001R\u0001R\u0001S\u0001"+
-		"S\u0001T\u0001T\u0001U\u0001U\u0001U\u0001V\u0001V\u0001W\u0001W\u0001"+
-		"X\u0001X\u0001X\u0001Y\u0001Y\u0001Y\u0001Z\u0001Z\u0001[\u0001[\u0001"+
-		"[\u0001[\u0001[\u0001\\\u0001\\\u0001\\\u0001\\\u0001]\u0001]\u0001]\u0001"+
-		"]\u0001]\u0001]\u0001^\u0001^\u0001^\u0001^\u0001^\u0001^\u0001_\u0001"+
-		"_\u0001_\u0001_\u0001_\u0001_\u0001_\u0001_\u0001`\u0001`\u0001`\u0001"+
-		"`\u0001`\u0001a\u0001a\u0001a\u0001a\u0001a\u0001a\u0001b\u0001b\u0001"+
-		"b\u0001b\u0001b\u0001b\u0001b\u0001b\u0001c\u0001c\u0001c\u0001d\u0001"+
-		"d\u0001d\u0001e\u0001e\u0001e\u0001f\u0001f\u0001f\u0001f\u0001f\u0001"+
-		"f\u0001f\u0001f\u0001f\u0001f\u0001f\u0001f\u0001f\u0001f\u0001f\u0001"+
-		"f\u0003f\u0358\bf\u0001g\u0001g\u0001g\u0001g\u0001g\u0003g\u035f\bg\u0001"+
-		"g\u0001g\u0005g\u0363\bg\ng\fg\u0366\tg\u0001h\u0001h\u0001h\u0003h\u036b"+
-		"\bh\u0001h\u0001h\u0001h\u0001i\u0004i\u0371\bi\u000bi\fi\u0372\u0001"+
-		"i\u0005i\u0376\bi\ni\fi\u0379\ti\u0001i\u0001i\u0004i\u037d\bi\u000bi"+
-		"\fi\u037e\u0003i\u0381\bi\u0001j\u0001j\u0001j\u0001j\u0001j\u0005j\u0388"+
-		"\bj\nj\fj\u038b\tj\u0001j\u0001j\u0001j\u0001j\u0001j\u0001j\u0005j\u0393"+
-		"\bj\nj\fj\u0396\tj\u0001j\u0003j\u0399\bj\u0001k\u0001k\u0005k\u039d\b"+
-		"k\nk\fk\u03a0\tk\u0000\u0000l\u0001\u0000\u0003\u0000\u0005\u0000\u0007"+
-		"\u0000\t\u0000\u000b\u0000\r\u0000\u000f\u0000\u0011\u0000\u0013\u0000"+
-		"\u0015\u0000\u0017\u0000\u0019\u0000\u001b\u0001\u001d\u0002\u001f\u0003"+
-		"!\u0004#\u0005%\u0006\'\u0007)\b+\t-\n/\u000b1\f3\r5\u000e7\u000f9\u0010"+
-		";\u0011=\u0012?\u0013A\u0014C\u0015E\u0016G\u0017I\u0018K\u0019M\u001a"+
-		"O\u001bQ\u001cS\u001dU\u001eW\u001fY [!]\"_#a$c%e&g\'i(k)m*o+q,s-u.w/"+
-		"y0{1}2\u007f3\u00814\u00835\u00856\u00877\u00898\u008b9\u008d:\u008f;"+
-		"\u0091<\u0093=\u0095>\u0097?\u0099@\u009bA\u009dB\u009fC\u00a1D\u00a3"+
-		"E\u00a5F\u00a7G\u00a9H\u00abI\u00adJ\u00afK\u00b1L\u00b3M\u00b5N\u00b7"+
-		"O\u00b9P\u00bbQ\u00bdR\u00bfS\u00c1T\u00c3U\u00c5V\u00c7W\u00c9X\u00cb"+
-		"Y\u00cdZ\u00cf[\u00d1\u0000\u00d3\\\u00d5]\u00d7^\u0001\u0000\r\u0003"+
-		"\u000009AFaf\u0003\u0000\t\n\f\r  \u0005\u0000\n\n\f\r09AFaf\u0003\u0000"+
-		"AZ__az\u0005\u0000--09AZ__az\u0001\u0000\u0000\u007f\u0003\u0000!!#&*"+
-		"~\u0001\u0000**\u0002\u0000**//\u0003\u0000\n\n\r\r\u2028\u2029\u0001"+
-		"\u000009\u0004\u0000\n\n\f\r\"\"\\\\\u0004\u0000\n\n\f\r\'\'\\\\\u03da"+
-		"\u0000\u001b\u0001\u0000\u0000\u0000\u0000\u001d\u0001\u0000\u0000\u0000"+
-		"\u0000\u001f\u0001\u0000\u0000\u0000\u0000!\u0001\u0000\u0000\u0000\u0000"+
-		"#\u0001\u0000\u0000\u0000\u0000%\u0001\u0000\u0000\u0000\u0000\'\u0001"+
-		"\u0000\u0000\u0000\u0000)\u0001\u0000\u0000\u0000\u0000+\u0001\u0000\u0000"+
-		"\u0000\u0000-\u0001\u0000\u0000\u0000\u0000/\u0001\u0000\u0000\u0000\u0000"+
-		"1\u0001\u0000\u0000\u0000\u00003\u0001\u0000\u0000\u0000\u00005\u0001"+
-		"\u0000\u0000\u0000\u00007\u0001\u0000\u0000\u0000\u00009\u0001\u0000\u0000"+
-		"\u0000\u0000;\u0001\u0000\u0000\u0000\u0000=\u0001\u0000\u0000\u0000\u0000"+
-		"?\u0001\u0000\u0000\u0000\u0000A\u0001\u0000\u0000\u0000\u0000C\u0001"+
-		"\u0000\u0000\u0000\u0000E\u0001\u0000\u0000\u0000\u0000G\u0001\u0000\u0000"+
-		"\u0000\u0000I\u0001\u0000\u0000\u0000\u0000K\u0001\u0000\u0000\u0000\u0000"+
-		"M\u0001\u0000\u0000\u0000\u0000O\u0001\u0000\u0000\u0000\u0000Q\u0001"+
-		"\u0000\u0000\u0000\u0000S\u0001\u0000\u0000\u0000\u0000U\u0001\u0000\u0000"+
-		"\u0000\u0000W\u0001\u0000\u0000\u0000\u0000Y\u0001\u0000\u0000\u0000\u0000"+
-		"[\u0001\u0000\u0000\u0000\u0000]\u0001\u0000\u0000\u0000\u0000_\u0001"+
-		"\u0000\u0000\u0000\u0000a\u0001\u0000\u0000\u0000\u0000c\u0001\u0000\u0000"+
-		"\u0000\u0000e\u0001\u0000\u0000\u0000\u0000g\u0001\u0000\u0000\u0000\u0000"+
-		"i\u0001\u0000\u0000\u0000\u0000k\u0001\u0000\u0000\u0000\u0000m\u0001"+
-		"\u0000\u0000\u0000\u0000o\u0001\u0000\u0000\u0000\u0000q\u0001\u0000\u0000"+
-		"\u0000\u0000s\u0001\u0000\u0000\u0000\u0000u\u0001\u0000\u0000\u0000\u0000"+
-		"w\u0001\u0000\u0000\u0000\u0000y\u0001\u0000\u0000\u0000\u0000{\u0001"+
-		"\u0000\u0000\u0000\u0000}\u0001\u0000\u0000\u0000\u0000\u007f\u0001\u0000"+
-		"\u0000\u0000\u0000\u0081\u0001\u0000\u0000\u0000\u0000\u0083\u0001\u0000"+
-		"\u0000\u0000\u0000\u0085\u0001\u0000\u0000\u0000\u0000\u0087\u0001\u0000"+
-		"\u0000\u0000\u0000\u0089\u0001\u0000\u0000\u0000\u0000\u008b\u0001\u0000"+
-		"\u0000\u0000\u0000\u008d\u0001\u0000\u0000\u0000\u0000\u008f\u0001\u0000"+
-		"\u0000\u0000\u0000\u0091\u0001\u0000\u0000\u0000\u0000\u0093\u0001\u0000"+
-		"\u0000\u0000\u0000\u0095\u0001\u0000\u0000\u0000\u0000\u0097\u0001\u0000"+
-		"\u0000\u0000\u0000\u0099\u0001\u0000\u0000\u0000\u0000\u009b\u0001\u0000"+
-		"\u0000\u0000\u0000\u009d\u0001\u0000\u0000\u0000\u0000\u009f\u0001\u0000"+
-		"\u0000\u0000\u0000\u00a1\u0001\u0000\u0000\u0000\u0000\u00a3\u0001\u0000"+
-		"\u0000\u0000\u0000\u00a5\u0001\u0000\u0000\u0000\u0000\u00a7\u0001\u0000"+
-		"\u0000\u0000\u0000\u00a9\u0001\u0000\u0000\u0000\u0000\u00ab\u0001\u0000"+
-		"\u0000\u0000\u0000\u00ad\u0001\u0000\u0000\u0000\u0000\u00af\u0001\u0000"+
-		"\u0000\u0000\u0000\u00b1\u0001\u0000\u0000\u0000\u0000\u00b3\u0001\u0000"+
-		"\u0000\u0000\u0000\u00b5\u0001\u0000\u0000\u0000\u0000\u00b7\u0001\u0000"+
-		"\u0000\u0000\u0000\u00b9\u0001\u0000\u0000\u0000\u0000\u00bb\u0001\u0000"+
-		"\u0000\u0000\u0000\u00bd\u0001\u0000\u0000\u0000\u0000\u00bf\u0001\u0000"+
-		"\u0000\u0000\u0000\u00c1\u0001\u0000\u0000\u0000\u0000\u00c3\u0001\u0000"+
-		"\u0000\u0000\u0000\u00c5\u0001\u0000\u0000\u0000\u0000\u00c7\u0001\u0000"+
-		"\u0000\u0000\u0000\u00c9\u0001\u0000\u0000\u0000\u0000\u00cb\u0001\u0000"+
-		"\u0000\u0000\u0000\u00cd\u0001\u0000\u0000\u0000\u0000\u00cf\u0001\u0000"+
-		"\u0000\u0000\u0000\u00d3\u0001\u0000\u0000\u0000\u0000\u00d5\u0001\u0000"+
-		"\u0000\u0000\u0000\u00d7\u0001\u0000\u0000\u0000\u0001\u00d9\u0001\u0000"+
-		"\u0000\u0000\u0003\u00df\u0001\u0000\u0000\u0000\u0005\u00e1\u0001\u0000"+
-		"\u0000\u0000\u0007\u00f7\u0001\u0000\u0000\u0000\t\u00fb\u0001\u0000\u0000"+
-		"\u0000\u000b\u0101\u0001\u0000\u0000\u0000\r\u0104\u0001\u0000\u0000\u0000"+
-		"\u000f\u0117\u0001\u0000\u0000\u0000\u0011\u011c\u0001\u0000\u0000\u0000"+
-		"\u0013\u0121\u0001\u0000\u0000\u0000\u0015\u0123\u0001\u0000\u0000\u0000"+
-		"\u0017\u0126\u0001\u0000\u0000\u0000\u0019\u012f\u0001\u0000\u0000\u0000"+
-		"\u001b\u0134\u0001\u0000\u0000\u0000\u001d\u0138\u0001\u0000\u0000\u0000"+
-		"\u001f\u0159\u0001\u0000\u0000\u0000!\u0163\u0001\u0000\u0000\u0000#\u0169"+
-		"\u0001\u0000\u0000\u0000%\u0180\u0001\u0000\u0000\u0000\'\u0198\u0001"+
-		"\u0000\u0000\u0000)\u01a3\u0001\u0000\u0000\u0000+\u01b1\u0001\u0000\u0000"+
-		"\u0000-\u01c1\u0001\u0000\u0000\u0000/\u01ce\u0001\u0000\u0000\u00001"+
-		"\u01d7\u0001\u0000\u0000\u00003\u01dc\u0001\u0000\u0000\u00005\u01de\u0001"+
-		"\u0000\u0000\u00007\u01e0\u0001\u0000\u0000\u00009\u01e8\u0001\u0000\u0000"+
-		"\u0000;\u01f1\u0001\u0000\u0000\u0000=\u01f6\u0001\u0000\u0000\u0000?"+
-		"\u01ff\u0001\u0000\u0000\u0000A\u0209\u0001\u0000\u0000\u0000C\u0210\u0001"+
-		"\u0000\u0000\u0000E\u021a\u0001\u0000\u0000\u0000G\u0225\u0001\u0000\u0000"+
-		"\u0000I\u022e\u0001\u0000\u0000\u0000K\u0237\u0001\u0000\u0000\u0000M"+
-		"\u0242\u0001\u0000\u0000\u0000O\u024a\u0001\u0000\u0000\u0000Q\u0251\u0001"+
-		"\u0000\u0000\u0000S\u0259\u0001\u0000\u0000\u0000U\u025f\u0001\u0000\u0000"+
-		"\u0000W\u0266\u0001\u0000\u0000\u0000Y\u0269\u0001\u0000\u0000\u0000["+
-		"\u026d\u0001\u0000\u0000\u0000]\u0272\u0001\u0000\u0000\u0000_\u0278\u0001"+
-		"\u0000\u0000\u0000a\u027f\u0001\u0000\u0000\u0000c\u0285\u0001\u0000\u0000"+
-		"\u0000e\u028a\u0001\u0000\u0000\u0000g\u028d\u0001\u0000\u0000\u0000i"+
-		"\u0295\u0001\u0000\u0000\u0000k\u029a\u0001\u0000\u0000\u0000m\u029e\u0001"+
-		"\u0000\u0000\u0000o\u02a2\u0001\u0000\u0000\u0000q\u02a8\u0001\u0000\u0000"+
-		"\u0000s\u02ab\u0001\u0000\u0000\u0000u\u02b0\u0001\u0000\u0000\u0000w"+
-		"\u02b3\u0001\u0000\u0000\u0000y\u02b6\u0001\u0000\u0000\u0000{\u02bf\u0001"+
-		"\u0000\u0000\u0000}\u02ca\u0001\u0000\u0000\u0000\u007f\u02cc\u0001\u0000"+
-		"\u0000\u0000\u0081\u02ce\u0001\u0000\u0000\u0000\u0083\u02d0\u0001\u0000"+
-		"\u0000\u0000\u0085\u02d2\u0001\u0000\u0000\u0000\u0087\u02d4\u0001\u0000"+
-		"\u0000\u0000\u0089\u02d6\u0001\u0000\u0000\u0000\u008b\u02d8\u0001\u0000"+
-		"\u0000\u0000\u008d\u02da\u0001\u0000\u0000\u0000\u008f\u02dc\u0001\u0000"+
-		"\u0000\u0000\u0091\u02de\u0001\u0000\u0000\u0000\u0093\u02e0\u0001\u0000"+
-		"\u0000\u0000\u0095\u02e2\u0001\u0000\u0000\u0000\u0097\u02e4\u0001\u0000"+
-		"\u0000\u0000\u0099\u02e6\u0001\u0000\u0000\u0000\u009b\u02e8\u0001\u0000"+
-		"\u0000\u0000\u009d\u02ea\u0001\u0000\u0000\u0000\u009f\u02ef\u0001\u0000"+
-		"\u0000\u0000\u00a1\u02f5\u0001\u0000\u0000\u0000\u00a3\u02f7\u0001\u0000"+
-		"\u0000\u0000\u00a5\u02f9\u0001\u0000\u0000\u0000\u00a7\u02fb\u0001\u0000"+
-		"\u0000\u0000\u00a9\u02fd\u0001\u0000\u0000\u0000\u00ab\u02ff\u0001\u0000"+
-		"\u0000\u0000\u00ad\u0302\u0001\u0000\u0000\u0000\u00af\u0304\u0001\u0000"+
-		"\u0000\u0000\u00b1\u0306\u0001\u0000\u0000\u0000\u00b3\u0309\u0001\u0000"+
-		"\u0000\u0000\u00b5\u030c\u0001\u0000\u0000\u0000\u00b7\u030e\u0001\u0000"+
-		"\u0000\u0000\u00b9\u0313\u0001\u0000\u0000\u0000\u00bb\u0317\u0001\u0000"+
-		"\u0000\u0000\u00bd\u031d\u0001\u0000\u0000\u0000\u00bf\u0323\u0001\u0000"+
-		"\u0000\u0000\u00c1\u032b\u0001\u0000\u0000\u0000\u00c3\u0330\u0001\u0000"+
-		"\u0000\u0000\u00c5\u0336\u0001\u0000\u0000\u0000\u00c7\u033e\u0001\u0000"+
-		"\u0000\u0000\u00c9\u0341\u0001\u0000\u0000\u0000\u00cb\u0344\u0001\u0000"+
-		"\u0000\u0000\u00cd\u0357\u0001\u0000\u0000\u0000\u00cf\u0359\u0001\u0000"+
-		"\u0000\u0000\u00d1\u0367\u0001\u0000\u0000\u0000\u00d3\u0380\u0001\u0000"+
-		"\u0000\u0000\u00d5\u0398\u0001\u0000\u0000\u0000\u00d7\u039a\u0001\u0000"+
-		"\u0000\u0000\u00d9\u00da\u0007\u0000\u0000\u0000\u00da\u0002\u0001\u0000"+
-		"\u0000\u0000\u00db\u00dc\u0005\r\u0000\u0000\u00dc\u00e0\u0005\n\u0000"+
-		"\u0000\u00dd\u00e0\u0007\u0001\u0000\u0000\u00de\u00e0\u0001\u0000\u0000"+
-		"\u0000\u00df\u00db\u0001\u0000\u0000\u0000\u00df\u00dd\u0001\u0000\u0000"+
-		"\u0000\u00df\u00de\u0001\u0000\u0000\u0000\u00e0\u0004\u0001\u0000\u0000"+
-		"\u0000\u00e1\u00e2\u0005\\\u0000\u0000\u00e2\u00e4\u0003\u0001\u0000\u0000"+
-		"\u00e3\u00e5\u0003\u0001\u0000\u0000\u00e4\u00e3\u0001\u0000\u0000\u0000"+
-		"\u00e4\u00e5\u0001\u0000\u0000\u0000\u00e5\u00e7\u0001\u0000\u0000\u0000"+
-		"\u00e6\u00e8\u0003\u0001\u0000\u0000\u00e7\u00e6\u0001\u0000\u0000\u0000"+
-		"\u00e7\u00e8\u0001\u0000\u0000\u0000\u00e8\u00ea\u0001\u0000\u0000\u0000"+
-		"\u00e9\u00eb\u0003\u0001\u0000\u0000\u00ea\u00e9\u0001\u0000\u0000\u0000"+
-		"\u00ea\u00eb\u0001\u0000\u0000\u0000\u00eb\u00ed\u0001\u0000\u0000\u0000"+
-		"\u00ec\u00ee\u0003\u0001\u0000\u0000\u00ed\u00ec\u0001\u0000\u0000\u0000"+
-		"\u00ed\u00ee\u0001\u0000\u0000\u0000\u00ee\u00f0\u0001\u0000\u0000\u0000"+
-		"\u00ef\u00f1\u0003\u0001\u0000\u0000\u00f0\u00ef\u0001\u0000\u0000\u0000"+
-		"\u00f0\u00f1\u0001\u0000\u0000\u0000\u00f1\u00f2\u0001\u0000\u0000\u0000"+
-		"\u00f2\u00f3\u0003\u0003\u0001\u0000\u00f3\u0006\u0001\u0000\u0000\u0000"+
-		"\u00f4\u00f8\u0003\u0005\u0002\u0000\u00f5\u00f6\u0005\\\u0000\u0000\u00f6"+
-		"\u00f8\b\u0002\u0000\u0000\u00f7\u00f4\u0001\u0000\u0000\u0000\u00f7\u00f5"+
-		"\u0001\u0000\u0000\u0000\u00f8\b\u0001\u0000\u0000\u0000\u00f9\u00fc\u0003"+
-		"!\u0010\u0000\u00fa\u00fc\u0001\u0000\u0000\u0000\u00fb\u00f9\u0001\u0000"+
-		"\u0000\u0000\u00fb\u00fa\u0001\u0000\u0000\u0000\u00fc\n\u0001\u0000\u0000"+
-		"\u0000\u00fd\u0102\u0005\n\u0000\u0000\u00fe\u00ff\u0005\r\u0000\u0000"+
-		"\u00ff\u0102\u0005\n\u0000\u0000\u0100\u0102\u0002\f\r\u0000\u0101\u00fd"+
-		"\u0001\u0000\u0000\u0000\u0101\u00fe\u0001\u0000\u0000\u0000\u0101\u0100"+
-		"\u0001\u0000\u0000\u0000\u0102\f\u0001\u0000\u0000\u0000\u0103\u0105\u0005"+
-		"0\u0000\u0000\u0104\u0103\u0001\u0000\u0000\u0000\u0104\u0105\u0001\u0000"+
-		"\u0000\u0000\u0105\u0107\u0001\u0000\u0000\u0000\u0106\u0108\u00050\u0000"+
-		"\u0000\u0107\u0106\u0001\u0000\u0000\u0000\u0107\u0108\u0001\u0000\u0000"+
-		"\u0000\u0108\u010a\u0001\u0000\u0000\u0000\u0109\u010b\u00050\u0000\u0000"+
-		"\u010a\u0109\u0001\u0000\u0000\u0000\u010a\u010b\u0001\u0000\u0000\u0000"+
-		"\u010b\u010d\u0001\u0000\u0000\u0000\u010c\u010e\u00050\u0000\u0000\u010d"+
-		"\u010c\u0001\u0000\u0000\u0000\u010d\u010e\u0001\u0000\u0000\u0000\u010e"+
-		"\u000e\u0001\u0000\u0000\u0000\u010f\u0118\u0005-\u0000\u0000\u0110\u0111"+
-		"\u0005\\\u0000\u0000\u0111\u0112\u0003\r\u0006\u0000\u0112\u0113\u0005"+
-		"2\u0000\u0000\u0113\u0114\u0005d\u0000\u0000\u0114\u0115\u0001\u0000\u0000"+
-		"\u0000\u0115\u0116\u0003\u0003\u0001\u0000\u0116\u0118\u0001\u0000\u0000"+
-		"\u0000\u0117\u010f\u0001\u0000\u0000\u0000\u0117\u0110\u0001\u0000\u0000"+
-		"\u0000\u0118\u0010\u0001\u0000\u0000\u0000\u0119\u011d\u0007\u0003\u0000"+
-		"\u0000\u011a\u011d\u0003\u0015\n\u0000\u011b\u011d\u0003\u0007\u0003\u0000"+
-		"\u011c\u0119\u0001\u0000\u0000\u0000\u011c\u011a\u0001\u0000\u0000\u0000"+
-		"\u011c\u011b\u0001\u0000\u0000\u0000\u011d\u0012\u0001\u0000\u0000\u0000"+
-		"\u011e\u0122\u0007\u0004\u0000\u0000\u011f\u0122\u0003\u0015\n\u0000\u0120"+
-		"\u0122\u0003\u0007\u0003\u0000\u0121\u011e\u0001\u0000\u0000\u0000\u0121"+
-		"\u011f\u0001\u0000\u0000\u0000\u0121\u0120\u0001\u0000\u0000\u0000\u0122"+
-		"\u0014\u0001\u0000\u0000\u0000\u0123\u0124\b\u0005\u0000\u0000\u0124\u0016"+
-		"\u0001\u0000\u0000\u0000\u0125\u0127\u0003\u0013\t\u0000\u0126\u0125\u0001"+
-		"\u0000\u0000\u0000\u0127\u0128\u0001\u0000\u0000\u0000\u0128\u0126\u0001"+
-		"\u0000\u0000\u0000\u0128\u0129\u0001\u0000\u0000\u0000\u0129\u0018\u0001"+
-		"\u0000\u0000\u0000\u012a\u012e\u0007\u0006\u0000\u0000\u012b\u012e\u0003"+
-		"\u0015\n\u0000\u012c\u012e\u0003\u0007\u0003\u0000\u012d\u012a\u0001\u0000"+
-		"\u0000\u0000\u012d\u012b\u0001\u0000\u0000\u0000\u012d\u012c\u0001\u0000"+
-		"\u0000\u0000\u012e\u0131\u0001\u0000\u0000\u0000\u012f\u012d\u0001\u0000"+
-		"\u0000\u0000\u012f\u0130\u0001\u0000\u0000\u0000\u0130\u001a\u0001\u0000"+
-		"\u0000\u0000\u0131\u012f\u0001\u0000\u0000\u0000\u0132\u0135\u0003\u001f"+
-		"\u000f\u0000\u0133\u0135\u0003\u001d\u000e\u0000\u0134\u0132\u0001\u0000"+
-		"\u0000\u0000\u0134\u0133\u0001\u0000\u0000\u0000\u0135\u0136\u0001\u0000"+
-		"\u0000\u0000\u0136\u0137\u0006\r\u0000\u0000\u0137\u001c\u0001\u0000\u0000"+
-		"\u0000\u0138\u0139\u0005/\u0000\u0000\u0139\u013a\u0005*\u0000\u0000\u013a"+
-		"\u013e\u0001\u0000\u0000\u0000\u013b\u013d\b\u0007\u0000\u0000\u013c\u013b"+
-		"\u0001\u0000\u0000\u0000\u013d\u0140\u0001\u0000\u0000\u0000\u013e\u013c"+
-		"\u0001\u0000\u0000\u0000\u013e\u013f\u0001\u0000\u0000\u0000\u013f\u0142"+
-		"\u0001\u0000\u0000\u0000\u0140\u013e\u0001\u0000\u0000\u0000\u0141\u0143"+
-		"\u0005*\u0000\u0000\u0142\u0141\u0001\u0000\u0000\u0000\u0143\u0144\u0001"+
-		"\u0000\u0000\u0000\u0144\u0142\u0001\u0000\u0000\u0000\u0144\u0145\u0001"+
-		"\u0000\u0000\u0000\u0145\u0154\u0001\u0000\u0000\u0000\u0146\u014a\b\b"+
-		"\u0000\u0000\u0147\u0149\b\u0007\u0000\u0000\u0148\u0147\u0001\u0000\u0000"+
-		"\u0000\u0149\u014c\u0001\u0000\u0000\u0000\u014a\u0148\u0001\u0000\u0000"+
-		"\u0000\u014a\u014b\u0001\u0000\u0000\u0000\u014b\u014e\u0001\u0000\u0000"+
-		"\u0000\u014c\u014a\u0001\u0000\u0000\u0000\u014d\u014f\u0005*\u0000\u0000"+
-		"\u014e\u014d\u0001\u0000\u0000\u0000\u014f\u0150\u0001\u0000\u0000\u0000"+
-		"\u0150\u014e\u0001\u0000\u0000\u0000\u0150\u0151\u0001\u0000\u0000\u0000"+
-		"\u0151\u0153\u0001\u0000\u0000\u0000\u0152\u0146\u0001\u0000\u0000\u0000"+
-		"\u0153\u0156\u0001\u0000\u0000\u0000\u0154\u0152\u0001\u0000\u0000\u0000"+
-		"\u0154\u0155\u0001\u0000\u0000\u0000\u0155\u0157\u0001\u0000\u0000\u0000"+
-		"\u0156\u0154\u0001\u0000\u0000\u0000\u0157\u0158\u0005/\u0000\u0000\u0158"+
-		"\u001e\u0001\u0000\u0000\u0000\u0159\u015a\u0005/\u0000\u0000\u015a\u015b"+
-		"\u0005/\u0000\u0000\u015b\u015f\u0001\u0000\u0000\u0000\u015c\u015e\b"+
-		"\t\u0000\u0000\u015d\u015c\u0001\u0000\u0000\u0000\u015e\u0161\u0001\u0000"+
-		"\u0000\u0000\u015f\u015d\u0001\u0000\u0000\u0000\u015f\u0160\u0001\u0000"+
-		"\u0000\u0000\u0160 \u0001\u0000\u0000\u0000\u0161\u015f\u0001\u0000\u0000"+
-		"\u0000\u0162\u0164\u0007\u0001\u0000\u0000\u0163\u0162\u0001\u0000\u0000"+
-		"\u0000\u0164\u0165\u0001\u0000\u0000\u0000\u0165\u0163\u0001\u0000\u0000"+
-		"\u0000\u0165\u0166\u0001\u0000\u0000\u0000\u0166\u0167\u0001\u0000\u0000"+
-		"\u0000\u0167\u0168\u0006\u0010\u0000\u0000\u0168\"\u0001\u0000\u0000\u0000"+
-		"\u0169\u016a\u0005u\u0000\u0000\u016a\u016b\u0005r\u0000\u0000\u016b\u016c"+
-		"\u0005l\u0000\u0000\u016c\u016d\u0005(\u0000\u0000\u016d\u016e\u0001\u0000"+
-		"\u0000\u0000\u016e\u0171\u0003\t\u0004\u0000\u016f\u0172\u0003\u0019\f"+
-		"\u0000\u0170\u0172\u0003\u00d5j\u0000\u0171\u016f\u0001\u0000\u0000\u0000"+
-		"\u0171\u0170\u0001\u0000\u0000\u0000\u0172\u017a\u0001\u0000\u0000\u0000"+
-		"\u0173\u0176\u0003!\u0010\u0000\u0174\u0177\u0003\u0019\f\u0000\u0175"+
-		"\u0177\u0003\u00d5j\u0000\u0176\u0174\u0001\u0000\u0000\u0000\u0176\u0175"+
-		"\u0001\u0000\u0000\u0000\u0177\u0179\u0001\u0000\u0000\u0000\u0178\u0173"+
-		"\u0001\u0000\u0000\u0000\u0179\u017c\u0001\u0000\u0000\u0000\u017a\u0178"+
-		"\u0001\u0000\u0000\u0000\u017a\u017b\u0001\u0000\u0000\u0000\u017b\u017d"+
-		"\u0001\u0000\u0000\u0000\u017c\u017a\u0001\u0000\u0000\u0000\u017d\u017e"+
-		"\u0003\t\u0004\u0000\u017e\u017f\u0005)\u0000\u0000\u017f$\u0001\u0000"+
-		"\u0000\u0000\u0180\u0181\u0005f\u0000\u0000\u0181\u0182\u0005o\u0000\u0000"+
-		"\u0182\u0183\u0005r\u0000\u0000\u0183\u0184\u0005m\u0000\u0000\u0184\u0185"+
-		"\u0005a\u0000\u0000\u0185\u0186\u0005t\u0000\u0000\u0186\u0187\u0005("+
-		"\u0000\u0000\u0187\u0188\u0001\u0000\u0000\u0000\u0188\u0189\u0003\t\u0004"+
-		"\u0000\u0189\u018a\u0003\u00d5j\u0000\u018a\u018b\u0003\t\u0004\u0000"+
-		"\u018b\u018c\u0005)\u0000\u0000\u018c&\u0001\u0000\u0000\u0000\u018d\u018e"+
-		"\u0005p\u0000\u0000\u018e\u0199\u0005x\u0000\u0000\u018f\u0190\u0005c"+
-		"\u0000\u0000\u0190\u0199\u0005m\u0000\u0000\u0191\u0192\u0005m\u0000\u0000"+
-		"\u0192\u0199\u0005m\u0000\u0000\u0193\u0194\u0005p\u0000\u0000\u0194\u0199"+
-		"\u0005t\u0000\u0000\u0195\u0196\u0005p\u0000\u0000\u0196\u0199\u0005c"+
-		"\u0000\u0000\u0197\u0199\u0005q\u0000\u0000\u0198\u018d\u0001\u0000\u0000"+
-		"\u0000\u0198\u018f\u0001\u0000\u0000\u0000\u0198\u0191\u0001\u0000\u0000"+
-		"\u0000\u0198\u0193\u0001\u0000\u0000\u0000\u0198\u0195\u0001\u0000\u0000"+
-		"\u0000\u0198\u0197\u0001\u0000\u0000\u0000\u0199(\u0001\u0000\u0000\u0000"+
-		"\u019a\u019b\u0005e\u0000\u0000\u019b\u01a4\u0005m\u0000\u0000\u019c\u019d"+
-		"\u0005e\u0000\u0000\u019d\u01a4\u0005x\u0000\u0000\u019e\u019f\u0005c"+
-		"\u0000\u0000\u019f\u01a4\u0005h\u0000\u0000\u01a0\u01a1\u0005r\u0000\u0000"+
-		"\u01a1\u01a2\u0005e\u0000\u0000\u01a2\u01a4\u0005m\u0000\u0000\u01a3\u019a"+
-		"\u0001\u0000\u0000\u0000\u01a3\u019c\u0001\u0000\u0000\u0000\u01a3\u019e"+
-		"\u0001\u0000\u0000\u0000\u01a3\u01a0\u0001\u0000\u0000\u0000\u01a4*\u0001"+
-		"\u0000\u0000\u0000\u01a5\u01a6\u0005v\u0000\u0000\u01a6\u01b2\u0005w\u0000"+
-		"\u0000\u01a7\u01a8\u0005v\u0000\u0000\u01a8\u01b2\u0005h\u0000\u0000\u01a9"+
-		"\u01aa\u0005v\u0000\u0000\u01aa\u01ab\u0005m\u0000\u0000\u01ab\u01ac\u0005"+
-		"i\u0000\u0000\u01ac\u01b2\u0005n\u0000\u0000\u01ad\u01ae\u0005v\u0000"+
-		"\u0000\u01ae\u01af\u0005m\u0000\u0000\u01af\u01b0\u0005a\u0000\u0000\u01b0"+
-		"\u01b2\u0005x\u0000\u0000\u01b1\u01a5\u0001\u0000\u0000\u0000\u01b1\u01a7"+
-		"\u0001\u0000\u0000\u0000\u01b1\u01a9\u0001\u0000\u0000\u0000\u01b1\u01ad"+
-		"\u0001\u0000\u0000\u0000\u01b2,\u0001\u0000\u0000\u0000\u01b3\u01b4\u0005"+
-		"d\u0000\u0000\u01b4\u01b5\u0005e\u0000\u0000\u01b5\u01c2\u0005g\u0000"+
-		"\u0000\u01b6\u01b7\u0005r\u0000\u0000\u01b7\u01b8\u0005a\u0000\u0000\u01b8"+
-		"\u01c2\u0005d\u0000\u0000\u01b9\u01ba\u0005g\u0000\u0000\u01ba\u01bb\u0005"+
-		"r\u0000\u0000\u01bb\u01bc\u0005a\u0000\u0000\u01bc\u01c2\u0005d\u0000"+
-		"\u0000\u01bd\u01be\u0005t\u0000\u0000\u01be\u01bf\u0005u\u0000\u0000\u01bf"+
-		"\u01c0\u0005r\u0000\u0000\u01c0\u01c2\u0005n\u0000\u0000\u01c1\u01b3\u0001"+
-		"\u0000\u0000\u0000\u01c1\u01b6\u0001\u0000\u0000\u0000\u01c1\u01b9\u0001"+
-		"\u0000\u0000\u0000\u01c1\u01bd\u0001\u0000\u0000\u0000\u01c2.\u0001\u0000"+
-		"\u0000\u0000\u01c3\u01c4\u0005d\u0000\u0000\u01c4\u01c5\u0005p\u0000\u0000"+
-		"\u01c5\u01cf\u0005i\u0000\u0000\u01c6\u01c7\u0005d\u0000\u0000\u01c7\u01c8"+
-		"\u0005p\u0000\u0000\u01c8\u01c9\u0005c\u0000\u0000\u01c9\u01cf\u0005m"+
-		"\u0000\u0000\u01ca\u01cb\u0005d\u0000\u0000\u01cb\u01cc\u0005p\u0000\u0000"+
-		"\u01cc\u01cd\u0005p\u0000\u0000\u01cd\u01cf\u0005x\u0000\u0000\u01ce\u01c3"+
-		"\u0001\u0000\u0000\u0000\u01ce\u01c6\u0001\u0000\u0000\u0000\u01ce\u01ca"+
-		"\u0001\u0000\u0000\u0000\u01cf0\u0001\u0000\u0000\u0000\u01d0\u01d1\u0005"+
-		"h\u0000\u0000\u01d1\u01d8\u0005z\u0000\u0000\u01d2\u01d3\u0005k\u0000"+
-		"\u0000\u01d3\u01d4\u0005h\u0000\u0000\u01d4\u01d8\u0005z\u0000\u0000\u01d5"+
-		"\u01d6\u0005f\u0000\u0000\u01d6\u01d8\u0005r\u0000\u0000\u01d7\u01d0\u0001"+
-		"\u0000\u0000\u0000\u01d7\u01d2\u0001\u0000\u0000\u0000\u01d7\u01d5\u0001"+
-		"\u0000\u0000\u0000\u01d82\u0001\u0000\u0000\u0000\u01d9\u01da\u0005m\u0000"+
-		"\u0000\u01da\u01dd\u0005s\u0000\u0000\u01db\u01dd\u0005s\u0000\u0000\u01dc"+
-		"\u01d9\u0001\u0000\u0000\u0000\u01dc\u01db\u0001\u0000\u0000\u0000\u01dd"+
-		"4\u0001\u0000\u0000\u0000\u01de\u01df\u0005%\u0000\u0000\u01df6\u0001"+
-		"\u0000\u0000\u0000\u01e0\u01e1\u0005@\u0000\u0000\u01e1\u01e2\u0005i\u0000"+
-		"\u0000\u01e2\u01e3\u0005m\u0000\u0000\u01e3\u01e4\u0005p\u0000\u0000\u01e4"+
-		"\u01e5\u0005o\u0000\u0000\u01e5\u01e6\u0005r\u0000\u0000\u01e6\u01e7\u0005"+
-		"t\u0000\u0000\u01e78\u0001\u0000\u0000\u0000\u01e8\u01e9\u0005@\u0000"+
-		"\u0000\u01e9\u01ea\u0005i\u0000\u0000\u01ea\u01eb\u0005n\u0000\u0000\u01eb"+
-		"\u01ec\u0005c\u0000\u0000\u01ec\u01ed\u0005l\u0000\u0000\u01ed\u01ee\u0005"+
-		"u\u0000\u0000\u01ee\u01ef\u0005d\u0000\u0000\u01ef\u01f0\u0005e\u0000"+
-		"\u0000\u01f0:\u0001\u0000\u0000\u0000\u01f1\u01f2\u0005@\u0000\u0000\u01f2"+
-		"\u01f3\u0005u\u0000\u0000\u01f3\u01f4\u0005s\u0000\u0000\u01f4\u01f5\u0005"+
-		"e\u0000\u0000\u01f5<\u0001\u0000\u0000\u0000\u01f6\u01f7\u0005@\u0000"+
-		"\u0000\u01f7\u01f8\u0005r\u0000\u0000\u01f8\u01f9\u0005e\u0000\u0000\u01f9"+
-		"\u01fa\u0005q\u0000\u0000\u01fa\u01fb\u0005u\u0000\u0000\u01fb\u01fc\u0005"+
-		"i\u0000\u0000\u01fc\u01fd\u0005r\u0000\u0000\u01fd\u01fe\u0005e\u0000"+
-		"\u0000\u01fe>\u0001\u0000\u0000\u0000\u01ff\u0200\u0005@\u0000\u0000\u0200"+
-		"\u0201\u0005c\u0000\u0000\u0201\u0202\u0005h\u0000\u0000\u0202\u0203\u0005"+
-		"a\u0000\u0000\u0203\u0204\u0005r\u0000\u0000\u0204\u0205\u0005s\u0000"+
-		"\u0000\u0205\u0206\u0005e\u0000\u0000\u0206\u0207\u0005t\u0000\u0000\u0207"+
-		"\u0208\u0005 \u0000\u0000\u0208@\u0001\u0000\u0000\u0000\u0209\u020a\u0005"+
-		"@\u0000\u0000\u020a\u020b\u0005m\u0000\u0000\u020b\u020c\u0005i\u0000"+
-		"\u0000\u020c\u020d\u0005x\u0000\u0000\u020d\u020e\u0005i\u0000\u0000\u020e"+
-		"\u020f\u0005n\u0000\u0000\u020fB\u0001\u0000\u0000\u0000\u0210\u0211\u0005"+
-		"@\u0000\u0000\u0211\u0212\u0005f\u0000\u0000\u0212\u0213\u0005u\u0000"+
-		"\u0000\u0213\u0214\u0005n\u0000\u0000\u0214\u0215\u0005c\u0000\u0000\u0215"+
-		"\u0216\u0005t\u0000\u0000\u0216\u0217\u0005i\u0000\u0000\u0217\u0218\u0005"+
-		"o\u0000\u0000\u0218\u0219\u0005n\u0000\u0000\u0219D\u0001\u0000\u0000"+
-		"\u0000\u021a\u021b\u0005@\u0000\u0000\u021b\u021c\u0005f\u0000\u0000\u021c"+
-		"\u021d\u0005o\u0000\u0000\u021d\u021e\u0005n\u0000\u0000\u021e\u021f\u0005"+
-		"t\u0000\u0000\u021f\u0220\u0005-\u0000\u0000\u0220\u0221\u0005f\u0000"+
-		"\u0000\u0221\u0222\u0005a\u0000\u0000\u0222\u0223\u0005c\u0000\u0000\u0223"+
-		"\u0224\u0005e\u0000\u0000\u0224F\u0001\u0000\u0000\u0000\u0225\u0226\u0005"+
-		"@\u0000\u0000\u0226\u0227\u0005f\u0000\u0000\u0227\u0228\u0005o\u0000"+
-		"\u0000\u0228\u0229\u0005r\u0000\u0000\u0229\u022a\u0005w\u0000\u0000\u022a"+
-		"\u022b\u0005a\u0000\u0000\u022b\u022c\u0005r\u0000\u0000\u022c\u022d\u0005"+
-		"d\u0000\u0000\u022dH\u0001\u0000\u0000\u0000\u022e\u022f\u0005@\u0000"+
-		"\u0000\u022f\u0230\u0005c\u0000\u0000\u0230\u0231\u0005o\u0000\u0000\u0231"+
-		"\u0232\u0005n\u0000\u0000\u0232\u0233\u0005t\u0000\u0000\u0233\u0234\u0005"+
-		"e\u0000\u0000\u0234\u0235\u0005n\u0000\u0000\u0235\u0236\u0005t\u0000"+
-		"\u0000\u0236J\u0001\u0000\u0000\u0000\u0237\u0238\u0005@\u0000\u0000\u0238"+
-		"\u0239\u0005k\u0000\u0000\u0239\u023a\u0005e\u0000\u0000\u023a\u023b\u0005"+
-		"y\u0000\u0000\u023b\u023c\u0005f\u0000\u0000\u023c\u023d\u0005r\u0000"+
-		"\u0000\u023d\u023e\u0005a\u0000\u0000\u023e\u023f\u0005m\u0000\u0000\u023f"+
-		"\u0240\u0005e\u0000\u0000\u0240\u0241\u0005s\u0000\u0000\u0241L\u0001"+
-		"\u0000\u0000\u0000\u0242\u0243\u0005@\u0000\u0000\u0243\u0244\u0005r\u0000"+
-		"\u0000\u0244\u0245\u0005e\u0000\u0000\u0245\u0246\u0005t\u0000\u0000\u0246"+
-		"\u0247\u0005u\u0000\u0000\u0247\u0248\u0005r\u0000\u0000\u0248\u0249\u0005"+
-		"n\u0000\u0000\u0249N\u0001\u0000\u0000\u0000\u024a\u024b\u0005@\u0000"+
-		"\u0000\u024b\u024c\u0005m\u0000\u0000\u024c\u024d\u0005e\u0000\u0000\u024d"+
-		"\u024e\u0005d\u0000\u0000\u024e\u024f\u0005i\u0000\u0000\u024f\u0250\u0005"+
-		"a\u0000\u0000\u0250P\u0001\u0000\u0000\u0000\u0251\u0252\u0005@\u0000"+
-		"\u0000\u0252\u0253\u0005e\u0000\u0000\u0253\u0254\u0005x\u0000\u0000\u0254"+
-		"\u0255\u0005t\u0000\u0000\u0255\u0256\u0005e\u0000\u0000\u0256\u0257\u0005"+
-		"n\u0000\u0000\u0257\u0258\u0005d\u0000\u0000\u0258R\u0001\u0000\u0000"+
-		"\u0000\u0259\u025a\u0005@\u0000\u0000\u025a\u025b\u0005w\u0000\u0000\u025b"+
-		"\u025c\u0005a\u0000\u0000\u025c\u025d\u0005r\u0000\u0000\u025d\u025e\u0005"+
-		"n\u0000\u0000\u025eT\u0001\u0000\u0000\u0000\u025f\u0260\u0005@\u0000"+
-		"\u0000\u0260\u0261\u0005e\u0000\u0000\u0261\u0262\u0005r\u0000\u0000\u0262"+
-		"\u0263\u0005r\u0000\u0000\u0263\u0264\u0005o\u0000\u0000\u0264\u0265\u0005"+
-		"r\u0000\u0000\u0265V\u0001\u0000\u0000\u0000\u0266\u0267\u0005i\u0000"+
-		"\u0000\u0267\u0268\u0005f\u0000\u0000\u0268X\u0001\u0000\u0000\u0000\u0269"+
-		"\u026a\u0005@\u0000\u0000\u026a\u026b\u0005i\u0000\u0000\u026b\u026c\u0005"+
-		"f\u0000\u0000\u026cZ\u0001\u0000\u0000\u0000\u026d\u026e\u0005@\u0000"+
-		"\u0000\u026e\u026f\u0005f\u0000\u0000\u026f\u0270\u0005o\u0000\u0000\u0270"+
-		"\u0271\u0005r\u0000\u0000\u0271\\\u0001\u0000\u0000\u0000\u0272\u0273"+
-		"\u0005@\u0000\u0000\u0273\u0274\u0005e\u0000\u0000\u0274\u0275\u0005l"+
-		"\u0000\u0000\u0275\u0276\u0005s\u0000\u0000\u0276\u0277\u0005e\u0000\u0000"+
-		"\u0277^\u0001\u0000\u0000\u0000\u0278\u0279\u0005@\u0000\u0000\u0279\u027a"+
-		"\u0005w\u0000\u0000\u027a\u027b\u0005h\u0000\u0000\u027b\u027c\u0005i"+
-		"\u0000\u0000\u027c\u027d\u0005l\u0000\u0000\u027d\u027e\u0005e\u0000\u0000"+
-		"\u027e`\u0001\u0000\u0000\u0000\u027f\u0280\u0005@\u0000\u0000\u0280\u0281"+
-		"\u0005e\u0000\u0000\u0281\u0282\u0005a\u0000\u0000\u0282\u0283\u0005c"+
-		"\u0000\u0000\u0283\u0284\u0005h\u0000\u0000\u0284b\u0001\u0000\u0000\u0000"+
-		"\u0285\u0286\u0005f\u0000\u0000\u0286\u0287\u0005r\u0000\u0000\u0287\u0288"+
-		"\u0005o\u0000\u0000\u0288\u0289\u0005m\u0000\u0000\u0289d\u0001\u0000"+
-		"\u0000\u0000\u028a\u028b\u0005t\u0000\u0000\u028b\u028c\u0005o\u0000\u0000"+
-		"\u028cf\u0001\u0000\u0000\u0000\u028d\u028e\u0005t\u0000\u0000\u028e\u028f"+
-		"\u0005h\u0000\u0000\u028f\u0290\u0005r\u0000\u0000\u0290\u0291\u0005o"+
-		"\u0000\u0000\u0291\u0292\u0005u\u0000\u0000\u0292\u0293\u0005g\u0000\u0000"+
-		"\u0293\u0294\u0005h\u0000\u0000\u0294h\u0001\u0000\u0000\u0000\u0295\u0296"+
-		"\u0005o\u0000\u0000\u0296\u0297\u0005n\u0000\u0000\u0297\u0298\u0005l"+
-		"\u0000\u0000\u0298\u0299\u0005y\u0000\u0000\u0299j\u0001\u0000\u0000\u0000"+
-		"\u029a\u029b\u0005n\u0000\u0000\u029b\u029c\u0005o\u0000\u0000\u029c\u029d"+
-		"\u0005t\u0000\u0000\u029dl\u0001\u0000\u0000\u0000\u029e\u029f\u0005a"+
-		"\u0000\u0000\u029f\u02a0\u0005n\u0000\u0000\u02a0\u02a1\u0005d\u0000\u0000"+
-		"\u02a1n\u0001\u0000\u0000\u0000\u02a2\u02a3\u0005u\u0000\u0000\u02a3\u02a4"+
-		"\u0005s\u0000\u0000\u02a4\u02a5\u0005i\u0000\u0000\u02a5\u02a6\u0005n"+
-		"\u0000\u0000\u02a6\u02a7\u0005g\u0000\u0000\u02a7p\u0001\u0000\u0000\u0000"+
-		"\u02a8\u02a9\u0005a\u0000\u0000\u02a9\u02aa\u0005s\u0000\u0000\u02aar"+
-		"\u0001\u0000\u0000\u0000\u02ab\u02ac\u0005w\u0000\u0000\u02ac\u02ad\u0005"+
-		"i\u0000\u0000\u02ad\u02ae\u0005t\u0000\u0000\u02ae\u02af\u0005h\u0000"+
-		"\u0000\u02aft\u0001\u0000\u0000\u0000\u02b0\u02b1\u0005o\u0000\u0000\u02b1"+
-		"\u02b2\u0005r\u0000\u0000\u02b2v\u0001\u0000\u0000\u0000\u02b3\u02b4\u0005"+
-		"i\u0000\u0000\u02b4\u02b5\u0005n\u0000\u0000\u02b5x\u0001\u0000\u0000"+
-		"\u0000\u02b6\u02b7\u0005!\u0000\u0000\u02b7\u02b8\u0005d\u0000\u0000\u02b8"+
-		"\u02b9\u0005e\u0000\u0000\u02b9\u02ba\u0005f\u0000\u0000\u02ba\u02bb\u0005"+
-		"a\u0000\u0000\u02bb\u02bc\u0005u\u0000\u0000\u02bc\u02bd\u0005l\u0000"+
-		"\u0000\u02bd\u02be\u0005t\u0000\u0000\u02bez\u0001\u0000\u0000\u0000\u02bf"+
-		"\u02c0\u0005!\u0000\u0000\u02c0\u02c1\u0005i\u0000\u0000\u02c1\u02c2\u0005"+
-		"m\u0000\u0000\u02c2\u02c3\u0005p\u0000\u0000\u02c3\u02c4\u0005o\u0000"+
-		"\u0000\u02c4\u02c5\u0005r\u0000\u0000\u02c5\u02c6\u0005t\u0000\u0000\u02c6"+
-		"\u02c7\u0005a\u0000\u0000\u02c7\u02c8\u0005n\u0000\u0000\u02c8\u02c9\u0005"+
-		"t\u0000\u0000\u02c9|\u0001\u0000\u0000\u0000\u02ca\u02cb\u0005(\u0000"+
-		"\u0000\u02cb~\u0001\u0000\u0000\u0000\u02cc\u02cd\u0005)\u0000\u0000\u02cd"+
-		"\u0080\u0001\u0000\u0000\u0000\u02ce\u02cf\u0005[\u0000\u0000\u02cf\u0082"+
-		"\u0001\u0000\u0000\u0000\u02d0\u02d1\u0005]\u0000\u0000\u02d1\u0084\u0001"+
-		"\u0000\u0000\u0000\u02d2\u02d3\u0005{\u0000\u0000\u02d3\u0086\u0001\u0000"+
-		"\u0000\u0000\u02d4\u02d5\u0005}\u0000\u0000\u02d5\u0088\u0001\u0000\u0000"+
-		"\u0000\u02d6\u02d7\u0005.\u0000\u0000\u02d7\u008a\u0001\u0000\u0000\u0000"+
-		"\u02d8\u02d9\u0005,\u0000\u0000\u02d9\u008c\u0001\u0000\u0000\u0000\u02da"+
-		"\u02db\u0005:\u0000\u0000\u02db\u008e\u0001\u0000\u0000\u0000\u02dc\u02dd"+
-		"\u0005;\u0000\u0000\u02dd\u0090\u0001\u0000\u0000\u0000\u02de\u02df\u0005"+
-		"~\u0000\u0000\u02df\u0092\u0001\u0000\u0000\u0000\u02e0\u02e1\u0005_\u0000"+
-		"\u0000\u02e1\u0094\u0001\u0000\u0000\u0000\u02e2\u02e3\u0005$\u0000\u0000"+
-		"\u02e3\u0096\u0001\u0000\u0000\u0000\u02e4\u02e5\u0005@\u0000\u0000\u02e5"+
-		"\u0098\u0001\u0000\u0000\u0000\u02e6\u02e7\u0005&\u0000\u0000\u02e7\u009a"+
-		"\u0001\u0000\u0000\u0000\u02e8\u02e9\u0005#\u0000\u0000\u02e9\u009c\u0001"+
-		"\u0000\u0000\u0000\u02ea\u02eb\u0005t\u0000\u0000\u02eb\u02ec\u0005r\u0000"+
-		"\u0000\u02ec\u02ed\u0005u\u0000\u0000\u02ed\u02ee\u0005e\u0000\u0000\u02ee"+
-		"\u009e\u0001\u0000\u0000\u0000\u02ef\u02f0\u0005f\u0000\u0000\u02f0\u02f1"+
-		"\u0005a\u0000\u0000\u02f1\u02f2\u0005l\u0000\u0000\u02f2\u02f3\u0005s"+
-		"\u0000\u0000\u02f3\u02f4\u0005e\u0000\u0000\u02f4\u00a0\u0001\u0000\u0000"+
-		"\u0000\u02f5\u02f6\u0005+\u0000\u0000\u02f6\u00a2\u0001\u0000\u0000\u0000"+
-		"\u02f7\u02f8\u0005/\u0000\u0000\u02f8\u00a4\u0001\u0000\u0000\u0000\u02f9"+
-		"\u02fa\u0005-\u0000\u0000\u02fa\u00a6\u0001\u0000\u0000\u0000\u02fb\u02fc"+
-		"\u0005*\u0000\u0000\u02fc\u00a8\u0001\u0000\u0000\u0000\u02fd\u02fe\u0005"+
-		"=\u0000\u0000\u02fe\u00aa\u0001\u0000\u0000\u0000\u02ff\u0300\u0005!\u0000"+
-		"\u0000\u0300\u0301\u0005=\u0000\u0000\u0301\u00ac\u0001\u0000\u0000\u0000"+
-		"\u0302\u0303\u0005>\u0000\u0000\u0303\u00ae\u0001\u0000\u0000\u0000\u0304"+
-		"\u0305\u0005<\u0000\u0000\u0305\u00b0\u0001\u0000\u0000\u0000\u0306\u0307"+
-		"\u0005~\u0000\u0000\u0307\u0308\u0005=\u0000\u0000\u0308\u00b2\u0001\u0000"+
-		"\u0000\u0000\u0309\u030a\u0005|\u0000\u0000\u030a\u030b\u0005=\u0000\u0000"+
-		"\u030b\u00b4\u0001\u0000\u0000\u0000\u030c\u030d\u0005|\u0000\u0000\u030d"+
-		"\u00b6\u0001\u0000\u0000\u0000\u030e\u030f\u0005<\u0000\u0000\u030f\u0310"+
-		"\u0005!\u0000\u0000\u0310\u0311\u0005-\u0000\u0000\u0311\u0312\u0005-"+
-		"\u0000\u0000\u0312\u00b8\u0001\u0000\u0000\u0000\u0313\u0314\u0005-\u0000"+
-		"\u0000\u0314\u0315\u0005-\u0000\u0000\u0315\u0316\u0005>\u0000\u0000\u0316"+
-		"\u00ba\u0001\u0000\u0000\u0000\u0317\u0318\u0005:\u0000\u0000\u0318\u0319"+
-		"\u0005n\u0000\u0000\u0319\u031a\u0005o\u0000\u0000\u031a\u031b\u0005t"+
-		"\u0000\u0000\u031b\u031c\u0005(\u0000\u0000\u031c\u00bc\u0001\u0000\u0000"+
-		"\u0000\u031d\u031e\u0005c\u0000\u0000\u031e\u031f\u0005a\u0000\u0000\u031f"+
-		"\u0320\u0005l\u0000\u0000\u0320\u0321\u0005c\u0000\u0000\u0321\u0322\u0005"+
-		"(\u0000\u0000\u0322\u00be\u0001\u0000\u0000\u0000\u0323\u0324\u0005r\u0000"+
-		"\u0000\u0324\u0325\u0005o\u0000\u0000\u0325\u0326\u0005t\u0000\u0000\u0326"+
-		"\u0327\u0005a\u0000\u0000\u0327\u0328\u0005t\u0000\u0000\u0328\u0329\u0005"+
-		"e\u0000\u0000\u0329\u032a\u0005(\u0000\u0000\u032a\u00c0\u0001\u0000\u0000"+
-		"\u0000\u032b\u032c\u0005v\u0000\u0000\u032c\u032d\u0005a\u0000\u0000\u032d"+
-		"\u032e\u0005r\u0000\u0000\u032e\u032f\u0005(\u0000\u0000\u032f\u00c2\u0001"+
-		"\u0000\u0000\u0000\u0330\u0331\u0005r\u0000\u0000\u0331\u0332\u0005g\u0000"+
-		"\u0000\u0332\u0333\u0005b\u0000\u0000\u0333\u0334\u0005a\u0000\u0000\u0334"+
-		"\u0335\u0005(\u0000\u0000\u0335\u00c4\u0001\u0000\u0000\u0000\u0336\u0337"+
-		"\u0005r\u0000\u0000\u0337\u0338\u0005e\u0000\u0000\u0338\u0339\u0005p"+
-		"\u0000\u0000\u0339\u033a\u0005e\u0000\u0000\u033a\u033b\u0005a\u0000\u0000"+
-		"\u033b\u033c\u0005t\u0000\u0000\u033c\u033d\u0005(\u0000\u0000\u033d\u00c6"+
-		"\u0001\u0000\u0000\u0000\u033e\u033f\u0005^\u0000\u0000\u033f\u0340\u0005"+
-		"=\u0000\u0000\u0340\u00c8\u0001\u0000\u0000\u0000\u0341\u0342\u0005$\u0000"+
-		"\u0000\u0342\u0343\u0005=\u0000\u0000\u0343\u00ca\u0001\u0000\u0000\u0000"+
-		"\u0344\u0345\u0005*\u0000\u0000\u0345\u0346\u0005=\u0000\u0000\u0346\u00cc"+
-		"\u0001\u0000\u0000\u0000\u0347\u0348\u0005-\u0000\u0000\u0348\u0349\u0005"+
-		"m\u0000\u0000\u0349\u034a\u0005o\u0000\u0000\u034a\u034b\u0005z\u0000"+
-		"\u0000\u034b\u0358\u0005-\u0000\u0000\u034c\u034d\u0005-\u0000\u0000\u034d"+
-		"\u034e\u0005w\u0000\u0000\u034e\u034f\u0005e\u0000\u0000\u034f\u0350\u0005"+
-		"b\u0000\u0000\u0350\u0351\u0005k\u0000\u0000\u0351\u0352\u0005i\u0000"+
-		"\u0000\u0352\u0353\u0005t\u0000\u0000\u0353\u0358\u0005-\u0000\u0000\u0354"+
-		"\u0355\u0005-\u0000\u0000\u0355\u0356\u0005o\u0000\u0000\u0356\u0358\u0005"+
-		"-\u0000\u0000\u0357\u0347\u0001\u0000\u0000\u0000\u0357\u034c\u0001\u0000"+
-		"\u0000\u0000\u0357\u0354\u0001\u0000\u0000\u0000\u0358\u00ce\u0001\u0000"+
-		"\u0000\u0000\u0359\u035a\u0005-\u0000\u0000\u035a\u035b\u0005-\u0000\u0000"+
-		"\u035b\u035e\u0001\u0000\u0000\u0000\u035c\u035f\u0003\u00d1h\u0000\u035d"+
-		"\u035f\u0003\u0011\b\u0000\u035e\u035c\u0001\u0000\u0000\u0000\u035e\u035d"+
-		"\u0001\u0000\u0000\u0000\u035f\u0364\u0001\u0000\u0000\u0000\u0360\u0363"+
-		"\u0003\u00d1h\u0000\u0361\u0363\u0003\u0013\t\u0000\u0362\u0360\u0001"+
-		"\u0000\u0000\u0000\u0362\u0361\u0001\u0000\u0000\u0000\u0363\u0366\u0001"+
-		"\u0000\u0000\u0000\u0364\u0362\u0001\u0000\u0000\u0000\u0364\u0365\u0001"+
-		"\u0000\u0000\u0000\u0365\u00d0\u0001\u0000\u0000\u0000\u0366\u0364\u0001"+
-		"\u0000\u0000\u0000\u0367\u0368\u0003\u009bM\u0000\u0368\u036a\u0003\u0085"+
-		"B\u0000\u0369\u036b\u0003\u0095J\u0000\u036a\u0369\u0001\u0000\u0000\u0000"+
-		"\u036a\u036b\u0001\u0000\u0000\u0000\u036b\u036c\u0001\u0000\u0000\u0000"+
-		"\u036c\u036d\u0003\u00d7k\u0000\u036d\u036e\u0003\u0087C\u0000\u036e\u00d2"+
-		"\u0001\u0000\u0000\u0000\u036f\u0371\u0007\n\u0000\u0000\u0370\u036f\u0001"+
-		"\u0000\u0000\u0000\u0371\u0372\u0001\u0000\u0000\u0000\u0372\u0370\u0001"+
-		"\u0000\u0000\u0000\u0372\u0373\u0001\u0000\u0000\u0000\u0373\u0381\u0001"+
-		"\u0000\u0000\u0000\u0374\u0376\u0007\n\u0000\u0000\u0375\u0374\u0001\u0000"+
-		"\u0000\u0000\u0376\u0379\u0001\u0000\u0000\u0000\u0377\u0375\u0001\u0000"+
-		"\u0000\u0000\u0377\u0378\u0001\u0000\u0000\u0000\u0378\u037a\u0001\u0000"+
-		"\u0000\u0000\u0379\u0377\u0001\u0000\u0000\u0000\u037a\u037c\u0005.\u0000"+
-		"\u0000\u037b\u037d\u0007\n\u0000\u0000\u037c\u037b\u0001\u0000\u0000\u0000"+
-		"\u037d\u037e\u0001\u0000\u0000\u0000\u037e\u037c\u0001\u0000\u0000\u0000"+
-		"\u037e\u037f\u0001\u0000\u0000\u0000\u037f\u0381\u0001\u0000\u0000\u0000"+
-		"\u0380\u0370\u0001\u0000\u0000\u0000\u0380\u0377\u0001\u0000\u0000\u0000"+
-		"\u0381\u00d4\u0001\u0000\u0000\u0000\u0382\u0389\u0005\"\u0000\u0000\u0383"+
-		"\u0388\b\u000b\u0000\u0000\u0384\u0385\u0005\\\u0000\u0000\u0385\u0388"+
-		"\u0003\u000b\u0005\u0000\u0386\u0388\u0003\u0007\u0003\u0000\u0387\u0383"+
-		"\u0001\u0000\u0000\u0000\u0387\u0384\u0001\u0000\u0000\u0000\u0387\u0386"+
-		"\u0001\u0000\u0000\u0000\u0388\u038b\u0001\u0000\u0000\u0000\u0389\u0387"+
-		"\u0001\u0000\u0000\u0000\u0389\u038a\u0001\u0000\u0000\u0000\u038a\u038c"+
-		"\u0001\u0000\u0000\u0000\u038b\u0389\u0001\u0000\u0000\u0000\u038c\u0399"+
-		"\u0005\"\u0000\u0000\u038d\u0394\u0005\'\u0000\u0000\u038e\u0393\b\f\u0000"+
-		"\u0000\u038f\u0390\u0005\\\u0000\u0000\u0390\u0393\u0003\u000b\u0005\u0000"+
-		"\u0391\u0393\u0003\u0007\u0003\u0000\u0392\u038e\u0001\u0000\u0000\u0000"+
-		"\u0392\u038f\u0001\u0000\u0000\u0000\u0392\u0391\u0001\u0000\u0000\u0000"+
-		"\u0393\u0396\u0001\u0000\u0000\u0000\u0394\u0392\u0001\u0000\u0000\u0000"+
-		"\u0394\u0395\u0001\u0000\u0000\u0000\u0395\u0397\u0001\u0000\u0000\u0000"+
-		"\u0396\u0394\u0001\u0000\u0000\u0000\u0397\u0399\u0005\'\u0000\u0000\u0398"+
-		"\u0382\u0001\u0000\u0000\u0000\u0398\u038d\u0001\u0000\u0000\u0000\u0399"+
-		"\u00d6\u0001\u0000\u0000\u0000\u039a\u039e\u0003\u0011\b\u0000\u039b\u039d"+
-		"\u0003\u0013\t\u0000\u039c\u039b\u0001\u0000\u0000\u0000\u039d\u03a0\u0001"+
-		"\u0000\u0000\u0000\u039e\u039c\u0001\u0000\u0000\u0000\u039e\u039f\u0001"+
-		"\u0000\u0000\u0000\u039f\u00d8\u0001\u0000\u0000\u0000\u03a0\u039e\u0001"+
-		"\u0000\u0000\u00005\u0000\u00df\u00e4\u00e7\u00ea\u00ed\u00f0\u00f7\u00fb"+
-		"\u0101\u0104\u0107\u010a\u010d\u0117\u011c\u0121\u0128\u012d\u012f\u0134"+
-		"\u013e\u0144\u014a\u0150\u0154\u015f\u0165\u0171\u0176\u017a\u0198\u01a3"+
-		"\u01b1\u01c1\u01ce\u01d7\u01dc\u0357\u035e\u0362\u0364\u036a\u0372\u0377"+
-		"\u037e\u0380\u0387\u0389\u0392\u0394\u0398\u039e\u0001\u0006\u0000\u0000";
+		"M\u0001M\u0001N\u0001N\u0001O\u0001O\u0001O\u0001O\u0001O\u0001P\u0001"+
+		"P\u0001P\u0001P\u0001P\u0001P\u0001Q\u0001Q\u0001R\u0001R\u0001S\u0001"+
+		"S\u0001T\u0001T\u0001U\u0001U\u0001V\u0001V\u0001V\u0001W\u0001W\u0001"+
+		"X\u0001X\u0001Y\u0001Y\u0001Y\u0001Z\u0001Z\u0001Z\u0001[\u0001[\u0001"+
+		"\\\u0001\\\u0001\\\u0001\\\u0001\\\u0001]\u0001]\u0001]\u0001]\u0001^"+
+		"\u0001^\u0001^\u0001^\u0001^\u0001^\u0001_\u0001_\u0001_\u0001_\u0001"+
+		"_\u0001_\u0001`\u0001`\u0001`\u0001`\u0001`\u0001`\u0001`\u0001`\u0001"+
+		"a\u0001a\u0001a\u0001a\u0001a\u0001b\u0001b\u0001b\u0001b\u0001b\u0001"+
+		"b\u0001c\u0001c\u0001c\u0001c\u0001c\u0001c\u0001c\u0001c\u0001d\u0001"+
+		"d\u0001d\u0001e\u0001e\u0001e\u0001f\u0001f\u0001f\u0001g\u0001g\u0001"+
+		"g\u0001g\u0001g\u0001g\u0001g\u0001g\u0001g\u0001g\u0001g\u0001g\u0001"+
+		"g\u0001g\u0001g\u0001g\u0003g\u0362\bg\u0001h\u0001h\u0001h\u0001h\u0001"+
+		"h\u0003h\u0369\bh\u0001h\u0001h\u0005h\u036d\bh\nh\fh\u0370\th\u0001i"+
+		"\u0001i\u0001i\u0003i\u0375\bi\u0001i\u0001i\u0001i\u0001j\u0004j\u037b"+
+		"\bj\u000bj\fj\u037c\u0001j\u0005j\u0380\bj\nj\fj\u0383\tj\u0001j\u0001"+
+		"j\u0004j\u0387\bj\u000bj\fj\u0388\u0003j\u038b\bj\u0001k\u0001k\u0001"+
+		"k\u0001k\u0001k\u0005k\u0392\bk\nk\fk\u0395\tk\u0001k\u0001k\u0001k\u0001"+
+		"k\u0001k\u0001k\u0005k\u039d\bk\nk\fk\u03a0\tk\u0001k\u0003k\u03a3\bk"+
+		"\u0001l\u0001l\u0005l\u03a7\bl\nl\fl\u03aa\tl\u0000\u0000m\u0001\u0000"+
+		"\u0003\u0000\u0005\u0000\u0007\u0000\t\u0000\u000b\u0000\r\u0000\u000f"+
+		"\u0000\u0011\u0000\u0013\u0000\u0015\u0000\u0017\u0000\u0019\u0000\u001b"+
+		"\u0001\u001d\u0002\u001f\u0003!\u0004#\u0005%\u0006\'\u0007)\b+\t-\n/"+
+		"\u000b1\f3\r5\u000e7\u000f9\u0010;\u0011=\u0012?\u0013A\u0014C\u0015E"+
+		"\u0016G\u0017I\u0018K\u0019M\u001aO\u001bQ\u001cS\u001dU\u001eW\u001f"+
+		"Y [!]\"_#a$c%e&g\'i(k)m*o+q,s-u.w/y0{1}2\u007f3\u00814\u00835\u00856\u0087"+
+		"7\u00898\u008b9\u008d:\u008f;\u0091<\u0093=\u0095>\u0097?\u0099@\u009b"+
+		"A\u009dB\u009fC\u00a1D\u00a3E\u00a5F\u00a7G\u00a9H\u00abI\u00adJ\u00af"+
+		"K\u00b1L\u00b3M\u00b5N\u00b7O\u00b9P\u00bbQ\u00bdR\u00bfS\u00c1T\u00c3"+
+		"U\u00c5V\u00c7W\u00c9X\u00cbY\u00cdZ\u00cf[\u00d1\\\u00d3\u0000\u00d5"+
+		"]\u00d7^\u00d9_\u0001\u0000\r\u0003\u000009AFaf\u0003\u0000\t\n\f\r  "+
+		"\u0005\u0000\n\n\f\r09AFaf\u0003\u0000AZ__az\u0005\u0000--09AZ__az\u0001"+
+		"\u0000\u0000\u007f\u0003\u0000!!#&*~\u0001\u0000**\u0002\u0000**//\u0003"+
+		"\u0000\n\n\r\r\u2028\u2029\u0001\u000009\u0004\u0000\n\n\f\r\"\"\\\\\u0004"+
+		"\u0000\n\n\f\r\'\'\\\\\u03e4\u0000\u001b\u0001\u0000\u0000\u0000\u0000"+
+		"\u001d\u0001\u0000\u0000\u0000\u0000\u001f\u0001\u0000\u0000\u0000\u0000"+
+		"!\u0001\u0000\u0000\u0000\u0000#\u0001\u0000\u0000\u0000\u0000%\u0001"+
+		"\u0000\u0000\u0000\u0000\'\u0001\u0000\u0000\u0000\u0000)\u0001\u0000"+
+		"\u0000\u0000\u0000+\u0001\u0000\u0000\u0000\u0000-\u0001\u0000\u0000\u0000"+
+		"\u0000/\u0001\u0000\u0000\u0000\u00001\u0001\u0000\u0000\u0000\u00003"+
+		"\u0001\u0000\u0000\u0000\u00005\u0001\u0000\u0000\u0000\u00007\u0001\u0000"+
+		"\u0000\u0000\u00009\u0001\u0000\u0000\u0000\u0000;\u0001\u0000\u0000\u0000"+
+		"\u0000=\u0001\u0000\u0000\u0000\u0000?\u0001\u0000\u0000\u0000\u0000A"+
+		"\u0001\u0000\u0000\u0000\u0000C\u0001\u0000\u0000\u0000\u0000E\u0001\u0000"+
+		"\u0000\u0000\u0000G\u0001\u0000\u0000\u0000\u0000I\u0001\u0000\u0000\u0000"+
+		"\u0000K\u0001\u0000\u0000\u0000\u0000M\u0001\u0000\u0000\u0000\u0000O"+
+		"\u0001\u0000\u0000\u0000\u0000Q\u0001\u0000\u0000\u0000\u0000S\u0001\u0000"+
+		"\u0000\u0000\u0000U\u0001\u0000\u0000\u0000\u0000W\u0001\u0000\u0000\u0000"+
+		"\u0000Y\u0001\u0000\u0000\u0000\u0000[\u0001\u0000\u0000\u0000\u0000]"+
+		"\u0001\u0000\u0000\u0000\u0000_\u0001\u0000\u0000\u0000\u0000a\u0001\u0000"+
+		"\u0000\u0000\u0000c\u0001\u0000\u0000\u0000\u0000e\u0001\u0000\u0000\u0000"+
+		"\u0000g\u0001\u0000\u0000\u0000\u0000i\u0001\u0000\u0000\u0000\u0000k"+
+		"\u0001\u0000\u0000\u0000\u0000m\u0001\u0000\u0000\u0000\u0000o\u0001\u0000"+
+		"\u0000\u0000\u0000q\u0001\u0000\u0000\u0000\u0000s\u0001\u0000\u0000\u0000"+
+		"\u0000u\u0001\u0000\u0000\u0000\u0000w\u0001\u0000\u0000\u0000\u0000y"+
+		"\u0001\u0000\u0000\u0000\u0000{\u0001\u0000\u0000\u0000\u0000}\u0001\u0000"+
+		"\u0000\u0000\u0000\u007f\u0001\u0000\u0000\u0000\u0000\u0081\u0001\u0000"+
+		"\u0000\u0000\u0000\u0083\u0001\u0000\u0000\u0000\u0000\u0085\u0001\u0000"+
+		"\u0000\u0000\u0000\u0087\u0001\u0000\u0000\u0000\u0000\u0089\u0001\u0000"+
+		"\u0000\u0000\u0000\u008b\u0001\u0000\u0000\u0000\u0000\u008d\u0001\u0000"+
+		"\u0000\u0000\u0000\u008f\u0001\u0000\u0000\u0000\u0000\u0091\u0001\u0000"+
+		"\u0000\u0000\u0000\u0093\u0001\u0000\u0000\u0000\u0000\u0095\u0001\u0000"+
+		"\u0000\u0000\u0000\u0097\u0001\u0000\u0000\u0000\u0000\u0099\u0001\u0000"+
+		"\u0000\u0000\u0000\u009b\u0001\u0000\u0000\u0000\u0000\u009d\u0001\u0000"+
+		"\u0000\u0000\u0000\u009f\u0001\u0000\u0000\u0000\u0000\u00a1\u0001\u0000"+
+		"\u0000\u0000\u0000\u00a3\u0001\u0000\u0000\u0000\u0000\u00a5\u0001\u0000"+
+		"\u0000\u0000\u0000\u00a7\u0001\u0000\u0000\u0000\u0000\u00a9\u0001\u0000"+
+		"\u0000\u0000\u0000\u00ab\u0001\u0000\u0000\u0000\u0000\u00ad\u0001\u0000"+
+		"\u0000\u0000\u0000\u00af\u0001\u0000\u0000\u0000\u0000\u00b1\u0001\u0000"+
+		"\u0000\u0000\u0000\u00b3\u0001\u0000\u0000\u0000\u0000\u00b5\u0001\u0000"+
+		"\u0000\u0000\u0000\u00b7\u0001\u0000\u0000\u0000\u0000\u00b9\u0001\u0000"+
+		"\u0000\u0000\u0000\u00bb\u0001\u0000\u0000\u0000\u0000\u00bd\u0001\u0000"+
+		"\u0000\u0000\u0000\u00bf\u0001\u0000\u0000\u0000\u0000\u00c1\u0001\u0000"+
+		"\u0000\u0000\u0000\u00c3\u0001\u0000\u0000\u0000\u0000\u00c5\u0001\u0000"+
+		"\u0000\u0000\u0000\u00c7\u0001\u0000\u0000\u0000\u0000\u00c9\u0001\u0000"+
+		"\u0000\u0000\u0000\u00cb\u0001\u0000\u0000\u0000\u0000\u00cd\u0001\u0000"+
+		"\u0000\u0000\u0000\u00cf\u0001\u0000\u0000\u0000\u0000\u00d1\u0001\u0000"+
+		"\u0000\u0000\u0000\u00d5\u0001\u0000\u0000\u0000\u0000\u00d7\u0001\u0000"+
+		"\u0000\u0000\u0000\u00d9\u0001\u0000\u0000\u0000\u0001\u00db\u0001\u0000"+
+		"\u0000\u0000\u0003\u00e1\u0001\u0000\u0000\u0000\u0005\u00e3\u0001\u0000"+
+		"\u0000\u0000\u0007\u00f9\u0001\u0000\u0000\u0000\t\u00fd\u0001\u0000\u0000"+
+		"\u0000\u000b\u0103\u0001\u0000\u0000\u0000\r\u0106\u0001\u0000\u0000\u0000"+
+		"\u000f\u0119\u0001\u0000\u0000\u0000\u0011\u011e\u0001\u0000\u0000\u0000"+
+		"\u0013\u0123\u0001\u0000\u0000\u0000\u0015\u0125\u0001\u0000\u0000\u0000"+
+		"\u0017\u0128\u0001\u0000\u0000\u0000\u0019\u0131\u0001\u0000\u0000\u0000"+
+		"\u001b\u0136\u0001\u0000\u0000\u0000\u001d\u013a\u0001\u0000\u0000\u0000"+
+		"\u001f\u015b\u0001\u0000\u0000\u0000!\u0165\u0001\u0000\u0000\u0000#\u016b"+
+		"\u0001\u0000\u0000\u0000%\u0182\u0001\u0000\u0000\u0000\'\u019a\u0001"+
+		"\u0000\u0000\u0000)\u01a5\u0001\u0000\u0000\u0000+\u01b3\u0001\u0000\u0000"+
+		"\u0000-\u01c3\u0001\u0000\u0000\u0000/\u01d0\u0001\u0000\u0000\u00001"+
+		"\u01d9\u0001\u0000\u0000\u00003\u01de\u0001\u0000\u0000\u00005\u01e0\u0001"+
+		"\u0000\u0000\u00007\u01e2\u0001\u0000\u0000\u00009\u01ea\u0001\u0000\u0000"+
+		"\u0000;\u01f3\u0001\u0000\u0000\u0000=\u01f8\u0001\u0000\u0000\u0000?"+
+		"\u0201\u0001\u0000\u0000\u0000A\u020b\u0001\u0000\u0000\u0000C\u0212\u0001"+
+		"\u0000\u0000\u0000E\u021c\u0001\u0000\u0000\u0000G\u0227\u0001\u0000\u0000"+
+		"\u0000I\u0230\u0001\u0000\u0000\u0000K\u0239\u0001\u0000\u0000\u0000M"+
+		"\u0244\u0001\u0000\u0000\u0000O\u024c\u0001\u0000\u0000\u0000Q\u0253\u0001"+
+		"\u0000\u0000\u0000S\u025b\u0001\u0000\u0000\u0000U\u0261\u0001\u0000\u0000"+
+		"\u0000W\u0268\u0001\u0000\u0000\u0000Y\u026b\u0001\u0000\u0000\u0000["+
+		"\u026f\u0001\u0000\u0000\u0000]\u0274\u0001\u0000\u0000\u0000_\u027a\u0001"+
+		"\u0000\u0000\u0000a\u0281\u0001\u0000\u0000\u0000c\u0287\u0001\u0000\u0000"+
+		"\u0000e\u028c\u0001\u0000\u0000\u0000g\u028f\u0001\u0000\u0000\u0000i"+
+		"\u0297\u0001\u0000\u0000\u0000k\u029c\u0001\u0000\u0000\u0000m\u02a0\u0001"+
+		"\u0000\u0000\u0000o\u02a4\u0001\u0000\u0000\u0000q\u02aa\u0001\u0000\u0000"+
+		"\u0000s\u02ad\u0001\u0000\u0000\u0000u\u02b2\u0001\u0000\u0000\u0000w"+
+		"\u02b5\u0001\u0000\u0000\u0000y\u02b8\u0001\u0000\u0000\u0000{\u02c1\u0001"+
+		"\u0000\u0000\u0000}\u02cc\u0001\u0000\u0000\u0000\u007f\u02d4\u0001\u0000"+
+		"\u0000\u0000\u0081\u02d6\u0001\u0000\u0000\u0000\u0083\u02d8\u0001\u0000"+
+		"\u0000\u0000\u0085\u02da\u0001\u0000\u0000\u0000\u0087\u02dc\u0001\u0000"+
+		"\u0000\u0000\u0089\u02de\u0001\u0000\u0000\u0000\u008b\u02e0\u0001\u0000"+
+		"\u0000\u0000\u008d\u02e2\u0001\u0000\u0000\u0000\u008f\u02e4\u0001\u0000"+
+		"\u0000\u0000\u0091\u02e6\u0001\u0000\u0000\u0000\u0093\u02e8\u0001\u0000"+
+		"\u0000\u0000\u0095\u02ea\u0001\u0000\u0000\u0000\u0097\u02ec\u0001\u0000"+
+		"\u0000\u0000\u0099\u02ee\u0001\u0000\u0000\u0000\u009b\u02f0\u0001\u0000"+
+		"\u0000\u0000\u009d\u02f2\u0001\u0000\u0000\u0000\u009f\u02f4\u0001\u0000"+
+		"\u0000\u0000\u00a1\u02f9\u0001\u0000\u0000\u0000\u00a3\u02ff\u0001\u0000"+
+		"\u0000\u0000\u00a5\u0301\u0001\u0000\u0000\u0000\u00a7\u0303\u0001\u0000"+
+		"\u0000\u0000\u00a9\u0305\u0001\u0000\u0000\u0000\u00ab\u0307\u0001\u0000"+
+		"\u0000\u0000\u00ad\u0309\u0001\u0000\u0000\u0000\u00af\u030c\u0001\u0000"+
+		"\u0000\u0000\u00b1\u030e\u0001\u0000\u0000\u0000\u00b3\u0310\u0001\u0000"+
+		"\u0000\u0000\u00b5\u0313\u0001\u0000\u0000\u0000\u00b7\u0316\u0001\u0000"+
+		"\u0000\u0000\u00b9\u0318\u0001\u0000\u0000\u0000\u00bb\u031d\u0001\u0000"+
+		"\u0000\u0000\u00bd\u0321\u0001\u0000\u0000\u0000\u00bf\u0327\u0001\u0000"+
+		"\u0000\u0000\u00c1\u032d\u0001\u0000\u0000\u0000\u00c3\u0335\u0001\u0000"+
+		"\u0000\u0000\u00c5\u033a\u0001\u0000\u0000\u0000\u00c7\u0340\u0001\u0000"+
+		"\u0000\u0000\u00c9\u0348\u0001\u0000\u0000\u0000\u00cb\u034b\u0001\u0000"+
+		"\u0000\u0000\u00cd\u034e\u0001\u0000\u0000\u0000\u00cf\u0361\u0001\u0000"+
+		"\u0000\u0000\u00d1\u0363\u0001\u0000\u0000\u0000\u00d3\u0371\u0001\u0000"+
+		"\u0000\u0000\u00d5\u038a\u0001\u0000\u0000\u0000\u00d7\u03a2\u0001\u0000"+
+		"\u0000\u0000\u00d9\u03a4\u0001\u0000\u0000\u0000\u00db\u00dc\u0007\u0000"+
+		"\u0000\u0000\u00dc\u0002\u0001\u0000\u0000\u0000\u00dd\u00de\u0005\r\u0000"+
+		"\u0000\u00de\u00e2\u0005\n\u0000\u0000\u00df\u00e2\u0007\u0001\u0000\u0000"+
+		"\u00e0\u00e2\u0001\u0000\u0000\u0000\u00e1\u00dd\u0001\u0000\u0000\u0000"+
+		"\u00e1\u00df\u0001\u0000\u0000\u0000\u00e1\u00e0\u0001\u0000\u0000\u0000"+
+		"\u00e2\u0004\u0001\u0000\u0000\u0000\u00e3\u00e4\u0005\\\u0000\u0000\u00e4"+
+		"\u00e6\u0003\u0001\u0000\u0000\u00e5\u00e7\u0003\u0001\u0000\u0000\u00e6"+
+		"\u00e5\u0001\u0000\u0000\u0000\u00e6\u00e7\u0001\u0000\u0000\u0000\u00e7"+
+		"\u00e9\u0001\u0000\u0000\u0000\u00e8\u00ea\u0003\u0001\u0000\u0000\u00e9"+
+		"\u00e8\u0001\u0000\u0000\u0000\u00e9\u00ea\u0001\u0000\u0000\u0000\u00ea"+
+		"\u00ec\u0001\u0000\u0000\u0000\u00eb\u00ed\u0003\u0001\u0000\u0000\u00ec"+
+		"\u00eb\u0001\u0000\u0000\u0000\u00ec\u00ed\u0001\u0000\u0000\u0000\u00ed"+
+		"\u00ef\u0001\u0000\u0000\u0000\u00ee\u00f0\u0003\u0001\u0000\u0000\u00ef"+
+		"\u00ee\u0001\u0000\u0000\u0000\u00ef\u00f0\u0001\u0000\u0000\u0000\u00f0"+
+		"\u00f2\u0001\u0000\u0000\u0000\u00f1\u00f3\u0003\u0001\u0000\u0000\u00f2"+
+		"\u00f1\u0001\u0000\u0000\u0000\u00f2\u00f3\u0001\u0000\u0000\u0000\u00f3"+
+		"\u00f4\u0001\u0000\u0000\u0000\u00f4\u00f5\u0003\u0003\u0001\u0000\u00f5"+
+		"\u0006\u0001\u0000\u0000\u0000\u00f6\u00fa\u0003\u0005\u0002\u0000\u00f7"+
+		"\u00f8\u0005\\\u0000\u0000\u00f8\u00fa\b\u0002\u0000\u0000\u00f9\u00f6"+
+		"\u0001\u0000\u0000\u0000\u00f9\u00f7\u0001\u0000\u0000\u0000\u00fa\b\u0001"+
+		"\u0000\u0000\u0000\u00fb\u00fe\u0003!\u0010\u0000\u00fc\u00fe\u0001\u0000"+
+		"\u0000\u0000\u00fd\u00fb\u0001\u0000\u0000\u0000\u00fd\u00fc\u0001\u0000"+
+		"\u0000\u0000\u00fe\n\u0001\u0000\u0000\u0000\u00ff\u0104\u0005\n\u0000"+
+		"\u0000\u0100\u0101\u0005\r\u0000\u0000\u0101\u0104\u0005\n\u0000\u0000"+
+		"\u0102\u0104\u0002\f\r\u0000\u0103\u00ff\u0001\u0000\u0000\u0000\u0103"+
+		"\u0100\u0001\u0000\u0000\u0000\u0103\u0102\u0001\u0000\u0000\u0000\u0104"+
+		"\f\u0001\u0000\u0000\u0000\u0105\u0107\u00050\u0000\u0000\u0106\u0105"+
+		"\u0001\u0000\u0000\u0000\u0106\u0107\u0001\u0000\u0000\u0000\u0107\u0109"+
+		"\u0001\u0000\u0000\u0000\u0108\u010a\u00050\u0000\u0000\u0109\u0108\u0001"+
+		"\u0000\u0000\u0000\u0109\u010a\u0001\u0000\u0000\u0000\u010a\u010c\u0001"+
+		"\u0000\u0000\u0000\u010b\u010d\u00050\u0000\u0000\u010c\u010b\u0001\u0000"+
+		"\u0000\u0000\u010c\u010d\u0001\u0000\u0000\u0000\u010d\u010f\u0001\u0000"+
+		"\u0000\u0000\u010e\u0110\u00050\u0000\u0000\u010f\u010e\u0001\u0000\u0000"+
+		"\u0000\u010f\u0110\u0001\u0000\u0000\u0000\u0110\u000e\u0001\u0000\u0000"+
+		"\u0000\u0111\u011a\u0005-\u0000\u0000\u0112\u0113\u0005\\\u0000\u0000"+
+		"\u0113\u0114\u0003\r\u0006\u0000\u0114\u0115\u00052\u0000\u0000\u0115"+
+		"\u0116\u0005d\u0000\u0000\u0116\u0117\u0001\u0000\u0000\u0000\u0117\u0118"+
+		"\u0003\u0003\u0001\u0000\u0118\u011a\u0001\u0000\u0000\u0000\u0119\u0111"+
+		"\u0001\u0000\u0000\u0000\u0119\u0112\u0001\u0000\u0000\u0000\u011a\u0010"+
+		"\u0001\u0000\u0000\u0000\u011b\u011f\u0007\u0003\u0000\u0000\u011c\u011f"+
+		"\u0003\u0015\n\u0000\u011d\u011f\u0003\u0007\u0003\u0000\u011e\u011b\u0001"+
+		"\u0000\u0000\u0000\u011e\u011c\u0001\u0000\u0000\u0000\u011e\u011d\u0001"+
+		"\u0000\u0000\u0000\u011f\u0012\u0001\u0000\u0000\u0000\u0120\u0124\u0007"+
+		"\u0004\u0000\u0000\u0121\u0124\u0003\u0015\n\u0000\u0122\u0124\u0003\u0007"+
+		"\u0003\u0000\u0123\u0120\u0001\u0000\u0000\u0000\u0123\u0121\u0001\u0000"+
+		"\u0000\u0000\u0123\u0122\u0001\u0000\u0000\u0000\u0124\u0014\u0001\u0000"+
+		"\u0000\u0000\u0125\u0126\b\u0005\u0000\u0000\u0126\u0016\u0001\u0000\u0000"+
+		"\u0000\u0127\u0129\u0003\u0013\t\u0000\u0128\u0127\u0001\u0000\u0000\u0000"+
+		"\u0129\u012a\u0001\u0000\u0000\u0000\u012a\u0128\u0001\u0000\u0000\u0000"+
+		"\u012a\u012b\u0001\u0000\u0000\u0000\u012b\u0018\u0001\u0000\u0000\u0000"+
+		"\u012c\u0130\u0007\u0006\u0000\u0000\u012d\u0130\u0003\u0015\n\u0000\u012e"+
+		"\u0130\u0003\u0007\u0003\u0000\u012f\u012c\u0001\u0000\u0000\u0000\u012f"+
+		"\u012d\u0001\u0000\u0000\u0000\u012f\u012e\u0001\u0000\u0000\u0000\u0130"+
+		"\u0133\u0001\u0000\u0000\u0000\u0131\u012f\u0001\u0000\u0000\u0000\u0131"+
+		"\u0132\u0001\u0000\u0000\u0000\u0132\u001a\u0001\u0000\u0000\u0000\u0133"+
+		"\u0131\u0001\u0000\u0000\u0000\u0134\u0137\u0003\u001f\u000f\u0000\u0135"+
+		"\u0137\u0003\u001d\u000e\u0000\u0136\u0134\u0001\u0000\u0000\u0000\u0136"+
+		"\u0135\u0001\u0000\u0000\u0000\u0137\u0138\u0001\u0000\u0000\u0000\u0138"+
+		"\u0139\u0006\r\u0000\u0000\u0139\u001c\u0001\u0000\u0000\u0000\u013a\u013b"+
+		"\u0005/\u0000\u0000\u013b\u013c\u0005*\u0000\u0000\u013c\u0140\u0001\u0000"+
+		"\u0000\u0000\u013d\u013f\b\u0007\u0000\u0000\u013e\u013d\u0001\u0000\u0000"+
+		"\u0000\u013f\u0142\u0001\u0000\u0000\u0000\u0140\u013e\u0001\u0000\u0000"+
+		"\u0000\u0140\u0141\u0001\u0000\u0000\u0000\u0141\u0144\u0001\u0000\u0000"+
+		"\u0000\u0142\u0140\u0001\u0000\u0000\u0000\u0143\u0145\u0005*\u0000\u0000"+
+		"\u0144\u0143\u0001\u0000\u0000\u0000\u0145\u0146\u0001\u0000\u0000\u0000"+
+		"\u0146\u0144\u0001\u0000\u0000\u0000\u0146\u0147\u0001\u0000\u0000\u0000"+
+		"\u0147\u0156\u0001\u0000\u0000\u0000\u0148\u014c\b\b\u0000\u0000\u0149"+
+		"\u014b\b\u0007\u0000\u0000\u014a\u0149\u0001\u0000\u0000\u0000\u014b\u014e"+
+		"\u0001\u0000\u0000\u0000\u014c\u014a\u0001\u0000\u0000\u0000\u014c\u014d"+
+		"\u0001\u0000\u0000\u0000\u014d\u0150\u0001\u0000\u0000\u0000\u014e\u014c"+
+		"\u0001\u0000\u0000\u0000\u014f\u0151\u0005*\u0000\u0000\u0150\u014f\u0001"+
+		"\u0000\u0000\u0000\u0151\u0152\u0001\u0000\u0000\u0000\u0152\u0150\u0001"+
+		"\u0000\u0000\u0000\u0152\u0153\u0001\u0000\u0000\u0000\u0153\u0155\u0001"+
+		"\u0000\u0000\u0000\u0154\u0148\u0001\u0000\u0000\u0000\u0155\u0158\u0001"+
+		"\u0000\u0000\u0000\u0156\u0154\u0001\u0000\u0000\u0000\u0156\u0157\u0001"+
+		"\u0000\u0000\u0000\u0157\u0159\u0001\u0000\u0000\u0000\u0158\u0156\u0001"+
+		"\u0000\u0000\u0000\u0159\u015a\u0005/\u0000\u0000\u015a\u001e\u0001\u0000"+
+		"\u0000\u0000\u015b\u015c\u0005/\u0000\u0000\u015c\u015d\u0005/\u0000\u0000"+
+		"\u015d\u0161\u0001\u0000\u0000\u0000\u015e\u0160\b\t\u0000\u0000\u015f"+
+		"\u015e\u0001\u0000\u0000\u0000\u0160\u0163\u0001\u0000\u0000\u0000\u0161"+
+		"\u015f\u0001\u0000\u0000\u0000\u0161\u0162\u0001\u0000\u0000\u0000\u0162"+
+		" \u0001\u0000\u0000\u0000\u0163\u0161\u0001\u0000\u0000\u0000\u0164\u0166"+
+		"\u0007\u0001\u0000\u0000\u0165\u0164\u0001\u0000\u0000\u0000\u0166\u0167"+
+		"\u0001\u0000\u0000\u0000\u0167\u0165\u0001\u0000\u0000\u0000\u0167\u0168"+
+		"\u0001\u0000\u0000\u0000\u0168\u0169\u0001\u0000\u0000\u0000\u0169\u016a"+
+		"\u0006\u0010\u0000\u0000\u016a\"\u0001\u0000\u0000\u0000\u016b\u016c\u0005"+
+		"u\u0000\u0000\u016c\u016d\u0005r\u0000\u0000\u016d\u016e\u0005l\u0000"+
+		"\u0000\u016e\u016f\u0005(\u0000\u0000\u016f\u0170\u0001\u0000\u0000\u0000"+
+		"\u0170\u0173\u0003\t\u0004\u0000\u0171\u0174\u0003\u0019\f\u0000\u0172"+
+		"\u0174\u0003\u00d7k\u0000\u0173\u0171\u0001\u0000\u0000\u0000\u0173\u0172"+
+		"\u0001\u0000\u0000\u0000\u0174\u017c\u0001\u0000\u0000\u0000\u0175\u0178"+
+		"\u0003!\u0010\u0000\u0176\u0179\u0003\u0019\f\u0000\u0177\u0179\u0003"+
+		"\u00d7k\u0000\u0178\u0176\u0001\u0000\u0000\u0000\u0178\u0177\u0001\u0000"+
+		"\u0000\u0000\u0179\u017b\u0001\u0000\u0000\u0000\u017a\u0175\u0001\u0000"+
+		"\u0000\u0000\u017b\u017e\u0001\u0000\u0000\u0000\u017c\u017a\u0001\u0000"+
+		"\u0000\u0000\u017c\u017d\u0001\u0000\u0000\u0000\u017d\u017f\u0001\u0000"+
+		"\u0000\u0000\u017e\u017c\u0001\u0000\u0000\u0000\u017f\u0180\u0003\t\u0004"+
+		"\u0000\u0180\u0181\u0005)\u0000\u0000\u0181$\u0001\u0000\u0000\u0000\u0182"+
+		"\u0183\u0005f\u0000\u0000\u0183\u0184\u0005o\u0000\u0000\u0184\u0185\u0005"+
+		"r\u0000\u0000\u0185\u0186\u0005m\u0000\u0000\u0186\u0187\u0005a\u0000"+
+		"\u0000\u0187\u0188\u0005t\u0000\u0000\u0188\u0189\u0005(\u0000\u0000\u0189"+
+		"\u018a\u0001\u0000\u0000\u0000\u018a\u018b\u0003\t\u0004\u0000\u018b\u018c"+
+		"\u0003\u00d7k\u0000\u018c\u018d\u0003\t\u0004\u0000\u018d\u018e\u0005"+
+		")\u0000\u0000\u018e&\u0001\u0000\u0000\u0000\u018f\u0190\u0005p\u0000"+
+		"\u0000\u0190\u019b\u0005x\u0000\u0000\u0191\u0192\u0005c\u0000\u0000\u0192"+
+		"\u019b\u0005m\u0000\u0000\u0193\u0194\u0005m\u0000\u0000\u0194\u019b\u0005"+
+		"m\u0000\u0000\u0195\u0196\u0005p\u0000\u0000\u0196\u019b\u0005t\u0000"+
+		"\u0000\u0197\u0198\u0005p\u0000\u0000\u0198\u019b\u0005c\u0000\u0000\u0199"+
+		"\u019b\u0005q\u0000\u0000\u019a\u018f\u0001\u0000\u0000\u0000\u019a\u0191"+
+		"\u0001\u0000\u0000\u0000\u019a\u0193\u0001\u0000\u0000\u0000\u019a\u0195"+
+		"\u0001\u0000\u0000\u0000\u019a\u0197\u0001\u0000\u0000\u0000\u019a\u0199"+
+		"\u0001\u0000\u0000\u0000\u019b(\u0001\u0000\u0000\u0000\u019c\u019d\u0005"+
+		"e\u0000\u0000\u019d\u01a6\u0005m\u0000\u0000\u019e\u019f\u0005e\u0000"+
+		"\u0000\u019f\u01a6\u0005x\u0000\u0000\u01a0\u01a1\u0005c\u0000\u0000\u01a1"+
+		"\u01a6\u0005h\u0000\u0000\u01a2\u01a3\u0005r\u0000\u0000\u01a3\u01a4\u0005"+
+		"e\u0000\u0000\u01a4\u01a6\u0005m\u0000\u0000\u01a5\u019c\u0001\u0000\u0000"+
+		"\u0000\u01a5\u019e\u0001\u0000\u0000\u0000\u01a5\u01a0\u0001\u0000\u0000"+
+		"\u0000\u01a5\u01a2\u0001\u0000\u0000\u0000\u01a6*\u0001\u0000\u0000\u0000"+
+		"\u01a7\u01a8\u0005v\u0000\u0000\u01a8\u01b4\u0005w\u0000\u0000\u01a9\u01aa"+
+		"\u0005v\u0000\u0000\u01aa\u01b4\u0005h\u0000\u0000\u01ab\u01ac\u0005v"+
+		"\u0000\u0000\u01ac\u01ad\u0005m\u0000\u0000\u01ad\u01ae\u0005i\u0000\u0000"+
+		"\u01ae\u01b4\u0005n\u0000\u0000\u01af\u01b0\u0005v\u0000\u0000\u01b0\u01b1"+
+		"\u0005m\u0000\u0000\u01b1\u01b2\u0005a\u0000\u0000\u01b2\u01b4\u0005x"+
+		"\u0000\u0000\u01b3\u01a7\u0001\u0000\u0000\u0000\u01b3\u01a9\u0001\u0000"+
+		"\u0000\u0000\u01b3\u01ab\u0001\u0000\u0000\u0000\u01b3\u01af\u0001\u0000"+
+		"\u0000\u0000\u01b4,\u0001\u0000\u0000\u0000\u01b5\u01b6\u0005d\u0000\u0000"+
+		"\u01b6\u01b7\u0005e\u0000\u0000\u01b7\u01c4\u0005g\u0000\u0000\u01b8\u01b9"+
+		"\u0005r\u0000\u0000\u01b9\u01ba\u0005a\u0000\u0000\u01ba\u01c4\u0005d"+
+		"\u0000\u0000\u01bb\u01bc\u0005g\u0000\u0000\u01bc\u01bd\u0005r\u0000\u0000"+
+		"\u01bd\u01be\u0005a\u0000\u0000\u01be\u01c4\u0005d\u0000\u0000\u01bf\u01c0"+
+		"\u0005t\u0000\u0000\u01c0\u01c1\u0005u\u0000\u0000\u01c1\u01c2\u0005r"+
+		"\u0000\u0000\u01c2\u01c4\u0005n\u0000\u0000\u01c3\u01b5\u0001\u0000\u0000"+
+		"\u0000\u01c3\u01b8\u0001\u0000\u0000\u0000\u01c3\u01bb\u0001\u0000\u0000"+
+		"\u0000\u01c3\u01bf\u0001\u0000\u0000\u0000\u01c4.\u0001\u0000\u0000\u0000"+
+		"\u01c5\u01c6\u0005d\u0000\u0000\u01c6\u01c7\u0005p\u0000\u0000\u01c7\u01d1"+
+		"\u0005i\u0000\u0000\u01c8\u01c9\u0005d\u0000\u0000\u01c9\u01ca\u0005p"+
+		"\u0000\u0000\u01ca\u01cb\u0005c\u0000\u0000\u01cb\u01d1\u0005m\u0000\u0000"+
+		"\u01cc\u01cd\u0005d\u0000\u0000\u01cd\u01ce\u0005p\u0000\u0000\u01ce\u01cf"+
+		"\u0005p\u0000\u0000\u01cf\u01d1\u0005x\u0000\u0000\u01d0\u01c5\u0001\u0000"+
+		"\u0000\u0000\u01d0\u01c8\u0001\u0000\u0000\u0000\u01d0\u01cc\u0001\u0000"+
+		"\u0000\u0000\u01d10\u0001\u0000\u0000\u0000\u01d2\u01d3\u0005h\u0000\u0000"+
+		"\u01d3\u01da\u0005z\u0000\u0000\u01d4\u01d5\u0005k\u0000\u0000\u01d5\u01d6"+
+		"\u0005h\u0000\u0000\u01d6\u01da\u0005z\u0000\u0000\u01d7\u01d8\u0005f"+
+		"\u0000\u0000\u01d8\u01da\u0005r\u0000\u0000\u01d9\u01d2\u0001\u0000\u0000"+
+		"\u0000\u01d9\u01d4\u0001\u0000\u0000\u0000\u01d9\u01d7\u0001\u0000\u0000"+
+		"\u0000\u01da2\u0001\u0000\u0000\u0000\u01db\u01dc\u0005m\u0000\u0000\u01dc"+
+		"\u01df\u0005s\u0000\u0000\u01dd\u01df\u0005s\u0000\u0000\u01de\u01db\u0001"+
+		"\u0000\u0000\u0000\u01de\u01dd\u0001\u0000\u0000\u0000\u01df4\u0001\u0000"+
+		"\u0000\u0000\u01e0\u01e1\u0005%\u0000\u0000\u01e16\u0001\u0000\u0000\u0000"+
+		"\u01e2\u01e3\u0005@\u0000\u0000\u01e3\u01e4\u0005i\u0000\u0000\u01e4\u01e5"+
+		"\u0005m\u0000\u0000\u01e5\u01e6\u0005p\u0000\u0000\u01e6\u01e7\u0005o"+
+		"\u0000\u0000\u01e7\u01e8\u0005r\u0000\u0000\u01e8\u01e9\u0005t\u0000\u0000"+
+		"\u01e98\u0001\u0000\u0000\u0000\u01ea\u01eb\u0005@\u0000\u0000\u01eb\u01ec"+
+		"\u0005i\u0000\u0000\u01ec\u01ed\u0005n\u0000\u0000\u01ed\u01ee\u0005c"+
+		"\u0000\u0000\u01ee\u01ef\u0005l\u0000\u0000\u01ef\u01f0\u0005u\u0000\u0000"+
+		"\u01f0\u01f1\u0005d\u0000\u0000\u01f1\u01f2\u0005e\u0000\u0000\u01f2:"+
+		"\u0001\u0000\u0000\u0000\u01f3\u01f4\u0005@\u0000\u0000\u01f4\u01f5\u0005"+
+		"u\u0000\u0000\u01f5\u01f6\u0005s\u0000\u0000\u01f6\u01f7\u0005e\u0000"+
+		"\u0000\u01f7<\u0001\u0000\u0000\u0000\u01f8\u01f9\u0005@\u0000\u0000\u01f9"+
+		"\u01fa\u0005r\u0000\u0000\u01fa\u01fb\u0005e\u0000\u0000\u01fb\u01fc\u0005"+
+		"q\u0000\u0000\u01fc\u01fd\u0005u\u0000\u0000\u01fd\u01fe\u0005i\u0000"+
+		"\u0000\u01fe\u01ff\u0005r\u0000\u0000\u01ff\u0200\u0005e\u0000\u0000\u0200"+
+		">\u0001\u0000\u0000\u0000\u0201\u0202\u0005@\u0000\u0000\u0202\u0203\u0005"+
+		"c\u0000\u0000\u0203\u0204\u0005h\u0000\u0000\u0204\u0205\u0005a\u0000"+
+		"\u0000\u0205\u0206\u0005r\u0000\u0000\u0206\u0207\u0005s\u0000\u0000\u0207"+
+		"\u0208\u0005e\u0000\u0000\u0208\u0209\u0005t\u0000\u0000\u0209\u020a\u0005"+
+		" \u0000\u0000\u020a@\u0001\u0000\u0000\u0000\u020b\u020c\u0005@\u0000"+
+		"\u0000\u020c\u020d\u0005m\u0000\u0000\u020d\u020e\u0005i\u0000\u0000\u020e"+
+		"\u020f\u0005x\u0000\u0000\u020f\u0210\u0005i\u0000\u0000\u0210\u0211\u0005"+
+		"n\u0000\u0000\u0211B\u0001\u0000\u0000\u0000\u0212\u0213\u0005@\u0000"+
+		"\u0000\u0213\u0214\u0005f\u0000\u0000\u0214\u0215\u0005u\u0000\u0000\u0215"+
+		"\u0216\u0005n\u0000\u0000\u0216\u0217\u0005c\u0000\u0000\u0217\u0218\u0005"+
+		"t\u0000\u0000\u0218\u0219\u0005i\u0000\u0000\u0219\u021a\u0005o\u0000"+
+		"\u0000\u021a\u021b\u0005n\u0000\u0000\u021bD\u0001\u0000\u0000\u0000\u021c"+
+		"\u021d\u0005@\u0000\u0000\u021d\u021e\u0005f\u0000\u0000\u021e\u021f\u0005"+
+		"o\u0000\u0000\u021f\u0220\u0005n\u0000\u0000\u0220\u0221\u0005t\u0000"+
+		"\u0000\u0221\u0222\u0005-\u0000\u0000\u0222\u0223\u0005f\u0000\u0000\u0223"+
+		"\u0224\u0005a\u0000\u0000\u0224\u0225\u0005c\u0000\u0000\u0225\u0226\u0005"+
+		"e\u0000\u0000\u0226F\u0001\u0000\u0000\u0000\u0227\u0228\u0005@\u0000"+
+		"\u0000\u0228\u0229\u0005f\u0000\u0000\u0229\u022a\u0005o\u0000\u0000\u022a"+
+		"\u022b\u0005r\u0000\u0000\u022b\u022c\u0005w\u0000\u0000\u022c\u022d\u0005"+
+		"a\u0000\u0000\u022d\u022e\u0005r\u0000\u0000\u022e\u022f\u0005d\u0000"+
+		"\u0000\u022fH\u0001\u0000\u0000\u0000\u0230\u0231\u0005@\u0000\u0000\u0231"+
+		"\u0232\u0005c\u0000\u0000\u0232\u0233\u0005o\u0000\u0000\u0233\u0234\u0005"+
+		"n\u0000\u0000\u0234\u0235\u0005t\u0000\u0000\u0235\u0236\u0005e\u0000"+
+		"\u0000\u0236\u0237\u0005n\u0000\u0000\u0237\u0238\u0005t\u0000\u0000\u0238"+
+		"J\u0001\u0000\u0000\u0000\u0239\u023a\u0005@\u0000\u0000\u023a\u023b\u0005"+
+		"k\u0000\u0000\u023b\u023c\u0005e\u0000\u0000\u023c\u023d\u0005y\u0000"+
+		"\u0000\u023d\u023e\u0005f\u0000\u0000\u023e\u023f\u0005r\u0000\u0000\u023f"+
+		"\u0240\u0005a\u0000\u0000\u0240\u0241\u0005m\u0000\u0000\u0241\u0242\u0005"+
+		"e\u0000\u0000\u0242\u0243\u0005s\u0000\u0000\u0243L\u0001\u0000\u0000"+
+		"\u0000\u0244\u0245\u0005@\u0000\u0000\u0245\u0246\u0005r\u0000\u0000\u0246"+
+		"\u0247\u0005e\u0000\u0000\u0247\u0248\u0005t\u0000\u0000\u0248\u0249\u0005"+
+		"u\u0000\u0000\u0249\u024a\u0005r\u0000\u0000\u024a\u024b\u0005n\u0000"+
+		"\u0000\u024bN\u0001\u0000\u0000\u0000\u024c\u024d\u0005@\u0000\u0000\u024d"+
+		"\u024e\u0005m\u0000\u0000\u024e\u024f\u0005e\u0000\u0000\u024f\u0250\u0005"+
+		"d\u0000\u0000\u0250\u0251\u0005i\u0000\u0000\u0251\u0252\u0005a\u0000"+
+		"\u0000\u0252P\u0001\u0000\u0000\u0000\u0253\u0254\u0005@\u0000\u0000\u0254"+
+		"\u0255\u0005e\u0000\u0000\u0255\u0256\u0005x\u0000\u0000\u0256\u0257\u0005"+
+		"t\u0000\u0000\u0257\u0258\u0005e\u0000\u0000\u0258\u0259\u0005n\u0000"+
+		"\u0000\u0259\u025a\u0005d\u0000\u0000\u025aR\u0001\u0000\u0000\u0000\u025b"+
+		"\u025c\u0005@\u0000\u0000\u025c\u025d\u0005w\u0000\u0000\u025d\u025e\u0005"+
+		"a\u0000\u0000\u025e\u025f\u0005r\u0000\u0000\u025f\u0260\u0005n\u0000"+
+		"\u0000\u0260T\u0001\u0000\u0000\u0000\u0261\u0262\u0005@\u0000\u0000\u0262"+
+		"\u0263\u0005e\u0000\u0000\u0263\u0264\u0005r\u0000\u0000\u0264\u0265\u0005"+
+		"r\u0000\u0000\u0265\u0266\u0005o\u0000\u0000\u0266\u0267\u0005r\u0000"+
+		"\u0000\u0267V\u0001\u0000\u0000\u0000\u0268\u0269\u0005i\u0000\u0000\u0269"+
+		"\u026a\u0005f\u0000\u0000\u026aX\u0001\u0000\u0000\u0000\u026b\u026c\u0005"+
+		"@\u0000\u0000\u026c\u026d\u0005i\u0000\u0000\u026d\u026e\u0005f\u0000"+
+		"\u0000\u026eZ\u0001\u0000\u0000\u0000\u026f\u0270\u0005@\u0000\u0000\u0270"+
+		"\u0271\u0005f\u0000\u0000\u0271\u0272\u0005o\u0000\u0000\u0272\u0273\u0005"+
+		"r\u0000\u0000\u0273\\\u0001\u0000\u0000\u0000\u0274\u0275\u0005@\u0000"+
+		"\u0000\u0275\u0276\u0005e\u0000\u0000\u0276\u0277\u0005l\u0000\u0000\u0277"+
+		"\u0278\u0005s\u0000\u0000\u0278\u0279\u0005e\u0000\u0000\u0279^\u0001"+
+		"\u0000\u0000\u0000\u027a\u027b\u0005@\u0000\u0000\u027b\u027c\u0005w\u0000"+
+		"\u0000\u027c\u027d\u0005h\u0000\u0000\u027d\u027e\u0005i\u0000\u0000\u027e"+
+		"\u027f\u0005l\u0000\u0000\u027f\u0280\u0005e\u0000\u0000\u0280`\u0001"+
+		"\u0000\u0000\u0000\u0281\u0282\u0005@\u0000\u0000\u0282\u0283\u0005e\u0000"+
+		"\u0000\u0283\u0284\u0005a\u0000\u0000\u0284\u0285\u0005c\u0000\u0000\u0285"+
+		"\u0286\u0005h\u0000\u0000\u0286b\u0001\u0000\u0000\u0000\u0287\u0288\u0005"+
+		"f\u0000\u0000\u0288\u0289\u0005r\u0000\u0000\u0289\u028a\u0005o\u0000"+
+		"\u0000\u028a\u028b\u0005m\u0000\u0000\u028bd\u0001\u0000\u0000\u0000\u028c"+
+		"\u028d\u0005t\u0000\u0000\u028d\u028e\u0005o\u0000\u0000\u028ef\u0001"+
+		"\u0000\u0000\u0000\u028f\u0290\u0005t\u0000\u0000\u0290\u0291\u0005h\u0000"+
+		"\u0000\u0291\u0292\u0005r\u0000\u0000\u0292\u0293\u0005o\u0000\u0000\u0293"+
+		"\u0294\u0005u\u0000\u0000\u0294\u0295\u0005g\u0000\u0000\u0295\u0296\u0005"+
+		"h\u0000\u0000\u0296h\u0001\u0000\u0000\u0000\u0297\u0298\u0005o\u0000"+
+		"\u0000\u0298\u0299\u0005n\u0000\u0000\u0299\u029a\u0005l\u0000\u0000\u029a"+
+		"\u029b\u0005y\u0000\u0000\u029bj\u0001\u0000\u0000\u0000\u029c\u029d\u0005"+
+		"n\u0000\u0000\u029d\u029e\u0005o\u0000\u0000\u029e\u029f\u0005t\u0000"+
+		"\u0000\u029fl\u0001\u0000\u0000\u0000\u02a0\u02a1\u0005a\u0000\u0000\u02a1"+
+		"\u02a2\u0005n\u0000\u0000\u02a2\u02a3\u0005d\u0000\u0000\u02a3n\u0001"+
+		"\u0000\u0000\u0000\u02a4\u02a5\u0005u\u0000\u0000\u02a5\u02a6\u0005s\u0000"+
+		"\u0000\u02a6\u02a7\u0005i\u0000\u0000\u02a7\u02a8\u0005n\u0000\u0000\u02a8"+
+		"\u02a9\u0005g\u0000\u0000\u02a9p\u0001\u0000\u0000\u0000\u02aa\u02ab\u0005"+
+		"a\u0000\u0000\u02ab\u02ac\u0005s\u0000\u0000\u02acr\u0001\u0000\u0000"+
+		"\u0000\u02ad\u02ae\u0005w\u0000\u0000\u02ae\u02af\u0005i\u0000\u0000\u02af"+
+		"\u02b0\u0005t\u0000\u0000\u02b0\u02b1\u0005h\u0000\u0000\u02b1t\u0001"+
+		"\u0000\u0000\u0000\u02b2\u02b3\u0005o\u0000\u0000\u02b3\u02b4\u0005r\u0000"+
+		"\u0000\u02b4v\u0001\u0000\u0000\u0000\u02b5\u02b6\u0005i\u0000\u0000\u02b6"+
+		"\u02b7\u0005n\u0000\u0000\u02b7x\u0001\u0000\u0000\u0000\u02b8\u02b9\u0005"+
+		"!\u0000\u0000\u02b9\u02ba\u0005d\u0000\u0000\u02ba\u02bb\u0005e\u0000"+
+		"\u0000\u02bb\u02bc\u0005f\u0000\u0000\u02bc\u02bd\u0005a\u0000\u0000\u02bd"+
+		"\u02be\u0005u\u0000\u0000\u02be\u02bf\u0005l\u0000\u0000\u02bf\u02c0\u0005"+
+		"t\u0000\u0000\u02c0z\u0001\u0000\u0000\u0000\u02c1\u02c2\u0005!\u0000"+
+		"\u0000\u02c2\u02c3\u0005i\u0000\u0000\u02c3\u02c4\u0005m\u0000\u0000\u02c4"+
+		"\u02c5\u0005p\u0000\u0000\u02c5\u02c6\u0005o\u0000\u0000\u02c6\u02c7\u0005"+
+		"r\u0000\u0000\u02c7\u02c8\u0005t\u0000\u0000\u02c8\u02c9\u0005a\u0000"+
+		"\u0000\u02c9\u02ca\u0005n\u0000\u0000\u02ca\u02cb\u0005t\u0000\u0000\u02cb"+
+		"|\u0001\u0000\u0000\u0000\u02cc\u02cd\u0005!\u0000\u0000\u02cd\u02ce\u0005"+
+		"g\u0000\u0000\u02ce\u02cf\u0005l\u0000\u0000\u02cf\u02d0\u0005o\u0000"+
+		"\u0000\u02d0\u02d1\u0005b\u0000\u0000\u02d1\u02d2\u0005a\u0000\u0000\u02d2"+
+		"\u02d3\u0005l\u0000\u0000\u02d3~\u0001\u0000\u0000\u0000\u02d4\u02d5\u0005"+
+		"(\u0000\u0000\u02d5\u0080\u0001\u0000\u0000\u0000\u02d6\u02d7\u0005)\u0000"+
+		"\u0000\u02d7\u0082\u0001\u0000\u0000\u0000\u02d8\u02d9\u0005[\u0000\u0000"+
+		"\u02d9\u0084\u0001\u0000\u0000\u0000\u02da\u02db\u0005]\u0000\u0000\u02db"+
+		"\u0086\u0001\u0000\u0000\u0000\u02dc\u02dd\u0005{\u0000\u0000\u02dd\u0088"+
+		"\u0001\u0000\u0000\u0000\u02de\u02df\u0005}\u0000\u0000\u02df\u008a\u0001"+
+		"\u0000\u0000\u0000\u02e0\u02e1\u0005.\u0000\u0000\u02e1\u008c\u0001\u0000"+
+		"\u0000\u0000\u02e2\u02e3\u0005,\u0000\u0000\u02e3\u008e\u0001\u0000\u0000"+
+		"\u0000\u02e4\u02e5\u0005:\u0000\u0000\u02e5\u0090\u0001\u0000\u0000\u0000"+
+		"\u02e6\u02e7\u0005;\u0000\u0000\u02e7\u0092\u0001\u0000\u0000\u0000\u02e8"+
+		"\u02e9\u0005~\u0000\u0000\u02e9\u0094\u0001\u0000\u0000\u0000\u02ea\u02eb"+
+		"\u0005_\u0000\u0000\u02eb\u0096\u0001\u0000\u0000\u0000\u02ec\u02ed\u0005"+
+		"$\u0000\u0000\u02ed\u0098\u0001\u0000\u0000\u0000\u02ee\u02ef\u0005@\u0000"+
+		"\u0000\u02ef\u009a\u0001\u0000\u0000\u0000\u02f0\u02f1\u0005&\u0000\u0000"+
+		"\u02f1\u009c\u0001\u0000\u0000\u0000\u02f2\u02f3\u0005#\u0000\u0000\u02f3"+
+		"\u009e\u0001\u0000\u0000\u0000\u02f4\u02f5\u0005t\u0000\u0000\u02f5\u02f6"+
+		"\u0005r\u0000\u0000\u02f6\u02f7\u0005u\u0000\u0000\u02f7\u02f8\u0005e"+
+		"\u0000\u0000\u02f8\u00a0\u0001\u0000\u0000\u0000\u02f9\u02fa\u0005f\u0000"+
+		"\u0000\u02fa\u02fb\u0005a\u0000\u0000\u02fb\u02fc\u0005l\u0000\u0000\u02fc"+
+		"\u02fd\u0005s\u0000\u0000\u02fd\u02fe\u0005e\u0000\u0000\u02fe\u00a2\u0001"+
+		"\u0000\u0000\u0000\u02ff\u0300\u0005+\u0000\u0000\u0300\u00a4\u0001\u0000"+
+		"\u0000\u0000\u0301\u0302\u0005/\u0000\u0000\u0302\u00a6\u0001\u0000\u0000"+
+		"\u0000\u0303\u0304\u0005-\u0000\u0000\u0304\u00a8\u0001\u0000\u0000\u0000"+
+		"\u0305\u0306\u0005*\u0000\u0000\u0306\u00aa\u0001\u0000\u0000\u0000\u0307"+
+		"\u0308\u0005=\u0000\u0000\u0308\u00ac\u0001\u0000\u0000\u0000\u0309\u030a"+
+		"\u0005!\u0000\u0000\u030a\u030b\u0005=\u0000\u0000\u030b\u00ae\u0001\u0000"+
+		"\u0000\u0000\u030c\u030d\u0005>\u0000\u0000\u030d\u00b0\u0001\u0000\u0000"+
+		"\u0000\u030e\u030f\u0005<\u0000\u0000\u030f\u00b2\u0001\u0000\u0000\u0000"+
+		"\u0310\u0311\u0005~\u0000\u0000\u0311\u0312\u0005=\u0000\u0000\u0312\u00b4"+
+		"\u0001\u0000\u0000\u0000\u0313\u0314\u0005|\u0000\u0000\u0314\u0315\u0005"+
+		"=\u0000\u0000\u0315\u00b6\u0001\u0000\u0000\u0000\u0316\u0317\u0005|\u0000"+
+		"\u0000\u0317\u00b8\u0001\u0000\u0000\u0000\u0318\u0319\u0005<\u0000\u0000"+
+		"\u0319\u031a\u0005!\u0000\u0000\u031a\u031b\u0005-\u0000\u0000\u031b\u031c"+
+		"\u0005-\u0000\u0000\u031c\u00ba\u0001\u0000\u0000\u0000\u031d\u031e\u0005"+
+		"-\u0000\u0000\u031e\u031f\u0005-\u0000\u0000\u031f\u0320\u0005>\u0000"+
+		"\u0000\u0320\u00bc\u0001\u0000\u0000\u0000\u0321\u0322\u0005:\u0000\u0000"+
+		"\u0322\u0323\u0005n\u0000\u0000\u0323\u0324\u0005o\u0000\u0000\u0324\u0325"+
+		"\u0005t\u0000\u0000\u0325\u0326\u0005(\u0000\u0000\u0326\u00be\u0001\u0000"+
+		"\u0000\u0000\u0327\u0328\u0005c\u0000\u0000\u0328\u0329\u0005a\u0000\u0000"+
+		"\u0329\u032a\u0005l\u0000\u0000\u032a\u032b\u0005c\u0000\u0000\u032b\u032c"+
+		"\u0005(\u0000\u0000\u032c\u00c0\u0001\u0000\u0000\u0000\u032d\u032e\u0005"+
+		"r\u0000\u0000\u032e\u032f\u0005o\u0000\u0000\u032f\u0330\u0005t\u0000"+
+		"\u0000\u0330\u0331\u0005a\u0000\u0000\u0331\u0332\u0005t\u0000\u0000\u0332"+
+		"\u0333\u0005e\u0000\u0000\u0333\u0334\u0005(\u0000\u0000\u0334\u00c2\u0001"+
+		"\u0000\u0000\u0000\u0335\u0336\u0005v\u0000\u0000\u0336\u0337\u0005a\u0000"+
+		"\u0000\u0337\u0338\u0005r\u0000\u0000\u0338\u0339\u0005(\u0000\u0000\u0339"+
+		"\u00c4\u0001\u0000\u0000\u0000\u033a\u033b\u0005r\u0000\u0000\u033b\u033c"+
+		"\u0005g\u0000\u0000\u033c\u033d\u0005b\u0000\u0000\u033d\u033e\u0005a"+
+		"\u0000\u0000\u033e\u033f\u0005(\u0000\u0000\u033f\u00c6\u0001\u0000\u0000"+
+		"\u0000\u0340\u0341\u0005r\u0000\u0000\u0341\u0342\u0005e\u0000\u0000\u0342"+
+		"\u0343\u0005p\u0000\u0000\u0343\u0344\u0005e\u0000\u0000\u0344\u0345\u0005"+
+		"a\u0000\u0000\u0345\u0346\u0005t\u0000\u0000\u0346\u0347\u0005(\u0000"+
+		"\u0000\u0347\u00c8\u0001\u0000\u0000\u0000\u0348\u0349\u0005^\u0000\u0000"+
+		"\u0349\u034a\u0005=\u0000\u0000\u034a\u00ca\u0001\u0000\u0000\u0000\u034b"+
+		"\u034c\u0005$\u0000\u0000\u034c\u034d\u0005=\u0000\u0000\u034d\u00cc\u0001"+
+		"\u0000\u0000\u0000\u034e\u034f\u0005*\u0000\u0000\u034f\u0350\u0005=\u0000"+
+		"\u0000\u0350\u00ce\u0001\u0000\u0000\u0000\u0351\u0352\u0005-\u0000\u0000"+
+		"\u0352\u0353\u0005m\u0000\u0000\u0353\u0354\u0005o\u0000\u0000\u0354\u0355"+
+		"\u0005z\u0000\u0000\u0355\u0362\u0005-\u0000\u0000\u0356\u0357\u0005-"+
+		"\u0000\u0000\u0357\u0358\u0005w\u0000\u0000\u0358\u0359\u0005e\u0000\u0000"+
+		"\u0359\u035a\u0005b\u0000\u0000\u035a\u035b\u0005k\u0000\u0000\u035b\u035c"+
+		"\u0005i\u0000\u0000\u035c\u035d\u0005t\u0000\u0000\u035d\u0362\u0005-"+
+		"\u0000\u0000\u035e\u035f\u0005-\u0000\u0000\u035f\u0360\u0005o\u0000\u0000"+
+		"\u0360\u0362\u0005-\u0000\u0000\u0361\u0351\u0001\u0000\u0000\u0000\u0361"+
+		"\u0356\u0001\u0000\u0000\u0000\u0361\u035e\u0001\u0000\u0000\u0000\u0362"+
+		"\u00d0\u0001\u0000\u0000\u0000\u0363\u0364\u0005-\u0000\u0000\u0364\u0365"+
+		"\u0005-\u0000\u0000\u0365\u0368\u0001\u0000\u0000\u0000\u0366\u0369\u0003"+
+		"\u00d3i\u0000\u0367\u0369\u0003\u0011\b\u0000\u0368\u0366\u0001\u0000"+
+		"\u0000\u0000\u0368\u0367\u0001\u0000\u0000\u0000\u0369\u036e\u0001\u0000"+
+		"\u0000\u0000\u036a\u036d\u0003\u00d3i\u0000\u036b\u036d\u0003\u0013\t"+
+		"\u0000\u036c\u036a\u0001\u0000\u0000\u0000\u036c\u036b\u0001\u0000\u0000"+
+		"\u0000\u036d\u0370\u0001\u0000\u0000\u0000\u036e\u036c\u0001\u0000\u0000"+
+		"\u0000\u036e\u036f\u0001\u0000\u0000\u0000\u036f\u00d2\u0001\u0000\u0000"+
+		"\u0000\u0370\u036e\u0001\u0000\u0000\u0000\u0371\u0372\u0003\u009dN\u0000"+
+		"\u0372\u0374\u0003\u0087C\u0000\u0373\u0375\u0003\u0097K\u0000\u0374\u0373"+
+		"\u0001\u0000\u0000\u0000\u0374\u0375\u0001\u0000\u0000\u0000\u0375\u0376"+
+		"\u0001\u0000\u0000\u0000\u0376\u0377\u0003\u00d9l\u0000\u0377\u0378\u0003"+
+		"\u0089D\u0000\u0378\u00d4\u0001\u0000\u0000\u0000\u0379\u037b\u0007\n"+
+		"\u0000\u0000\u037a\u0379\u0001\u0000\u0000\u0000\u037b\u037c\u0001\u0000"+
+		"\u0000\u0000\u037c\u037a\u0001\u0000\u0000\u0000\u037c\u037d\u0001\u0000"+
+		"\u0000\u0000\u037d\u038b\u0001\u0000\u0000\u0000\u037e\u0380\u0007\n\u0000"+
+		"\u0000\u037f\u037e\u0001\u0000\u0000\u0000\u0380\u0383\u0001\u0000\u0000"+
+		"\u0000\u0381\u037f\u0001\u0000\u0000\u0000\u0381\u0382\u0001\u0000\u0000"+
+		"\u0000\u0382\u0384\u0001\u0000\u0000\u0000\u0383\u0381\u0001\u0000\u0000"+
+		"\u0000\u0384\u0386\u0005.\u0000\u0000\u0385\u0387\u0007\n\u0000\u0000"+
+		"\u0386\u0385\u0001\u0000\u0000\u0000\u0387\u0388\u0001\u0000\u0000\u0000"+
+		"\u0388\u0386\u0001\u0000\u0000\u0000\u0388\u0389\u0001\u0000\u0000\u0000"+
+		"\u0389\u038b\u0001\u0000\u0000\u0000\u038a\u037a\u0001\u0000\u0000\u0000"+
+		"\u038a\u0381\u0001\u0000\u0000\u0000\u038b\u00d6\u0001\u0000\u0000\u0000"+
+		"\u038c\u0393\u0005\"\u0000\u0000\u038d\u0392\b\u000b\u0000\u0000\u038e"+
+		"\u038f\u0005\\\u0000\u0000\u038f\u0392\u0003\u000b\u0005\u0000\u0390\u0392"+
+		"\u0003\u0007\u0003\u0000\u0391\u038d\u0001\u0000\u0000\u0000\u0391\u038e"+
+		"\u0001\u0000\u0000\u0000\u0391\u0390\u0001\u0000\u0000\u0000\u0392\u0395"+
+		"\u0001\u0000\u0000\u0000\u0393\u0391\u0001\u0000\u0000\u0000\u0393\u0394"+
+		"\u0001\u0000\u0000\u0000\u0394\u0396\u0001\u0000\u0000\u0000\u0395\u0393"+
+		"\u0001\u0000\u0000\u0000\u0396\u03a3\u0005\"\u0000\u0000\u0397\u039e\u0005"+
+		"\'\u0000\u0000\u0398\u039d\b\f\u0000\u0000\u0399\u039a\u0005\\\u0000\u0000"+
+		"\u039a\u039d\u0003\u000b\u0005\u0000\u039b\u039d\u0003\u0007\u0003\u0000"+
+		"\u039c\u0398\u0001\u0000\u0000\u0000\u039c\u0399\u0001\u0000\u0000\u0000"+
+		"\u039c\u039b\u0001\u0000\u0000\u0000\u039d\u03a0\u0001\u0000\u0000\u0000"+
+		"\u039e\u039c\u0001\u0000\u0000\u0000\u039e\u039f\u0001\u0000\u0000\u0000"+
+		"\u039f\u03a1\u0001\u0000\u0000\u0000\u03a0\u039e\u0001\u0000\u0000\u0000"+
+		"\u03a1\u03a3\u0005\'\u0000\u0000\u03a2\u038c\u0001\u0000\u0000\u0000\u03a2"+
+		"\u0397\u0001\u0000\u0000\u0000\u03a3\u00d8\u0001\u0000\u0000\u0000\u03a4"+
+		"\u03a8\u0003\u0011\b\u0000\u03a5\u03a7\u0003\u0013\t\u0000\u03a6\u03a5"+
+		"\u0001\u0000\u0000\u0000\u03a7\u03aa\u0001\u0000\u0000\u0000\u03a8\u03a6"+
+		"\u0001\u0000\u0000\u0000\u03a8\u03a9\u0001\u0000\u0000\u0000\u03a9\u00da"+
+		"\u0001\u0000\u0000\u0000\u03aa\u03a8\u0001\u0000\u0000\u00005\u0000\u00e1"+
+		"\u00e6\u00e9\u00ec\u00ef\u00f2\u00f9\u00fd\u0103\u0106\u0109\u010c\u010f"+
+		"\u0119\u011e\u0123\u012a\u012f\u0131\u0136\u0140\u0146\u014c\u0152\u0156"+
+		"\u0161\u0167\u0173\u0178\u017c\u019a\u01a5\u01b3\u01c3\u01d0\u01d9\u01de"+
+		"\u0361\u0368\u036c\u036e\u0374\u037c\u0381\u0388\u038a\u0391\u0393\u039c"+
+		"\u039e\u03a2\u03a8\u0001\u0006\u0000\u0000";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
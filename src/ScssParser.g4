@@ -87,22 +87,18 @@ withClause
 
 // Declarations
 variableDeclaration
-    : variableName Colon variableValue prio? Semi?
+    : variableName Colon variableValue prio* Semi?
     ;
 
 variableValue
-    : value
+    : listDeclaration
+    | mapDeclaration
     | functionDeclaration
-    | functionCall
-    | mapDeclaration+
-    | listDeclaration+
-    | variableName
-    | identifier
     ;
 
 variableName
-    : (( Minus Minus) Dollar | plusMinus Dollar | Dollar) identifier
-    | plusMinus? namespace_? Dollar ( identifier | measurment)
+    : plusMinus? namespace_? Dollar (identifier | measurment)
+    | Minus Minus Dollar identifier
     | Variable
     ;
 
@@ -117,18 +113,11 @@ propertyDeclaration
 prio
     : Important
     | Default
+    | Global
     ;
 
 propertyValue
-    : (
-        value
-        | value? prio? block
-        | variableName
-        | listSpaceSeparated
-        | listCommaSeparated
-        | expression
-        | functionCall
-    ) prio?
+    : (listCommaSeparated | value? prio? block) prio?
     ;
 
 mediaDeclaration
@@ -174,7 +163,7 @@ percentageStatement
     ;
 
 includeDeclaration
-    : Include namespace_? (identifier | functionCall) (Semi | Using Lparen parameters Rparen)? block?
+    : Include namespace_? (functionCall | identifier) (Semi | Using Lparen parameters Rparen)? block?
     ;
 
 interpolationDeclaration
@@ -333,7 +322,8 @@ operator_
     ;
 
 value
-    : unit
+    : operation
+    | unit
     | number
     | boolean
     | calc
@@ -349,10 +339,14 @@ value
     | interpolation
     | hexcolor
     | identifier
-    | expression
-    | block
+    | ifExpression
+    | plusMinus? Lparen expression Rparen
     | Lparen Rparen
-    | measurment
+    ;
+
+operation
+    : Not? expressionPart (operator_ Not? expressionPart)+
+    | Not expressionPart
     ;
 
 // Function
@@ -365,7 +359,7 @@ parameters
     ;
 
 parameter
-    : (value | variableDeclaration | listSpaceSeparated | mapDeclaration) arglist? prio?
+    : (variableName Colon listSpaceSeparated | listSpaceSeparated | mapDeclaration) arglist? prio?
     ;
 
 functionBody
@@ -377,8 +371,7 @@ functionReturn
     ;
 
 functionStatement
-    : expression Semi
-    | statement
+    : statement
     ;
 
 functionCall
@@ -391,6 +384,7 @@ expression
 
 expressionPart
     : unit
+    | functionCall
     | identifier
     | variableName
     | var_
@@ -405,10 +399,8 @@ expressionPart
     | interpolation
     | hexcolor
     | ifExpression
-    | functionCall
     | plusMinus? Lparen expression? Rparen
     | prio
-    | measurment
     ;
 
 ifExpression
@@ -417,7 +409,8 @@ ifExpression
 
 // List & Map
 listDeclaration
-    : (listBracketed | listCommaSeparated | listSpaceSeparated)
+    : listCommaSeparated
+    | listBracketed
     | Lparen listDeclaration Rparen
     ;
 
@@ -426,15 +419,15 @@ listCommaSeparated
     ;
 
 listSpaceSeparated
-    : listElement+
+    : value+
     ;
 
 listBracketed
-    : Lbrack (listSpaceSeparated | listCommaSeparated) Rbrack
+    : Lbrack listCommaSeparated Rbrack
     ;
 
 listElement
-    : Lparen? (value Comma?)+ Rparen? Comma?
+    : value+
     ;
 
 mapDeclaration
@@ -450,14 +443,12 @@ mapEntry
     ;
 
 mapKey
-    : value
-    | listDeclaration
+    : listSpaceSeparated
     | mapDeclaration
     ;
 
 mapValue
-    : value
-    | listDeclaration
+    : listSpaceSeparated
     | mapDeclaration
     ;
 
@@ -479,9 +470,7 @@ forDeclaration
     ;
 
 through
-    : Number
-    | functionCall
-    | expression
+    : expression
     ;
 
 whileDeclaration
@@ -506,6 +506,16 @@ public interface ScssParserListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitValue(ScssParser.ValueContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link ScssParser#operation}.
+	 * @param ctx the parse tree
+	 */
+	void enterOperation(ScssParser.OperationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ScssParser#operation}.
+	 * @param ctx the parse tree
+	 */
+	void exitOperation(ScssParser.OperationContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link ScssParser#functionDeclaration}.
 	 * @param ctx the parse tree
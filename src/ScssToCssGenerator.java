@@ -1,94 +1,91 @@
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.RuleContext;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
 
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public class ScssToCssGenerator extends ScssParserBaseVisitor<String> {
 
+    // Nombre de corps de mixin évalués, remplis à partir d'un gabarit et réutilisés, et d'inclusions avec un bloc,
+    // pour tous les générateurs qui comptent leurs inclusions (pas celui du préchauffage des DFA)
+    private static final AtomicLong MIXIN_RENDERS = new AtomicLong();
+    private static final AtomicLong MIXIN_FILLS = new AtomicLong();
+    private static final AtomicLong MIXIN_HITS = new AtomicLong();
+    private static final AtomicLong MIXIN_BLOCKS = new AtomicLong();
+
     //region Règles de base
 
-    private static final String ENTIER = "entier";
-    private static final String REEL = "réel";
-    private static final String PIXEL = "pixel";
-    private static final String HEX = "hexadécimal";
-    private static final String POURCENTAGE = "pourcentage";
-    private static final String BOOLEAN = "boolean";
-    // HashMap qui contiendra les variables et leurs valeurs pour les inscrire dans le root
-    private HashMap<String, Variable> variableMap;
+    // Variables globales, inscrites dans le root (dans l'ordre de déclaration)
+    private final Environment globals = new Environment();
+    // Portée en cours : un cadre par bloc, boucle, corps de mixin... jusqu'aux variables globales
+    private Environment environment = globals;
+    // Nombre d'affectations de variables globales depuis un bloc (!global...) : un mixin qui en fait n'est pas gardé
+    private int globalAssignments;
     // Liste qui stocke les variables qui ne sont pas globales (dans un scope)
-    private HashMap<String, Mixin> mixinMap;
-    // ArrayList qui contiendra le CSS en attente d'écriture (jusqu'à ce que la pile soit vide)
-    private ArrayList<String> pendingCss;
-    // Pile de déclaration
-    private Stack<String> declarationStack;
-    private boolean writingMixin;
-    private boolean inScope;
-
-    /**
-     * Méthode permettant de savoir si une valeur est booléenne.
-     *
-     * @param value valeur
-     * @return true si c'est une valeur booléenne, false sinon.
-     */
-    private static boolean isBoolean(String value) {
-        return Objects.equals(value, "true") || Objects.equals(value, "false");
-    }
+    private Map<String, Mixin> mixinMap = new HashMap<>();
+    // Corps des mixins déjà évalués, par mixin et arguments : vidé dès qu'une variable globale ou un mixin change
+    private final HashMap<MixinCall, MixinBody> renderedMixins = new HashMap<>();
+    // Gabarits des corps de mixins par mixin et préfixe de propriétés imbriquées : vidés avec les corps évalués
+    private final HashMap<MixinTemplateKey, MixinTemplate> mixinTemplates = new HashMap<>();
+    // Règles CSS produites par l'instruction de premier niveau en cours, écrites dès qu'elle est évaluée
+    private final List<CssNode> nodes = new ArrayList<>();
+    // Liste dans laquelle les nouvelles règles sont ajoutées (premier niveau, règle @media ou corps d'un mixin)
+    private List<CssNode> target = nodes;
+    // Règle qui reçoit les déclarations (null en dehors de toute règle)
+    private CssRule currentRule;
+    // Préfixe des propriétés imbriquées en cours ("font-" dans "font: { family: Arial; }")
+    private String propertyPrefix = "";
+    // Bloc passé au mixin en cours d'évaluation, écrit par @content (null en dehors d'un mixin inclus avec un bloc)
+    private Content content;
+    // Chargement des modules importés (@import, @use, @forward)
+    private ModuleLoader moduleLoader = new ModuleLoader();
+    // Faux pour un générateur dont les inclusions de mixins ne doivent pas compter dans mixinStatistics()
+    private boolean countMixins = true;
+    // Imports CSS conservés, écrits en tête du fichier
+    private final List<CssImport> cssImports = new ArrayList<>();
+    // Modules chargés avec @use ou @forward, et modules dont le CSS a déjà été écrit
+    private final List<Module> uses = new ArrayList<>();
+    private final Set<Path> emitted = new HashSet<>();
+    // Modules chargés par chaque import de la feuille de style en cours
+    private final HashMap<ScssParser.ImportDeclarationContext, Module> importedModules = new HashMap<>();
+    // Fichiers des modules importés par la feuille de style, directement ou non
+    private final Set<Path> dependencies = new LinkedHashSet<>();
+    // Vrai pendant l'évaluation d'un module importé : le CSS des modules qu'il utilise est écrit par le fichier principal
+    private boolean evaluatingModule;
 
     /**
      * Méthode qui vérifie si une opération est valide :
      * - On ne peut pas faire d'opération entre des booléens et des valeurs arithmétiques
-     * - On ne peut additionner, soustraire, multiplier, diviser et comparer la grandeur des valeurs booléennes
+     * - On ne peut additionner, soustraire, multiplier, diviser et comparer la grandeur que des nombres
      * - On ne peut pas utiliser de connecteurs logiques sur des valeurs arithmétiques
      *
      * @param val1     première valeur de l'opération
      * @param val2     deuxième valeur de l'opération
      * @param operator opérateur de l'opération
      */
-    private static void checkOperation(String val1, String val2, String operator) {
+    private static void checkOperation(SassValue val1, SassValue val2, String operator) {
 
-        if ((isBoolean(val1) && !isBoolean(val2)) || (!isBoolean(val1) && isBoolean(val2)))
+        if ((val1 instanceof SassBoolean) != (val2 instanceof SassBoolean))
             throw new RuntimeException("Des valeurs booléennes et des valeurs arithmétiques ne peuvent pas être mélangées");
 
         switch (operator) {
-            case "+", "-", "*", "/", "<", ">", "=<", ">=" -> {
-                if (isBoolean(val1))
-                    throw new RuntimeException("L'opérateur " + operator + " ne peut pas être utiliser avec des booléens");
+            case "+", "-", "*", "/", "<", ">", "<=", ">=" -> {
+                if (!(val1 instanceof SassNumber) || !(val2 instanceof SassNumber))
+                    throw new RuntimeException("L'opérateur " + operator + " ne peut pas être utilisé avec " + val1.getType() + " et " + val2.getType());
             }
-            case "and", "or", "not" -> {
-                if (!isBoolean(val1))
+            case "and", "or" -> {
+                if (!(val1 instanceof SassBoolean))
                     throw new RuntimeException("L'opérateur " + operator + " ne peut pas être utiliser avec des valeurs arithmétiques");
             }
         }
     }
 
-    /**
-     * Méthode permettant de calculer une expression arithmétique.
-     *
-     * @param expressionValues Valeurs de l'expression
-     * @param operators        opérateurs
-     * @return String du résultat
-     */
-    private static String calculateExpression(List<String> expressionValues, List<String> operators) {
-        String unite = getUnit(expressionValues, operators); // Avoir l'unité de l'opération
-
-        String res = convertValue(calculateWholeExpression(expressionValues, operators));
-        if (isBoolean(res)) return res;
-        switch (unite) {
-            case PIXEL -> {
-                return res + "px";
-            }
-            case HEX -> {
-                return "#" + Integer.toHexString(Integer.parseInt(res));
-            }
-            case POURCENTAGE -> {
-                return res + "%";
-            }
-            default -> {
-                return res;
-            }
-        }
-    }
-
     /**
      * Méthode faisant une seule opération.
      *
@@ -97,201 +94,234 @@ public class ScssToCssGenerator extends ScssParserBaseVisitor<String> {
      * @param operator Opérateur de l'opération
      * @return Résultat de l'opération.
      */
-    private static String calculateExpressionPart(String val1, String val2, String operator) {
+    private static SassValue calculateExpressionPart(SassValue val1, SassValue val2, String operator) {
         checkOperation(val1, val2, operator);
-        val1 = convertValue(val1);
-        val2 = convertValue(val2);
 
         switch (operator) {
             case "*" -> {
-                return (Float.parseFloat(val1) * Float.parseFloat(val2)) + "";
+                return ((SassNumber) val1).times((SassNumber) val2);
             }
             case "/" -> {
-                return (Float.parseFloat(val1) / Float.parseFloat(val2)) + "";
+                return ((SassNumber) val1).dividedBy((SassNumber) val2);
             }
             case "+" -> {
-                return (Float.parseFloat(val1) + Float.parseFloat(val2)) + "";
+                return ((SassNumber) val1).plus((SassNumber) val2);
             }
             case "-" -> {
-                return (Float.parseFloat(val1) - Float.parseFloat(val2)) + "";
-            }
-            case "not" -> {
-                return val1.equals("true") ? "false" : "true";
+                return ((SassNumber) val1).minus((SassNumber) val2);
             }
             case "and" -> {
-                return val1.equals("true") && val2.equals("true") ? "true" : "false";
+                return SassBoolean.of(((SassBoolean) val1).getValue() && ((SassBoolean) val2).getValue());
             }
             case "or" -> {
-                return val1.equals("true") || val2.equals("true") ? "true" : "false";
+                return SassBoolean.of(((SassBoolean) val1).getValue() || ((SassBoolean) val2).getValue());
             }
             case "==" -> {
-                return val1.equals(val2) + "";
+                return SassBoolean.of(val1.sassEquals(val2));
             }
-            case "=<" -> {
-                return (Float.parseFloat(val1) <= Float.parseFloat(val2)) + "";
+            case "!=" -> {
+                return SassBoolean.of(!val1.sassEquals(val2));
             }
-            case "=>" -> {
-                return (Float.parseFloat(val1) >= Float.parseFloat(val2)) + "";
+            case "<=" -> {
+                return SassBoolean.of(((SassNumber) val1).compare((SassNumber) val2, operator) <= 0);
+            }
+            case ">=" -> {
+                return SassBoolean.of(((SassNumber) val1).compare((SassNumber) val2, operator) >= 0);
             }
             case "<" -> {
-                return (Float.parseFloat(val1) < Float.parseFloat(val2)) + "";
+                return SassBoolean.of(((SassNumber) val1).compare((SassNumber) val2, operator) < 0);
             }
             case ">" -> {
-                return (Float.parseFloat(val1) > Float.parseFloat(val2)) + "";
+                return SassBoolean.of(((SassNumber) val1).compare((SassNumber) val2, operator) > 0);
             }
             default -> throw new RuntimeException("L'opérateur " + operator + " n'est pas permis");
         }
     }
 
     /**
-     * Permet de calculer les valeurs avec les opérateurs
+     * Méthode renvoyant la priorité d'un opérateur (plus elle est grande, plus l'opérateur est prioritaire).
+     *
+     * @param operator opérateur
+     * @return priorité de l'opérateur
+     */
+    private static int precedence(String operator) {
+        return switch (operator) {
+            case "or" -> 1;
+            case "and" -> 2;
+            case "==", "!=" -> 3;
+            case "<", ">", "<=", ">=" -> 4;
+            case "+", "-" -> 5;
+            case "*", "/" -> 6;
+            default -> throw new RuntimeException("L'opérateur " + operator + " n'est pas autorisé en Sass.");
+        };
+    }
+
+    /**
+     * Permet de calculer les valeurs avec les opérateurs.
+     * Le calcul se fait par montée de priorité (precedence climbing) : chaque valeur et chaque opérateur n'est lu qu'une fois,
+     * les opérateurs de même priorité sont associatifs à gauche.
      *
      * @param values    valeurs
-     * @param operators opérateurs
+     * @param operators opérateurs (operators[i] est entre values[i] et values[i + 1])
      * @return résultat
      */
-    private static String calculateWholeExpression(List<String> values, List<String> operators) {
-        if (values == null || values.isEmpty() || operators == null || !(operators.size() == values.size() - 1 || operators.size() == values.size())) {
+    private static SassValue calculateWholeExpression(List<SassValue> values, List<String> operators) {
+        if (values == null || values.isEmpty() || operators == null || operators.size() != values.size() - 1) {
             throw new IllegalArgumentException("Les listes de valeurs et d'opérateurs sont invalides.");
         }
 
-        while (operators.contains("(")) {
-            int insideParenthesis = 0;
-            int closingIndex = -1;
-            int i = 0;
-            while (closingIndex == -1 && i < operators.size()) {
-                if (operators.get(i).equals("(")) insideParenthesis++;
-                if (operators.get(i).equals(")")) {
-                    if (insideParenthesis == 0) closingIndex = i;
-                    else insideParenthesis--;
-                }
-                i++;
-            }
-
-            // S'il n'y a pas de parenthèses fermantes, l'opération est mauvaise
-            if (closingIndex == -1) throw new RuntimeException("Parenthèses incorrectes");
-
-            // Indice de la première parenthèse ouvrante
-            int openingIndex = operators.indexOf("(");
-
-            // Valeurs utilisées pour l'appel récursif
-            List<String> recursiveValues = values.subList(openingIndex, closingIndex);
-            List<String> recursiveOperators = operators.subList(openingIndex + 1, closingIndex);
-
-            // Nouvelles valeurs
-            List<String> newValues = values.subList(0, openingIndex);
-            List<String> newOperators = operators.subList(0, openingIndex);
+        int[] position = {0};
+        return calculateWholeExpression(values, operators, position, 0);
+    }
 
-            // On remplace l'expression entre parenthèses par son résultat calculé par un appel récursif
-            newValues.add(convertValue(calculateWholeExpression(recursiveValues, recursiveOperators)));
+    /**
+     * Méthode calculant la sous-expression qui commence à la valeur d'indice position[0]
+     * et ne contient que des opérateurs de priorité supérieure ou égale à minPrecedence.
+     *
+     * @param values        valeurs
+     * @param operators     opérateurs
+     * @param position      indice de la prochaine valeur, avancé au fur et à mesure de la lecture
+     * @param minPrecedence priorité minimale des opérateurs lus
+     * @return résultat de la sous-expression
+     */
+    private static SassValue calculateWholeExpression(List<SassValue> values, List<String> operators, int[] position, int minPrecedence) {
+        SassValue res = values.get(position[0]);
 
-            newValues.addAll(values.subList(closingIndex + 1, values.size()));
-            newOperators.addAll(operators.subList(closingIndex + 1, operators.size()));
+        while (position[0] < operators.size()) {
+            String operator = operators.get(position[0]);
+            int precedence = precedence(operator);
+            if (precedence < minPrecedence) break;
 
-            values = newValues;
-            operators = newOperators;
+            position[0]++;
+            SassValue right = calculateWholeExpression(values, operators, position, precedence + 1);
+            res = calculateExpressionPart(res, right, operator);
         }
 
-        for (String o : new String[]{"*", "/", "+", "-", "and", "or", "==", "<=", ">=", "<", ">"}) {
-            while (operators.contains(o)) {
-                int i = operators.indexOf(o);
-                operators.remove(i);
-                String val1 = values.get(i).replace("%", "");
-                String val2 = values.get(i + 1).replace("%", "");
-                String res = calculateExpressionPart(val1, val2, o);
-                values.remove(i);
-                values.remove(i);
-                values.add(i, res);
+        return res;
+    }
+
+    /**
+     * Méthode évaluant une expression (ou une opération) en valeur typée.
+     * Les parenthèses sont des expressionPart contenant une expression : elles sont évaluées récursivement.
+     *
+     * @param ctx expression ou opération
+     * @return valeur de l'expression
+     */
+    private SassValue evaluateExpression(ParserRuleContext ctx) {
+        List<SassValue> values = new ArrayList<>();
+        List<String> operators = new ArrayList<>();
+        boolean negate = false;
+
+        for (ParseTree child : ctx.children) {
+            if (child instanceof ScssParser.ExpressionPartContext part) {
+                SassValue value = evaluateExpressionPart(part);
+                if (negate) {
+                    if (!(value instanceof SassBoolean))
+                        throw new RuntimeException("L'opérateur not ne peut pas être utiliser avec des valeurs arithmétiques");
+                    value = ((SassBoolean) value).not();
+                }
+                values.add(value);
+                negate = false;
+            } else if (child instanceof ScssParser.Operator_Context operator) {
+                operators.add(operator.getText());
+            } else if (child instanceof TerminalNode terminal && terminal.getSymbol().getType() == ScssParser.Not) {
+                negate = !negate;
             }
         }
 
-        if (!operators.isEmpty())
-            throw new RuntimeException("Les opérateurs " + operators + " ne sont pas autorisés en Sass.");
-
-        return values.get(0); // La dernière valeur contient le résultat
+        return calculateWholeExpression(values, operators);
     }
 
-
     /**
-     * Méthode qui permet de déterminer l'unité de l'opération à partir de la liste d'expressions.
+     * Méthode évaluant un élément d'expression en valeur typée.
+     * Les littéraux sont construits directement à partir des tokens, les variables gardent leur valeur typée.
      *
-     * @param expressionParts Liste des éléments de l'expression.
-     * @return L'unité détectée :
-     * - ENTIER
-     * - REEL
-     * - PIXEL
-     * - HEX
-     * - POURCENTAGE
+     * @param ctx élément de l'expression
+     * @return valeur de l'élément
      */
-    private static String getUnit(List<String> expressionParts, List<String> operators) {
-        if (expressionParts == null || expressionParts.isEmpty()) {
-            throw new IllegalArgumentException("La liste d'expressionParts ne peut pas être vide.");
+    private SassValue evaluateExpressionPart(ScssParser.ExpressionPartContext ctx) {
+        if (ctx.variableName() != null) {
+            String name = variableKey(ctx.variableName());
+            Variable variable = environment.get(name);
+            if (variable == null) throw new RuntimeException("La variable " + name + " n'est pas définie");
+            return variable.getSassValue();
         }
-
-        String detectedUnit = null;
-
-        for (String o : operators) {
-            switch (o) {
-                case "and", "not", "or", "==", "<", "<=", ">", ">=" -> detectedUnit = BOOLEAN;
-            }
+        if (ctx.expression() != null) return evaluateParenthesized(ctx.plusMinus(), ctx.expression());
+        if (ctx.calc() != null) return evaluateExpression(ctx.calc().expression());
+        if (ctx.unit() != null) return toSassNumber((ParserRuleContext) ctx.unit().getChild(0));
+        if (ctx.number() != null) return toSassNumber(ctx.number());
+        if (ctx.boolean_() != null) return SassBoolean.of(ctx.boolean_().True() != null);
+        if (ctx.hexcolor() != null) return new SassColor(ctx.hexcolor().getText());
+        if (ctx.identifier() != null) return new SassString(ctx.getText());
+        if (ctx.functionCall() != null) {
+            String res = visit(ctx.functionCall());
+            return SassValue.parse(res != null ? res : ctx.getText());
         }
+        return SassValue.parse(ctx.getText());
+    }
 
-        for (String part : expressionParts) {
-            String lowerPart = part.toLowerCase();
-
-            if (lowerPart.equals("true") || lowerPart.equals("false")) detectedUnit = BOOLEAN;
-
-            if (lowerPart.matches("-?\\d+px") || lowerPart.matches("-?\\d+\\.\\d+px")) {
-                detectedUnit = PIXEL; // Si l'unité est "px", elle devient l'unité dominante.
-            } else if (lowerPart.matches("#[0-9a-fA-F]{3,6}")) {
-                detectedUnit = HEX; // Si l'unité est une couleur hexadécimale, elle est prioritaire.
-            } else if (lowerPart.matches("-?\\d+%") || lowerPart.matches("-?\\d+\\.\\d+%")) {
-                detectedUnit = POURCENTAGE; // Si l'unité est "%", elle est prioritaire.
-            } else if (lowerPart.matches("-?\\d+\\.\\d+")) {
-                if (detectedUnit == null || detectedUnit.equals(ENTIER)) {
-                    detectedUnit = REEL; // Si aucune autre unité n'a été détectée, on définit "réel".
-                }
-            } else if (lowerPart.matches("-?\\d+")) {
-                if (detectedUnit == null) {
-                    detectedUnit = ENTIER; // Si aucune autre unité n'a été détectée, on définit "entier".
-                }
-            }
+    /**
+     * Méthode évaluant une expression entre parenthèses, précédée d'un signe éventuel.
+     *
+     * @param sign       signe (null s'il n'y en a pas)
+     * @param expression expression entre les parenthèses
+     * @return valeur de l'expression
+     */
+    private SassValue evaluateParenthesized(ScssParser.PlusMinusContext sign, ScssParser.ExpressionContext expression) {
+        SassValue value = evaluateExpression(expression);
+        if (sign != null && sign.Minus() != null) {
+            if (!(value instanceof SassNumber))
+                throw new RuntimeException("L'opérateur - ne peut pas être utilisé avec " + value.getType());
+            return ((SassNumber) value).negate();
         }
+        return value;
+    }
 
-        if (detectedUnit == null) {
-            throw new RuntimeException("Aucune unité valide trouvée dans l'expression.");
-        }
+    /**
+     * Méthode renvoyant la valeur d'une liste qui ne contient qu'une seule valeur.
+     * La grammaire ne distingue pas une valeur seule d'une liste (pour que l'analyse n'ait pas à choisir entre les deux) :
+     * une valeur seule est une liste d'un seul élément, qui doit être traitée comme la valeur elle-même.
+     *
+     * @param list liste
+     * @return la valeur si la liste n'en contient qu'une (sans virgule), null sinon
+     */
+    private static ScssParser.ValueContext singleValue(ScssParser.ListCommaSeparatedContext list) {
+        if (list.listElement().size() != 1 || !list.Comma().isEmpty()) return null;
+        List<ScssParser.ValueContext> values = list.listElement(0).value();
+        return values.size() == 1 ? values.get(0) : null;
+    }
 
-        return detectedUnit;
+    private static ScssParser.ValueContext singleValue(ScssParser.ListDeclarationContext list) {
+        return list.listCommaSeparated() != null ? singleValue(list.listCommaSeparated()) : null;
     }
 
+    private static ScssParser.ValueContext singleValue(ScssParser.ListSpaceSeparatedContext list) {
+        return list.value().size() == 1 ? list.value(0) : null;
+    }
 
     /**
-     * Méthode qui permet de convertir des valeurs SASS en valeurs pures (sans px, % etc...)
+     * Méthode construisant un nombre à partir des tokens d'un littéral (signe, nombre puis unité éventuelle).
      *
-     * @param value valeur SASS
-     * @return String d'une valeur Java valide
+     * @param ctx littéral (number, length, dimension, percentage ou degree)
+     * @return nombre typé
      */
-    private static String convertValue(String value) {
-        // Conversion en fonction du type demandé
-        if (value.matches("-?\\d+\\.\\d+px")) {
-            return Float.parseFloat(value.replace("px", "")) + "";
-        } else if (value.matches("-?\\d+px")) {
-            return Integer.parseInt(value.replace("px", "")) + "";
-        } else if (value.matches("-?\\d+")) {
-            return Integer.parseInt(value) + "";
-        } else if (value.matches("-?\\d+\\.\\d+")) {
-            return Float.parseFloat(value) + "";
-        } else if (value.matches("-?\\d+%")) {
-            return Integer.parseInt(value.replace("%", "")) + "";
-        } else {
-            return value;
+    private static SassNumber toSassNumber(ParserRuleContext ctx) {
+        boolean negative = false;
+        double value = 0;
+        String unit = "";
+        for (ParseTree child : ctx.children) {
+            if (child instanceof ScssParser.PlusMinusContext sign) negative = sign.Minus() != null;
+            else if (child instanceof TerminalNode terminal) {
+                if (terminal.getSymbol().getType() == ScssParser.Number) value = Double.parseDouble(terminal.getText());
+                else unit = terminal.getText();
+            }
         }
+        return new SassNumber(negative ? -value : value, unit);
     }
 
 
     /**
-     * Méthode permettant d'ajouter au code final l'initialisation de variables CSS
+     * Méthode permettant de créer la règle :root qui initialise les variables CSS, écrite au début du code final.
      * SCSS peut créer des variables n'importe où dans le code avec ${nom}
      * <p>
      * En CSS, il faut initialiser les variables dans une clause root, préférablement en début de fichier :
@@ -300,106 +330,310 @@ public class ScssToCssGenerator extends ScssParserBaseVisitor<String> {
      * --variable1: 20px;
      * --variable2: #3498DB;
      * }
+     * <p>
+     * Pour pouvoir écrire le root avant le reste du code, les déclarations de variables globales
+     * sont évaluées une première fois avant la génération.
      *
-     * @param cssCode StringBuilder correspondant au code CSS final sans le root
-     * @return le code CSS final avec le root et converti en String
+     * @param ctx feuille de style
+     * @return règle :root (vide s'il n'y a aucune variable globale)
      */
-    public String appendRootVariables(StringBuilder cssCode) {
-        if (variableMap.isEmpty()) return cssCode.toString(); // Aucune variable
+    private CssRule rootVariables(ScssParser.StylesheetContext ctx) {
+        for (ScssParser.StatementContext statement : ctx.statement()) {
+            if (statement.variableDeclaration() != null) visit(statement.variableDeclaration());
+            else if (statement.importDeclaration() != null) importModule(statement.importDeclaration());
+        }
 
-        String variables = variableMap.entrySet().stream()
-                .filter(entry -> !entry.getValue().isTemporary() && entry.getValue().getType().equals("var"))
-                .map(entry -> "--" + entry.getKey() + ": " + entry.getValue().getValue() + ";")
-                .reduce((entry1, entry2) -> entry1 + "\n        " + entry2)
-                .orElse("");
+        // Une variable d'un module chargé avec @use ("v.primary") est déclarée sous son nom (--primary)
+        LinkedHashMap<String, String> declarations = new LinkedHashMap<>();
+        for (Map.Entry<String, Variable> entry : globals.getVariables().entrySet()) {
+            if (!entry.getValue().isTemporary() && entry.getValue().getType().equals("var"))
+                declarations.put(entry.getKey().substring(entry.getKey().lastIndexOf('.') + 1), entry.getValue().getValue());
+        }
+
+        CssRule root = new CssRule(List.of(":root"));
+        for (Map.Entry<String, String> declaration : declarations.entrySet())
+            root.addDeclaration("--" + declaration.getKey(), declaration.getValue());
 
-        if(variables.isEmpty()) return cssCode.toString();
+        globals.clear();
 
-        return ":root{\n\t" +
-                variables
-                + "\n}\n\n" + cssCode.toString();
+        return root;
     }
 
+    /**
+     * Méthode remettant le générateur dans son état initial avant une nouvelle feuille de style.
+     * Les tables sont vidées plutôt que recréées : un même générateur peut compiler
+     * de nombreuses feuilles de style à la suite sans réallouer ses structures.
+     */
+    public void reset() {
+        globals.clear();
+        environment = globals;
+        globalAssignments = 0;
+        mixinMap.clear();
+        nodes.clear();
+        target = nodes;
+        currentRule = null;
+        propertyPrefix = "";
+        clearRenderedMixins();
+        content = null;
+        cssImports.clear();
+        uses.clear();
+        emitted.clear();
+        importedModules.clear();
+        dependencies.clear();
+        evaluatingModule = false;
+    }
 
     /**
-     * Méthode qui teste si l'on peut écrire le code CSS en attente
-     * Si elle peut, elle l'écrit
-     * <p>
-     * La méthode peut écrire le code si et seulement si le nesting est à 0,
-     * C'est-à-dire en dehors de toute déclaration. (pile vide)
-     *
-     * @return Une chaîne de code CSS si elle peut les écrire, une chaîne vide sinon
+     * Méthode choisissant le chargeur des modules importés. Un même chargeur peut être partagé par plusieurs
+     * générateurs, pour que chaque module ne soit évalué qu'une fois.
+     * @param moduleLoader chargeur de modules
      */
-    public String writePendingCss() {
-        // Si nesting n'est pas égal à 0 la condition n'est pas bonne
-        if (pendingCss.isEmpty() || !declarationStack.empty()) return "";
+    public void setModuleLoader(ModuleLoader moduleLoader) {
+        this.moduleLoader = moduleLoader;
+    }
 
-        String code = pendingCss.stream().reduce("", (acc, loop) -> acc + "\n" + loop);
+    /**
+     * Méthode indiquant si les inclusions de mixins de ce générateur comptent dans le bilan mixinStatistics()
+     * (faux pour le préchauffage des DFA, qui n'est pas une compilation).
+     * @param countMixins vrai pour compter les inclusions
+     */
+    void setCountMixins(boolean countMixins) {
+        this.countMixins = countMixins;
+    }
 
-        pendingCss.clear();
+    /**
+     * Méthode évaluant une feuille de style en modèle objet du CSS, sans la mettre en forme.
+     * Les passes qui travaillent sur le CSS (écriture, optimisation...) partent de ce modèle.
+     *
+     * @param ctx feuille de style
+     * @return feuille de style CSS évaluée
+     */
+    public CssStylesheet evaluate(ScssParser.StylesheetContext ctx) {
+        CssStylesheet stylesheet = new CssStylesheet();
+        evaluate(ctx, stylesheet::add);
+        return stylesheet;
+    }
 
-        return code;
+    /**
+     * Méthode générant le code CSS d'une feuille de style directement dans une sortie.
+     * Le code est écrit instruction de premier niveau par instruction : une règle de premier niveau est gardée en mémoire
+     * avec toutes ses règles imbriquées jusqu'à la fin de son bloc, puis écrite. Une règle parente est écrite avant
+     * ses règles imbriquées, mais ses déclarations peuvent suivre un bloc imbriqué : elle n'est complète qu'à la fin
+     * de son bloc, et une règle imbriquée ne peut pas être écrite plus tôt.
+     *
+     * @param ctx feuille de style
+     * @param out sortie
+     */
+    public void generate(ScssParser.StylesheetContext ctx, CssWriter out) {
+        generate(ctx, out, OutputStyle.EXPANDED);
     }
 
-    @Override
-    public String visitStylesheet(ScssParser.StylesheetContext ctx) {
+    /**
+     * Méthode générant le code CSS d'une feuille de style directement dans une sortie, dans un style d'écriture donné.
+     *
+     * @param ctx   feuille de style
+     * @param out   sortie
+     * @param style style d'écriture (EXPANDED ou COMPRESSED)
+     */
+    public void generate(ScssParser.StylesheetContext ctx, CssWriter out, OutputStyle style) {
+        evaluate(ctx, new CssPrinter(out, style)::print);
+        out.finish();
+    }
 
-        variableMap = new HashMap<>();
+    /**
+     * Méthode évaluant une feuille de style et transmettant les règles produites par chaque instruction de premier niveau
+     * (la règle et ses règles imbriquées, désemboîtées) dès que cette instruction est entièrement évaluée.
+     *
+     * @param ctx   feuille de style
+     * @param rules destination des règles de premier niveau, dans l'ordre
+     */
+    private void evaluate(ScssParser.StylesheetContext ctx, Consumer<CssNode> rules) {
+        reset();
 
-        mixinMap = new HashMap<>();
+        CssRule root = rootVariables(ctx);
+        for (CssImport cssImport : cssImports) rules.accept(cssImport);
+        rules.accept(root);
 
-        pendingCss = new ArrayList<>();
+        for (ScssParser.StatementContext statement : ctx.statement()) {
+            visit(statement);
+            for (CssNode node : nodes) rules.accept(node);
+            nodes.clear();
+        }
+    }
 
-        declarationStack = new Stack<>();
+    /**
+     * Méthode renvoyant les fichiers des modules importés par la dernière feuille de style évaluée,
+     * directement ou par l'intermédiaire d'autres modules.
+     * @return chemins absolus des modules
+     */
+    public Set<Path> getDependencies() {
+        return dependencies;
+    }
 
-        StringBuilder cssCode = new StringBuilder(); // Objet StringBuilder qui va contenir le code CSS
+    /**
+     * Méthode évaluant un module importé : ses membres (variables globales, mixins) et son CSS.
+     *
+     * @param path chemin du fichier du module
+     * @param ctx  feuille de style du module
+     * @return module évalué
+     */
+    public Module evaluateModule(Path path, ScssParser.StylesheetContext ctx) {
+        return evaluateModule(path, ctx, Map.of());
+    }
 
-        writingMixin = false;
-        inScope = false;
+    /**
+     * Méthode évaluant un module importé avec une configuration (@use ... with ($nom: valeur)) : les variables
+     * configurées sont déclarées avant l'évaluation, les déclarations !default du module les gardent donc.
+     *
+     * @param path          chemin du fichier du module
+     * @param ctx           feuille de style du module
+     * @param configuration valeurs des variables configurées (sans $)
+     * @return module évalué
+     * @throws RuntimeException si une variable configurée n'est pas déclarée avec !default au premier niveau du module
+     */
+    public Module evaluateModule(Path path, ScssParser.StylesheetContext ctx, Map<String, String> configuration) {
+        reset();
+        evaluatingModule = true;
+        try {
+            for (Map.Entry<String, String> entry : configuration.entrySet())
+                globals.declare(entry.getKey(), new SimpleVariable(entry.getKey(), entry.getValue(), false));
+            for (ScssParser.StatementContext statement : ctx.statement()) visit(statement);
+            for (String name : configuration.keySet()) {
+                if (!declaresDefault(ctx, name))
+                    throw new RuntimeException("La variable " + name + " n'est pas déclarée avec !default dans le module " + path.getFileName());
+            }
+            return Module.of(path, ctx, globals.getVariables(), mixinMap, nodes, cssImports, uses, dependencies);
+        } finally {
+            evaluatingModule = false;
+        }
+    }
 
+    /**
+     * Méthode indiquant si une feuille de style déclare une variable avec !default au premier niveau,
+     * seule forme de variable qu'une configuration (@use ... with) peut modifier.
+     */
+    private static boolean declaresDefault(ScssParser.StylesheetContext ctx, String name) {
         for (ScssParser.StatementContext statement : ctx.statement()) {
-
-            String statementStr = visit(statement);
-            // S'il n'y a rien, saut de ligne
-            cssCode.append(Objects.requireNonNullElse(statementStr, "\n")); // IntelliJ
-
-            // Écrire les boucles en attente
-            cssCode.append(writePendingCss());
+            ScssParser.VariableDeclarationContext declaration = statement.variableDeclaration();
+            if (declaration == null || !variableKey(declaration.variableName()).equals(name)) continue;
+            for (ScssParser.PrioContext prio : declaration.prio()) {
+                if (prio.Default() != null) return true;
+            }
         }
-        if (variableMap.isEmpty()) return cssCode.toString();
-        return appendRootVariables(cssCode).trim();
+        return false;
     }
 
     @Override
-    public String visitSelector(ScssParser.SelectorContext ctx) {
-        return ctx.getText();
+    public String visitStylesheet(ScssParser.StylesheetContext ctx) {
+        // Appel direct de visit() : le code est écrit dans une chaîne renvoyée à la fin
+        StringBuilder cssCode = new StringBuilder();
+        generate(ctx, new CssWriter(cssCode));
+        return cssCode.toString();
+    }
+
+    /**
+     * Méthode évaluant les sélecteurs d'une règle : les interpolations sont remplacées par leur valeur.
+     *
+     * @param ctx groupe de sélecteurs
+     * @return sélecteurs évalués
+     */
+    private List<String> evaluateSelectors(ScssParser.SelectorGroupContext ctx) {
+        List<String> selectors = new ArrayList<>(ctx.selector().size());
+        for (ScssParser.SelectorContext selector : ctx.selector()) selectors.add(selectorText(selector));
+        return selectors;
+    }
+
+    /**
+     * Méthode renvoyant le texte d'une partie de sélecteur, dont les interpolations sont évaluées.
+     *
+     * @param tree partie du sélecteur
+     * @return texte évalué
+     */
+    private String selectorText(ParseTree tree) {
+        if (tree instanceof ScssParser.InterpolationContext interpolation) return visit(interpolation);
+        if (tree instanceof TerminalNode) return tree.getText();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < tree.getChildCount(); i++) text.append(selectorText(tree.getChild(i)));
+        return text.toString();
     }
 
     @Override
-    public String visitSelectorGroup(ScssParser.SelectorGroupContext ctx) {
-        StringBuilder group = new StringBuilder();
-        for (ScssParser.SelectorContext selector : ctx.selector()) {
-            group.append(visit(selector)).append(", ");
-        }
-        declarationStack.push(group.substring(0, group.length() - 2)); // Dans une déclaration
-        return group.substring(0, group.length() - 2) + "{";
+    public String visitInterpolation(ScssParser.InterpolationContext ctx) {
+        String value;
+        if (ctx.value() != null) value = visit(ctx.value());
+        else if (ctx.parentRef() != null) value = "&";
+        else value = ctx.ifExpression().getText();
+        return ctx.measurment() != null ? value + ctx.measurment().getText() : value;
     }
 
     @Override
     public String visitPropertyDeclaration(ScssParser.PropertyDeclarationContext ctx) {
-        String res = visit(ctx.propertyValue());
+        declareProperty(ctx, ctx.identifier().getText(), ctx.propertyValue());
+        return "";
+    }
+
+    @Override
+    public String visitInterpolationDeclaration(ScssParser.InterpolationDeclarationContext ctx) {
+        declareProperty(ctx, visit(ctx.interpolation()), ctx.propertyValue());
+        return "";
+    }
+
+    /**
+     * Méthode ajoutant une propriété à la règle en cours. Une propriété suivie d'un bloc déclare des propriétés
+     * imbriquées, préfixées par son nom : "font: bold { family: Arial; }" donne "font: bold" et "font-family: Arial".
+     *
+     * @param ctx      déclaration SCSS
+     * @param property nom de la propriété
+     * @param value    valeur de la propriété
+     */
+    private void declareProperty(ParserRuleContext ctx, String property, ScssParser.PropertyValueContext value) {
+        if (value.block() == null) {
+            addDeclaration(ctx, property, visit(value));
+            return;
+        }
 
-        // Il faut visiter la valeur pour savoir s'il s'agit de valeur littérale ou de variable
-        // Si l'évaluation renvoie null, c'est une valeur littérale. Sinon, c'est une variable
-        // Il faut renvoyer le résultat de la visite si c'est une variable, sinon il faut renvoyer le texte (égal à une valeur littérale)
+        if (value.value() != null) addDeclaration(ctx, property, visit(value.value()));
+
+        String outerPrefix = propertyPrefix;
+        propertyPrefix = outerPrefix + property + "-";
+        try {
+            visit(value.block());
+        } finally {
+            propertyPrefix = outerPrefix;
+        }
+    }
+
+    /**
+     * Méthode renvoyant le fichier SCSS d'où provient une partie de l'arbre (nom donné au flux de caractères analysé).
+     *
+     * @param ctx partie de l'arbre
+     * @return nom du fichier
+     */
+    private static String sourceName(ParserRuleContext ctx) {
+        return ctx.getStart().getInputStream().getSourceName();
+    }
 
-        return "\n\t" + ctx.identifier().getText() + ": " + (res != null ? res : visit(ctx.propertyValue())) + ";";
+    /**
+     * Méthode ajoutant une déclaration à la règle en cours.
+     *
+     * @param ctx      déclaration SCSS (sa position est gardée pour la source map)
+     * @param property nom de la propriété
+     * @param value    valeur évaluée
+     */
+    private void addDeclaration(ParserRuleContext ctx, String property, String value) {
+        property = propertyPrefix + property;
+        if (currentRule == null) throw new RuntimeException("La propriété " + property + " doit être déclarée dans une règle");
+        currentRule.addDeclaration(new CssDeclaration(property, value.trim(), sourceName(ctx), ctx.getStart().getLine(), ctx.getStart().getCharPositionInLine()));
     }
 
     @Override
     public String visitPropertyValue(ScssParser.PropertyValueContext ctx) {
-        if (ctx.listSpaceSeparated() != null) return visit(ctx.listSpaceSeparated());
-        if (ctx.listCommaSeparated() != null) return visit(ctx.listCommaSeparated());
+        if (ctx.listCommaSeparated() != null) {
+            ScssParser.ValueContext value = singleValue(ctx.listCommaSeparated());
+            return value != null ? visit(value) : visit(ctx.listCommaSeparated());
+        }
+        // Propriétés imbriquées ("font: { family: Arial; }") : traitées par declareProperty, pas comme une valeur
+        if (ctx.value() == null) throw new RuntimeException("Un bloc de propriétés imbriquées ne peut pas être utilisé comme valeur");
         return visit(ctx.value());
     }
 
@@ -410,7 +644,7 @@ public class ScssToCssGenerator extends ScssParserBaseVisitor<String> {
 
     @Override
     public String visitListSpaceSeparated(ScssParser.ListSpaceSeparatedContext ctx) {
-        return concatenateListElements(ctx.listElement());
+        return concatenateValues(ctx.value());
     }
 
     /**
@@ -425,51 +659,112 @@ public class ScssToCssGenerator extends ScssParserBaseVisitor<String> {
         return res.substring(0, res.length() - 2);
     }
 
-    @Override
-    public String visitListElement(ScssParser.ListElementContext ctx) {
+    /**
+     * Méthode permettant de concaténer les valeurs d'une liste séparée par des espaces. Chaque valeur est suivie d'un espace.
+     *
+     * @param values valeurs
+     * @return String des valeurs concaténées.
+     */
+    private String concatenateValues(List<ScssParser.ValueContext> values) {
         StringBuilder res = new StringBuilder();
-        for (ScssParser.ValueContext value : ctx.value()) {
+        for (ScssParser.ValueContext value : values) {
             res.append(visit(value)).append(" ");
         }
         return res.toString();
     }
 
+    @Override
+    public String visitListElement(ScssParser.ListElementContext ctx) {
+        return concatenateValues(ctx.value());
+    }
+
     @Override
     public String visitRuleset(ScssParser.RulesetContext ctx) {
+        List<String> selectors = evaluateSelectors(ctx.selectorGroup());
 
-        String res = visit(ctx.selectorGroup()).trim() +
-                visit(ctx.block()) +
-                "\n}\n";
+        // Règle imbriquée : ses sélecteurs sont résolus par rapport à ceux du parent, et elle est écrite après lui
+        CssRule parent = currentRule;
+        CssRule rule = new CssRule(parent != null ? CssRule.nest(parent.getSelectors(), selectors) : selectors,
+                sourceName(ctx), ctx.getStart().getLine(), ctx.getStart().getCharPositionInLine());
+        target.add(rule);
 
-        declarationStack.pop(); // On sort d'une déclaration
+        currentRule = rule;
+        visit(ctx.block());
+        currentRule = parent;
 
-        // Si la déclaration est imbriquée
-        if (!declarationStack.empty()) {
-            res = "\n" + (declarationStack.stream()
-                    .reduce("", (accumulated, current) -> accumulated + " " + current) + " " + res).trim();
-            if (!(ctx.parent.parent.parent instanceof ScssParser.ForDeclarationContext)) { // Vérifier si c'est dans un ForDeclaration, À AMÉLIORER
-                pendingCss.add(res.replace("&", visit(ctx.selectorGroup()).trim()));
-                return "";
-            }
-        }
+        return "";
+    }
 
-        return res + "\n";
+    @Override
+    public String visitFontFaceDeclaration(ScssParser.FontFaceDeclarationContext ctx) {
+        CssRule parent = currentRule;
+        currentRule = new CssRule(List.of("@font-face"), sourceName(ctx), ctx.getStart().getLine(), ctx.getStart().getCharPositionInLine());
+        target.add(currentRule);
+        for (ScssParser.StatementContext statement : ctx.statement()) visit(statement);
+        currentRule = parent;
+        return "";
     }
 
     @Override
     public String visitBlock(ScssParser.BlockContext ctx) {
+        // Chaque bloc a son cadre de variables : ses déclarations ne sont plus visibles après le bloc
+        Environment outer = environment;
+        environment = isFlowControl(ctx) ? outer.pushFlowControl() : outer.push();
+        for (ScssParser.StatementContext statement : ctx.statement()) visit(statement);
+        environment = outer;
+        return "";
+    }
 
-        // StringBuilder qui va contenir les règles
-        StringBuilder block = new StringBuilder();
+    /**
+     * Méthode indiquant si un bloc est celui d'une instruction de contrôle (@if, @else, @for, @each, @while).
+     */
+    private static boolean isFlowControl(ScssParser.BlockContext ctx) {
+        return ctx.parent instanceof ScssParser.IfDeclarationContext || ctx.parent instanceof ScssParser.ElseIfStatementContext
+                || ctx.parent instanceof ScssParser.ElseStatementContext || ctx.parent instanceof ScssParser.ForDeclarationContext
+                || ctx.parent instanceof ScssParser.EachDeclarationContext || ctx.parent instanceof ScssParser.WhileDeclarationContext;
+    }
 
-        // Il faut visiter chaque enfant
-        for (ScssParser.StatementContext statement : ctx.statement()) {
-            String result = visit(statement);
+    @Override
+    public String visitMediaDeclaration(ScssParser.MediaDeclarationContext ctx) {
+        CssMediaRule media = new CssMediaRule(mediaQueryText(ctx.mediaQueryList()), sourceName(ctx), ctx.getStart().getLine(), ctx.getStart().getCharPositionInLine());
+        target.add(media);
+
+        List<CssNode> outerTarget = target;
+        CssRule outerRule = currentRule;
+        target = media.getChildren();
+
+        // Dans une règle, les déclarations du bloc @media s'appliquent aux sélecteurs de la règle
+        if (outerRule != null) {
+            currentRule = new CssRule(outerRule.getSelectors(), outerRule.getSource(), outerRule.getLine(), outerRule.getColumn());
+            target.add(currentRule);
+        }
+
+        visit(ctx.block());
+
+        target = outerTarget;
+        currentRule = outerRule;
+        return "";
+    }
 
-            // Si la visite ne renvoie pas null, on ajoute la chaîne aux règles
-            if (result != null) block.append("\t").append(result);
+    /**
+     * Méthode évaluant une liste de requêtes média (par exemple "screen and (min-width: 768px)").
+     *
+     * @param ctx liste de requêtes
+     * @return texte de la requête
+     */
+    private String mediaQueryText(ScssParser.MediaQueryListContext ctx) {
+        List<String> queries = new ArrayList<>();
+        for (ScssParser.MediaQueryContext query : ctx.mediaQuery()) {
+            List<String> parts = new ArrayList<>();
+            for (ParseTree child : query.children) {
+                if (child instanceof ScssParser.MediaExpressionContext expression)
+                    parts.add("(" + expression.identifier().getText() + (expression.value() != null ? ": " + visit(expression.value()) : "") + ")");
+                else if (child instanceof ScssParser.ValueContext value) parts.add(visit(value));
+                else parts.add(child.getText());
+            }
+            queries.add(String.join(" ", parts));
         }
-        return block.toString();
+        return String.join(", ", queries);
     }
 
     @Override
@@ -482,9 +777,17 @@ public class ScssToCssGenerator extends ScssParserBaseVisitor<String> {
         if (ctx.variableName() != null) return visit(ctx.variableName());
 
         // Vérifier si la valeur contient un calcul
-        if (ctx.expression() != null) return visit(ctx.expression());
+        if (ctx.operation() != null) return visit(ctx.operation());
+
+        // Expression entre parenthèses
+        if (ctx.expression() != null) return evaluateParenthesized(ctx.plusMinus(), ctx.expression()).toCss();
+
+        if (ctx.functionCall() != null) {
+            String res = visit(ctx.functionCall());
+            return res != null ? res : valueText;
+        }
 
-        if (ctx.functionCall() != null) return visit(ctx.functionCall());
+        if (ctx.interpolation() != null) return visit(ctx.interpolation());
 
         return valueText;
     }
@@ -493,21 +796,37 @@ public class ScssToCssGenerator extends ScssParserBaseVisitor<String> {
     @Override
     public String visitVariableDeclaration(ScssParser.VariableDeclarationContext ctx) {
 
-        boolean isTemp = inScope || !declarationStack.isEmpty();
+        // Seules les variables déclarées au premier niveau sont inscrites dans :root, les autres sont remplacées par leur valeur
+        boolean isTemp = !environment.isGlobal() || currentRule != null;
 
         String name = visit(ctx.variableName());
 
+        boolean global = false;
+        boolean isDefault = false;
+        for (ScssParser.PrioContext prio : ctx.prio()) {
+            global |= prio.Global() != null;
+            isDefault |= prio.Default() != null;
+        }
+
+        // !default : la variable n'est affectée que si elle n'existe pas encore ou vaut null
+        if (isDefault) {
+            Variable existing = global ? globals.get(name) : environment.get(name);
+            if (existing != null && !existing.getValue().equals("null")) return "";
+        }
+
         Variable variable;
 
-        if (ctx.variableValue().listDeclaration(0) != null) {
-            Variable[] vals = Arrays.stream(visit(ctx.variableValue().listDeclaration(0)).split(",")).map(s -> new SimpleVariable("null", s, true)).toArray(Variable[]::new);
+        ScssParser.ListDeclarationContext list = ctx.variableValue().listDeclaration();
+
+        if (list != null && singleValue(list) == null) {
+            Variable[] vals = Arrays.stream(visit(list).split(",")).map(s -> new SimpleVariable("null", s, true)).toArray(Variable[]::new);
             for (int i = 0; i < vals.length; i++) {
-                if (variableMap.containsKey(vals[i].getValue()))
-                    vals[i] = new SimpleVariable("null", variableMap.get(i).getValue(), false);
+                Variable element = environment.get(vals[i].getValue());
+                if (element != null) vals[i] = new SimpleVariable("null", element.getValue(), false);
             }
             variable = new ListVariable(vals, isTemp);
-        } else if (ctx.variableValue().mapDeclaration(0) != null) {
-            HashMap<String, Variable> vals = Arrays.stream(visit(ctx.variableValue().mapDeclaration(0)).split(","))
+        } else if (ctx.variableValue().mapDeclaration() != null) {
+            HashMap<String, Variable> vals = Arrays.stream(visit(ctx.variableValue().mapDeclaration()).split(","))
                     .map(s -> s.split(":"))
                     .collect(Collectors.toMap(
                             arr -> arr[0].trim(),
@@ -516,14 +835,16 @@ public class ScssToCssGenerator extends ScssParserBaseVisitor<String> {
                             HashMap::new // Collecte en HashMap
                     ));
             for (String v : vals.keySet()) {
-                if (variableMap.containsKey(v)) vals.put(v, variableMap.get(v));
+                Variable entry = environment.get(v);
+                if (entry != null) vals.put(v, entry);
             }
 
             variable = new MapVariable(vals, isTemp);
         } else {
             String value = visit(ctx.variableValue());
 
-            if (variableMap.containsKey(value)) value = variableMap.get(value).getValue();
+            Variable assigned = environment.get(value);
+            if (assigned != null) value = assigned.getValue();
 
             variable = new SimpleVariable(name, value, isTemp);
         }
@@ -540,7 +861,12 @@ public class ScssToCssGenerator extends ScssParserBaseVisitor<String> {
         --variable2: 20px;
          */
 
-        variableMap.put(name, variable);
+        Environment frame = environment.assign(name, variable, global);
+        if (frame.isGlobal()) {
+            // Les corps de mixin déjà évalués peuvent utiliser l'ancienne valeur d'une variable globale
+            clearRenderedMixins();
+            if (!environment.isGlobal()) globalAssignments++;
+        }
 
         return ""; // Pas null, sinon il y aura un saut de ligne
     }
@@ -563,8 +889,8 @@ public class ScssToCssGenerator extends ScssParserBaseVisitor<String> {
     @Override
     public String visitMapKey(ScssParser.MapKeyContext ctx) {
         if (ctx.mapDeclaration() != null) return visit(ctx.mapDeclaration());
-        if (ctx.listDeclaration() != null) return visit(ctx.listDeclaration());
-        if (ctx.value() != null) return visit(ctx.value());
+        ScssParser.ValueContext value = singleValue(ctx.listSpaceSeparated());
+        if (value != null) return visit(value);
         else return ctx.getText();
     }
 
@@ -572,33 +898,41 @@ public class ScssToCssGenerator extends ScssParserBaseVisitor<String> {
     public String visitMapValue(ScssParser.MapValueContext ctx) {
 
         if (ctx.mapDeclaration() != null) return visit(ctx.mapDeclaration());
-        if (ctx.listDeclaration() != null) return visit(ctx.listDeclaration());
-        if (ctx.value() != null) return visit(ctx.value());
+        ScssParser.ValueContext value = singleValue(ctx.listSpaceSeparated());
+        if (value != null) return visit(value);
         else return ctx.getText();
     }
 
     @Override
     public String visitVariableValue(ScssParser.VariableValueContext ctx) {
-        if (writingMixin) return ctx.getText();
-        if (!ctx.listDeclaration().isEmpty()) return visit(ctx.listDeclaration(0));
-        if (!ctx.mapDeclaration().isEmpty()) return visit(ctx.mapDeclaration(0));
-        return visit(ctx.value());
+        if (ctx.listDeclaration() != null) {
+            ScssParser.ValueContext value = singleValue(ctx.listDeclaration());
+            return value != null ? visit(value) : visit(ctx.listDeclaration());
+        }
+        if (ctx.mapDeclaration() != null) return visit(ctx.mapDeclaration());
+        return visitChildren(ctx);
     }
 
     @Override
     public String visitVariableName(ScssParser.VariableNameContext ctx) {
         String name = ctx.getText();
 
-        if (writingMixin) return name;
-
         if (ctx.parent instanceof ScssParser.VariableDeclarationContext) return name.substring(1);
 
-        if (ctx.parent instanceof ScssParser.ExpressionPartContext || ctx.parent.parent instanceof ScssParser.ParameterContext)
-            return variableMap.get(name.substring(1)).getValue();
+        String key = variableKey(ctx);
+        Variable variable = environment.get(key);
 
-        if (!variableMap.containsKey(name.substring(1))) return name;
+        // Variable dans un calcul, passée seule en paramètre (paramètre > liste > valeur > variable) ou interpolée
+        if (ctx.parent instanceof ScssParser.ExpressionPartContext || ctx.parent.parent.parent instanceof ScssParser.ParameterContext
+                || ctx.parent.parent instanceof ScssParser.InterpolationContext) {
+            if (variable == null) throw new RuntimeException("La variable " + key + " n'est pas définie");
+            return variable.getValue();
+        }
 
-        return variableMap.get(name.substring(1)) instanceof SimpleVariable ? ((SimpleVariable) variableMap.get(name.substring(1))).getVariableCall() : variableMap.get(name.substring(1)).getValue();
+        if (variable == null) return name;
+
+        // Seules les variables globales sont déclarées dans :root, les autres sont remplacées par leur valeur
+        return variable instanceof SimpleVariable simple && !simple.isTemporary() ? simple.getVariableCall() : variable.getValue();
     }
 
     @Override
@@ -607,28 +941,143 @@ public class ScssToCssGenerator extends ScssParserBaseVisitor<String> {
     }
 
     /**
-     * Méthode statique permettant de transformer un mixin / include SCSS en règles CSS
-     * <p>
-     * La méthode doit :
-     * - réarranger les règles
-     * - remplacer les arguments par les valeurs littérales correspondantes
+     * Méthode renvoyant le nom sous lequel une variable est enregistrée : son nom, précédé de l'espace de noms
+     * du module s'il y en a un ("v.$primary" → "v.primary").
      *
-     * @param identifier nom du mixin
-     * @return une chaîne contenant les règles CSS
+     * @param ctx nom de la variable
+     * @return clé de la variable
      */
-    public String convertMixinToCSS(String identifier, String[] args) {
-        if (!mixinMap.containsKey(identifier)) throw new RuntimeException("Le mixin n'est pas défini");
+    private static String variableKey(ScssParser.VariableNameContext ctx) {
+        String name = ctx.getText();
+        if (ctx.namespace_() == null) return name.substring(1);
+        return ctx.namespace_().getText() + name.substring(name.indexOf('$') + 1);
+    }
 
-        return mixinMap.get(identifier).convertToCss(args);
+    @Override
+    public String visitImportDeclaration(ScssParser.ImportDeclarationContext ctx) {
+        if (currentRule != null || !environment.isGlobal())
+            throw new RuntimeException("Les imports doivent être au premier niveau de la feuille de style");
+
+        Module module = importModule(ctx);
+        if (module == null) return "";
+
+        if (ctx.Use() != null || ctx.Forward() != null) {
+            use(module);
+        } else {
+            // @import recopie le CSS du module à chaque import
+            for (Module used : module.getUses()) use(used);
+            module.copyNodes(target);
+        }
+        return "";
     }
 
-    public String convertMixinToCSS(String identifier) {
+    /**
+     * Méthode chargeant le module d'un import et enregistrant ses membres : sous leur nom pour @import et @forward,
+     * préfixés par l'espace de noms pour @use. Les imports de fichiers CSS sont conservés tels quels.
+     *
+     * @param ctx import
+     * @return module chargé (null pour un import CSS)
+     */
+    private Module importModule(ScssParser.ImportDeclarationContext ctx) {
+        ScssParser.ImportPathContext path = ctx.importPath();
+        if (path.uri() != null) {
+            addCssImport(new CssImport(path.getText()));
+            return null;
+        }
 
-        if (!mixinMap.containsKey(identifier)) throw new RuntimeException("Le mixin n'est pas défini");
+        String url = path.getText().substring(1, path.getText().length() - 1);
+        boolean use = ctx.Use() != null;
+        if (!use && ctx.Forward() == null && CssImport.isPlainCss(url)) {
+            addCssImport(new CssImport(path.getText()));
+            return null;
+        }
 
-        return mixinMap.get(identifier).convertToCss();
+        // Le module est chargé une seule fois par import : la passe des variables de :root et la génération le partagent
+        Module module = importedModules.get(ctx);
+        if (module == null) {
+            module = moduleLoader.load(url, importerDirectory(ctx), configuration(ctx));
+            importedModules.put(ctx, module);
+        }
+        dependencies.add(module.getPath());
+        dependencies.addAll(module.getDependencies());
+        for (CssImport cssImport : module.getCssImports()) addCssImport(cssImport);
+
+        String prefix = "";
+        if (use && ctx.asClause() == null) prefix = Module.defaultNamespace(url) + ".";
+        else if (use && ctx.asClause().identifier() != null) prefix = ctx.asClause().identifier().getText() + ".";
+
+        for (Map.Entry<String, Variable> variable : module.getVariables().entrySet())
+            globals.declare(prefix + variable.getKey(), variable.getValue());
+        for (Map.Entry<String, Mixin> mixin : module.getMixins().entrySet())
+            mixinMap.put(prefix + mixin.getKey(), mixin.getValue());
+        clearRenderedMixins();
+        return module;
     }
 
+    /**
+     * Méthode évaluant la configuration d'un module (@use ... with ($nom: valeur)) dans la portée de l'import.
+     * Le module est évalué avec ces valeurs : ses variables, son CSS et ses mixins en tiennent compte.
+     *
+     * @param ctx import
+     * @return valeurs des variables configurées (sans $), vide sans configuration
+     */
+    private Map<String, String> configuration(ScssParser.ImportDeclarationContext ctx) {
+        if (ctx.withClause() == null) return Map.of();
+
+        Map<String, String> configuration = new LinkedHashMap<>();
+        for (ScssParser.ParameterContext parameter : ctx.withClause().parameters().parameter()) {
+            if (parameter.variableName() == null) throw new RuntimeException("Configuration invalide : " + parameter.getText());
+            configuration.put(parameter.variableName().getText().substring(1), argumentValue(parameter));
+        }
+        return configuration;
+    }
+
+    /**
+     * Méthode écrivant le CSS d'un module chargé avec @use ou @forward, une seule fois par feuille de style.
+     * Pendant l'évaluation d'un module, le module utilisé est seulement enregistré : c'est le fichier principal
+     * qui écrira son CSS.
+     *
+     * @param module module utilisé
+     */
+    private void use(Module module) {
+        if (evaluatingModule) {
+            if (!uses.contains(module)) uses.add(module);
+            return;
+        }
+        if (!emitted.add(module.getPath())) return;
+        for (Module used : module.getUses()) use(used);
+        module.copyNodes(target);
+    }
+
+    private void addCssImport(CssImport cssImport) {
+        for (CssImport existing : cssImports) {
+            if (existing.getUrl().equals(cssImport.getUrl())) return;
+        }
+        cssImports.add(cssImport);
+    }
+
+    /**
+     * Méthode renvoyant le dossier du fichier qui contient une partie de l'arbre, où sont cherchés ses imports
+     * (le dossier courant si le code ne vient pas d'un fichier).
+     */
+    private static Path importerDirectory(ParserRuleContext ctx) {
+        String source = sourceName(ctx);
+        if (source == null || source.equals(IntStream.UNKNOWN_SOURCE_NAME)) return Path.of("");
+        Path parent = Path.of(source).toAbsolutePath().getParent();
+        return parent != null ? parent : Path.of("");
+    }
+
+    /**
+     * Méthode renvoyant un mixin déclaré.
+     *
+     * @param identifier nom du mixin
+     * @return mixin
+     */
+    private Mixin mixin(String identifier) {
+        Mixin mixin = mixinMap.get(identifier);
+        if (mixin == null) throw new RuntimeException("Le mixin " + identifier + " n'est pas défini");
+        return mixin;
+    }
 
     //endregion
 
@@ -637,154 +1086,383 @@ public class ScssToCssGenerator extends ScssParserBaseVisitor<String> {
     // Il faut mettre le mixin dans les HashMaps pour l'utiliser dans le code CSS
     @Override
     public String visitMixinDeclaration(ScssParser.MixinDeclarationContext ctx) {
-        writingMixin = true;
-        String identifier = ctx.identifier().getText();
+        // Le corps n'est pas évalué ici : il l'est à chaque inclusion, avec les valeurs des arguments
+        mixinMap.put(ctx.identifier().getText(), new Mixin(ctx));
+        clearRenderedMixins();
+        return "";
+    }
 
-        // On récupère les règles
-        String[] rules = ctx.block().statement().stream()
-                .filter(s -> !s.getText().equals("{") && !s.getText().equals("}"))
-                .map(this::visit)
-                .toArray(String[]::new);
+    @Override
+    public String visitIncludeDeclaration(ScssParser.IncludeDeclarationContext ctx) {
 
-        writingMixin = false;
+        // Mixin d'un module chargé avec @use : "v.rounded"
+        String namespace = ctx.namespace_() != null ? ctx.namespace_().getText() : "";
 
-        // S'il n'y a pas de paramètres, on crée un Mixin sans paramètres ni valeurs par défaut
-        if (ctx.parameters() == null || ctx.parameters().isEmpty()) {
-            mixinMap.put(identifier, new Mixin(rules, new String[]{}));
-            return "";
+        Mixin mixin;
+        List<ScssParser.ParameterContext> arguments;
+        if (ctx.identifier() != null || ctx.functionCall().parameters().parameter().isEmpty()) {
+            mixin = ctx.identifier() != null ? mixin(namespace + ctx.identifier().getText()) : mixin(functionMixinName(ctx, namespace));
+            arguments = List.of();
+        } else {
+            mixin = mixin(functionMixinName(ctx, namespace));
+            arguments = ctx.functionCall().parameters().parameter();
         }
 
-        String[] args = new String[ctx.parameters().parameter().size()];
-        HashMap<String, String> defaultValues = new HashMap<>();
+        // Arguments évalués dans la portée de l'appel : par position, ou par nom ($nom: valeur)
+        // (mixin sans argument, le cas le plus fréquent : aucune allocation)
+        List<String> positional = List.of();
+        Map<String, String> named = Map.of();
+        if (!arguments.isEmpty()) {
+            positional = new ArrayList<>(arguments.size());
+            named = new LinkedHashMap<>();
+            evaluateArguments(arguments, positional, named);
+        }
 
-        if (ctx.parameters().parameter().size() == 1 && ctx.parameters().parameter(0).arglist() != null) {
-            mixinMap.put(ctx.identifier().getText(), new MixinArgList(rules, new String[]{ctx.parameters().parameter(0).getText().replace(".", "")}));
+        // Inclusion avec un bloc (@include m { ... }) : le corps dépend du bloc, il est évalué directement dans la
+        // règle qui l'inclut. Le bloc n'est pas évalué ici mais par @content, à l'endroit où il apparaît dans le corps.
+        if (ctx.block() != null) {
+            Content block = new Content(new Mixin(ctx.block(), ctx.parameters()), environment, mixinMap, content);
+            evaluate(mixin, positional, named, currentRule, target, block);
+            if (countMixins) MIXIN_BLOCKS.incrementAndGet();
             return "";
         }
 
-        for (int i = 0; i < args.length; i++) {
-            ScssParser.ParameterContext p = ctx.parameters().parameter(i);
+        // Le corps n'est évalué qu'une fois pour les mêmes arguments et le même préfixe de propriétés imbriquées.
+        // Un mixin d'un module a une portée qui ne change pas (les variables du module) : ses corps évalués sont
+        // gardés dans le mixin et servent à tous les fichiers.
+        MixinCall call = new MixinCall(mixin, positional, named, propertyPrefix);
+        Map<Object, MixinBody> shared = mixin.getRenderedBodies();
+        MixinBody body = shared != null ? shared.get(call) : renderedMixins.get(call);
+        if (body != null) {
+            if (countMixins) MIXIN_HITS.incrementAndGet();
+        } else {
+            int assignments = globalAssignments;
+            // Nouveaux arguments : le gabarit du corps est rempli s'il y en a un, sinon le corps est évalué
+            MixinTemplate template = template(mixin);
+            if (template.isUsable() && (body = fill(template, mixin, positional, named)) != null) {
+                if (countMixins) MIXIN_FILLS.incrementAndGet();
+            } else {
+                body = render(mixin, positional, named);
+                if (countMixins) MIXIN_RENDERS.incrementAndGet();
+            }
+            // Un mixin qui modifie des variables globales (!global) est évalué à chaque inclusion
+            if (shared != null) shared.putIfAbsent(call, body);
+            else if (globalAssignments == assignments) renderedMixins.put(call, body);
+        }
 
-            if (p.variableDeclaration() != null) {
+        body.include(currentRule, target);
+        return "";
+    }
 
-                // Nom de l'argument et valeur par défaut
-                String name = p.variableDeclaration().variableName().getText();
-                String value = visit(p.variableDeclaration().variableValue());
+    /**
+     * Méthode vidant les corps de mixins évalués et leurs gabarits, quand une variable globale, un mixin
+     * ou un import change.
+     */
+    private void clearRenderedMixins() {
+        renderedMixins.clear();
+        mixinTemplates.clear();
+    }
 
-                args[i] = name;
-                defaultValues.put(name, value);
+    /**
+     * Méthode renvoyant le gabarit du corps d'un mixin pour le préfixe de propriétés imbriquées en cours,
+     * en évaluant le corps avec les repères des arguments s'il n'existe pas encore.
+     *
+     * @param mixin mixin
+     * @return gabarit, MixinTemplate.NONE si le corps ne peut pas être découpé
+     */
+    private MixinTemplate template(Mixin mixin) {
+        if (!mixin.isTemplatable()) return MixinTemplate.NONE;
+
+        Map<String, MixinTemplate> shared = mixin.getTemplates();
+        MixinTemplateKey key = new MixinTemplateKey(mixin, propertyPrefix);
+        MixinTemplate template = shared != null ? shared.get(propertyPrefix) : mixinTemplates.get(key);
+        if (template != null) return template;
+
+        // Un corps qui modifie des variables globales (!global) doit être évalué à chaque inclusion
+        int assignments = globalAssignments;
+        template = MixinTemplate.compile(render(mixin, MixinTemplate.markers(mixin.getParameters().length), Map.of()));
+        if (globalAssignments != assignments) template = MixinTemplate.NONE;
+
+        if (shared != null) shared.putIfAbsent(propertyPrefix, template);
+        else mixinTemplates.put(key, template);
+        return template;
+    }
 
-            } else {
-                // Nom de l'argument
-                args[i] = p.getText();
-            }
+    /**
+     * Méthode remplissant le gabarit du corps d'un mixin avec les valeurs de ses arguments (valeurs par défaut
+     * évaluées comme pour une évaluation du corps).
+     *
+     * @return corps évalué, null si une valeur ne peut pas être recopiée telle quelle (vide, ou avec des espaces
+     *         au début ou à la fin, que l'évaluation supprimerait en bord de valeur)
+     */
+    private MixinBody fill(MixinTemplate template, Mixin mixin, List<String> positional, Map<String, String> named) {
+        Environment callerEnvironment = environment;
+        Map<String, Mixin> callerMixins = mixinMap;
+        Environment scope = (mixin.getVariables() != null ? Environment.of(mixin.getVariables()) : globals).push();
+        try {
+            environment = scope;
+            if (mixin.getMixins() != null) mixinMap = mixin.getMixins();
+            bindArguments(mixin, positional, named, scope);
+        } finally {
+            environment = callerEnvironment;
+            mixinMap = callerMixins;
         }
 
-        mixinMap.put(identifier, new Mixin(rules, args, defaultValues));
+        String[] parameters = mixin.getParameters();
+        String[] values = new String[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            String value = scope.get(parameters[i]).getValue();
+            if (value.isEmpty() || Character.isWhitespace(value.charAt(0)) || Character.isWhitespace(value.charAt(value.length() - 1)))
+                return null;
+            values[i] = value;
+        }
+        return template.fill(values);
+    }
 
-        return "";
+    /**
+     * Méthode renvoyant le nom d'un mixin inclus avec des parenthèses, avec l'espace de noms éventuel.
+     */
+    private static String functionMixinName(ScssParser.IncludeDeclarationContext ctx, String namespace) {
+        if (ctx.functionCall().namespace_() != null) namespace += ctx.functionCall().namespace_().getText();
+        return namespace + ctx.functionCall().identifier().getText();
+    }
+
+    /**
+     * Méthode renvoyant le bilan de l'évaluation des mixins : corps évalués, corps remplis à partir d'un gabarit,
+     * corps réutilisés sans nouvelle évaluation, et inclusions avec un bloc (toujours évaluées).
+     * @return bilan affichable
+     */
+    public static String mixinStatistics() {
+        long renders = MIXIN_RENDERS.get();
+        long fills = MIXIN_FILLS.get();
+        long hits = MIXIN_HITS.get();
+        long total = renders + fills + hits;
+        return String.format(Locale.ROOT, "Mixins : %d corps évalué(s), %d rempli(s) par gabarit, %d réutilisé(s) (%.1f %%), %d inclusion(s) avec bloc",
+                renders, fills, hits, total == 0 ? 0.0 : 100.0 * hits / total, MIXIN_BLOCKS.get());
     }
 
     @Override
-    public String visitIncludeDeclaration(ScssParser.IncludeDeclarationContext ctx) {
+    public String visitContentDeclaration(ScssParser.ContentDeclarationContext ctx) {
+        // Mixin inclus sans bloc : @content n'écrit rien
+        if (content == null) return "";
+
+        // Arguments de @content(...) évalués dans la portée du mixin, liés aux paramètres de "using (...)"
+        List<String> positional = new ArrayList<>();
+        Map<String, String> named = new LinkedHashMap<>();
+        if (ctx.parameters() != null) evaluateArguments(ctx.parameters().parameter(), positional, named);
+
+        Content block = content;
+        Environment mixinEnvironment = environment;
+        Map<String, Mixin> mixinMixins = mixinMap;
+        try {
+            // Le bloc est évalué dans un cadre ouvert sur la portée de l'appelant (sans la copier), avec ses paramètres
+            environment = block.environment().push();
+            bindArguments(block.block(), positional, named, environment);
+            mixinMap = block.mixins();
+            // Un @content dans le bloc désigne le bloc passé au mixin qui l'inclut
+            content = block.outer();
+
+            // Évaluation sur place : les déclarations et règles vont directement dans la règle et la liste en cours
+            visit(block.block().getBody());
+        } finally {
+            environment = mixinEnvironment;
+            mixinMap = mixinMixins;
+            content = block;
+        }
+        return "";
+    }
+
+    /**
+     * Méthode évaluant les arguments d'un appel (@include ou @content) dans la portée en cours.
+     *
+     * @param arguments  arguments de l'appel
+     * @param positional liste qui reçoit les valeurs passées par position
+     * @param named      table qui reçoit les valeurs passées par nom ($nom: valeur)
+     */
+    private void evaluateArguments(List<ScssParser.ParameterContext> arguments, List<String> positional, Map<String, String> named) {
+        for (ScssParser.ParameterContext argument : arguments) {
+            if (argument.variableName() != null) named.put(argument.variableName().getText().substring(1), argumentValue(argument));
+            else positional.add(argumentValue(argument));
+        }
+    }
+
+    /**
+     * Méthode évaluant la valeur d'un argument d'appel de mixin, ou d'une valeur par défaut.
+     *
+     * @param argument argument ("valeur" ou "$nom: valeur")
+     * @return valeur
+     */
+    private String argumentValue(ScssParser.ParameterContext argument) {
+        if (argument.mapDeclaration() != null) return visit(argument.mapDeclaration());
+        ScssParser.ValueContext single = singleValue(argument.listSpaceSeparated());
+        return visit(single != null ? single : argument.listSpaceSeparated()).trim();
+    }
 
-        if (ctx.identifier() != null) return convertMixinToCSS(ctx.identifier().getText());
+    /**
+     * Méthode évaluant le corps d'un mixin pour des arguments, pour le garder et l'inclure ensuite.
+     * Les déclarations vont dans une règle "&" (la règle qui inclura le mixin), les règles imbriquées dans une liste à part.
+     *
+     * @param mixin      mixin
+     * @param positional arguments passés par position
+     * @param named      arguments passés par nom
+     * @return corps évalué
+     */
+    private MixinBody render(Mixin mixin, List<String> positional, Map<String, String> named) {
+        CssRule body = new CssRule(List.of("&"));
+        List<CssNode> rules = new ArrayList<>();
+        evaluate(mixin, positional, named, body, rules, null);
+        return new MixinBody(body.getDeclarations(), rules);
+    }
+
+    /**
+     * Méthode évaluant le corps d'un mixin pour des arguments, dans une portée propre : les variables globales
+     * (du module qui déclare le mixin, ou du fichier en cours) et les paramètres liés à leur valeur.
+     * Les variables du code qui inclut le mixin (variables de boucle...) ne sont pas visibles.
+     *
+     * @param mixin      mixin
+     * @param positional arguments passés par position
+     * @param named      arguments passés par nom
+     * @param rule       règle qui reçoit les déclarations du corps
+     * @param rules      liste qui reçoit les règles du corps
+     * @param block      bloc passé au mixin, évalué par @content (null s'il n'y en a pas)
+     */
+    private void evaluate(Mixin mixin, List<String> positional, Map<String, String> named, CssRule rule, List<CssNode> rules, Content block) {
+        Environment callerEnvironment = environment;
+        Map<String, Mixin> callerMixins = mixinMap;
+        List<CssNode> outerTarget = target;
+        CssRule outerRule = currentRule;
+        Content outerContent = content;
+
+        // Cadre de l'appel, ouvert sur les variables globales du module qui déclare le mixin ou du fichier en cours
+        Environment scope = (mixin.getVariables() != null ? Environment.of(mixin.getVariables()) : globals).push();
+
+        try {
+            environment = scope;
+            if (mixin.getMixins() != null) mixinMap = mixin.getMixins();
+            bindArguments(mixin, positional, named, scope);
+
+            target = rules;
+            currentRule = rule;
+            content = block;
+            visit(mixin.getBody());
+        } finally {
+            environment = callerEnvironment;
+            mixinMap = callerMixins;
+            target = outerTarget;
+            currentRule = outerRule;
+            content = outerContent;
+        }
+    }
 
-        String[] args = ctx.functionCall().parameters().parameter()
-                .stream()
-                .map(RuleContext::getText)
-                .toArray(String[]::new);
+    /**
+     * Méthode liant chaque paramètre d'un mixin à sa valeur dans la portée du mixin. Les valeurs par défaut sont
+     * évaluées dans cette portée : elles peuvent utiliser les paramètres précédents.
+     */
+    private void bindArguments(Mixin mixin, List<String> positional, Map<String, String> named, Environment scope) {
+        String[] parameters = mixin.getParameters();
+        if (!mixin.hasArgList() && positional.size() > parameters.length)
+            throw new RuntimeException("Le mixin accepte au plus " + parameters.length + " argument(s), " + positional.size() + " donné(s)");
+        for (String name : named.keySet()) {
+            if (!Arrays.asList(parameters).contains(name)) throw new RuntimeException("Le mixin n'a pas de paramètre $" + name);
+        }
 
-        String[] pendingCssMixin = mixinMap.get(ctx.functionCall().identifier().getText()).getPendingCss();
+        for (int i = 0; i < parameters.length; i++) {
+            String name = parameters[i];
+            String value;
+            if (mixin.hasArgList() && i == parameters.length - 1 && positional.size() > i) {
+                // $args... : liste des arguments restants, utilisable avec @each, length() et nth()
+                scope.declare(name, new ListVariable(positional.subList(i, positional.size()).stream()
+                        .map(v -> new SimpleVariable("null", v, true)).toArray(Variable[]::new), true));
+                continue;
+            }
+            if (mixin.hasArgList() && i == parameters.length - 1) value = "";
+            else if (i < positional.size()) value = positional.get(i);
+            else if (named.containsKey(name)) value = named.get(name);
+            else if (mixin.getDefaultValue(i) != null) value = argumentValue(mixin.getDefaultValue(i));
+            else throw new RuntimeException("Aucun argument pour $" + name);
 
-        if (pendingCssMixin != null && pendingCssMixin.length > 0) {
-            pendingCss.add(Arrays.stream(pendingCssMixin).reduce("", (acc, s) -> acc + s).replace("&", declarationStack.stream().reduce("", (acc, s) -> acc + s + " ").trim()));
+            scope.declare(name, new SimpleVariable(name, value, true));
         }
+    }
+
+    /**
+     * Bloc passé à un mixin (@include m using ($p) { ... }) : le bloc et ses paramètres, avec la portée de l'appelant
+     * (référencée, pas copiée) et le bloc passé au mixin qui l'inclut lui-même.
+     */
+    private record Content(Mixin block, Environment environment, Map<String, Mixin> mixins, Content outer) {
+    }
 
-        return convertMixinToCSS(ctx.functionCall().identifier().getText(), args);
+    /**
+     * Clé des corps de mixin déjà évalués : le mixin, les valeurs de ses arguments et le préfixe des propriétés
+     * imbriquées dans lesquelles il est inclus (les déclarations du corps en sont préfixées).
+     */
+    private record MixinCall(Mixin mixin, List<String> positional, Map<String, String> named, String propertyPrefix) {
+    }
+
+    /**
+     * Clé des gabarits de corps de mixin : le mixin et le préfixe des propriétés imbriquées dans lesquelles il est inclus.
+     */
+    private record MixinTemplateKey(Mixin mixin, String propertyPrefix) {
     }
 
     @Override
     public String visitForDeclaration(ScssParser.ForDeclarationContext ctx) {
-
-        StringBuilder loop = new StringBuilder();
-        inScope = true;
+        Environment outer = environment;
+        environment = outer.pushFlowControl();
 
         int limit = Integer.parseInt(visit(ctx.through()));
         if (ctx.To() != null) limit--;
 
+        // Le bloc est évalué à chaque itération, avec la variable de boucle liée à sa valeur
+        String varName = ctx.variableName().getText().substring(1);
         for (int i = Integer.parseInt(ctx.Number().getText()); i <= limit; i++) {
-            String varName = ctx.variableName().getText().substring(1);
-            variableMap.put(varName, new SimpleVariable(varName, i + "", true));
-            loop.append(visit(ctx.block()).replace("#{" + ctx.variableName().getText() + "}", i + "").trim()).append("\n");
+            environment.declare(varName, new SimpleVariable(varName, i + "", true));
+            visit(ctx.block());
         }
 
-        pendingCss.add(loop.toString());
-
-        variableMap.remove(ctx.variableName().getText().substring(1));
-        inScope = false;
+        environment = outer;
 
         return "";
     }
 
     @Override
     public String visitThrough(ScssParser.ThroughContext ctx) {
-        if (ctx.Number() != null) return ctx.Number().getText();
-        if (ctx.expression() != null) return visit(ctx.expression());
-        if (ctx.functionCall() != null) return visit(ctx.functionCall());
-        return ctx.getText();
+        return visit(ctx.expression());
     }
 
     @Override
     public String visitEachDeclaration(ScssParser.EachDeclarationContext ctx) {
-
-        StringBuilder loops = new StringBuilder();
-
-        StringBuilder loop = new StringBuilder();
-
-        inScope = true;
-
-        // On ajoute les déclarations imbriquées
-        for (String declaration : declarationStack) {
-            loop.append(declaration).append(" ");
-        }
-
-        loop.append(visit(ctx.block()));
+        Environment outer = environment;
+        environment = outer.pushFlowControl();
 
         if (ctx.variableName(0) != null && ctx.variableName(1) != null) { // 2 variables avec une map
-            String varName1 = ctx.variableName(0).getText();
-            String varName2 = ctx.variableName(1).getText();
-            MapVariable map = (MapVariable) variableMap.get(ctx.eachValueList().listDeclaration().listCommaSeparated().listElement(0).value(0).variableName().getText().substring(1));
+            String varName1 = ctx.variableName(0).getText().substring(1);
+            String varName2 = ctx.variableName(1).getText().substring(1);
+            MapVariable map = (MapVariable) environment.get(ctx.eachValueList().listDeclaration().listCommaSeparated().listElement(0).value(0).variableName().getText().substring(1));
 
             for (String key : map.getKeySet()) {
-                String currentLoop = loop.toString().replace("#{" + varName1 + "}", key);
-                currentLoop = currentLoop.replace(varName1, key);
-                currentLoop = currentLoop.replace("#{" + varName2 + "}", map.getValue(key));
-                currentLoop = currentLoop.replace(varName2, map.getValue(key));
-                loops.append(currentLoop.trim()).append("\n");
+                environment.declare(varName1, new SimpleVariable(varName1, key, true));
+                environment.declare(varName2, new SimpleVariable(varName2, map.getValue(key).trim(), true));
+                visit(ctx.block());
             }
 
-            pendingCss.add(loops.toString());
+            environment = outer;
             return "";
         }
 
-        String varName = ctx.variableName(0).getText();
+        String varName = ctx.variableName(0).getText().substring(1);
 
         String[] values;
 
-        if(variableMap.containsKey(visit(ctx.eachValueList()).substring(1)) && variableMap.get(visit(ctx.eachValueList()).substring(1)) instanceof ListVariable) values = Arrays.stream(((ListVariable) variableMap.get(visit(ctx.eachValueList()).substring(1))).getValues()).map(Variable::getValue).toArray(String[]::new);
+        if(environment.get(visit(ctx.eachValueList()).substring(1)) instanceof ListVariable list) values = Arrays.stream(list.getValues()).map(Variable::getValue).toArray(String[]::new);
         else values = ctx.eachValueList().getText().split(",");
 
         for (String value : values) {
-
-            String currentLoop = loop.toString().replace("#{" + varName + "}", value);
-            currentLoop = currentLoop.replace(varName, value);
-            loops.append(currentLoop.trim()).append("\n");
+            environment.declare(varName, new SimpleVariable(varName, value.trim(), true));
+            visit(ctx.block());
         }
 
-        pendingCss.add(loops.toString());
-
-        inScope = false;
+        environment = outer;
 
         return "";
     }
@@ -798,21 +1476,12 @@ public class ScssToCssGenerator extends ScssParserBaseVisitor<String> {
 
     @Override
     public String visitExpression(ScssParser.ExpressionContext ctx) {
+        return evaluateExpression(ctx).toCss();
+    }
 
-        List<String> expressionParts = new ArrayList<>();
-        List<String> operators = new ArrayList<>();
-
-        for (ScssParser.ExpressionPartContext ep : ctx.expressionPart()) {
-            expressionParts.add(visit(ep));
-        }
-
-        for (ScssParser.Operator_Context operator_context : ctx.operator_()) {
-            operators.add(operator_context.getText());
-        }
-
-        if (ctx.Not().isEmpty()) return calculateExpression(expressionParts, operators);
-
-        return calculateExpression(expressionParts, operators).contains("true") ? "false" : "true";
+    @Override
+    public String visitOperation(ScssParser.OperationContext ctx) {
+        return evaluateExpression(ctx).toCss();
     }
 
 
@@ -833,28 +1502,15 @@ public class ScssToCssGenerator extends ScssParserBaseVisitor<String> {
 
     @Override
     public String visitIfDeclaration(ScssParser.IfDeclarationContext ctx) {
+        // Seul le bloc de la première condition vraie est évalué, dans la règle en cours
         if (visit(ctx.expression()).equals("true")) return visit(ctx.block());
-        if (ctx.elseIfStatement() != null) {
-            for (ScssParser.ElseIfStatementContext elseif : ctx.elseIfStatement()) {
-                String res = visit(elseif);
-                if (!res.equals("")) return res;
-            }
+        for (ScssParser.ElseIfStatementContext elseIf : ctx.elseIfStatement()) {
+            if (visit(elseIf.expression()).equals("true")) return visit(elseIf.block());
         }
-        if (ctx.elseStatement() != null) return visit(ctx.elseStatement());
-        return "";
-    }
-
-    @Override
-    public String visitElseIfStatement(ScssParser.ElseIfStatementContext ctx) {
-        if (visit(ctx.expression()).equals("true")) return visit(ctx.block());
+        if (ctx.elseStatement() != null) return visit(ctx.elseStatement().block());
         return "";
     }
 
-    @Override
-    public String visitElseStatement(ScssParser.ElseStatementContext ctx) {
-        return visit(ctx.block());
-    }
-
     @Override
     public String visitIfExpression(ScssParser.IfExpressionContext ctx) {
         return super.visitIfExpression(ctx);
@@ -870,7 +1526,7 @@ public class ScssToCssGenerator extends ScssParserBaseVisitor<String> {
 
         switch (ctx.identifier().getText()) {
             case "length": {
-                Variable list = variableMap.get(ctx.parameters().getText().substring(1));
+                Variable list = environment.get(ctx.parameters().getText().substring(1));
                 if (!(list instanceof ListVariable)) {
                     throw new RuntimeException("La variable " + list + " n'est pas une liste.");
                 }
@@ -878,24 +1534,33 @@ public class ScssToCssGenerator extends ScssParserBaseVisitor<String> {
             }
 
             case "nth": {
-                int index = Integer.parseInt(visit(ctx.parameters().parameter(1).value())) - 1;
-                Variable list = variableMap.get(ctx.parameters().parameter(0).getText().substring(1));
+                int index = Integer.parseInt(visit(argument(ctx, 1))) - 1;
+                Variable list = environment.get(ctx.parameters().parameter(0).getText().substring(1));
                 if (!(list instanceof ListVariable))
                     throw new RuntimeException("La variable " + ctx.parameters().getText().substring(1) + " n'est pas une liste.");
                 return ((ListVariable) list).getValue(index);
             }
 
             case "darken": {
-                return "color-mix(in srgb, black " + visit(ctx.parameters().parameter(1).value()) + ", " + visit(ctx.parameters().parameter(0).value()) + ") /* color-mix est une fonction présente dans des versions récentes de CSS */";
+                return "color-mix(in srgb, black " + visit(argument(ctx, 1)) + ", " + visit(argument(ctx, 0)) + ") /* color-mix est une fonction présente dans des versions récentes de CSS */";
             }
 
             case "lighten": {
-                return "color-mix(in srgb, white " + visit(ctx.parameters().parameter(1).value()) + ", " + visit(ctx.parameters().parameter(0).value()) + ") /* color-mix est une fonction présente dans des versions récentes de CSS */";
+                return "color-mix(in srgb, white " + visit(argument(ctx, 1)) + ", " + visit(argument(ctx, 0)) + ") /* color-mix est une fonction présente dans des versions récentes de CSS */";
+            }
+
+            case "str-slice": {
+                String string = visit(argument(ctx, 0));
+                int start = Integer.parseInt(visit(argument(ctx, 1)));
+                int end = ctx.parameters().parameter().size() > 2 ? Integer.parseInt(visit(argument(ctx, 2))) : string.length();
+                return string.substring(Math.max(start, 1) - 1, Math.min(end, string.length()));
             }
 
             case "linear-gradient": {
 
-                String args = ctx.parameters().parameter(0).getText().replace(",", ", ").replace("to", "to ");
+                // Arguments évalués : une variable ($colors) est remplacée par sa valeur
+                StringJoiner args = new StringJoiner(", ");
+                for (ScssParser.ParameterContext parameter : ctx.parameters().parameter()) args.add(argumentValue(parameter));
                 return "linear-gradient(" + args + ")";
             }
 
@@ -904,5 +1569,16 @@ public class ScssToCssGenerator extends ScssParserBaseVisitor<String> {
         }
     }
 
+    /**
+     * Méthode renvoyant la première valeur d'un paramètre d'un appel de fonction.
+     *
+     * @param ctx   appel de fonction
+     * @param index indice du paramètre
+     * @return valeur du paramètre
+     */
+    private static ScssParser.ValueContext argument(ScssParser.FunctionCallContext ctx, int index) {
+        return ctx.parameters().parameter(index).listSpaceSeparated().value(0);
+    }
+
     //endregion
 }
@@ -3,6 +3,8 @@ public class SimpleVariable implements Variable{
     String name;
     String value;
     boolean temp;
+    // Valeur typée, calculée à la première utilisation dans une expression
+    SassValue sassValue;
 
     public SimpleVariable(String name, String value){
         this.name = name;
@@ -34,4 +36,10 @@ public class SimpleVariable implements Variable{
     public String getType() {
         return "var";
     }
+
+    @Override
+    public SassValue getSassValue() {
+        if (sassValue == null) sassValue = SassValue.parse(value);
+        return sassValue;
+    }
 }
@@ -0,0 +1,155 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Classe construisant une source map (format Source Map v3) qui relie le code CSS généré au code SCSS.
+ * <p>
+ * Chaque correspondance (position dans le CSS → fichier, ligne et colonne dans le SCSS) est encodée en VLQ base 64
+ * dès qu'elle est ajoutée, directement dans le champ "mappings" : aucune liste de correspondances n'est gardée
+ * en mémoire et l'encodage n'alloue aucun objet. Les correspondances doivent être ajoutées dans l'ordre du CSS généré.
+ */
+public class SourceMap {
+
+    private static final char[] BASE64 = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+
+    // Nom du fichier CSS
+    private final String file;
+    // Chemins des fichiers SCSS, relatifs au fichier de la source map, et indice de chaque fichier par nom
+    private final List<String> sources;
+    private final HashMap<String, Integer> sourceIndexes;
+    // Dossier de la source map (null pour garder les noms des fichiers tels quels)
+    private final Path directory;
+    private final StringBuilder mappings;
+
+    // Ligne du CSS en cours d'encodage, et valeurs du segment précédent (les segments sont encodés par différence)
+    private int generatedLine;
+    private int previousGeneratedColumn;
+    private int previousSource;
+    private int previousSourceLine;
+    private int previousSourceColumn;
+    private boolean lineStarted;
+
+    /**
+     * Constructeur d'une source map dont les fichiers SCSS sont nommés tels quels.
+     * @param file nom du fichier CSS
+     */
+    public SourceMap(String file) {
+        this(file, null);
+    }
+
+    /**
+     * Constructeur.
+     * @param file nom du fichier CSS
+     * @param directory dossier de la source map : les chemins des fichiers SCSS sont écrits relativement à ce dossier
+     */
+    public SourceMap(String file, Path directory) {
+        this.file = file;
+        this.directory = directory;
+        this.sources = new ArrayList<>();
+        this.sourceIndexes = new HashMap<>();
+        this.mappings = new StringBuilder();
+    }
+
+    /**
+     * Méthode renvoyant l'indice d'un fichier SCSS dans les sources, en l'ajoutant s'il n'y est pas encore.
+     * @param source nom du fichier SCSS (chemin donné au flux de caractères analysé)
+     * @return indice du fichier, à passer à add()
+     */
+    public int source(String source) {
+        Integer index = sourceIndexes.get(source);
+        if (index != null) return index;
+
+        String path = source;
+        if (directory != null) path = directory.relativize(Path.of(source).toAbsolutePath()).toString().replace('\\', '/');
+        sources.add(path);
+        sourceIndexes.put(source, sources.size() - 1);
+        return sources.size() - 1;
+    }
+
+    /**
+     * Méthode ajoutant une correspondance (toutes les positions commencent à 0).
+     *
+     * @param line         ligne dans le CSS
+     * @param column       colonne dans le CSS
+     * @param source       indice du fichier SCSS
+     * @param sourceLine   ligne dans le SCSS
+     * @param sourceColumn colonne dans le SCSS
+     */
+    public void add(int line, int column, int source, int sourceLine, int sourceColumn) {
+        // Les lignes du CSS sont séparées par des points-virgules, la colonne repart de 0 à chaque ligne
+        while (generatedLine < line) {
+            mappings.append(';');
+            generatedLine++;
+            previousGeneratedColumn = 0;
+            lineStarted = false;
+        }
+        if (lineStarted) mappings.append(',');
+        lineStarted = true;
+
+        appendVlq(column - previousGeneratedColumn);
+        appendVlq(source - previousSource);
+        appendVlq(sourceLine - previousSourceLine);
+        appendVlq(sourceColumn - previousSourceColumn);
+
+        previousGeneratedColumn = column;
+        previousSource = source;
+        previousSourceLine = sourceLine;
+        previousSourceColumn = sourceColumn;
+    }
+
+    /**
+     * Méthode encodant un entier en VLQ base 64 : le signe est dans le bit de poids faible,
+     * puis la valeur est découpée en groupes de 5 bits (bit 6 à 1 si un autre groupe suit).
+     * @param value entier
+     */
+    private void appendVlq(int value) {
+        int vlq = value < 0 ? (-value << 1) | 1 : value << 1;
+        do {
+            int digit = vlq & 31;
+            vlq >>>= 5;
+            if (vlq != 0) digit |= 32;
+            mappings.append(BASE64[digit]);
+        } while (vlq != 0);
+    }
+
+    /**
+     * Méthode écrivant la source map au format JSON.
+     * @param out sortie
+     */
+    public void writeTo(Appendable out) {
+        try {
+            out.append("{\"version\":3,\"file\":");
+            appendJsonString(out, file);
+            out.append(",\"sources\":[");
+            for (int i = 0; i < sources.size(); i++) {
+                if (i > 0) out.append(',');
+                appendJsonString(out, sources.get(i));
+            }
+            out.append("],\"names\":[],\"mappings\":\"").append(mappings).append("\"}");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder json = new StringBuilder(mappings.length() + 64);
+        writeTo(json);
+        return json.toString();
+    }
+
+    private static void appendJsonString(Appendable out, String value) throws IOException {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') out.append('\\').append(c);
+            else if (c < ' ') out.append(String.format("\\u%04x", (int) c));
+            else out.append(c);
+        }
+        out.append('"');
+    }
+}
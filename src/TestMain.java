@@ -1,15 +1,14 @@
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.CommonTokenStream;
-
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 public class TestMain {
     public static void main(String[] args) throws IOException {
         String filePath = "scssFiles/mixin.scss";
 
-        ScssLexer lexer = new ScssLexer(CharStreams.fromFileName(filePath));
-        CommonTokenStream tokens = new CommonTokenStream(lexer);
-        ScssParser parser = new ScssParser(tokens);
-
-        System.out.println(new ScssToCssGenerator().visit(parser.stylesheet()));
+        System.out.println(new ScssCompiler().compile(Files.readString(Path.of(filePath), StandardCharsets.UTF_8)));
+        System.out.println(ScssCompiler.parseStatistics());
+        System.out.println(ScssToCssGenerator.mixinStatistics());
     }
 }
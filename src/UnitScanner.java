@@ -0,0 +1,150 @@
+/**
+ * Classe permettant de reconnaître en une seule passe, sans allocation, le type d'une valeur SASS écrite sous forme de texte.
+ * <p>
+ * Elle remplace les appels successifs à String.matches (qui recompilent une expression régulière à chaque appel).
+ * Les formes reconnues sont :
+ * - ENTIER : -?\d+
+ * - REEL : -?\d+\.\d+
+ * - PIXEL : nombre suivi de px
+ * - POURCENTAGE : nombre suivi de %
+ * - UNITE : nombre suivi d'une autre unité reconnue par le lexer (em, rem, vh, deg, s...)
+ * - HEX : #[0-9a-fA-F]{3,6}
+ */
+public final class UnitScanner {
+
+    public static final int AUTRE = 0;
+    public static final int ENTIER = 1;
+    public static final int REEL = 2;
+    public static final int PIXEL = 3;
+    public static final int POURCENTAGE = 4;
+    public static final int HEX = 5;
+    public static final int UNITE = 6;
+
+    // Unités des tokens AbsLength, FontRelative, ViewportRelative, Angle, Resolution, Freq et Time du lexer (sauf px)
+    private static final String[] UNITS = {
+            "cm", "mm", "pt", "pc", "q", "em", "ex", "ch", "rem", "vw", "vh", "vmin", "vmax",
+            "deg", "rad", "grad", "turn", "dpi", "dpcm", "dppx", "hz", "khz", "fr", "ms", "s"
+    };
+
+    // Puissances de 10 représentables exactement par un double
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private UnitScanner() {
+    }
+
+    /**
+     * Méthode déterminant le type d'une valeur comprise entre start (inclus) et end (exclus).
+     *
+     * @param value texte de la valeur
+     * @param start indice de début
+     * @param end   indice de fin
+     * @return ENTIER, REEL, PIXEL, POURCENTAGE, UNITE, HEX ou AUTRE
+     */
+    public static int classify(CharSequence value, int start, int end) {
+        if (start >= end) return AUTRE;
+
+        int i = start;
+        char c = value.charAt(i);
+
+        // Couleur hexadécimale
+        if (c == '#') {
+            int digits = end - start - 1;
+            if (digits < 3 || digits > 6) return AUTRE;
+            for (i = start + 1; i < end; i++) {
+                if (Character.digit(value.charAt(i), 16) < 0) return AUTRE;
+            }
+            return HEX;
+        }
+
+        if (c == '-') i++;
+
+        // Partie entière (au moins un chiffre)
+        int integerStart = i;
+        while (i < end && isDigit(value.charAt(i))) i++;
+        if (i == integerStart) return AUTRE;
+
+        // Partie décimale (au moins un chiffre après le point)
+        boolean real = false;
+        if (i < end && value.charAt(i) == '.') {
+            int decimalStart = ++i;
+            while (i < end && isDigit(value.charAt(i))) i++;
+            if (i == decimalStart) return AUTRE;
+            real = true;
+        }
+
+        // Unité
+        int remaining = end - i;
+        if (remaining == 0) return real ? REEL : ENTIER;
+        if (remaining == 1 && value.charAt(i) == '%') return POURCENTAGE;
+        if (remaining == 2 && value.charAt(i) == 'p' && value.charAt(i + 1) == 'x') return PIXEL;
+        return isUnit(value, i, end) ? UNITE : AUTRE;
+    }
+
+    /**
+     * Méthode renvoyant l'indice où commence l'unité d'une valeur reconnue par classify (fin du nombre).
+     *
+     * @param value texte de la valeur
+     * @param start indice de début
+     * @param end   indice de fin
+     * @return indice du premier caractère de l'unité (end s'il n'y en a pas)
+     */
+    public static int unitStart(CharSequence value, int start, int end) {
+        int i = end;
+        while (i > start && !isDigit(value.charAt(i - 1))) i--;
+        return i;
+    }
+
+    private static boolean isUnit(CharSequence value, int start, int end) {
+        for (String unit : UNITS) {
+            if (unit.length() != end - start) continue;
+            int i = 0;
+            while (i < unit.length() && unit.charAt(i) == value.charAt(start + i)) i++;
+            if (i == unit.length()) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Méthode lisant un nombre déjà reconnu par classify (-?\d+(\.\d+)?) entre start et end.
+     * Le calcul est exact tant que le nombre a au plus 15 chiffres significatifs ; sinon Double.parseDouble est utilisé.
+     *
+     * @param value texte du nombre
+     * @param start indice de début
+     * @param end   indice de fin
+     * @return valeur du nombre
+     */
+    public static double parseNumber(CharSequence value, int start, int end) {
+        int i = start;
+        boolean negative = value.charAt(i) == '-';
+        if (negative) i++;
+
+        long mantissa = 0;
+        int digits = 0;
+        int decimals = 0;
+        boolean afterDot = false;
+
+        for (; i < end; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                afterDot = true;
+                continue;
+            }
+            if (mantissa != 0 || c != '0') digits++;
+            mantissa = mantissa * 10 + (c - '0');
+            if (afterDot) decimals++;
+        }
+
+        if (digits > 15 || decimals >= POWERS_OF_TEN.length)
+            return Double.parseDouble(value.subSequence(start, end).toString());
+
+        double result = mantissa / POWERS_OF_TEN[decimals];
+        return negative ? -result : result;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -2,4 +2,5 @@ public interface Variable {
     String getValue();
     boolean isTemporary();
     String getType();
+    SassValue getSassValue();
 }
\ No newline at end of file
@@ -0,0 +1,159 @@
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Classe surveillant un dossier SCSS et recompilant les fichiers modifiés (mode --watch).
+ * <p>
+ * La JVM reste démarrée : le code est déjà compilé par le JIT et les caches DFA du lexer et du parser
+ * (statiques dans ScssLexer et ScssParser) restent remplis d'une compilation à l'autre.
+ * Les événements rapprochés (sauvegarde en plusieurs écritures, plusieurs fichiers modifiés en même temps)
+ * sont regroupés avant de recompiler.
+ */
+public class WatchMode {
+
+    // Durée sans nouvel événement après laquelle les modifications sont recompilées
+    private static final long DEBOUNCE_MILLIS = 20;
+
+    private final BatchCompiler batch;
+    private final ScssCompiler compiler;
+
+    public WatchMode(BatchCompiler batch) {
+        this.batch = batch;
+        this.compiler = batch.createCompiler();
+    }
+
+    /**
+     * Méthode surveillant le dossier source jusqu'à l'interruption du programme.
+     *
+     * @throws IOException si le dossier ne peut pas être surveillé
+     */
+    public void run() throws IOException {
+        Path sourceDir = batch.getSourceDir();
+
+        try (WatchService watcher = sourceDir.getFileSystem().newWatchService()) {
+            registerAll(watcher, sourceDir);
+            System.out.println("Surveillance de " + sourceDir + " (Ctrl+C pour arrêter)");
+
+            while (!Thread.currentThread().isInterrupted()) {
+                Set<Path> changed = new LinkedHashSet<>();
+                Set<Path> deleted = new LinkedHashSet<>();
+                boolean overflow = collect(watcher, watcher.take(), changed, deleted);
+
+                // Regroupement des événements rapprochés
+                WatchKey next;
+                while ((next = watcher.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    overflow |= collect(watcher, next, changed, deleted);
+                }
+
+                remove(deleted);
+                recompile(changed, overflow);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Méthode récupérant les fichiers SCSS modifiés ou supprimés signalés par une clé de surveillance.
+     * Les nouveaux dossiers sont surveillés à leur tour. Un fichier renommé est signalé comme supprimé
+     * sous son ancien nom et créé sous le nouveau.
+     *
+     * @param watcher surveillance
+     * @param key     clé signalée
+     * @param changed fichiers SCSS modifiés (supprimés compris : les fichiers qui les importent sont recompilés)
+     * @param deleted fichiers SCSS supprimés
+     * @return true si des événements ont été perdus (il faut alors tout recompiler)
+     */
+    private boolean collect(WatchService watcher, WatchKey key, Set<Path> changed, Set<Path> deleted) throws IOException {
+        boolean overflow = false;
+        Path directory = (Path) key.watchable();
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                overflow = true;
+                continue;
+            }
+
+            Path file = directory.resolve((Path) event.context());
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(file)) {
+                registerAll(watcher, file);
+                overflow = true; // Les fichiers du nouveau dossier n'ont pas d'événement
+            } else if (file.getFileName().toString().endsWith(".scss")) {
+                changed.add(file);
+                // Supprimé puis recréé pendant le regroupement (sauvegarde par remplacement) : le fichier existe
+                if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) deleted.add(file);
+                else deleted.remove(file);
+            }
+        }
+
+        key.reset();
+        return overflow;
+    }
+
+    /**
+     * Méthode supprimant les fichiers CSS des fichiers SCSS supprimés et retirant ces fichiers du graphe de dépendances.
+     *
+     * @param deleted fichiers SCSS supprimés
+     */
+    private void remove(Set<Path> deleted) {
+        for (Path source : deleted) {
+            if (Files.exists(source) || !BatchCompiler.isEntryPoint(source)) continue;
+            try {
+                if (batch.removeOutput(source)) System.out.println(batch.outputFor(source) + " supprimé");
+            } catch (IOException e) {
+                System.out.println("Erreur lors de la suppression de " + batch.outputFor(source) + " : " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Méthode recompilant les fichiers concernés par des modifications et affichant le temps de chaque compilation.
+     * Si un partiel a été modifié, seuls les fichiers qui l'importent sont recompilés (voir BatchCompiler.affectedSources).
+     * Si des événements ont été perdus, tous les fichiers sont recompilés.
+     *
+     * @param changed  fichiers SCSS modifiés
+     * @param overflow true si des événements ont été perdus
+     */
+    private void recompile(Set<Path> changed, boolean overflow) throws IOException {
+        // Un fichier modifié peut être un module importé par d'autres : les modules sont réévalués
+        batch.clearModules();
+
+        List<Path> affected = overflow ? batch.findSources() : batch.affectedSources(changed);
+
+        for (Path source : affected) {
+            long start = System.nanoTime();
+            try {
+                if (batch.compileFile(compiler, source))
+                    System.out.printf("%s compilé en %.1f ms%n", batch.outputFor(source), (System.nanoTime() - start) / 1_000_000.0);
+            } catch (IOException | RuntimeException e) {
+                System.out.println("Erreur lors de la compilation de " + source + " : " + e.getMessage());
+            }
+        }
+        batch.saveDependencies();
+    }
+
+    /**
+     * Méthode surveillant un dossier et tous ses sous-dossiers.
+     */
+    private static void registerAll(WatchService watcher, Path root) throws IOException {
+        try (Stream<Path> directories = Files.walk(root)) {
+            for (Path directory : directories.filter(Files::isDirectory).toList()) {
+                directory.register(watcher,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY,
+                        StandardWatchEventKinds.ENTRY_DELETE);
+            }
+        }
+    }
+}
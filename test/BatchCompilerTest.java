@@ -0,0 +1,39 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests de la compilation d'un dossier : suppression des fichiers produits par un fichier SCSS supprimé.
+ */
+class BatchCompilerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void removedSourceLosesItsOutputAndDependencies() throws IOException {
+        Path sourceDir = Files.createDirectories(directory.resolve("scss"));
+        Path outputDir = directory.resolve("css");
+        Path partial = Files.writeString(sourceDir.resolve("_colors.scss"), "$primary: #336699;\n");
+        Path source = Files.writeString(sourceDir.resolve("main.scss"), "@use \"colors\";\n.a { color: colors.$primary; }\n");
+
+        BatchCompiler batch = new BatchCompiler(sourceDir, outputDir, 1);
+        assertEquals(0, batch.compileAll());
+        Path output = batch.outputFor(source);
+        assertTrue(Files.exists(output));
+        assertEquals(List.of(source), batch.affectedSources(List.of(partial)));
+
+        Files.delete(source);
+        assertTrue(batch.removeOutput(source));
+        assertFalse(Files.exists(output));
+        assertEquals(List.of(), batch.affectedSources(List.of(partial)));
+    }
+}
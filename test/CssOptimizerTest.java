@@ -0,0 +1,76 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests de l'optimiseur de CSS : l'ordre de la cascade doit être respecté entre propriétés raccourcies et détaillées.
+ */
+class CssOptimizerTest {
+
+    /**
+     * Méthode optimisant une feuille de style et renvoyant le CSS compressé.
+     * @param rules règles à optimiser
+     * @return CSS optimisé
+     */
+    private static String optimize(CssRule... rules) {
+        CssStylesheet stylesheet = new CssStylesheet();
+        stylesheet.getNodes().addAll(List.of(rules));
+        new CssOptimizer().optimize(stylesheet);
+        StringBuilder css = new StringBuilder();
+        new CssPrinter(new CssWriter(css), OutputStyle.COMPRESSED).print(stylesheet);
+        return css.toString();
+    }
+
+    private static CssRule rule(String selector, String... declarations) {
+        CssRule rule = new CssRule(List.of(selector));
+        for (int i = 0; i + 1 < declarations.length; i += 2) rule.addDeclaration(declarations[i], declarations[i + 1]);
+        return rule;
+    }
+
+    @Test
+    void groupsIdenticalRules() {
+        assertEquals(".a,.c{margin:0}.b{padding:5px}",
+                optimize(rule(".a", "margin", "0"), rule(".b", "padding", "5px"), rule(".c", "margin", "0")));
+    }
+
+    @Test
+    void doesNotGroupAcrossLonghand() {
+        assertEquals(".a{margin:0}.b{margin-top:5px}.c{margin:0}",
+                optimize(rule(".a", "margin", "0"), rule(".b", "margin-top", "5px"), rule(".c", "margin", "0")));
+    }
+
+    @Test
+    void doesNotGroupAcrossShorthand() {
+        assertEquals(".a{line-height:2}.b{font:12px serif}.c{line-height:2}",
+                optimize(rule(".a", "line-height", "2"), rule(".b", "font", "12px serif"), rule(".c", "line-height", "2")));
+    }
+
+    @Test
+    void doesNotGroupAcrossAll() {
+        assertEquals(".a{color:red}.b{all:unset}.c{color:red}",
+                optimize(rule(".a", "color", "red"), rule(".b", "all", "unset"), rule(".c", "color", "red")));
+    }
+
+    @Test
+    void removesOverriddenDeclaration() {
+        assertEquals(".a{padding:0;margin:1px}",
+                optimize(rule(".a", "margin", "0", "padding", "0", "margin", "1px")));
+    }
+
+    @Test
+    void keepsDeclarationFollowedByLonghand() {
+        assertEquals(".a{margin:0;margin-top:5px;margin:1px}",
+                optimize(rule(".a", "margin", "0", "margin-top", "5px", "margin", "1px")));
+    }
+
+    @Test
+    void familyOfProperty() {
+        assertEquals("margin", CssOptimizer.family("margin-inline-start"));
+        assertEquals("border", CssOptimizer.family("-webkit-border-radius"));
+        assertEquals("inset", CssOptimizer.family("top"));
+        assertEquals("gap", CssOptimizer.family("column-gap"));
+        assertEquals("--main-color", CssOptimizer.family("--main-color"));
+    }
+}
@@ -0,0 +1,16 @@
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests du préchauffage des DFA : il ne doit pas fausser les bilans des compilations.
+ */
+class DfaWarmupTest {
+
+    @Test
+    void warmUpDoesNotCountMixins() {
+        String before = ScssToCssGenerator.mixinStatistics();
+        DfaWarmup.warmUp();
+        assertEquals(before, ScssToCssGenerator.mixinStatistics());
+    }
+}
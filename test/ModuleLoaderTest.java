@@ -0,0 +1,77 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests du chargement des modules importés : un module est évalué une seule fois, les imports circulaires sont refusés.
+ */
+class ModuleLoaderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void moduleIsEvaluatedOnceByConcurrentImports() throws Exception {
+        Files.writeString(directory.resolve("_colors.scss"), "$primary: #336699;\n");
+        ModuleLoader loader = new ModuleLoader();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Module>> modules = new ArrayList<>();
+            for (int i = 0; i < 32; i++) modules.add(executor.submit(() -> loader.load("colors", directory)));
+            Module first = modules.get(0).get();
+            for (Future<Module> module : modules) assertSame(first, module.get());
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals("Modules : 1 chargé(s), 31 réutilisé(s) depuis le cache", loader.statistics());
+    }
+
+    @Test
+    void circularImportIsRejected() throws IOException {
+        Files.writeString(directory.resolve("_a.scss"), "@use \"b\";\n");
+        Files.writeString(directory.resolve("_b.scss"), "@use \"a\";\n");
+
+        RuntimeException error = assertThrows(RuntimeException.class, () -> new ModuleLoader().load("a", directory));
+        Throwable cause = error;
+        while (cause.getCause() != null && !cause.getMessage().contains("circulaire")) cause = cause.getCause();
+        assertTrue(cause.getMessage().contains("Import circulaire"), error.getMessage());
+    }
+
+    @Test
+    void circularImportFromTwoThreadsDoesNotBlock() throws IOException {
+        Files.writeString(directory.resolve("_a.scss"), "@use \"b\";\n");
+        Files.writeString(directory.resolve("_b.scss"), "@use \"a\";\n");
+
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            for (int round = 0; round < 20; round++) {
+                ModuleLoader loader = new ModuleLoader();
+                ExecutorService executor = Executors.newFixedThreadPool(2);
+                try {
+                    Future<Module> a = executor.submit(() -> loader.load("a", directory));
+                    Future<Module> b = executor.submit(() -> loader.load("b", directory));
+                    assertThrows(ExecutionException.class, a::get);
+                    assertThrows(ExecutionException.class, b::get);
+                } finally {
+                    executor.shutdown();
+                }
+            }
+        });
+    }
+}
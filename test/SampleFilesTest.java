@@ -0,0 +1,32 @@
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests de non-régression : chaque fichier du dossier "scssFiles" doit donner le fichier du même nom du dossier "cssFiles".
+ */
+class SampleFilesTest {
+
+    @TempDir
+    Path output;
+
+    @TestFactory
+    Stream<DynamicTest> samples() throws IOException {
+        return Files.list(Path.of("scssFiles"))
+                .filter(file -> file.toString().endsWith(".scss") && !file.getFileName().toString().startsWith("_"))
+                .sorted()
+                .map(file -> DynamicTest.dynamicTest(file.getFileName().toString(), () -> {
+                    String name = file.getFileName().toString().replace(".scss", ".css");
+                    Path css = output.resolve(name);
+                    new ScssCompiler().compile(file, css);
+                    assertEquals(Files.readString(Path.of("cssFiles", name)), Files.readString(css));
+                }));
+    }
+}
@@ -0,0 +1,52 @@
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests des opérations sur les nombres SASS et leurs unités.
+ */
+class SassNumberTest {
+
+    private static SassNumber number(double value, String unit) {
+        return new SassNumber(value, unit);
+    }
+
+    @Test
+    void divisionOfSameUnitsIsUnitless() {
+        assertEquals(number(5, ""), number(10, "px").dividedBy(number(2, "px")));
+        assertEquals(number(5, "px"), number(10, "px").dividedBy(number(2, "")));
+    }
+
+    @Test
+    void multiplicationKeepsTheOnlyUnit() {
+        assertEquals(number(6, "px"), number(3, "").times(number(2, "px")));
+        assertEquals(number(6, "px"), number(3, "px").times(number(2, "")));
+    }
+
+    @Test
+    void compoundUnitsAreRejected() {
+        assertThrows(RuntimeException.class, () -> number(3, "px").times(number(2, "px")));
+        assertThrows(RuntimeException.class, () -> number(2, "").dividedBy(number(1, "px")));
+    }
+
+    @Test
+    void incompatibleUnitsAreRejected() {
+        RuntimeException plus = assertThrows(RuntimeException.class, () -> number(3, "px").plus(number(2, "em")));
+        RuntimeException times = assertThrows(RuntimeException.class, () -> number(3, "px").times(number(2, "em")));
+        RuntimeException divided = assertThrows(RuntimeException.class, () -> number(3, "px").dividedBy(number(2, "em")));
+        assertEquals(plus.getMessage().replace("+", "*"), times.getMessage());
+        assertEquals(plus.getMessage().replace("+", "/"), divided.getMessage());
+    }
+
+    @Test
+    void equalsComparesUnits() {
+        assertNotEquals(number(1, ""), number(1, "px"));
+        assertEquals(number(1, "px").hashCode(), number(1, "px").hashCode());
+        assertTrue(number(1, "").sassEquals(number(1, "px")));
+        assertFalse(number(1, "em").sassEquals(number(1, "px")));
+    }
+}
@@ -0,0 +1,38 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests de la compilation d'un fichier : le fichier CSS n'est remplacé que si la compilation réussit.
+ */
+class ScssCompilerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void failedCompilationKeepsThePreviousOutput() throws IOException {
+        Path source = Files.writeString(directory.resolve("main.scss"), ".a { color: red; }\n");
+        Path output = directory.resolve("css/main.css");
+        ScssCompiler compiler = new ScssCompiler();
+        compiler.setSourceMap(true);
+        compiler.compile(source, output);
+        String css = Files.readString(output);
+        String map = Files.readString(directory.resolve("css/main.css.map"));
+
+        Files.writeString(source, ".a { width: 1px + 1em; }\n");
+        assertThrows(RuntimeException.class, () -> compiler.compile(source, output));
+        assertEquals(css, Files.readString(output));
+        assertEquals(map, Files.readString(directory.resolve("css/main.css.map")));
+        try (Stream<Path> files = Files.list(output.getParent())) {
+            assertEquals(2, files.count()); // Pas de fichier temporaire restant
+        }
+    }
+}